@@ -0,0 +1,85 @@
+package io.github.wlsdks.fortunecookie.benchmark;
+
+import io.github.wlsdks.fortunecookie.engine.FortuneEngine;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+import io.github.wlsdks.fortunecookie.template.FortuneTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코어 엔진의 요청당 비용을 웹 프레임워크 없이 측정하는 마이크로 벤치마크입니다.
+ * ./gradlew :fortune-cookie-core:jmh 로 실행하며, gc 프로파일러로 요청당 할당량(gc.alloc.rate.norm)도 함께 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FortuneEngineBenchmark {
+
+    private static final String PLAIN_MESSAGE = "You will meet someone special today.";
+    private static final String PLACEHOLDER_MESSAGE = "{userName}, you will meet someone special today.";
+    private static final String KOREAN_MESSAGE = "오늘은 특별한 사람을 만날 것입니다.";
+
+    private FortuneEngine engine;
+    private FortuneTemplate template;
+    private FortuneHeaderEncoder headerEncoder;
+    private FortuneRequest englishRequest;
+    private FortuneRequest koreanRequest;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> placeholderMapping = Map.of("userName", "header:X-User-Name");
+        engine = FortuneEngine.bundled(FortuneMode.FORTUNE, 50, List.of(Locale.ENGLISH, Locale.KOREAN), placeholderMapping);
+        template = new FortuneTemplate(placeholderMapping);
+        headerEncoder = new FortuneHeaderEncoder();
+        englishRequest = new HeaderRequest(Map.of("Accept-Language", "en-US,en;q=0.9", "X-User-Name", "stark"));
+        koreanRequest = new HeaderRequest(Map.of("Accept-Language", "ko-KR,ko;q=0.9"));
+    }
+
+    @Benchmark
+    public FortuneEngine.Fortune nextEnglish() {
+        return engine.next(FortuneMode.UNSPECIFIED, englishRequest);
+    }
+
+    @Benchmark
+    public FortuneEngine.Fortune nextKorean() {
+        return engine.next(FortuneMode.UNSPECIFIED, koreanRequest);
+    }
+
+    @Benchmark
+    public String renderWithoutPlaceholder() {
+        return template.render(PLAIN_MESSAGE, englishRequest);
+    }
+
+    @Benchmark
+    public String renderPlaceholder() {
+        return template.render(PLACEHOLDER_MESSAGE, englishRequest);
+    }
+
+    @Benchmark
+    public FortuneHeaderEncoder.EncodedHeader encodeKoreanCached() {
+        return headerEncoder.encode(KOREAN_MESSAGE, true);
+    }
+
+    /**
+     * 헤더만 가진 요청 뷰 (세션 없음)
+     */
+    private record HeaderRequest(Map<String, String> headers) implements FortuneRequest {
+
+        @Override
+        public String getHeader(String name) {
+            return headers.get(name);
+        }
+
+        @Override
+        public Object getSessionAttribute(String name) {
+            return null;
+        }
+    }
+
+}
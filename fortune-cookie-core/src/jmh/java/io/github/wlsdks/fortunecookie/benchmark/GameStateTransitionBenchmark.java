@@ -0,0 +1,79 @@
+package io.github.wlsdks.fortunecookie.benchmark;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한 세션의 게임 상태를 여러 요청이 동시에 읽고 바꿀 때, CAS 홀더와 락 기반 기준선의 처리량을 비교하는 마이크로 벤치마크입니다.
+ * SessionGameStateStore가 세션에 두는 AtomicReference 홀더와, 같은 일을 세션 객체에 synchronized로 처리하던 방식을 같은 조건에서 실행합니다.
+ * ./gradlew :fortune-cookie-core:jmh 로 다른 벤치마크와 함께 실행합니다. (같은 세션에 동시에 들어오는 요청 수는 @Threads로 조정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class GameStateTransitionBenchmark {
+
+    // 숫자 게임처럼 1~100 사이의 값을 맞히는 게임 (추측 100번 중 한 번 꼴로 상태가 바뀜)
+    private static final int MAX_VALUE = 100;
+
+    // CAS 방식 (SessionGameStateStore의 StateHolder와 같은 구조)
+    private final AtomicReference<GameState> casHolder = new AtomicReference<>(GameState.initial(1));
+
+    // 락 방식 기준선 (세션 객체에 synchronized를 걸던 구현)
+    private final Object sessionLock = new Object();
+    private GameState lockedState = GameState.initial(1);
+
+    /**
+     * CAS: 읽기는 락 없이, 정답일 때만 compareAndSet 한 번으로 다음 라운드로 교체
+     */
+    @Benchmark
+    public boolean casGuess() {
+        int guess = ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1);
+        GameState state = casHolder.get();
+        if (state.value() != guess) {
+            return false;
+        }
+        return casHolder.compareAndSet(state, state.next(ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1)));
+    }
+
+    /**
+     * 락: 읽기와 교체를 모두 세션 락 안에서 처리
+     */
+    @Benchmark
+    public boolean lockGuess() {
+        int guess = ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1);
+        synchronized (sessionLock) {
+            if (lockedState.value() != guess) {
+                return false;
+            }
+            lockedState = lockedState.next(ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1));
+            return true;
+        }
+    }
+
+    /**
+     * CAS: 정답 처리만 반복하는 최악의 경우 (모든 요청이 상태를 바꾸려고 경합)
+     */
+    @Benchmark
+    public boolean casSolve() {
+        GameState state = casHolder.get();
+        return casHolder.compareAndSet(state, state.next(ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1)));
+    }
+
+    /**
+     * 락: 정답 처리만 반복하는 최악의 경우
+     */
+    @Benchmark
+    public boolean lockSolve() {
+        synchronized (sessionLock) {
+            lockedState = lockedState.next(ThreadLocalRandom.current().nextInt(1, MAX_VALUE + 1));
+            return true;
+        }
+    }
+
+}
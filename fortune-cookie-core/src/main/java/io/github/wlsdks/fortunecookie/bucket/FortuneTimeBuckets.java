@@ -0,0 +1,125 @@
+package io.github.wlsdks.fortunecookie.bucket;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 라우트별로 시간 구간마다 포춘 키를 하나만 고르는 클래스입니다.
+ * 같은 구간 안의 요청은 모두 같은 키를 공유하므로 응답 바디와 헤더가 구간 동안 바뀌지 않고,
+ * ETag(ShallowEtagHeaderFilter)와 CDN, 브라우저 캐시가 구간 동안 유효하게 유지됩니다.
+ * 구간은 epoch 기준으로 나누므로 여러 인스턴스의 구간 경계가 같은 시각에 맞춰집니다.
+ */
+public class FortuneTimeBuckets {
+
+    // 라우트 → 현재 구간과 그 구간의 키
+    private final ConcurrentHashMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+
+    // 어노테이션의 ISO-8601 기간 문자열 → 밀리초 (같은 문자열은 한 번만 파싱)
+    private final ConcurrentHashMap<String, Long> parsedDurations = new ConcurrentHashMap<>();
+
+    private final LongSupplier clock;
+    private final int routeLimit;
+
+    /**
+     * @param clock      현재 시각 (epoch 밀리초)
+     * @param routeLimit 구간 키를 보관할 최대 라우트 수 (넘으면 보관하지 않고 요청마다 고름)
+     */
+    public FortuneTimeBuckets(LongSupplier clock, int routeLimit) {
+        this.clock = clock;
+        this.routeLimit = routeLimit;
+    }
+
+    /**
+     * 현재 구간의 포춘 키를 반환합니다. 구간이 바뀐 뒤 처음 들어온 요청만 keyGenerator로 새 키를 고릅니다.
+     *
+     * @param route        라우트 식별자 (핸들러 메서드, 태그 조합 등)
+     * @param bucketMillis 구간 길이 (밀리초, 0보다 커야 함)
+     * @param keyGenerator 새 키를 고르는 함수
+     * @return 현재 구간의 포춘 키
+     */
+    public String fortuneKey(Object route, long bucketMillis, Supplier<String> keyGenerator) {
+        long window = Math.floorDiv(clock.getAsLong(), bucketMillis);
+
+        // 1. 현재 구간의 키가 있으면 그대로 사용 (락 없는 조회)
+        Bucket current = buckets.get(route);
+        if (current != null && current.window() == window) {
+            return current.fortuneKey();
+        }
+
+        // 2. 새 구간이면 키를 고르고 교체 시도
+        Bucket next = new Bucket(window, keyGenerator.get());
+        if (current == null) {
+            if (buckets.size() >= routeLimit) {
+                return next.fortuneKey();
+            }
+            current = buckets.putIfAbsent(route, next);
+            if (current == null) {
+                return next.fortuneKey();
+            }
+        } else if (buckets.replace(route, current, next)) {
+            return next.fortuneKey();
+        }
+
+        // 3. 다른 요청이 먼저 교체했으면 그 키를 공유 (같은 구간의 응답이 모두 같아지도록)
+        Bucket winner = buckets.get(route);
+        return winner != null && winner.window() == window ? winner.fortuneKey() : next.fortuneKey();
+    }
+
+    /**
+     * 현재 구간이 끝날 때까지 남은 시간을 반환합니다.
+     *
+     * @param bucketMillis 구간 길이 (밀리초, 0보다 커야 함)
+     * @return 남은 시간 (밀리초)
+     */
+    public long remainingMillis(long bucketMillis) {
+        return bucketMillis - Math.floorMod(clock.getAsLong(), bucketMillis);
+    }
+
+    /**
+     * 어노테이션에 적힌 ISO-8601 기간(예: PT5M)을 밀리초로 바꿉니다.
+     *
+     * @param duration ISO-8601 기간 문자열
+     * @return 밀리초 (0이면 구간 없음)
+     */
+    public long parseMillis(String duration) {
+        Long cached = parsedDurations.get(duration);
+        if (cached != null) {
+            return cached;
+        }
+        long millis;
+        try {
+            millis = Math.max(0, Duration.parse(duration).toMillis());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid @FortuneCookie bucket (ISO-8601 duration expected, e.g. PT5M): " + duration, e);
+        }
+        parsedDurations.putIfAbsent(duration, millis);
+        return millis;
+    }
+
+    /**
+     * 보관 중인 구간 키를 모두 버립니다. (다음 요청부터 라우트별로 새 키를 고름)
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * 구간 키를 보관 중인 라우트 수
+     */
+    public int getRouteCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 라우트의 현재 구간
+     *
+     * @param window     epoch 밀리초 / 구간 길이
+     * @param fortuneKey 이 구간에 고른 포춘 키
+     */
+    private record Bucket(long window, String fortuneKey) {
+    }
+
+}
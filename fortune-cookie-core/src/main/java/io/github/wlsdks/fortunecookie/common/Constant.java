@@ -11,21 +11,33 @@ public class Constant {
 
     // interceptor
     public static final String FORTUNE_BODY = "fortuneBody";
+    public static final String FORTUNE_BODY_ENCODED = "fortuneBodyEncoded";
+    public static final String FORTUNE_LOCALE = "fortuneLocale";
+    public static final String FORTUNE_IN_FLIGHT = "fortuneInFlight";
+    public static final String FORTUNE_TRACE = "fortuneTrace";
+    public static final String FORTUNE_WARMUP = "fortuneWarmup";
     public static final String GUEST = "Guest";
     public static final String COLON = ":";
+    public static final String COMMA = ",";
     public static final String HEADER = "header";
     public static final String SESSION = "session";
+    public static final String ACCEPT_LANGUAGE = "Accept-Language";
+    public static final String HOST = "Host";
 
     // module
     public static final String SECRET_NUMBER = "secretNumber";
     public static final String X_GUESS = "X-Guess";
     public static final String X_QUIZ_ANSWER = "X-Quiz-Answer";
     public static final String QUIZ_INDEX = "quizIndex";
+    public static final String X_WORD_GUESS = "X-Word-Guess";
+    public static final String WORD_ID = "wordId";
+    public static final String GAME_OUTCOME = "fortuneGameOutcome";
 
     // security
     public static final String SECURITY = "security";
     public static final String USERNAME = "username";
     public static final String ROLES = "roles";
     public static final String PRINCIPAL = "principal";
+    public static final String SECURITY_SNAPSHOT = "fortuneSecuritySnapshot";
 
 }
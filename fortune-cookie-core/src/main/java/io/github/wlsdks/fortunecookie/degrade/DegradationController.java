@@ -0,0 +1,218 @@
+package io.github.wlsdks.fortunecookie.degrade;
+
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 과부하일 때 포춘 처리 단계를 줄이는 컨트롤러입니다.
+ * 요청마다 하는 일은 LongAdder 증감과 volatile 읽기뿐이고, 신호(진행 중 요청 수, 요청 지연 EWMA, 스레드 풀 사용률)는
+ * 평가 주기마다 한 스레드만 모아서 단계를 정합니다.
+ * 단계를 올릴 때(기능을 줄일 때)는 바로 올리고, 내릴 때는 현재 단계 기준값에 회복 비율을 곱한 값보다 모든 신호가 낮고
+ * 최소 유지 시간이 지났을 때만 한 단계씩 내려서 경계 근처에서 단계가 오가지 않도록 합니다.
+ */
+public class DegradationController {
+
+    private static final DegradationTier[] TIERS = DegradationTier.values();
+
+    private final Map<DegradationTier, Threshold> thresholds = new EnumMap<>(DegradationTier.class);
+    private final long evaluationIntervalNanos;
+    private final double latencyAlpha;
+    private final double recoveryRatio;
+    private final long minHoldNanos;
+    private final LongSupplier nanoClock;
+    private volatile DoubleSupplier utilization; // 스레드 풀 사용률(0~1), 없으면 null
+
+    // 요청마다 갱신되는 신호
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder latencyCount = new LongAdder();
+
+    // 평가 스레드만 갱신하는 상태
+    private final AtomicLong lastEvaluation;
+    private volatile DegradationTier tier = DegradationTier.NORMAL;
+    private volatile double latencyEwmaNanos;
+    private volatile double lastUtilization;
+    private long tierChangedAt;
+    private final LongAdder transitions = new LongAdder();
+
+    /**
+     * @param thresholds         단계별 진입 기준 (없는 단계는 진입하지 않음)
+     * @param evaluationInterval 신호를 모아 단계를 다시 정하는 주기
+     * @param latencyAlpha       지연 EWMA에서 최근 주기 평균의 가중치 (0~1)
+     * @param recoveryRatio      단계를 내릴 때 기준값에 곱할 비율 (0~1, 작을수록 늦게 회복)
+     * @param minHold            단계를 바꾼 뒤 내리기 전에 유지할 최소 시간
+     * @param nanoClock          단조 증가 시각(ns) 공급자
+     */
+    public DegradationController(Map<DegradationTier, Threshold> thresholds,
+                                 Duration evaluationInterval,
+                                 double latencyAlpha,
+                                 double recoveryRatio,
+                                 Duration minHold,
+                                 LongSupplier nanoClock) {
+        this.thresholds.putAll(thresholds);
+        this.thresholds.remove(DegradationTier.NORMAL);
+        this.evaluationIntervalNanos = Math.max(1, evaluationInterval.toNanos());
+        this.latencyAlpha = Math.min(1.0, Math.max(0.0, latencyAlpha));
+        this.recoveryRatio = Math.min(1.0, Math.max(0.0, recoveryRatio));
+        this.minHoldNanos = minHold.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastEvaluation = new AtomicLong(nanoClock.getAsLong());
+        this.tierChangedAt = lastEvaluation.get();
+    }
+
+    /**
+     * 스레드 풀 사용률 신호를 설정합니다. (예: Tomcat busy / max 스레드)
+     *
+     * @param utilization 0~1 사이의 사용률 공급자
+     */
+    public void setUtilization(DoubleSupplier utilization) {
+        this.utilization = utilization;
+    }
+
+    /**
+     * 스레드 풀 사용률 신호가 설정되어 있는지 확인합니다.
+     */
+    public boolean hasUtilization() {
+        return utilization != null;
+    }
+
+    /**
+     * 요청 시작을 알리고 이번 요청에 적용할 단계를 반환합니다. (반드시 {@link #exit()}와 짝을 맞춰 호출)
+     *
+     * @return 현재 단계
+     */
+    public DegradationTier enter() {
+        inFlight.increment();
+        long now = nanoClock.getAsLong();
+        long last = lastEvaluation.get();
+
+        // 평가 주기가 지났으면 한 스레드만 평가 (나머지는 현재 단계를 그대로 사용)
+        if (now - last >= evaluationIntervalNanos && lastEvaluation.compareAndSet(last, now)) {
+            evaluate(now);
+        }
+        return tier;
+    }
+
+    /**
+     * 요청 종료를 알립니다.
+     */
+    public void exit() {
+        inFlight.decrement();
+    }
+
+    /**
+     * 요청 전체(preHandle ~ afterCompletion)에 걸린 시간을 기록합니다.
+     * 포춘 처리 시간만 기록하면 단계를 낮출수록 지연이 줄어들어, 과부하가 계속되는데도 단계가 내려갔다 다시 올라가기를 반복합니다.
+     *
+     * @param nanos 걸린 시간 (ns)
+     */
+    public void recordLatency(long nanos) {
+        latencySum.add(nanos);
+        latencyCount.increment();
+    }
+
+    /**
+     * 신호를 모아 단계를 다시 정합니다. (enter()에서 주기마다 한 스레드만 호출, 테스트에서는 직접 호출 가능)
+     *
+     * @param now 현재 시각 (ns)
+     */
+    public synchronized void evaluate(long now) {
+        // 1. 지난 주기의 평균 지연을 EWMA에 반영 (요청이 없었던 주기는 0으로 보고 감쇠시켜 OFF 단계에서도 회복 가능)
+        long count = latencyCount.sumThenReset();
+        long sum = latencySum.sumThenReset();
+        double intervalMean = count > 0 ? (double) sum / count : 0.0;
+        latencyEwmaNanos = latencyAlpha * intervalMean + (1 - latencyAlpha) * latencyEwmaNanos;
+
+        long requests = inFlight.sum();
+        DoubleSupplier source = utilization;
+        double used = source != null ? source.getAsDouble() : 0.0;
+        lastUtilization = Double.isNaN(used) ? 0.0 : used;
+
+        // 2. 기준을 넘은 가장 높은 단계
+        DegradationTier target = DegradationTier.NORMAL;
+        for (int i = TIERS.length - 1; i > 0; i--) {
+            Threshold threshold = thresholds.get(TIERS[i]);
+            if (threshold != null && threshold.exceeded(requests, latencyEwmaNanos, lastUtilization, 1.0)) {
+                target = TIERS[i];
+                break;
+            }
+        }
+
+        // 3. 올릴 때는 바로, 내릴 때는 회복 기준 아래로 충분히 내려가고 최소 유지 시간이 지났을 때 한 단계씩
+        DegradationTier current = tier;
+        if (target.ordinal() > current.ordinal()) {
+            changeTier(target, now);
+        } else if (target.ordinal() < current.ordinal() && now - tierChangedAt >= minHoldNanos) {
+            Threshold threshold = thresholds.get(current);
+            if (threshold == null || !threshold.exceeded(requests, latencyEwmaNanos, lastUtilization, recoveryRatio)) {
+                changeTier(TIERS[current.ordinal() - 1], now);
+            }
+        }
+    }
+
+    private void changeTier(DegradationTier next, long now) {
+        tier = next;
+        tierChangedAt = now;
+        transitions.increment();
+    }
+
+    /**
+     * 현재 단계
+     */
+    public DegradationTier getTier() {
+        return tier;
+    }
+
+    /**
+     * 진행 중인 요청 수
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * 요청 지연 EWMA (ns)
+     */
+    public double getLatencyEwmaNanos() {
+        return latencyEwmaNanos;
+    }
+
+    /**
+     * 마지막 평가 때 읽은 스레드 풀 사용률 (신호가 없으면 0)
+     */
+    public double getUtilization() {
+        return lastUtilization;
+    }
+
+    /**
+     * 단계가 바뀐 횟수
+     */
+    public long getTransitionCount() {
+        return transitions.sum();
+    }
+
+    /**
+     * 단계 진입 기준 (0 이하인 신호는 사용하지 않음, 하나라도 넘으면 진입)
+     *
+     * @param inFlight     진행 중 요청 수
+     * @param latencyNanos 요청 지연 EWMA (ns)
+     * @param utilization  스레드 풀 사용률 (0~1)
+     */
+    public record Threshold(long inFlight, long latencyNanos, double utilization) {
+
+        boolean exceeded(long requests, double latencyEwmaNanos, double used, double ratio) {
+            return (inFlight > 0 && requests >= inFlight * ratio)
+                    || (latencyNanos > 0 && latencyEwmaNanos >= latencyNanos * ratio)
+                    || (utilization > 0 && used >= utilization * ratio);
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.wlsdks.fortunecookie.engine;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder.EncodedHeader;
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.BundleFortuneProvider;
+import io.github.wlsdks.fortunecookie.provider.FortuneKeySelector;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+import io.github.wlsdks.fortunecookie.template.FortuneTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 웹 프레임워크 없이 포춘 메시지 하나를 만드는 코어 엔진입니다. (로케일 결정 → 키 선택 → 메시지 조회 → 플레이스홀더 치환 → 헤더 인코딩)
+ * 어댑터(서블릿 인터셉터, WebFlux 필터, Netty 핸들러 등)는 요청을 {@link FortuneRequest}로 감싸서 넘기고, 결과를 응답에 싣기만 합니다.
+ */
+public class FortuneEngine {
+
+    // Accept-Language 헤더 캐시 기본 크기
+    private static final int DEFAULT_LOCALE_CACHE_SIZE = 256;
+
+    private final FortuneProvider fortuneProvider;
+    private final FortuneLocaleResolver localeResolver;
+    private final FortuneTemplate template;
+    private final FortuneHeaderEncoder headerEncoder = new FortuneHeaderEncoder();
+
+    /**
+     * @param fortuneProvider    포춘 메시지 제공자
+     * @param supportedLocales   지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @param placeholderMapping 플레이스홀더 매핑 (예: "userName" → "header:X-User-Name")
+     */
+    public FortuneEngine(FortuneProvider fortuneProvider,
+                         List<Locale> supportedLocales,
+                         Map<String, String> placeholderMapping) {
+        this.fortuneProvider = fortuneProvider;
+        this.localeResolver = new FortuneLocaleResolver(supportedLocales, DEFAULT_LOCALE_CACHE_SIZE);
+        this.template = new FortuneTemplate(placeholderMapping);
+    }
+
+    /**
+     * 라이브러리에 포함된 메시지 번들(fortunes/fortunes)을 사용하는 엔진을 만듭니다.
+     *
+     * @param mode               기본 포춘 모드
+     * @param fortunesCount      모드별 메시지 수
+     * @param supportedLocales   지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @param placeholderMapping 플레이스홀더 매핑
+     * @return 포춘 엔진
+     */
+    public static FortuneEngine bundled(FortuneMode mode,
+                                        int fortunesCount,
+                                        List<Locale> supportedLocales,
+                                        Map<String, String> placeholderMapping) {
+        FortuneKeySelector keySelector = new FortuneKeySelector(() -> mode, () -> fortunesCount);
+        FortuneProvider provider = new BundleFortuneProvider("fortunes/fortunes", supportedLocales, keySelector);
+        return new FortuneEngine(provider, supportedLocales, placeholderMapping);
+    }
+
+    /**
+     * 요청에 맞는 포춘 메시지를 만듭니다.
+     *
+     * @param mode    요청 모드 (UNSPECIFIED면 제공자의 기본 모드)
+     * @param request 요청 뷰
+     * @return 만들어진 포춘 메시지
+     */
+    public Fortune next(FortuneMode mode, FortuneRequest request) {
+        // 1. Accept-Language 헤더로 지원 로케일 결정
+        Locale locale = localeResolver.resolve(request.getHeader(Constant.ACCEPT_LANGUAGE));
+
+        // 2. 키를 고르고 메시지 조회
+        String fortuneKey = fortuneProvider.generateFortuneKey(mode);
+        String message = fortuneProvider.getFortune(fortuneKey, locale);
+
+        // 3. 플레이스홀더 치환 (치환이 일어나지 않은 카탈로그 원본만 헤더 인코딩 결과를 캐시)
+        String rendered = template.render(message, request);
+        EncodedHeader header = headerEncoder.encode(rendered, rendered == message);
+        return new Fortune(fortuneKey, locale, rendered, header);
+    }
+
+    /**
+     * 엔진이 만든 포춘 메시지
+     *
+     * @param key     메시지 키
+     * @param locale  결정된 로케일
+     * @param message 플레이스홀더가 치환된 메시지 (바디용)
+     * @param header  헤더용으로 인코딩된 메시지
+     */
+    public record Fortune(String key, Locale locale, String message, EncodedHeader header) {
+    }
+
+}
@@ -0,0 +1,198 @@
+package io.github.wlsdks.fortunecookie.header;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포춘 메시지를 HTTP 헤더 값으로 인코딩하는 클래스입니다.
+ * 출력 가능한 ASCII로만 이루어진 메시지는 그대로 사용하고(ASCII fast path),
+ * 한글 등 비 ASCII 문자가 포함된 메시지는 RFC 8187 형식(UTF-8''%EC%98%A4...)으로 퍼센트 인코딩합니다.
+ */
+public class FortuneHeaderEncoder {
+
+    // RFC 8187 확장 값의 charset 접두어
+    private static final String UTF8_PREFIX = "UTF-8''";
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    // 카탈로그 엔트리(플레이스홀더가 없는 원본 메시지)별 인코딩 결과 캐시의 최대 크기
+    private static final int DEFAULT_CACHE_LIMIT = 4096;
+
+    private final Map<String, EncodedHeader> cache = new ConcurrentHashMap<>();
+    private final int cacheLimit;
+
+    // 캐시 통계 (Actuator 엔드포인트용, 요청마다 LongAdder 증가만 함)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder retainedBytes = new LongAdder();
+
+    public FortuneHeaderEncoder() {
+        this(DEFAULT_CACHE_LIMIT);
+    }
+
+    public FortuneHeaderEncoder(int cacheLimit) {
+        this.cacheLimit = cacheLimit;
+    }
+
+    /**
+     * 메시지를 헤더 값으로 인코딩합니다.
+     *
+     * @param message   헤더에 넣을 메시지
+     * @param cacheable 카탈로그 원본 그대로인 메시지인지 여부 (플레이스홀더가 치환된 메시지는 캐시하지 않음)
+     * @return 인코딩된 헤더 값
+     */
+    public EncodedHeader encode(String message, boolean cacheable) {
+        // 1. 카탈로그 원본이면 캐시에서 먼저 찾아봄
+        if (cacheable) {
+            EncodedHeader cached = cache.get(message);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+        }
+
+        // 2. 인코딩 (ASCII면 그대로, 아니면 RFC 8187)
+        EncodedHeader encoded = isPrintableAscii(message)
+                ? new EncodedHeader(message, false)
+                : new EncodedHeader(encodeExtValue(message), true);
+
+        // 3. 캐시 크기 한도 안에서만 저장 (카탈로그 크기만큼만 쌓임)
+        if (cacheable && cache.size() < cacheLimit && cache.putIfAbsent(message, encoded) == null) {
+            retainedBytes.add(estimateBytes(message, encoded));
+        }
+
+        return encoded;
+    }
+
+    /**
+     * 캐시를 비웁니다. (비운 뒤에는 다시 요청되는 메시지부터 채워짐)
+     */
+    public void clear() {
+        cache.clear();
+        retainedBytes.reset();
+    }
+
+    /**
+     * 캐시된 메시지 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시에서 바로 찾은 횟수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시할 수 있는 메시지인데 캐시에 없어서 인코딩한 횟수
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시가 차지하는 대략적인 메모리 (키, 값 문자열 + 엔트리 오버헤드, 저장할 때 누적)
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.sum();
+    }
+
+    private static long estimateBytes(String message, EncodedHeader encoded) {
+        // 키 문자열(최대 2바이트/문자) + 값 문자열(ASCII, 1바이트/문자) + 객체, 맵 노드 오버헤드
+        return 112L + 2L * message.length() + encoded.value().length();
+    }
+
+    /**
+     * 출력 가능한 ASCII(0x20 ~ 0x7E)로만 이루어져 있는지 확인합니다.
+     */
+    private boolean isPrintableAscii(String message) {
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * RFC 8187 ext-value 형식으로 인코딩합니다. (UTF-8 바이트 단위로 attr-char가 아니면 %XX로 변환)
+     */
+    private String encodeExtValue(String message) {
+        StringBuilder builder = new StringBuilder(UTF8_PREFIX.length() + message.length() * 3);
+        builder.append(UTF8_PREFIX);
+
+        for (int i = 0; i < message.length(); ) {
+            int codePoint = message.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            // 1. attr-char는 그대로
+            if (codePoint < 0x80 && isAttrChar((char) codePoint)) {
+                builder.append((char) codePoint);
+                continue;
+            }
+
+            // 2. 나머지는 UTF-8 바이트로 바꿔 퍼센트 인코딩 (중간 byte[] 없이 직접 계산)
+            if (codePoint < 0x80) {
+                appendPercent(builder, codePoint);
+            } else if (codePoint < 0x800) {
+                appendPercent(builder, 0xC0 | (codePoint >> 6));
+                appendPercent(builder, 0x80 | (codePoint & 0x3F));
+            } else if (codePoint < 0x10000) {
+                appendPercent(builder, 0xE0 | (codePoint >> 12));
+                appendPercent(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendPercent(builder, 0x80 | (codePoint & 0x3F));
+            } else {
+                appendPercent(builder, 0xF0 | (codePoint >> 18));
+                appendPercent(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendPercent(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendPercent(builder, 0x80 | (codePoint & 0x3F));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private void appendPercent(StringBuilder builder, int b) {
+        builder.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+    }
+
+    /**
+     * RFC 8187의 attr-char 인지 확인합니다. (ALPHA / DIGIT / "!" / "#" / "$" / "&" / "+" / "-" / "." / "^" / "_" / "`" / "|" / "~")
+     */
+    private boolean isAttrChar(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        return switch (c) {
+            case '!', '#', '$', '&', '+', '-', '.', '^', '_', '`', '|', '~' -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * 인코딩된 헤더 값
+     *
+     * @param value    헤더 값
+     * @param extended RFC 8187 확장 값인지 여부 (true면 헤더 이름 뒤에 *를 붙여서 사용)
+     */
+    public record EncodedHeader(String value, boolean extended) {
+
+        /**
+         * 실제로 사용할 헤더 이름을 반환합니다.
+         *
+         * @param headerName 설정된 헤더 이름 (예: X-Fortune-Cookie)
+         * @return 확장 값이면 X-Fortune-Cookie*, 아니면 그대로
+         */
+        public String headerName(String headerName) {
+            return extended ? headerName + "*" : headerName;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package io.github.wlsdks.fortunecookie.interceptor.module;
+
+/**
+ * 미니 게임 한 번의 처리 결과입니다.
+ * 게임 모듈은 처리 결과를 request attribute(Constant.GAME_OUTCOME)에 남기고, 인터셉터는 이를 통계/리더보드에 반영합니다.
+ */
+public enum GameOutcome {
+
+    PROMPT("prompt", "안내 메시지만 출력 (시도 아님)"),
+    INVALID("invalid", "잘못된 형식의 시도"),
+    WRONG("wrong", "오답"),
+    CORRECT("correct", "정답"),
+    THROTTLED("throttled", "추측 예산을 넘어 게임을 실행하지 않음 (시도 아님)");
+
+    private final String outcome;
+    private final String description;
+
+    GameOutcome(String outcome, String description) {
+        this.outcome = outcome;
+        this.description = description;
+    }
+
+    /**
+     * 정답/오답처럼 실제 추측으로 집계되는 결과인지 여부
+     */
+    public boolean isAttempt() {
+        return this == WRONG || this == CORRECT;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.message;
+
+/**
+ * 미니 게임이 응답에 붙이는 메시지 목록입니다.
+ * 인자가 있는 메시지는 시작 시점에 {@link GameMessageFormat}으로 미리 컴파일됩니다.
+ */
+public enum GameMessage {
+
+    // 숫자 맞히기
+    NUMBER_CORRECT("game.guessed_correctly", true),
+    NUMBER_WRONG("game.wrong_guess", false),
+    NUMBER_INVALID("game.invalid_guess", false),
+    NUMBER_PROMPT("game.guess_prompt", true),
+
+    // 퀴즈
+    QUIZ_CORRECT("game.quiz.correct", true),
+    QUIZ_WRONG("game.quiz.wrong", false),
+    QUIZ_PROMPT("game.quiz_prompt", false),
+    QUIZ_DISPLAY("game.quiz.display", true),
+
+    // 단어 맞히기
+    WORD_PROMPT("game.word.prompt", true),
+    WORD_INVALID("game.word.invalid", true),
+    WORD_UNKNOWN("game.word.unknown", false),
+    WORD_HINT("game.word.hint", true),
+    WORD_CORRECT("game.word.correct", true),
+
+    // 공통
+    ALREADY_SOLVED("game.already_solved", false);
+
+    // 메시지 키
+    private final String code;
+
+    // {0} 인자를 받는 메시지인지 여부 (인자가 없는 메시지는 MessageFormat을 거치지 않은 원문 그대로 사용)
+    private final boolean formatted;
+
+    GameMessage(String code, boolean formatted) {
+        this.code = code;
+        this.formatted = formatted;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public boolean isFormatted() {
+        return formatted;
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.message;
+
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 하나의 게임 메시지 패턴을 미리 컴파일한 형태입니다.
+ * "정답은 {0} 였습니다." 같은 패턴을 리터럴 조각과 인자 슬롯으로 나눠 두고,
+ * 요청마다 호출자가 넘긴 StringBuilder에 조각과 인자를 순서대로 붙입니다. (MessageFormat 생성, 동기화 없음)
+ * 따옴표 처리('' → ', '...' → 리터럴)는 MessageFormat과 같고, {0,number,#} 같은 서식 인자가 있는 패턴만 MessageFormat으로 처리합니다.
+ */
+public final class GameMessageFormat {
+
+    // literals[i] 다음에 arguments[i]번 인자가 오고, 마지막 literals[arguments.length]로 끝남
+    private final String[] literals;
+    private final int[] arguments;
+
+    // 컴파일할 수 없는 서식 인자가 있는 패턴 (없으면 null)
+    private final String fallbackPattern;
+
+    private final Locale locale;
+
+    private GameMessageFormat(String[] literals, int[] arguments, String fallbackPattern, Locale locale) {
+        this.literals = literals;
+        this.arguments = arguments;
+        this.fallbackPattern = fallbackPattern;
+        this.locale = locale;
+    }
+
+    /**
+     * 인자가 없는 메시지 (원문 그대로 사용)
+     */
+    public static GameMessageFormat literal(String message) {
+        return new GameMessageFormat(new String[]{message}, new int[0], null, null);
+    }
+
+    /**
+     * MessageFormat 패턴을 컴파일합니다.
+     *
+     * @param pattern 메시지 패턴 (예: Guess a number between 1 and {0} using 'X-Guess' header!)
+     * @param locale  숫자 인자를 표시할 로케일
+     * @return 컴파일된 메시지
+     */
+    public static GameMessageFormat compile(String pattern, Locale locale) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+
+            // 1. '' 는 따옴표 하나, 나머지 ' 는 리터럴 구간 시작/끝
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+                continue;
+            }
+
+            // 2. 리터럴 구간 밖의 {n} 은 인자 슬롯
+            if (c == '{' && !quoted) {
+                int end = pattern.indexOf('}', i);
+                int argument = end > i ? parseArgumentIndex(pattern, i + 1, end) : -1;
+                if (argument < 0) {
+                    // 서식 인자({0,number,#} 등)나 잘못된 패턴은 MessageFormat에 맡김
+                    return new GameMessageFormat(null, null, pattern, locale);
+                }
+                literals.add(literal.toString());
+                arguments.add(argument);
+                literal.setLength(0);
+                i = end;
+                continue;
+            }
+
+            literal.append(c);
+        }
+        literals.add(literal.toString());
+
+        return new GameMessageFormat(
+                literals.toArray(new String[0]),
+                arguments.stream().mapToInt(Integer::intValue).toArray(),
+                null,
+                locale
+        );
+    }
+
+    /**
+     * 인자 없이 메시지를 붙입니다.
+     */
+    public void appendTo(StringBuilder builder) {
+        if (fallbackPattern != null) {
+            builder.append(new MessageFormat(fallbackPattern, locale).format(new Object[0]));
+            return;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            builder.append(literals[i]);
+        }
+        builder.append(literals[arguments.length]);
+    }
+
+    /**
+     * 숫자 인자를 넣어 메시지를 붙입니다. (MessageFormat과 같이 로케일의 자릿수 구분 기호 적용)
+     */
+    public void appendTo(StringBuilder builder, int value) {
+        if (fallbackPattern != null) {
+            builder.append(new MessageFormat(fallbackPattern, locale).format(new Object[]{value}));
+            return;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            builder.append(literals[i]);
+            appendNumber(builder, value);
+        }
+        builder.append(literals[arguments.length]);
+    }
+
+    /**
+     * 문자열 인자를 넣어 메시지를 붙입니다.
+     */
+    public void appendTo(StringBuilder builder, CharSequence value) {
+        if (fallbackPattern != null) {
+            builder.append(new MessageFormat(fallbackPattern, locale).format(new Object[]{value.toString()}));
+            return;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            builder.append(literals[i]).append(value);
+        }
+        builder.append(literals[arguments.length]);
+    }
+
+    private void appendNumber(StringBuilder builder, int value) {
+        // 세 자리 이하는 구분 기호가 없으므로 바로 붙이고, 그 이상만 로케일 서식 사용
+        if (value > -1000 && value < 1000) {
+            builder.append(value);
+        } else {
+            builder.append(NumberFormat.getInstance(locale).format(value));
+        }
+    }
+
+    /**
+     * {n} 의 n을 읽습니다. (숫자가 아니면 -1)
+     */
+    private static int parseArgumentIndex(String pattern, int start, int end) {
+        if (start == end || end - start > 2) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,216 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.quiz;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 퀴즈 게임에서 사용하는 문제 은행입니다.
+ * 로케일별 properties 파일(예: quiz/quiz_en.properties)을 시작 시점에 한 번 로드하고,
+ * 정답은 로드할 때 미리 정규화(NFKC + 소문자)해서 HashSet에 넣어 둡니다.
+ * 답안 확인은 입력값을 한 번 정규화한 뒤 O(1) 조회로 끝납니다.
+ *
+ * <pre>
+ * quiz.1.question=What is the capital of France?
+ * quiz.1.answers=Paris|Paree
+ * </pre>
+ */
+@Slf4j
+public class QuizBank {
+
+    private static final String QUESTION_SUFFIX = ".question";
+    private static final String ANSWERS_SUFFIX = ".answers";
+    private static final String ANSWER_SEPARATOR = "\\|";
+
+    // 로케일 슬롯 (0번이 기본 로케일)
+    private final Locale[] locales;
+    private final Map<Locale, Integer> localeSlots;
+
+    // questions[slot][index], displayAnswers[slot][index] (해당 로케일에 없으면 기본 로케일 값으로 채워짐)
+    private final String[][] questions;
+    private final String[][] displayAnswers;
+
+    // 문제별로 정규화된 정답 집합 (모든 로케일의 정답을 합쳐서 허용)
+    private final List<Set<String>> acceptedAnswers;
+
+    private QuizBank(Locale[] locales, String[][] questions, String[][] displayAnswers, List<Set<String>> acceptedAnswers) {
+        this.locales = locales;
+        this.questions = questions;
+        this.displayAnswers = displayAnswers;
+        this.acceptedAnswers = acceptedAnswers;
+        this.localeSlots = new HashMap<>();
+        for (int slot = 0; slot < locales.length; slot++) {
+            localeSlots.put(locales[slot], slot);
+        }
+    }
+
+    /**
+     * 클래스패스에서 로케일별 퀴즈 파일을 로드합니다.
+     * 문제 목록(번호)은 첫 번째 로케일 파일을 기준으로 하고, 다른 로케일 파일은 같은 번호의 문제를 번역합니다.
+     *
+     * @param basename 파일 기본 경로 (예: quiz/quiz → quiz/quiz_en.properties, quiz/quiz_ko.properties)
+     * @param locales  지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @return 로드된 문제 은행
+     */
+    @SuppressWarnings("unchecked")
+    public static QuizBank load(String basename, List<Locale> locales) {
+        long start = System.nanoTime();
+        if (locales.isEmpty()) {
+            throw new IllegalArgumentException("At least one locale is required to load the quiz bank");
+        }
+
+        // 1. 기본 로케일 파일에서 문제 번호 목록을 만듦
+        List<Properties> files = new ArrayList<>();
+        for (Locale locale : locales) {
+            files.add(loadProperties(basename + "_" + locale.toLanguageTag().replace('-', '_') + ".properties"));
+        }
+        Properties defaults = files.get(0);
+        if (defaults == null) {
+            throw new IllegalStateException("Quiz bank not found on classpath: " + basename + "_" + locales.get(0));
+        }
+        int[] ids = defaults.stringPropertyNames().stream()
+                .filter(key -> key.endsWith(QUESTION_SUFFIX))
+                .mapToInt(key -> Integer.parseInt(key.substring(key.indexOf('.') + 1, key.length() - QUESTION_SUFFIX.length())))
+                .sorted()
+                .toArray();
+
+        // 2. 로케일 슬롯별 문제, 표시용 정답, 정규화된 정답 집합을 채움
+        String[][] questions = new String[locales.size()][ids.length];
+        String[][] displayAnswers = new String[locales.size()][ids.length];
+        List<Set<String>> acceptedAnswers = new ArrayList<>(ids.length);
+
+        for (int index = 0; index < ids.length; index++) {
+            String prefix = "quiz." + ids[index];
+            Set<String> accepted = new HashSet<>();
+
+            for (int slot = 0; slot < locales.size(); slot++) {
+                Properties file = files.get(slot) != null ? files.get(slot) : defaults;
+                String question = file.getProperty(prefix + QUESTION_SUFFIX, defaults.getProperty(prefix + QUESTION_SUFFIX));
+                String answers = file.getProperty(prefix + ANSWERS_SUFFIX, defaults.getProperty(prefix + ANSWERS_SUFFIX, ""));
+
+                String[] answerTokens = answers.split(ANSWER_SEPARATOR);
+                questions[slot][index] = question.strip();
+                displayAnswers[slot][index] = answerTokens[0].strip();
+                for (String answer : answerTokens) {
+                    if (!answer.isBlank()) {
+                        accepted.add(normalize(answer));
+                    }
+                }
+            }
+
+            if (accepted.isEmpty()) {
+                throw new IllegalStateException("Quiz question has no accepted answers: " + prefix);
+            }
+            acceptedAnswers.add(Set.copyOf(accepted));
+        }
+
+        QuizBank quizBank = new QuizBank(locales.toArray(new Locale[0]), questions, displayAnswers, List.copyOf(acceptedAnswers));
+        log.info("Loaded quiz bank '{}': {} questions, locales {}, {} ms",
+                basename, quizBank.size(), locales, (System.nanoTime() - start) / 1_000_000);
+        return quizBank;
+    }
+
+    private static Properties loadProperties(String location) {
+        ClassLoader classLoader = QuizBank.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(location)) {
+            if (inputStream == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load quiz bank: " + location, e);
+        }
+    }
+
+    /**
+     * 답안을 비교할 수 있도록 정규화합니다. (앞뒤 공백 제거, NFKC 정규화, 소문자 변환)
+     * 전각 문자, 조합형 한글 등도 같은 값으로 비교됩니다.
+     *
+     * @param answer 원본 답안
+     * @return 정규화된 답안
+     */
+    public static String normalize(String answer) {
+        String stripped = answer.strip();
+        if (!Normalizer.isNormalized(stripped, Normalizer.Form.NFKC)) {
+            stripped = Normalizer.normalize(stripped, Normalizer.Form.NFKC);
+        }
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문제 번호를 랜덤하게 하나 고릅니다. (포춘 메시지 선택과 같은 ThreadLocalRandom 사용)
+     */
+    public int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(size());
+    }
+
+    /**
+     * 세션에 남아 있던 문제 번호가 현재 문제 은행에서 유효한지 확인합니다.
+     */
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < size();
+    }
+
+    /**
+     * 답안이 정답인지 확인합니다. (입력값 정규화 1회 + HashSet 조회 1회)
+     *
+     * @param index  문제 번호
+     * @param answer 사용자가 보낸 답안
+     * @return 정답이면 true
+     */
+    public boolean isCorrect(int index, String answer) {
+        return acceptedAnswers.get(index).contains(normalize(answer));
+    }
+
+    /**
+     * 로케일에 맞는 문제를 반환합니다.
+     */
+    public String question(int index, Locale locale) {
+        return questions[slotOf(locale)][index];
+    }
+
+    /**
+     * 로케일에 맞는 대표 정답을 반환합니다. (정답 메시지에 표시)
+     */
+    public String displayAnswer(int index, Locale locale) {
+        return displayAnswers[slotOf(locale)][index];
+    }
+
+    /**
+     * 문제 수
+     */
+    public int size() {
+        return acceptedAnswers.size();
+    }
+
+    /**
+     * 로케일을 슬롯 번호로 바꿉니다. (정확히 일치 → 언어만 일치 → 기본 로케일 순)
+     */
+    private int slotOf(Locale locale) {
+        if (locale == null) {
+            return 0;
+        }
+        Integer slot = localeSlots.get(locale);
+        if (slot == null && !locale.getCountry().isEmpty()) {
+            slot = localeSlots.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return slot != null ? slot : 0;
+    }
+
+    /**
+     * 지원 로케일 목록
+     */
+    public List<Locale> getLocales() {
+        return List.of(locales);
+    }
+
+}
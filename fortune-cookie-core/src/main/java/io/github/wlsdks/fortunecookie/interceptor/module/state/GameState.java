@@ -0,0 +1,28 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.state;
+
+import java.io.Serializable;
+
+/**
+ * 미니 게임 한 판의 불변 상태입니다.
+ * 정답이 나오면 값을 바꾼 새 상태(round + 1)로 교체되며, 교체는 항상 {@link GameStateStore#compareAndSet}으로만 이루어집니다.
+ *
+ * @param value 게임 값 (숫자 게임의 비밀 숫자, 퀴즈 문제 번호, 단어 id)
+ * @param round 라운드 번호 (같은 값이 다시 나와도 이전 라운드와 구분)
+ */
+public record GameState(int value, long round) implements Serializable {
+
+    /**
+     * 첫 라운드 상태를 만듭니다.
+     */
+    public static GameState initial(int value) {
+        return new GameState(value, 0L);
+    }
+
+    /**
+     * 다음 라운드 상태를 만듭니다.
+     */
+    public GameState next(int nextValue) {
+        return new GameState(nextValue, round + 1);
+    }
+
+}
@@ -0,0 +1,382 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.word;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 단어 맞히기(WORD) 게임에서 사용하는 사전입니다.
+ * 시작 시점에 한 번만 로드되며, 단어 길이별로 정렬된 byte 배열(a-z → 0~25)과
+ * 단어별 글자 존재 마스크(26bit)를 미리 계산해 둡니다.
+ * 힌트 계산과 정답 확인은 이 배열 위에서 비트 연산으로만 이루어집니다.
+ */
+@Slf4j
+public class WordDictionary {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_LENGTH = 12;
+
+    // 길이별 단어 그룹 (인덱스 = 단어 길이, 단어가 없는 길이는 null)
+    private final WordGroup[] groups;
+
+    // 단어가 하나 이상 있는 길이 목록
+    private final int[] availableLengths;
+
+    private final int wordCount;
+
+    private WordDictionary(WordGroup[] groups) {
+        this.groups = groups;
+        this.availableLengths = Arrays.stream(groups)
+                .filter(group -> group != null)
+                .mapToInt(WordGroup::length)
+                .toArray();
+        this.wordCount = Arrays.stream(groups)
+                .filter(group -> group != null)
+                .mapToInt(WordGroup::size)
+                .sum();
+    }
+
+    /**
+     * 클래스패스의 사전 파일을 로드합니다. (한 줄에 한 단어, #으로 시작하는 줄은 주석)
+     * 로드 시간과 대략적인 메모리 사용량을 로그로 남깁니다.
+     *
+     * @param location 클래스패스 경로 (예: games/words_en.txt)
+     * @return 로드된 사전
+     */
+    public static WordDictionary load(String location) {
+        long start = System.nanoTime();
+
+        ClassLoader classLoader = WordDictionary.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(location)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Word dictionary not found on classpath: " + location);
+            }
+            WordDictionary dictionary = load(inputStream);
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Loaded word dictionary '{}': {} words, lengths {}, {} ms, ~{} KB",
+                    location, dictionary.size(), Arrays.toString(dictionary.availableLengths),
+                    elapsedMillis, dictionary.estimatedBytes() / 1024);
+            return dictionary;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load word dictionary: " + location, e);
+        }
+    }
+
+    /**
+     * 스트림에서 사전을 로드합니다.
+     *
+     * @param inputStream UTF-8 텍스트 스트림
+     * @return 로드된 사전
+     */
+    public static WordDictionary load(InputStream inputStream) throws IOException {
+        // 1. 길이별로 단어를 모음
+        List<List<String>> wordsByLength = new ArrayList<>();
+        for (int i = 0; i <= MAX_LENGTH; i++) {
+            wordsByLength.add(new ArrayList<>());
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String word = line.trim();
+            if (word.isEmpty() || word.startsWith("#")) {
+                continue;
+            }
+            word = word.toLowerCase(Locale.ROOT);
+            if (isValidWord(word)) {
+                wordsByLength.get(word.length()).add(word);
+            }
+        }
+
+        // 2. 길이별로 정렬, 중복 제거 후 압축된 그룹으로 변환
+        WordGroup[] groups = new WordGroup[MAX_LENGTH + 1];
+        boolean empty = true;
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            List<String> words = wordsByLength.get(length);
+            if (!words.isEmpty()) {
+                groups[length] = WordGroup.of(length, words.stream().sorted().distinct().toList());
+                empty = false;
+            }
+        }
+
+        // 3. 단어가 하나도 없으면 게임을 진행할 수 없으므로 예외
+        if (empty) {
+            throw new IllegalStateException("Word dictionary has no valid words (a-z, "
+                    + MIN_LENGTH + "~" + MAX_LENGTH + " letters)");
+        }
+
+        return new WordDictionary(groups);
+    }
+
+    private static boolean isValidWord(String word) {
+        if (word.length() < MIN_LENGTH || word.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 단어 id를 랜덤하게 하나 고릅니다.
+     *
+     * @param length 단어 길이 (0이면 사전에 있는 길이 중 아무거나)
+     * @param random 랜덤 소스
+     * @return 단어 id (길이와 그룹 내 인덱스를 하나의 int로 묶은 값)
+     */
+    public int randomWordId(int length, Random random) {
+        int finalLength = length;
+        if (finalLength == 0 || group(finalLength) == null) {
+            finalLength = availableLengths[random.nextInt(availableLengths.length)];
+        }
+        WordGroup group = groups[finalLength];
+        return wordId(finalLength, random.nextInt(group.size()));
+    }
+
+    /**
+     * 단어 id가 현재 사전에서 유효한지 확인합니다. (사전 교체 후 세션에 남아 있던 id 등)
+     */
+    public boolean isValidWordId(int wordId) {
+        int length = lengthOf(wordId);
+        WordGroup group = group(length);
+        return group != null && indexOf(wordId) < group.size();
+    }
+
+    /**
+     * 단어 id의 글자 수를 반환합니다.
+     */
+    public int lengthOf(int wordId) {
+        return wordId >>> 24;
+    }
+
+    /**
+     * 추측 단어가 영문자로만 이루어져 있고 길이가 맞는지 확인합니다. (대소문자 구분 없음)
+     *
+     * @param guess  추측 단어
+     * @param length 정답 단어 길이
+     * @return 형식이 올바르면 true
+     */
+    public static boolean isWellFormed(CharSequence guess, int length) {
+        if (guess == null || guess.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = guess.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추측 단어가 사전에 있는지 확인합니다. (정렬된 byte 배열에서 이진 탐색, 문자열 생성 없음)
+     *
+     * @param guess {@link #isWellFormed}를 통과한 추측 단어 (대소문자 구분 없음)
+     * @return 사전에 있으면 true
+     */
+    public boolean contains(CharSequence guess) {
+        WordGroup group = group(guess.length());
+        return group != null && group.binarySearch(guess) >= 0;
+    }
+
+    /**
+     * 추측 단어와 정답을 비교해 힌트를 builder에 추가합니다.
+     * 위치까지 맞은 글자는 대문자, 단어 안에 있지만 위치가 다른 글자는 소문자, 없는 글자는 _ 로 표시합니다.
+     * 같은 글자가 여러 번 나오면 위치가 맞은 글자를 먼저 세고, 남은 개수만큼만 앞에서부터 소문자로 표시합니다. (apple에 ppppp → _PP__)
+     *
+     * @param wordId  정답 단어 id
+     * @param guess   {@link #isWellFormed}를 통과한 추측 단어 (대소문자 구분 없음)
+     * @param builder 힌트를 추가할 builder
+     * @return 모든 글자의 위치가 맞으면(정답) true
+     */
+    public boolean appendHint(int wordId, CharSequence guess, StringBuilder builder) {
+        WordGroup group = groups[lengthOf(wordId)];
+        int index = indexOf(wordId);
+        int letterMask = group.letterMasks[index];
+        int offset = index * group.length();
+        int length = group.length();
+
+        // 1. 위치가 맞은 글자를 비트로 모음 (i번째 비트 = i번째 글자)
+        int exactMask = 0;
+        for (int i = 0; i < length; i++) {
+            if (group.letters[offset + i] == letterAt(guess, i)) {
+                exactMask |= 1 << i;
+            }
+        }
+
+        // 2. 위치가 다른 글자는 정답에 남은 개수(위치가 맞은 글자 제외)만큼만 표시 (단어가 짧으므로 배열 없이 세어서 할당하지 않음)
+        int presentMask = 0;
+        for (int i = 0; i < length; i++) {
+            int letter = letterAt(guess, i);
+            if ((exactMask & (1 << i)) != 0) {
+                builder.append((char) ('A' + letter));
+            } else if ((letterMask & (1 << letter)) != 0
+                    && usedCount(guess, letter, presentMask, i) < remainingCount(group, offset, letter, exactMask)) {
+                presentMask |= 1 << i;
+                builder.append((char) ('a' + letter));
+            } else {
+                builder.append('_');
+            }
+        }
+
+        return exactMask == (1 << length) - 1;
+    }
+
+    /**
+     * 정답에서 위치가 맞지 않은 자리에 남은 글자 수
+     */
+    private static int remainingCount(WordGroup group, int offset, int letter, int exactMask) {
+        int count = 0;
+        for (int j = 0; j < group.length(); j++) {
+            if ((exactMask & (1 << j)) == 0 && group.letters[offset + j] == letter) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 추측 단어의 앞쪽(end 전)에서 이미 소문자로 표시한 같은 글자 수
+     */
+    private static int usedCount(CharSequence guess, int letter, int presentMask, int end) {
+        int count = 0;
+        for (int k = 0; k < end; k++) {
+            if ((presentMask & (1 << k)) != 0 && letterAt(guess, k) == letter) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 단어 id에 해당하는 단어를 builder에 추가합니다.
+     */
+    public void appendWord(int wordId, StringBuilder builder) {
+        WordGroup group = groups[lengthOf(wordId)];
+        int offset = indexOf(wordId) * group.length();
+        for (int i = 0; i < group.length(); i++) {
+            builder.append((char) ('a' + group.letters[offset + i]));
+        }
+    }
+
+    /**
+     * 사전에 있는 단어 수
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * 사전이 차지하는 대략적인 메모리 (byte 배열 + 마스크 배열)
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (WordGroup group : groups) {
+            if (group != null) {
+                bytes += 16L + group.letters.length; // 배열 헤더 + 글자
+                bytes += 16L + group.letterMasks.length * 4L; // 배열 헤더 + 마스크
+            }
+        }
+        return bytes;
+    }
+
+    private WordGroup group(int length) {
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return null;
+        }
+        return groups[length];
+    }
+
+    /**
+     * 영문자를 0~25 글자 번호로 변환합니다. (대문자는 0x20 비트를 켜서 소문자로 취급)
+     */
+    private static int letterAt(CharSequence guess, int i) {
+        return (guess.charAt(i) | 0x20) - 'a';
+    }
+
+    private static int wordId(int length, int index) {
+        return (length << 24) | index;
+    }
+
+    private static int indexOf(int wordId) {
+        return wordId & 0x00FF_FFFF;
+    }
+
+    /**
+     * 같은 길이의 단어를 모아 둔 그룹
+     *
+     * @param length      단어 길이
+     * @param letters     정렬된 단어들을 이어 붙인 글자 배열 (a-z → 0~25)
+     * @param letterMasks 단어별로 포함된 글자의 비트 마스크 (bit n = 'a' + n)
+     */
+    private record WordGroup(int length, byte[] letters, int[] letterMasks) {
+
+        static WordGroup of(int length, List<String> sortedWords) {
+            byte[] letters = new byte[sortedWords.size() * length];
+            int[] letterMasks = new int[sortedWords.size()];
+
+            for (int index = 0; index < sortedWords.size(); index++) {
+                String word = sortedWords.get(index);
+                int mask = 0;
+                for (int i = 0; i < length; i++) {
+                    int letter = word.charAt(i) - 'a';
+                    letters[index * length + i] = (byte) letter;
+                    mask |= 1 << letter;
+                }
+                letterMasks[index] = mask;
+            }
+
+            return new WordGroup(length, letters, letterMasks);
+        }
+
+        int size() {
+            return letterMasks.length;
+        }
+
+        int binarySearch(CharSequence guess) {
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(mid, guess);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private int compare(int index, CharSequence guess) {
+            int offset = index * length;
+            for (int i = 0; i < length; i++) {
+                int diff = letters[offset + i] - letterAt(guess, i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * ResponseBodyAdvice가 응답 바디에 포춘 메시지를 넣은 구간
+ */
+@Name(FortuneEvents.PREFIX + "BodyInjected")
+@Label("Body Injected")
+@Category(FortuneEvents.CATEGORY)
+@Description("Fortune injection into the JSON response body in FortuneCookieResponseAdvice")
+@Enabled(false)
+@StackTrace(false)
+public class BodyInjectedEvent extends Event {
+
+    @Label("Body Type")
+    @Description("map (copied map with a fortune field) or wrapper (FortuneWrapper)")
+    public String bodyType;
+
+    @Label("Pre-encoded")
+    @Description("True if the pre-serialized catalog message was used")
+    public boolean preEncoded;
+
+    @Label("Fortune Length")
+    public int fortuneLength;
+
+}
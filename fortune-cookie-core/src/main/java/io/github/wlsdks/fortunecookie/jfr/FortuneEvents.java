@@ -0,0 +1,54 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import java.util.Locale;
+
+/**
+ * JFR 이벤트 공통 상수와 도우미입니다.
+ * 모든 이벤트는 기본적으로 꺼져 있고(@Enabled(false)), 번들 설정 파일(fortunecookie.jfc)이나 레코딩 설정으로 켭니다.
+ * 이벤트를 내보내는 쪽은 shouldCommit()(레코딩 중이고 임계값을 넘었는지)을 확인한 뒤에만 필드를 채우므로,
+ * 레코딩이 꺼져 있으면 이벤트 객체 생성과 begin() 외에는 비용이 없습니다. (JIT가 객체 생성도 제거함)
+ */
+public final class FortuneEvents {
+
+    public static final String PREFIX = "io.github.wlsdks.fortunecookie.";
+    public static final String CATEGORY = "Fortune Cookie";
+
+    private FortuneEvents() {
+    }
+
+    /**
+     * 포춘 키의 숫자 부분을 반환합니다. (예: fortune.joke.3 → 3)
+     *
+     * @param fortuneKey 포춘 메시지 키
+     * @return 마지막 '.' 뒤의 숫자, 숫자가 아니면(스페셜, 요일, 기본 메시지) -1
+     */
+    public static int keyIndex(String fortuneKey) {
+        if (fortuneKey == null) {
+            return -1;
+        }
+        int start = fortuneKey.lastIndexOf('.') + 1;
+        if (start == 0 || start == fortuneKey.length() || fortuneKey.length() - start > 9) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < fortuneKey.length(); i++) {
+            char c = fortuneKey.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    /**
+     * 로케일의 언어 태그를 반환합니다. (예: ko-KR)
+     *
+     * @param locale 요청 로케일 (제공자를 직접 호출하면 null일 수 있음)
+     * @return 언어 태그, 로케일이 없으면 null
+     */
+    public static String localeTag(Locale locale) {
+        return locale != null ? locale.toLanguageTag() : null;
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * DefaultFortuneProvider가 메시지 소스에서 포춘 메시지 하나를 조회한 구간
+ */
+@Name(FortuneEvents.PREFIX + "FortuneLookup")
+@Label("Fortune Lookup")
+@Category(FortuneEvents.CATEGORY)
+@Description("Message source lookup in DefaultFortuneProvider")
+@Enabled(false)
+@StackTrace(false)
+public class FortuneLookupEvent extends Event {
+
+    @Label("Fortune Key")
+    public String fortuneKey;
+
+    @Label("Key Index")
+    public int keyIndex;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Hit")
+    @Description("False if the key was missing and the mode's default message was used")
+    public boolean hit;
+
+}
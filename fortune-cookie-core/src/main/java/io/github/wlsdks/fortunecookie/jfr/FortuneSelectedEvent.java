@@ -0,0 +1,43 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 인터셉터가 요청의 포춘 메시지를 고르고 헤더, 바디용 메시지를 만든 구간 (풀 조회, 키 생성, 메시지 조회, 플레이스홀더 치환 포함)
+ */
+@Name(FortuneEvents.PREFIX + "FortuneSelected")
+@Label("Fortune Selected")
+@Category(FortuneEvents.CATEGORY)
+@Description("Fortune key selection and header/body rendering in FortuneCookieInterceptor")
+@Enabled(false)
+@StackTrace(false)
+public class FortuneSelectedEvent extends Event {
+
+    @Label("Mode")
+    public String mode;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Fortune Key")
+    public String fortuneKey;
+
+    @Label("Key Index")
+    @Description("Numeric suffix of the fortune key, -1 for special, weekday and default messages")
+    public int keyIndex;
+
+    @Label("Pool Hit")
+    @Description("True if a pre-rendered fortune was taken from the fortune pool")
+    public boolean poolHit;
+
+    @Label("Bucketed")
+    @Description("True if the key was shared within a time bucket")
+    public boolean bucketed;
+
+    @Label("Tag Count")
+    public int tagCount;
+
+    @Label("Degradation Tier")
+    public String tier;
+
+}
@@ -0,0 +1,28 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 게임 모듈 하나가 요청을 처리한 구간 (추측 제한으로 실행하지 않은 경우 포함)
+ */
+@Name(FortuneEvents.PREFIX + "GameProcessed")
+@Label("Game Processed")
+@Category(FortuneEvents.CATEGORY)
+@Description("Mini game processing by a GameModule")
+@Enabled(false)
+@StackTrace(false)
+public class GameProcessedEvent extends Event {
+
+    @Label("Game Type")
+    public String gameType;
+
+    @Label("Game Module")
+    public Class<?> gameModule;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Outcome")
+    public String outcome;
+
+}
@@ -0,0 +1,26 @@
+package io.github.wlsdks.fortunecookie.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 메시지 하나의 플레이스홀더를 치환한 구간 (치환할 플레이스홀더가 있었던 경우만 기록)
+ */
+@Name(FortuneEvents.PREFIX + "PlaceholderRendered")
+@Label("Placeholder Rendered")
+@Category(FortuneEvents.CATEGORY)
+@Description("Placeholder substitution of one fortune message")
+@Enabled(false)
+@StackTrace(false)
+public class PlaceholderRenderedEvent extends Event {
+
+    @Label("Placeholder Count")
+    public int placeholderCount;
+
+    @Label("Resolved")
+    @Description("False if values were not looked up and every placeholder became Guest (degradation)")
+    public boolean resolved;
+
+    @Label("Message Length")
+    public int messageLength;
+
+}
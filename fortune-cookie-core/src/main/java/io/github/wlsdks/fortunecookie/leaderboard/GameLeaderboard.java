@@ -0,0 +1,279 @@
+package io.github.wlsdks.fortunecookie.leaderboard;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 미니 게임 통계와 리더보드입니다.
+ * 전역 통계는 게임 타입별 LongAdder(스트라이프 카운터)로, 플레이어별 점수는 ConcurrentHashMap으로 관리하고,
+ * 상위 N명은 정답이 나올 때마다 크기가 제한된 ConcurrentSkipListSet에 점진적으로 반영합니다.
+ * 어디에도 전역 락이 없으므로 초당 수천 건의 게임 요청도 서로 막지 않습니다.
+ * 플레이어 테이블이 가득 차면 랭킹에 없는 플레이어 중 가장 오래 쉰 플레이어부터 한 번에 일부를 정리합니다.
+ */
+public class GameLeaderboard {
+
+    private final Map<GameType, GameStats> gameStats = new EnumMap<>(GameType.class);
+    private final ConcurrentHashMap<String, PlayerScore> players = new ConcurrentHashMap<>();
+
+    // 승수 내림차순 랭킹 (같은 플레이어의 이전 점수가 잠깐 남아 있을 수 있어 topSize의 두 배까지 보관하고 읽을 때 중복 제거)
+    private final ConcurrentSkipListSet<Ranking> rankings = new ConcurrentSkipListSet<>();
+
+    // 플레이어 테이블 크기 제한을 넘어 집계되지 않은 시도 수
+    private final LongAdder droppedPlayers = new LongAdder();
+
+    // 오래 쉬어서 테이블에서 정리된 플레이어 수
+    private final LongAdder evictedPlayers = new LongAdder();
+
+    // 플레이어 정리를 한 스레드만 하도록 막는 플래그
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final int topSize;
+    private final int maxPlayers;
+
+    public GameLeaderboard(int topSize, int maxPlayers) {
+        this.topSize = topSize;
+        this.maxPlayers = maxPlayers;
+        for (GameType gameType : GameType.values()) {
+            gameStats.put(gameType, new GameStats());
+        }
+    }
+
+    /**
+     * 게임 결과를 기록합니다.
+     *
+     * @param playerId 플레이어 식별자 (null이면 전역 통계만 기록)
+     * @param gameType 게임 타입
+     * @param outcome  게임 결과 (정답/오답만 시도로 집계)
+     */
+    public void record(String playerId, GameType gameType, GameOutcome outcome) {
+        // 1. 안내, 형식 오류는 시도로 보지 않음
+        if (outcome == null || !outcome.isAttempt()) {
+            return;
+        }
+
+        // 2. 전역 통계 (LongAdder라 경합이 있어도 락 없이 누적)
+        GameStats stats = gameStats.get(gameType);
+        stats.attempts.increment();
+        if (outcome == GameOutcome.CORRECT) {
+            stats.wins.increment();
+        }
+
+        // 3. 플레이어 통계
+        PlayerScore score = getOrCreatePlayer(playerId);
+        if (score == null) {
+            return;
+        }
+        score.lastActive = System.nanoTime();
+        score.attempts.incrementAndGet();
+        if (outcome == GameOutcome.CORRECT) {
+            updateRanking(playerId, score.wins.incrementAndGet());
+        }
+    }
+
+    /**
+     * 상위 N명을 반환합니다. (승수 내림차순, 같은 승수는 플레이어 이름 순)
+     */
+    public List<Ranking> getTopRankings() {
+        List<Ranking> top = new ArrayList<>(topSize);
+        Set<String> seen = new HashSet<>();
+        for (Ranking ranking : rankings) {
+            // 같은 플레이어의 오래된 점수는 건너뜀 (정렬상 가장 높은 점수가 먼저 나옴)
+            if (seen.add(ranking.playerId())) {
+                top.add(ranking);
+                if (top.size() == topSize) {
+                    break;
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 게임 타입별 전체 시도 수
+     */
+    public long getAttempts(GameType gameType) {
+        return gameStats.get(gameType).attempts.sum();
+    }
+
+    /**
+     * 게임 타입별 전체 정답 수
+     */
+    public long getWins(GameType gameType) {
+        return gameStats.get(gameType).wins.sum();
+    }
+
+    /**
+     * 집계 중인 플레이어 수
+     */
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    /**
+     * 플레이어 테이블이 가득 차서 플레이어별로 집계하지 못한 시도 수
+     */
+    public long getDroppedPlayers() {
+        return droppedPlayers.sum();
+    }
+
+    /**
+     * 오래 쉬어서 테이블에서 정리된 플레이어 수
+     */
+    public long getEvictedPlayers() {
+        return evictedPlayers.sum();
+    }
+
+    /**
+     * 1위의 승수 (아직 없으면 0)
+     */
+    public long getTopScore() {
+        // first()는 비어 있으면 예외를 던지므로 iterator로 안전하게 조회 (동시에 비워질 수 있음)
+        Iterator<Ranking> iterator = rankings.iterator();
+        return iterator.hasNext() ? iterator.next().wins() : 0;
+    }
+
+    /**
+     * 읽기 전용 엔드포인트에 노출할 스냅샷을 만듭니다.
+     */
+    public LeaderboardSnapshot snapshot() {
+        Map<String, GameStatsSnapshot> games = new LinkedHashMap<>();
+        gameStats.forEach((gameType, stats) -> {
+            if (gameType != GameType.UNSPECIFIED) {
+                games.put(gameType.getType(), new GameStatsSnapshot(stats.attempts.sum(), stats.wins.sum()));
+            }
+        });
+        return new LeaderboardSnapshot(games, getTopRankings(), getPlayerCount());
+    }
+
+    private PlayerScore getOrCreatePlayer(String playerId) {
+        if (playerId == null) {
+            return null;
+        }
+
+        // 1. 이미 있는 플레이어면 그대로 사용 (락 없는 조회)
+        PlayerScore score = players.get(playerId);
+        if (score != null) {
+            return score;
+        }
+
+        // 2. 테이블이 가득 찼으면 오래 쉰 플레이어를 정리하고, 그래도 가득 차 있으면 새 플레이어는 전역 통계에만 반영
+        if (players.size() >= maxPlayers) {
+            evictIdlePlayers();
+            if (players.size() >= maxPlayers) {
+                droppedPlayers.increment();
+                return null;
+            }
+        }
+        return players.computeIfAbsent(playerId, id -> new PlayerScore());
+    }
+
+    /**
+     * 랭킹에 없는 플레이어 중 가장 오래 쉰 플레이어부터 테이블의 1/10을 정리합니다.
+     * 한 번 정리하면 그만큼 새 플레이어를 받을 수 있으므로 테이블 전체를 훑는 비용은 새 플레이어 여러 명이 나눠 냅니다.
+     * (정리 중에 다른 스레드가 기다리지 않도록, 이미 정리 중이면 바로 돌아감)
+     */
+    private void evictIdlePlayers() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // 1. 다른 스레드가 방금 정리했으면 다시 하지 않음
+            if (players.size() < maxPlayers) {
+                return;
+            }
+
+            // 2. 랭킹에 있는 플레이어는 정리 대상에서 제외
+            Set<String> ranked = new HashSet<>();
+            for (Ranking ranking : rankings) {
+                ranked.add(ranking.playerId());
+            }
+
+            // 3. 마지막 활동 시각이 오래된 순으로 정리
+            List<Map.Entry<String, PlayerScore>> idle = new ArrayList<>(players.size());
+            for (Map.Entry<String, PlayerScore> entry : players.entrySet()) {
+                if (!ranked.contains(entry.getKey())) {
+                    idle.add(entry);
+                }
+            }
+            idle.sort(Comparator.comparingLong(entry -> entry.getValue().lastActive));
+            int batch = Math.min(idle.size(), Math.max(1, maxPlayers / 10));
+            for (int i = 0; i < batch; i++) {
+                Map.Entry<String, PlayerScore> entry = idle.get(i);
+                if (players.remove(entry.getKey(), entry.getValue())) {
+                    evictedPlayers.increment();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * 정답 한 번마다 랭킹을 점진적으로 갱신합니다.
+     */
+    private void updateRanking(String playerId, long wins) {
+        // 1. 이미 꽉 찬 상태에서 꼴찌보다 점수가 낮으면 들어갈 수 없음
+        if (rankings.size() >= topSize) {
+            Iterator<Ranking> descending = rankings.descendingIterator();
+            if (descending.hasNext() && wins < descending.next().wins()) {
+                return;
+            }
+        }
+
+        // 2. 이전 점수를 빼고 새 점수를 넣음
+        rankings.remove(new Ranking(playerId, wins - 1));
+        rankings.add(new Ranking(playerId, wins));
+
+        // 3. 크기 제한 (중복 제거 여유분으로 topSize의 두 배까지 보관)
+        while (rankings.size() > topSize * 2) {
+            rankings.pollLast();
+        }
+    }
+
+    private static final class GameStats {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder wins = new LongAdder();
+    }
+
+    private static final class PlayerScore {
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong wins = new AtomicLong();
+        private volatile long lastActive = System.nanoTime();
+    }
+
+    /**
+     * 플레이어 순위
+     *
+     * @param playerId 플레이어 식별자
+     * @param wins     정답 수
+     */
+    public record Ranking(String playerId, long wins) implements Comparable<Ranking> {
+
+        @Override
+        public int compareTo(Ranking other) {
+            int byWins = Long.compare(other.wins, wins);
+            return byWins != 0 ? byWins : playerId.compareTo(other.playerId);
+        }
+
+    }
+
+    /**
+     * 게임 타입별 통계 스냅샷
+     */
+    public record GameStatsSnapshot(long attempts, long wins) {
+    }
+
+    /**
+     * 리더보드 스냅샷
+     */
+    public record LeaderboardSnapshot(Map<String, GameStatsSnapshot> games, List<Ranking> top, int players) {
+    }
+
+}
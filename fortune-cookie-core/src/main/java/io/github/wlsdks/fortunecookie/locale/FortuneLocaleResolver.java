@@ -0,0 +1,188 @@
+package io.github.wlsdks.fortunecookie.locale;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accept-Language 헤더를 라이브러리가 지원하는 로케일(카탈로그 슬롯)로 바꾸는 클래스입니다.
+ * 지원 로케일은 시작 시점에 한 번 정리(intern)하고, 각 로케일의 대체 경로(ko_KR → ko → 기본 로케일)를 슬롯 번호로 미리 계산해 둡니다.
+ * 헤더 원문 → 로케일 결과는 크기가 제한된 맵에 캐시하므로, 대부분의 요청은 헤더 문자열 해시 조회 한 번으로 끝납니다.
+ */
+public class FortuneLocaleResolver {
+
+    // 이보다 긴 헤더는 캐시하지 않음 (임의의 긴 헤더로 캐시를 채우는 것 방지)
+    private static final int MAX_CACHEABLE_HEADER_LENGTH = 128;
+
+    // 슬롯 → 지원 로케일 (0번이 기본 로케일)
+    private final Locale[] locales;
+
+    // 소문자 언어 태그(ko-kr, ko 등) → 슬롯
+    private final Map<String, Integer> slotsByTag = new HashMap<>();
+
+    // 지원 로케일과 그 언어만 남긴 로케일 → 슬롯 (이미 결정된 로케일은 문자열을 만들지 않고 바로 조회)
+    private final Map<Locale, Integer> slotsByLocale = new HashMap<>();
+
+    private final Map<String, Locale> headerCache = new ConcurrentHashMap<>();
+    private final int cacheLimit;
+
+    // 헤더 캐시 통계 (Actuator 엔드포인트용)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param supportedLocales 지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @param cacheLimit       Accept-Language 헤더 캐시 최대 크기
+     */
+    public FortuneLocaleResolver(List<Locale> supportedLocales, int cacheLimit) {
+        if (supportedLocales.isEmpty()) {
+            throw new IllegalArgumentException("At least one supported locale is required");
+        }
+        this.locales = supportedLocales.toArray(new Locale[0]);
+        this.cacheLimit = cacheLimit;
+
+        // 1. 지원 로케일은 자기 태그로 정확히 매칭
+        for (int slot = 0; slot < locales.length; slot++) {
+            slotsByTag.putIfAbsent(tagOf(locales[slot]), slot);
+        }
+
+        // 2. 언어만 같은 요청(ko)은 같은 언어의 첫 번째 지원 로케일(ko_KR)로 매칭 (언어 자체가 지원되면 그대로 유지)
+        for (int slot = 0; slot < locales.length; slot++) {
+            slotsByTag.putIfAbsent(locales[slot].getLanguage(), slot);
+        }
+
+        // 3. 같은 대체 경로를 Locale 키로도 만들어 둠
+        for (int slot = 0; slot < locales.length; slot++) {
+            slotsByLocale.putIfAbsent(locales[slot], slot);
+        }
+        for (int slot = 0; slot < locales.length; slot++) {
+            slotsByLocale.putIfAbsent(Locale.forLanguageTag(locales[slot].getLanguage()), slot);
+        }
+    }
+
+    /**
+     * Accept-Language 헤더 원문을 지원 로케일로 바꿉니다.
+     *
+     * @param acceptLanguage Accept-Language 헤더 값 (null이면 기본 로케일)
+     * @return 지원 로케일 중 하나 (항상 생성자에 전달된 인스턴스)
+     */
+    public Locale resolve(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isEmpty()) {
+            return locales[0];
+        }
+
+        // 1. 캐시된 헤더면 해시 조회 한 번으로 끝
+        Locale cached = headerCache.get(acceptLanguage);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // 2. 처음 보는 헤더는 q 값 순서대로 대체 경로를 따라가며 슬롯을 찾음
+        Locale resolved = locales[resolveSlot(acceptLanguage)];
+
+        // 3. 캐시 크기 한도 안에서만 저장
+        if (acceptLanguage.length() <= MAX_CACHEABLE_HEADER_LENGTH && headerCache.size() < cacheLimit) {
+            headerCache.putIfAbsent(acceptLanguage, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * 로케일을 미리 계산된 대체 경로(정확히 일치 → 언어만 일치 → 기본 로케일)로 슬롯 번호로 바꿉니다.
+     */
+    public int slotOf(Locale locale) {
+        if (locale == null) {
+            return 0;
+        }
+        Integer slot = slotsByLocale.get(locale);
+        if (slot != null) {
+            return slot;
+        }
+        slot = slotsByTag.get(tagOf(locale));
+        if (slot == null) {
+            slot = slotsByTag.get(locale.getLanguage());
+        }
+        return slot != null ? slot : 0;
+    }
+
+    /**
+     * 슬롯 번호의 지원 로케일
+     */
+    public Locale localeOf(int slot) {
+        return locales[slot];
+    }
+
+    /**
+     * 기본 로케일 (첫 번째 지원 로케일)
+     */
+    public Locale getDefaultLocale() {
+        return locales[0];
+    }
+
+    /**
+     * 캐시된 Accept-Language 헤더 수
+     */
+    public int getCachedHeaderCount() {
+        return headerCache.size();
+    }
+
+    /**
+     * 헤더 캐시에서 바로 찾은 횟수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 헤더 캐시에 없어서 파싱한 횟수
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 헤더 캐시를 비웁니다.
+     */
+    public void clearCache() {
+        headerCache.clear();
+    }
+
+    private int resolveSlot(String acceptLanguage) {
+        List<Locale.LanguageRange> ranges;
+        try {
+            ranges = Locale.LanguageRange.parse(acceptLanguage);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 헤더는 기본 로케일
+            return 0;
+        }
+
+        // parse 결과는 q 값 내림차순으로 정렬되어 있음
+        for (Locale.LanguageRange range : ranges) {
+            if (range.getWeight() == 0) {
+                continue;
+            }
+            String tag = range.getRange();
+            if ("*".equals(tag)) {
+                return 0;
+            }
+
+            // 정확히 일치 → 언어만 일치 순
+            Integer slot = slotsByTag.get(tag);
+            if (slot == null) {
+                int separator = tag.indexOf('-');
+                slot = separator > 0 ? slotsByTag.get(tag.substring(0, separator)) : null;
+            }
+            if (slot != null) {
+                return slot;
+            }
+        }
+        return 0;
+    }
+
+    private static String tagOf(Locale locale) {
+        return locale.toLanguageTag().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,118 @@
+package io.github.wlsdks.fortunecookie.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 락 없는 MPMC 링 버퍼입니다. (Dmitry Vyukov의 bounded MPMC queue 방식)
+ * 슬롯마다 시퀀스 번호를 두고, 생산자/소비자는 각자의 위치 카운터를 CAS로 한 칸씩 가져간 뒤 슬롯을 채우거나 비웁니다.
+ * 가득 차면 offer가, 비어 있으면 poll이 기다리지 않고 바로 실패합니다.
+ *
+ * @param <E> 원소 타입
+ */
+public class FortuneRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     */
+    public FortuneRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 넣습니다.
+     *
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        long position = enqueuePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            // 1. 비어 있는 슬롯이면 위치를 선점
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                // 2. 소비자가 아직 비우지 않은 슬롯 = 가득 참
+                return false;
+            } else {
+                // 3. 다른 생산자가 먼저 가져감
+                position = enqueuePosition.get();
+            }
+        }
+
+        // 슬롯을 채우고 소비자에게 공개
+        slots.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 원소를 하나 꺼냅니다.
+     *
+     * @return 비어 있으면 null
+     */
+    public E poll() {
+        long position = dequeuePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+
+            // 1. 채워진 슬롯이면 위치를 선점
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                // 2. 생산자가 아직 채우지 않은 슬롯 = 비어 있음
+                return null;
+            } else {
+                // 3. 다른 소비자가 먼저 가져감
+                position = dequeuePosition.get();
+            }
+        }
+
+        // 슬롯을 비우고 다음 바퀴의 생산자에게 공개
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + capacity);
+        return element;
+    }
+
+    /**
+     * 현재 들어 있는 원소 수 (동시에 변하는 값이므로 근사치)
+     */
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+}
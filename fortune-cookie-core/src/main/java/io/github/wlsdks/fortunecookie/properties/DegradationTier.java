@@ -0,0 +1,27 @@
+package io.github.wlsdks.fortunecookie.properties;
+
+public enum DegradationTier {
+
+    NORMAL("normal", "모든 기능 사용"),
+    NO_GAMES("no-games", "미니 게임 생략"),
+    NO_PLACEHOLDERS("no-placeholders", "미니 게임 생략 + 플레이스홀더 값 조회 생략(Guest로 치환)"),
+    STATIC("static", "로케일별로 미리 만든 고정 메시지 하나만 사용"),
+    OFF("off", "포춘 메시지 생략");
+
+    private final String tier;
+    private final String description;
+
+    DegradationTier(String tier, String description) {
+        this.tier = tier;
+        this.description = description;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.wlsdks.fortunecookie.properties;
+
+public enum GameStateMode {
+
+    SESSION("session", "HTTP 세션에 게임 상태를 보관(기본)"),
+    TOKEN("token", "서명된 토큰으로 클라이언트에 게임 상태를 보관 (서버는 아무것도 저장하지 않음)");
+
+    private final String mode;
+    private final String description;
+
+    GameStateMode(String mode, String description) {
+        this.mode = mode;
+        this.description = description;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
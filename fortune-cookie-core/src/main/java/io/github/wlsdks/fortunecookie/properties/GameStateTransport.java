@@ -0,0 +1,24 @@
+package io.github.wlsdks.fortunecookie.properties;
+
+public enum GameStateTransport {
+
+    COOKIE("cookie", "게임 상태 토큰을 쿠키로 주고받음(기본)"),
+    HEADER("header", "게임 상태 토큰을 헤더로 주고받음 (클라이언트가 다음 요청에 같은 헤더로 돌려보냄)");
+
+    private final String transport;
+    private final String description;
+
+    GameStateTransport(String transport, String description) {
+        this.transport = transport;
+        this.description = description;
+    }
+
+    public String getTransport() {
+        return transport;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.wlsdks.fortunecookie.properties;
+
+public enum HeaderEncoding {
+
+    ENGLISH("english", "헤더에는 항상 영어 메시지를 별도로 조회해서 사용(기본)"),
+    RFC8187("rfc8187", "요청 로케일 메시지를 RFC 8187 형식으로 인코딩해서 사용");
+
+    private final String encoding;
+    private final String description;
+
+    HeaderEncoding(String encoding, String description) {
+        this.encoding = encoding;
+        this.description = description;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
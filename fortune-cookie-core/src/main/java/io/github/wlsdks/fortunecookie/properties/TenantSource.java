@@ -0,0 +1,24 @@
+package io.github.wlsdks.fortunecookie.properties;
+
+public enum TenantSource {
+
+    HEADER("header", "요청 헤더 값으로 테넌트를 정함 (기본)"),
+    HOST("host", "호스트 이름의 서브도메인으로 테넌트를 정함");
+
+    private final String source;
+    private final String description;
+
+    TenantSource(String source, String description) {
+        this.source = source;
+        this.description = description;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.wlsdks.fortunecookie.provider;
+
+import io.github.wlsdks.fortunecookie.jfr.FortuneEvents;
+import io.github.wlsdks.fortunecookie.jfr.FortuneLookupEvent;
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+
+import java.util.*;
+
+/**
+ * 클래스패스의 메시지 번들(fortunes/fortunes_ko.properties 등)에서 포춘 메시지를 제공하는 구현체입니다.
+ * 스프링 MessageSource 없이 동작하므로 WebFlux, Netty 등 다른 어댑터나 벤치마크에서 사용합니다.
+ * 지원 로케일의 번들은 생성 시점에 한 번 읽어 로케일 슬롯별 맵으로 들고 있고, 요청 시에는 맵 조회만 합니다.
+ */
+public class BundleFortuneProvider implements FortuneProvider {
+
+    // 메시지 번들에도 default 키가 없을 때 사용할 메시지
+    private static final String FALLBACK_MESSAGE = "Your future is uncertain.";
+
+    private final FortuneKeySelector keySelector;
+    private final FortuneLocaleResolver localeResolver;
+
+    // 로케일 슬롯 → 메시지 키 → 메시지
+    private final List<Map<String, String>> messages;
+
+    /**
+     * @param basename         번들 이름 (예: "fortunes/fortunes")
+     * @param supportedLocales 지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @param keySelector      키 선택기
+     */
+    public BundleFortuneProvider(String basename, List<Locale> supportedLocales, FortuneKeySelector keySelector) {
+        this.keySelector = keySelector;
+        this.localeResolver = new FortuneLocaleResolver(supportedLocales, 0);
+
+        // 지원 로케일마다 번들을 한 번 읽어 둠 (JVM 기본 로케일 번들로 대체되지 않도록 대체 경로를 끔)
+        ResourceBundle.Control control = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+        List<Map<String, String>> loaded = new ArrayList<>(supportedLocales.size());
+        for (int slot = 0; slot < supportedLocales.size(); slot++) {
+            Map<String, String> bundleMessages = new HashMap<>();
+            try {
+                ResourceBundle bundle = ResourceBundle.getBundle(basename, localeResolver.localeOf(slot), control);
+                for (String key : bundle.keySet()) {
+                    bundleMessages.put(key, bundle.getString(key));
+                }
+            } catch (MissingResourceException e) {
+                // 번들이 없는 로케일은 기본 로케일 메시지를 사용
+            }
+            loaded.add(Map.copyOf(bundleMessages));
+        }
+        this.messages = List.copyOf(loaded);
+    }
+
+    @Override
+    public String generateFortuneKey(FortuneMode mode) {
+        return keySelector.generate(mode);
+    }
+
+    @Override
+    public String generateFortuneKey(FortuneMode mode, Collection<String> tags) {
+        return keySelector.generate(mode, tags);
+    }
+
+    /**
+     * 지정된 로케일에 맞는 포춘 메시지를 반환합니다. (해당 로케일 → 기본 로케일 → default 키 순)
+     *
+     * @param fortuneKey 포춘 메시지 키
+     * @param locale     메시지를 가져올 로케일
+     * @return 포춘 메시지 또는 기본 메시지
+     */
+    @Override
+    public String getFortune(String fortuneKey, Locale locale) {
+        FortuneLookupEvent event = new FortuneLookupEvent();
+        event.begin();
+
+        // 1. 로케일 슬롯의 번들에서 조회하고, 없으면 기본 로케일 번들에서 조회
+        Map<String, String> localized = messages.get(localeResolver.slotOf(locale));
+        String message = localized.get(fortuneKey);
+        if (message == null) {
+            message = messages.get(0).get(fortuneKey);
+        }
+
+        // 2. 그래도 없으면 현재 모드의 default 메시지로 대체
+        boolean hit = message != null;
+        if (!hit) {
+            String defaultKey = keySelector.defaultKey();
+            message = localized.getOrDefault(defaultKey, messages.get(0).getOrDefault(defaultKey, FALLBACK_MESSAGE));
+        }
+
+        // JFR 레코딩 중일 때만 이벤트 필드를 채움
+        if (event.shouldCommit()) {
+            event.fortuneKey = fortuneKey;
+            event.keyIndex = FortuneEvents.keyIndex(fortuneKey);
+            event.locale = FortuneEvents.localeTag(locale);
+            event.hit = hit;
+            event.commit();
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.github.wlsdks.fortunecookie.provider;
+
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 메시지 카탈로그를 직접 관리하는 제공자가 구현하는 인터페이스입니다. (Actuator 엔드포인트에서 조회, 다시 읽기)
+ * 크기와 메모리 추정값은 메시지를 반영할 때 함께 갱신한 카운터에서 읽으므로 카탈로그를 순회하지 않습니다.
+ */
+public interface FortuneCatalog {
+
+    /**
+     * 모드 → 로케일 → 메시지 수
+     */
+    Map<FortuneMode, Map<Locale, Integer>> getCatalogSizes();
+
+    /**
+     * 카탈로그가 차지하는 대략적인 메모리 (바이트, 알 수 없으면 -1)
+     */
+    long getRetainedBytes();
+
+    /**
+     * 카탈로그를 처음부터 다시 읽습니다.
+     *
+     * @return 읽은 메시지 수 (알 수 없으면 -1)
+     * @throws Exception 원본(데이터베이스 등)을 읽지 못한 경우 (기존 카탈로그는 그대로 유지)
+     */
+    int reload() throws Exception;
+
+}
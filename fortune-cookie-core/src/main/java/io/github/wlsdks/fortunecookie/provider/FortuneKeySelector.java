@@ -0,0 +1,124 @@
+package io.github.wlsdks.fortunecookie.provider;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 포춘 메시지 키를 고르는 클래스입니다. (스페셜 1%, 월요일/금요일 메시지, 모드별 랜덤 번호, 태그 조건)
+ * 메시지를 어디서 읽는지(MessageSource, ResourceBundle, DB)와 상관없이 같은 규칙으로 키를 고르도록 제공자들이 공유합니다.
+ */
+public class FortuneKeySelector {
+
+    private final Supplier<FortuneMode> defaultMode;
+    private final IntSupplier fortunesCount;
+    private FortuneTagIndex tagIndex; // 태그 기능이 꺼져 있으면 null
+
+    /**
+     * @param defaultMode   요청 모드가 UNSPECIFIED일 때 사용할 기본 모드
+     * @param fortunesCount 모드별 메시지 수
+     */
+    public FortuneKeySelector(Supplier<FortuneMode> defaultMode, IntSupplier fortunesCount) {
+        this.defaultMode = defaultMode;
+        this.fortunesCount = fortunesCount;
+    }
+
+    /**
+     * 태그 역색인을 설정합니다.
+     *
+     * @param tagIndex (모드, 태그) → 엔트리 비트맵 역색인
+     */
+    public void setTagIndex(FortuneTagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * 메시지 수 범위 내에서 랜덤한 키를 생성합니다.
+     *
+     * @param requestedMode 요청 모드
+     * @return 생성된 포춘 메시지 키 (예: "fortune.joke.1", "fortune.joke.2" 등)
+     */
+    public String generate(FortuneMode requestedMode) {
+        // 1) requestedMode가 UNSPECIFIED면 기본 모드 사용
+        FortuneMode finalMode = resolveMode(requestedMode);
+
+        // 2) finalMode에 따라 prefix 정하기
+        String prefix = FortuneTagIndex.prefixOf(finalMode);
+
+        // 3) 0.0 <= roll < 1.0 범위의 랜덤한 double 값 생성 (1% 확률로 특별한 메시지 반환 (해당 모드에 맞춘 special 키 사용))
+        // (공유 Random의 CAS 경합을 피하기 위해 스레드별 ThreadLocalRandom 사용, 퀴즈 문제 선택도 같은 소스를 사용)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double roll = random.nextDouble();
+        if (roll < 0.01) {
+            return Constant.SPECIAL_MESSAGE;
+        }
+
+        // 4) 특수한 일자에는 다른 메시지 반환 (이 부분은 mode와 상관없이 특정 키 사용)
+        DayOfWeek dayOfWeek = LocalDate.now().getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.MONDAY) {
+            return Constant.MONDAY_MESSAGE;
+        }
+        if (dayOfWeek == DayOfWeek.FRIDAY) {
+            return Constant.FRIDAY_MESSAGE;
+        }
+
+        // 5) 일반 포춘: 1 ~ fortunesCount 범위 내에서 랜덤하게 선택
+        int messageIndex = random.nextInt(fortunesCount.getAsInt()) + 1;
+        return prefix + "." + messageIndex;
+    }
+
+    /**
+     * 태그를 모두 가진 메시지 중에서 균등한 확률로 키를 고릅니다.
+     * 태그로 주제를 지정한 요청이므로 요일, 스페셜 메시지는 적용하지 않고, 조건을 만족하는 메시지가 없으면 일반 선택을 사용합니다.
+     *
+     * @param requestedMode 요청 모드
+     * @param tags          요청 태그
+     * @return 생성된 포춘 메시지 키
+     */
+    public String generate(FortuneMode requestedMode, Collection<String> tags) {
+        // 1) 태그 기능이 꺼져 있거나 태그가 없으면 일반 선택
+        if (tagIndex == null || tags.isEmpty()) {
+            return generate(requestedMode);
+        }
+
+        // 2) 역색인 교집합에서 하나를 고름 (결과를 리스트로 만들지 않고 k번째 엔트리를 바로 찾음)
+        FortuneMode finalMode = resolveMode(requestedMode);
+        int entry = tagIndex.sample(finalMode, tags);
+        if (entry < 0) {
+            return generate(requestedMode);
+        }
+        return FortuneTagIndex.prefixOf(finalMode) + "." + entry;
+    }
+
+    /**
+     * 키에 해당하는 메시지가 없을 때 사용할, 기본 모드의 default 키를 반환합니다.
+     *
+     * @return default 키 (예: "fortune.joke.default")
+     */
+    public String defaultKey() {
+        FortuneMode fortuneMode = defaultMode.get();
+
+        // mode에 따라 다른 default 키를 반환
+        if (FortuneMode.JOKE.equals(fortuneMode)) {
+            return "fortune.joke.default";
+        }
+        if (FortuneMode.QUOTE.equals(fortuneMode)) {
+            return "fortune.quote.default";
+        }
+
+        // 기본값 반환
+        return "fortune.default";
+    }
+
+    private FortuneMode resolveMode(FortuneMode requestedMode) {
+        return requestedMode == FortuneMode.UNSPECIFIED ? defaultMode.get() : requestedMode;
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.wlsdks.fortunecookie.provider;
 
 import io.github.wlsdks.fortunecookie.properties.FortuneMode;
 
+import java.util.Collection;
 import java.util.Locale;
 
 /**
@@ -16,6 +17,18 @@ public interface FortuneProvider {
      */
     String generateFortuneKey(FortuneMode mode);
 
+    /**
+     * 태그를 모두 가진 메시지 중에서 포춘 키를 생성합니다.
+     * 태그를 지원하지 않는 구현체는 태그를 무시합니다.
+     *
+     * @param mode 포춘 모드
+     * @param tags 요청 태그 (예: coding, morning)
+     * @return 포춘 메시지 키
+     */
+    default String generateFortuneKey(FortuneMode mode, Collection<String> tags) {
+        return generateFortuneKey(mode);
+    }
+
     /**
      * 포춘 메시지를 키와 로케일 기반으로 가져옵니다.
      *
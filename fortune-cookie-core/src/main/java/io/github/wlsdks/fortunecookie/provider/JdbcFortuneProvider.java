@@ -0,0 +1,532 @@
+package io.github.wlsdks.fortunecookie.provider;
+
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * 데이터베이스 테이블의 포춘 메시지를 제공하는 구현체입니다.
+ * 시작 시점에 지원 로케일의 메시지를 페이지 단위로 한 번에 읽어 메모리에 올리고,
+ * 이후에는 백그라운드 스레드가 updated_at 워터마크 이후에 바뀐 행만 주기적으로 다시 읽어 반영합니다.
+ * 요청 스레드는 메모리만 조회하며 데이터베이스를 기다리지 않습니다.
+ * 테이블에 없는 메시지와 지원 로케일이 아닌 로케일은 클래스패스 번들 제공자(delegate)의 메시지를 사용합니다.
+ * (인터셉터는 요청 로케일을 항상 지원 로케일로 바꿔서 전달함)
+ * 키는 번들의 메시지 번호(1 ~ fortunesCount)와 테이블에만 있는 번호(fortunesCount보다 큰 번호)를 합쳐 모드별로 균등하게 고릅니다.
+ * 메모리 반영(시작 시점 읽기, 변경분 갱신, 다시 읽기)은 한 번에 하나씩만 수행하므로,
+ * 모드별 메시지 수와 메모리 추정값 카운터를 반영할 때 함께 갱신할 수 있습니다.
+ *
+ * <pre>
+ * CREATE TABLE fortune_messages (
+ *     fortune_key VARCHAR(100)  NOT NULL,
+ *     locale      VARCHAR(35)   NOT NULL,  -- 언어 태그 (en, ko, pt-BR)
+ *     message     VARCHAR(1000),           -- NULL이면 삭제로 취급 (번들 메시지로 돌아감)
+ *     updated_at  TIMESTAMP     NOT NULL,
+ *     PRIMARY KEY (fortune_key, locale)
+ * );
+ * CREATE INDEX fortune_messages_updated_at ON fortune_messages (updated_at, fortune_key, locale);
+ * </pre>
+ */
+@Slf4j
+public class JdbcFortuneProvider implements FortuneProvider, FortuneCatalog, AutoCloseable {
+
+    // 테이블 이름은 SQL에 직접 들어가므로 식별자 형태만 허용 (schema.table 허용)
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    // 같은 updated_at을 가진 행이 페이지 경계에 걸려도 빠지거나 중복되지 않도록 (updated_at, fortune_key, locale) 순서로 이어서 읽음
+    private static final String CURSOR_CONDITION = "(updated_at > ? OR (updated_at = ? AND fortune_key > ?)"
+            + " OR (updated_at = ? AND fortune_key = ? AND locale > ?))";
+    private static final String ORDER_BY = " ORDER BY updated_at, fortune_key, locale";
+
+    // 메시지 하나의 대략적인 고정 메모리 (맵 노드 + 키, 메시지 String 객체와 배열 헤더)
+    private static final long ENTRY_OVERHEAD_BYTES = 112;
+
+    private static final FortuneMode[] MODES = FortuneMode.values();
+
+    private final DataSource dataSource;
+    private final FortuneProvider delegate;
+    private final IntSupplier fortunesCount;
+    private final int pageSize;
+    private final Duration refreshInterval;
+    private final long refreshOverlapMillis;
+
+    // 슬롯별 메시지 카탈로그 (다시 읽기는 새 배열로 통째로 교체), 지원 로케일 → 슬롯
+    private volatile Catalog[] hotCatalogs;
+    private final Locale[] hotLocales;
+    private final Map<Locale, Integer> hotSlots = new HashMap<>();
+    private final List<String> hotTags = new ArrayList<>();
+
+    // 모드 → 테이블에만 있는 메시지 키 (모든 지원 로케일에 메시지가 있는 키, 메모리에 반영할 때마다 새 배열로 교체)
+    private volatile String[][] tableOnlyKeys = emptyKeys();
+
+    private final String bulkQuery;
+    private final String deltaQuery;
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    // 지금까지 반영한 행 중 가장 늦은 updated_at (백그라운드 스레드만 갱신)
+    private volatile Timestamp watermark = new Timestamp(0);
+
+    private ScheduledExecutorService refresher;
+
+    /**
+     * @param dataSource      메시지 테이블이 있는 데이터소스
+     * @param delegate        키 생성과 테이블에 없는 메시지를 담당하는 제공자 (클래스패스 번들)
+     * @param fortunesCount   번들의 모드별 메시지 수 (이보다 큰 번호의 테이블 키도 함께 고름)
+     * @param supportedLocales 시작 시점에 미리 읽어 둘 로케일 목록
+     * @param table           메시지 테이블 이름
+     * @param pageSize        한 번의 쿼리로 읽을 최대 행 수
+     * @param refreshInterval 변경분을 다시 읽는 주기
+     * @param refreshOverlap  늦게 커밋된 행을 놓치지 않도록 워터마크보다 얼마나 앞에서부터 다시 읽을지
+     */
+    public JdbcFortuneProvider(DataSource dataSource,
+                               FortuneProvider delegate,
+                               IntSupplier fortunesCount,
+                               List<Locale> supportedLocales,
+                               String table,
+                               int pageSize,
+                               Duration refreshInterval,
+                               Duration refreshOverlap) {
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid fortune table name: " + table);
+        }
+        if (supportedLocales.isEmpty()) {
+            throw new IllegalArgumentException("At least one locale is required to load fortunes from the database");
+        }
+        this.dataSource = dataSource;
+        this.delegate = delegate;
+        this.fortunesCount = fortunesCount;
+        this.pageSize = Math.max(1, pageSize);
+        this.refreshInterval = refreshInterval;
+        this.refreshOverlapMillis = Math.max(0, refreshOverlap.toMillis());
+
+        Locale[] locales = supportedLocales.toArray(new Locale[0]);
+        this.hotLocales = locales;
+        this.hotCatalogs = newHotCatalogs();
+        for (int slot = 0; slot < locales.length; slot++) {
+            hotSlots.putIfAbsent(locales[slot], slot);
+            hotTags.add(locales[slot].toLanguageTag());
+        }
+
+        String select = "SELECT fortune_key, locale, message, updated_at FROM " + table + " WHERE ";
+        this.bulkQuery = select + "locale IN (" + String.join(", ", Collections.nCopies(locales.length, "?")) + ") AND "
+                + CURSOR_CONDITION + ORDER_BY;
+        this.deltaQuery = select + CURSOR_CONDITION + ORDER_BY;
+    }
+
+    /**
+     * 지원 로케일의 메시지를 한 번에 읽은 뒤 백그라운드 갱신을 시작합니다.
+     * 처음 읽기에 실패해도 애플리케이션은 번들 메시지로 시작하고, 다음 갱신 주기에 다시 읽습니다.
+     */
+    public void start() {
+        long start = System.nanoTime();
+        try {
+            Catalog[] catalogs = hotCatalogs;
+            int rows = loadPages(bulkQuery, hotTags, new Timestamp(0), (fortuneKey, locale, message) -> applyHotRow(catalogs, fortuneKey, locale, message));
+            tableOnlyKeys = collectTableOnlyKeys(catalogs);
+            log.info("Loaded {} fortune messages from the database for locales {}, {} ms",
+                    rows, hotTags, (System.nanoTime() - start) / 1_000_000);
+        } catch (SQLException e) {
+            refreshFailures.increment();
+            log.warn("Failed to load fortune messages from the database, using bundled messages until the next refresh", e);
+        }
+
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fortune-jdbc-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, refreshInterval.toMillis());
+        refresher.scheduleWithFixedDelay(this::refreshSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 번들 키와 테이블에만 있는 키를 합친 범위에서 균등하게 키를 고릅니다.
+     * 스페셜, 요일 메시지처럼 번호가 없는 키는 번들 제공자의 규칙을 그대로 따릅니다.
+     *
+     * @param mode 포춘 모드
+     * @return 생성된 포춘 메시지 키
+     */
+    @Override
+    public String generateFortuneKey(FortuneMode mode) {
+        return withTableOnlyKeys(delegate.generateFortuneKey(mode));
+    }
+
+    /**
+     * 태그가 있으면 태그 역색인(번들 메시지 기준)으로 고르고, 태그가 없으면 테이블에만 있는 키도 함께 고릅니다.
+     */
+    @Override
+    public String generateFortuneKey(FortuneMode mode, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return generateFortuneKey(mode);
+        }
+        return delegate.generateFortuneKey(mode, tags);
+    }
+
+    /**
+     * 번들 제공자가 고른 번호 키를, 번들 키 수 : 테이블에만 있는 키 수 비율로 테이블 키와 바꿉니다.
+     * (번들 키 하나하나와 테이블 키 하나하나가 같은 확률로 뽑힘)
+     */
+    private String withTableOnlyKeys(String bundledKey) {
+        // 1. 번호가 없는 키(스페셜, 요일 메시지)는 그대로 사용
+        FortuneMode keyMode = FortuneTagIndex.modeOf(bundledKey);
+        if (keyMode == null || FortuneTagIndex.entryOf(bundledKey) < 0) {
+            return bundledKey;
+        }
+
+        // 2. 테이블에만 있는 키가 없으면 번들 키
+        String[] keys = tableOnlyKeys[keyMode.ordinal()];
+        if (keys.length == 0) {
+            return bundledKey;
+        }
+
+        // 3. 번들 키 수 + 테이블 키 수 범위에서 하나를 고름
+        int bundled = Math.max(0, fortunesCount.getAsInt());
+        int pick = ThreadLocalRandom.current().nextInt(bundled + keys.length);
+        return pick < bundled ? bundledKey : keys[pick - bundled];
+    }
+
+    /**
+     * 메모리에 올라온 메시지를 반환합니다. (데이터베이스를 조회하지 않음)
+     *
+     * @param fortuneKey 포춘 메시지 키
+     * @param locale     포춘 메시지 로케일
+     * @return 테이블의 메시지, 없거나 지원 로케일이 아니면 번들 메시지
+     */
+    @Override
+    public String getFortune(String fortuneKey, Locale locale) {
+        // 지원 로케일 (정확히 일치 → 언어만 일치)만 테이블 메시지를 사용
+        int slot = hotSlotOf(locale);
+        String message = slot >= 0 ? hotCatalogs[slot].messages.get(fortuneKey) : null;
+        return message != null ? message : delegate.getFortune(fortuneKey, locale);
+    }
+
+    /**
+     * 워터마크 이후에 바뀐 행을 읽어 메모리에 반영합니다. (백그라운드 스레드에서 호출, 테스트에서는 직접 호출 가능)
+     *
+     * @return 읽은 행 수
+     */
+    public synchronized int refresh() throws SQLException {
+        Timestamp since = new Timestamp(watermark.getTime() - refreshOverlapMillis);
+        int rows = loadPages(deltaQuery, List.of(), since, this::applyDeltaRow);
+        if (rows > 0) {
+            tableOnlyKeys = collectTableOnlyKeys(hotCatalogs);
+        }
+        refreshes.increment();
+        return rows;
+    }
+
+    private void refreshSafely() {
+        try {
+            refresh();
+        } catch (SQLException | RuntimeException e) {
+            // 예외로 스케줄이 멈추지 않도록 기록만 하고 다음 주기에 다시 시도 (그동안 요청은 마지막으로 읽은 메시지 사용)
+            refreshFailures.increment();
+            log.warn("Failed to refresh fortune messages from the database", e);
+        }
+    }
+
+    /**
+     * (updated_at, fortune_key, locale) 커서로 페이지를 이어서 읽고, 행마다 handler를 호출합니다.
+     *
+     * @return 읽은 행 수
+     */
+    private int loadPages(String query, List<String> localeTags, Timestamp since, RowHandler handler) throws SQLException {
+        Timestamp cursorTime = since;
+        String cursorKey = "";
+        String cursorLocale = "";
+        int total = 0;
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setMaxRows(pageSize);
+            statement.setFetchSize(pageSize);
+
+            while (true) {
+                // 1. 로케일 조건 + 커서 조건 바인딩
+                int index = 1;
+                for (String localeTag : localeTags) {
+                    statement.setString(index++, localeTag);
+                }
+                statement.setTimestamp(index++, cursorTime);
+                statement.setTimestamp(index++, cursorTime);
+                statement.setString(index++, cursorKey);
+                statement.setTimestamp(index++, cursorTime);
+                statement.setString(index++, cursorKey);
+                statement.setString(index, cursorLocale);
+
+                // 2. 한 페이지를 읽으며 반영하고 마지막 행을 커서로 기억
+                int rows = 0;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        cursorKey = resultSet.getString(1);
+                        cursorLocale = resultSet.getString(2);
+                        cursorTime = resultSet.getTimestamp(4);
+                        handler.apply(cursorKey, Locale.forLanguageTag(cursorLocale), resultSet.getString(3));
+                        rows++;
+                    }
+                }
+                total += rows;
+
+                // 3. 페이지가 덜 찼으면 끝
+                if (rows < pageSize) {
+                    break;
+                }
+            }
+        }
+
+        if (total > 0 && cursorTime.after(watermark)) {
+            watermark = cursorTime;
+        }
+        return total;
+    }
+
+    /**
+     * 지원 로케일 메시지를 처음부터 다시 읽습니다. (새 카탈로그에 모두 읽은 뒤 교체하므로 읽는 동안에도 기존 메시지로 응답)
+     *
+     * @return 읽은 행 수
+     */
+    @Override
+    public synchronized int reload() throws SQLException {
+        Catalog[] catalogs = newHotCatalogs();
+        int rows = loadPages(bulkQuery, hotTags, new Timestamp(0),
+                (fortuneKey, locale, message) -> applyHotRow(catalogs, fortuneKey, locale, message));
+        hotCatalogs = catalogs;
+        tableOnlyKeys = collectTableOnlyKeys(catalogs);
+        log.info("Reloaded {} fortune messages from the database for locales {}", rows, hotTags);
+        return rows;
+    }
+
+    private Catalog[] newHotCatalogs() {
+        Catalog[] catalogs = new Catalog[hotLocales.length];
+        for (int slot = 0; slot < catalogs.length; slot++) {
+            catalogs[slot] = new Catalog();
+        }
+        return catalogs;
+    }
+
+    /**
+     * 지원 로케일 카탈로그에서 번들 번호 범위(1 ~ fortunesCount)를 벗어난 번호 키를 모드별로 모읍니다.
+     * 키를 고를 때는 요청 로케일을 모르므로, 번들 메시지가 없는 키가 기본 메시지로 나가지 않도록 모든 지원 로케일에 메시지가 있는 키만 고릅니다.
+     * 메모리 반영은 한 번에 하나씩만 수행하므로 반영이 끝난 뒤 한 번 모아서 교체합니다.
+     */
+    private String[][] collectTableOnlyKeys(Catalog[] catalogs) {
+        int bundled = fortunesCount.getAsInt();
+        List<Set<String>> keys = new ArrayList<>(MODES.length);
+        for (int i = 0; i < MODES.length; i++) {
+            keys.add(new TreeSet<>());
+        }
+
+        // 1. 첫 번째 슬롯을 기준으로 후보를 고르고, 나머지 슬롯에 모두 있는 키만 남김
+        for (String fortuneKey : catalogs[0].messages.keySet()) {
+            FortuneMode mode = FortuneTagIndex.modeOf(fortuneKey);
+            if (mode != null && FortuneTagIndex.entryOf(fortuneKey) > bundled && inEveryCatalog(catalogs, fortuneKey)) {
+                keys.get(mode.ordinal()).add(fortuneKey);
+            }
+        }
+
+        String[][] result = new String[MODES.length][];
+        for (int i = 0; i < MODES.length; i++) {
+            result[i] = keys.get(i).toArray(new String[0]);
+        }
+        return result;
+    }
+
+    private static boolean inEveryCatalog(Catalog[] catalogs, String fortuneKey) {
+        for (int slot = 1; slot < catalogs.length; slot++) {
+            if (!catalogs[slot].messages.containsKey(fortuneKey)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[][] emptyKeys() {
+        String[][] keys = new String[MODES.length][];
+        Arrays.fill(keys, new String[0]);
+        return keys;
+    }
+
+    private void applyHotRow(Catalog[] catalogs, String fortuneKey, Locale locale, String message) {
+        Integer slot = hotSlots.get(locale);
+        if (slot != null) {
+            catalogs[slot].put(fortuneKey, message);
+        }
+    }
+
+    /**
+     * 변경분은 지원 로케일에만 반영합니다. (다른 로케일의 행은 무시)
+     */
+    private void applyDeltaRow(String fortuneKey, Locale locale, String message) {
+        Integer slot = hotSlots.get(locale);
+        if (slot != null) {
+            hotCatalogs[slot].put(fortuneKey, message);
+        }
+    }
+
+    /**
+     * 요청 로케일을 지원 로케일 슬롯으로 바꿉니다. (정확히 일치 → 언어만 일치, 지원 로케일이 아니면 -1)
+     */
+    private int hotSlotOf(Locale locale) {
+        if (locale == null) {
+            return 0;
+        }
+        Integer slot = hotSlots.get(locale);
+        if (slot == null && !locale.getCountry().isEmpty()) {
+            slot = hotSlots.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * 메모리에 올라온 지원 로케일 메시지 수
+     */
+    public int getMessageCount() {
+        int count = 0;
+        for (Catalog catalog : hotCatalogs) {
+            count += catalog.size();
+        }
+        return count;
+    }
+
+    /**
+     * 테이블에만 있는 메시지 키 수 (모든 모드 합계)
+     */
+    public int getTableOnlyKeyCount() {
+        int count = 0;
+        for (String[] keys : tableOnlyKeys) {
+            count += keys.length;
+        }
+        return count;
+    }
+
+    /**
+     * 모드 → 로케일 → 메시지 수 (지원 로케일, 반영할 때 갱신한 카운터에서 읽음)
+     * 포춘 메시지 키가 아닌 행은 UNSPECIFIED로 집계합니다.
+     */
+    @Override
+    public Map<FortuneMode, Map<Locale, Integer>> getCatalogSizes() {
+        Map<FortuneMode, Map<Locale, Integer>> sizes = new EnumMap<>(FortuneMode.class);
+        Catalog[] catalogs = hotCatalogs;
+        for (int slot = 0; slot < catalogs.length; slot++) {
+            catalogs[slot].addSizes(hotLocales[slot], sizes);
+        }
+        return sizes;
+    }
+
+    /**
+     * 지원 로케일 메시지가 차지하는 대략적인 메모리 (키, 메시지 문자 수 + 엔트리 오버헤드)
+     */
+    @Override
+    public long getRetainedBytes() {
+        long bytes = 0;
+        for (Catalog catalog : hotCatalogs) {
+            bytes += catalog.retainedBytes.get();
+        }
+        return bytes;
+    }
+
+    /**
+     * 지금까지 반영한 행 중 가장 늦은 updated_at
+     */
+    public Instant getWatermark() {
+        return watermark.toInstant();
+    }
+
+    /**
+     * 변경분 갱신을 마친 횟수
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * 데이터베이스 읽기에 실패한 횟수 (시작 시점 읽기, 변경분 갱신)
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void apply(String fortuneKey, Locale locale, String message);
+    }
+
+    /**
+     * 로케일 하나의 메시지와 모드별 메시지 수, 메모리 추정값 (쓰기는 한 번에 한 스레드만, 읽기는 락 없음)
+     */
+    private static final class Catalog {
+        private final Map<String, String> messages = new ConcurrentHashMap<>();
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(MODES.length);
+        private final AtomicLong retainedBytes = new AtomicLong();
+
+        private void put(String fortuneKey, String message) {
+            // message가 NULL인 행은 삭제 (번들 메시지로 돌아감)
+            String previous = message == null ? messages.remove(fortuneKey) : messages.put(fortuneKey, message);
+            if (previous == null && message == null) {
+                return;
+            }
+
+            // 카운터는 새로 생기거나 사라진 엔트리만, 메모리는 메시지 길이 차이만큼 갱신
+            if (previous == null) {
+                counts.incrementAndGet(modeOf(fortuneKey).ordinal());
+                retainedBytes.addAndGet(ENTRY_OVERHEAD_BYTES + 2L * (fortuneKey.length() + message.length()));
+            } else if (message == null) {
+                counts.decrementAndGet(modeOf(fortuneKey).ordinal());
+                retainedBytes.addAndGet(-(ENTRY_OVERHEAD_BYTES + 2L * (fortuneKey.length() + previous.length())));
+            } else {
+                retainedBytes.addAndGet(2L * (message.length() - previous.length()));
+            }
+        }
+
+        private int size() {
+            int size = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                size += counts.get(i);
+            }
+            return size;
+        }
+
+        private void addSizes(Locale locale, Map<FortuneMode, Map<Locale, Integer>> sizes) {
+            for (int i = 0; i < counts.length(); i++) {
+                int count = counts.get(i);
+                if (count > 0) {
+                    sizes.computeIfAbsent(MODES[i], mode -> new LinkedHashMap<>()).put(locale, count);
+                }
+            }
+        }
+
+        private static FortuneMode modeOf(String fortuneKey) {
+            FortuneMode mode = FortuneTagIndex.modeOf(fortuneKey);
+            return mode != null ? mode : FortuneMode.UNSPECIFIED;
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.wlsdks.fortunecookie.request;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+
+/**
+ * 코어 엔진이 요청에서 읽는 값만 모아 둔 요청 뷰 인터페이스입니다.
+ * 서블릿, WebFlux, Netty 등 각 어댑터가 자기 요청 객체를 이 인터페이스로 감싸서 엔진에 넘깁니다.
+ */
+public interface FortuneRequest {
+
+    /**
+     * 요청 헤더 값을 가져옵니다.
+     *
+     * @param name 헤더 이름
+     * @return 헤더 값 (없으면 null)
+     */
+    String getHeader(String name);
+
+    /**
+     * 세션 속성 값을 가져옵니다. 세션을 새로 만들지 않습니다.
+     *
+     * @param name 속성 이름
+     * @return 속성 값 (세션이나 속성이 없으면 null)
+     */
+    Object getSessionAttribute(String name);
+
+    /**
+     * 플레이스홀더 매핑의 값 출처(header, session 등)에서 값을 가져옵니다.
+     * 어댑터는 자기 환경에만 있는 출처(예: 스프링 시큐리티)를 지원하도록 재정의할 수 있습니다.
+     *
+     * @param source 값 출처 (예: "header")
+     * @param key    출처 안에서의 이름 (예: "X-User-Name")
+     * @return 치환할 값 (없거나 모르는 출처면 null)
+     */
+    default String resolve(String source, String key) {
+        switch (source) {
+            case Constant.HEADER -> {
+                return getHeader(key);
+            }
+            case Constant.SESSION -> {
+                Object val = getSessionAttribute(key);
+                return val != null ? val.toString() : null;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,336 @@
+package io.github.wlsdks.fortunecookie.tag;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포춘 메시지 태그 역색인입니다.
+ * 시작 시점에 (모드, 태그) → 엔트리 번호 비트맵을 만들어 두고, 요청의 태그 조합은 비트맵 AND로 교집합을 구합니다.
+ * 어노테이션에 고정된 태그 조합은 시작 시점에 미리 계산해 고정 보관하고,
+ * 그 밖의 조합(권한에서 온 태그 등)은 크기가 제한된 LRU 캐시에 보관합니다.
+ * 조합은 모드별 맵에 {@link TagSet#key()}로 보관하므로, 라우트별로 만들어 둔 TagSet을 넘기면 조회할 때 객체를 만들지 않습니다.
+ *
+ * <pre>
+ * # fortunes/fortune-tags.properties (메시지 키=태그1,태그2)
+ * fortune.1=luck,morning
+ * fortune.joke.3=coding
+ * </pre>
+ */
+@Slf4j
+public class FortuneTagIndex {
+
+    private static final String TAG_SEPARATOR = ",";
+
+    // 모드 → 태그 → 엔트리 번호(fortune.joke.3이면 3) 비트맵
+    private final Map<FortuneMode, Map<String, BitSet>> postings;
+
+    // 모드 → 어노테이션의 고정 태그 조합 (시작 시점에 계산, 제거되지 않음)
+    private final Map<FortuneMode, Map<String, TagSelection>> pinned = new EnumMap<>(FortuneMode.class);
+
+    // 모드 → 동적 태그 조합 LRU (조회는 락 없이, 가득 찼을 때만 가장 오래 안 쓴 조합을 찾아 제거)
+    private final Map<FortuneMode, Map<String, CachedSelection>> cache = new EnumMap<>(FortuneMode.class);
+    private final int cacheSize;
+
+    // 조합 조회 통계 (Actuator 엔드포인트용)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private FortuneTagIndex(Map<FortuneMode, Map<String, BitSet>> postings, int cacheSize) {
+        this.postings = postings;
+        this.cacheSize = cacheSize;
+        // 모드별 맵은 처음에 모두 만들어 두므로 EnumMap 자체는 읽기만 함
+        for (FortuneMode mode : FortuneMode.values()) {
+            pinned.put(mode, new ConcurrentHashMap<>());
+            cache.put(mode, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 클래스패스의 태그 파일을 로드합니다.
+     *
+     * @param location  클래스패스 경로 (예: fortunes/fortune-tags.properties)
+     * @param cacheSize 동적 태그 조합 캐시 크기
+     * @return 태그 역색인
+     */
+    public static FortuneTagIndex load(String location, int cacheSize) {
+        long start = System.nanoTime();
+
+        Properties properties = new Properties();
+        ClassLoader classLoader = FortuneTagIndex.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(location)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Fortune tag file not found on classpath: " + location);
+            }
+            properties.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load fortune tags: " + location, e);
+        }
+
+        Map<String, Collection<String>> entryTags = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            entryTags.put(key, Arrays.asList(properties.getProperty(key).split(TAG_SEPARATOR)));
+        }
+
+        FortuneTagIndex index = of(entryTags, cacheSize);
+        log.info("Loaded fortune tags '{}': {} entries, {} ms",
+                location, entryTags.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * 메시지 키별 태그 목록으로 역색인을 만듭니다.
+     *
+     * @param entryTags 메시지 키(fortune.1, fortune.joke.3 등) → 태그 목록
+     * @param cacheSize 동적 태그 조합 캐시 크기
+     * @return 태그 역색인
+     */
+    public static FortuneTagIndex of(Map<String, ? extends Collection<String>> entryTags, int cacheSize) {
+        Map<FortuneMode, Map<String, BitSet>> postings = new EnumMap<>(FortuneMode.class);
+
+        entryTags.forEach((key, tags) -> {
+            // 1. 메시지 키를 (모드, 엔트리 번호)로 나눔 (default, monday 등 번호가 없는 키는 건너뜀)
+            FortuneMode mode = modeOf(key);
+            int entry = mode != null ? entryOf(key, prefixOf(mode)) : -1;
+            if (entry < 0) {
+                log.warn("Ignoring fortune tags for non-numbered key '{}'", key);
+                return;
+            }
+
+            // 2. 태그별 비트맵에 엔트리 번호를 켬
+            Map<String, BitSet> byTag = postings.computeIfAbsent(mode, m -> new HashMap<>());
+            for (String tag : tags) {
+                String normalized = TagSet.normalize(tag);
+                if (!normalized.isEmpty()) {
+                    byTag.computeIfAbsent(normalized, t -> new BitSet()).set(entry);
+                }
+            }
+        });
+
+        return new FortuneTagIndex(postings, cacheSize);
+    }
+
+    /**
+     * 태그를 모두 가진 엔트리 중 하나를 균등한 확률로 고릅니다.
+     *
+     * @param mode 포춘 모드
+     * @param tags 요청 태그 (모두 만족해야 함)
+     * @return 엔트리 번호, 조건을 만족하는 엔트리가 없으면 -1
+     */
+    public int sample(FortuneMode mode, Collection<String> tags) {
+        return select(mode, tags).sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     * 태그를 모두 가진 엔트리 집합을 반환합니다. (고정 조합 → LRU 캐시 → 새로 계산 순)
+     *
+     * @param mode 포춘 모드
+     * @param tags 요청 태그 (TagSet이면 정규화, 정렬을 다시 하지 않음)
+     */
+    public TagSelection select(FortuneMode mode, Collection<String> tags) {
+        TagSet tagSet = TagSet.of(tags);
+        String key = tagSet.key();
+
+        // 1. 어노테이션의 고정 조합
+        TagSelection selection = pinned.get(mode).get(key);
+        if (selection != null) {
+            hits.increment();
+            return selection;
+        }
+
+        // 2. 최근에 쓴 동적 조합
+        Map<String, CachedSelection> cache = this.cache.get(mode);
+        CachedSelection cached = cache.get(key);
+        if (cached != null) {
+            cached.lastUsed = System.nanoTime();
+            hits.increment();
+            return cached.selection;
+        }
+        misses.increment();
+
+        // 3. 새로 계산해서 캐시 (가득 찼으면 가장 오래 안 쓴 조합 하나를 먼저 제거)
+        selection = intersect(mode, tagSet);
+        if (cacheSize > 0) {
+            if (getCachedCount() >= cacheSize) {
+                evictLeastRecentlyUsed();
+            }
+            cache.putIfAbsent(key, new CachedSelection(selection));
+        }
+        return selection;
+    }
+
+    /**
+     * 고정 태그 조합을 미리 계산해 둡니다. (시작 시점에 어노테이션을 스캔해서 호출)
+     */
+    public void precompute(FortuneMode mode, Collection<String> tags) {
+        TagSet tagSet = TagSet.of(tags);
+        pinned.get(mode).computeIfAbsent(tagSet.key(), key -> intersect(mode, tagSet));
+    }
+
+    /**
+     * 모드에 등록된 태그 목록
+     */
+    public Set<String> getTags(FortuneMode mode) {
+        return Collections.unmodifiableSet(postings.getOrDefault(mode, Map.of()).keySet());
+    }
+
+    /**
+     * 미리 계산된 고정 조합 수
+     */
+    public int getPinnedCount() {
+        int count = 0;
+        for (Map<String, TagSelection> byMode : pinned.values()) {
+            count += byMode.size();
+        }
+        return count;
+    }
+
+    /**
+     * 캐시된 동적 조합 수
+     */
+    public int getCachedCount() {
+        int count = 0;
+        for (Map<String, CachedSelection> byMode : cache.values()) {
+            count += byMode.size();
+        }
+        return count;
+    }
+
+    /**
+     * 고정 조합이나 캐시에서 바로 찾은 횟수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 교집합을 새로 계산한 횟수
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 동적 조합 캐시를 비웁니다. (고정 조합은 유지)
+     */
+    public void clearCache() {
+        cache.values().forEach(Map::clear);
+    }
+
+    /**
+     * 태그별 비트맵의 교집합을 구합니다. (가장 작은 비트맵부터 AND)
+     */
+    private TagSelection intersect(FortuneMode mode, TagSet tags) {
+        Map<String, BitSet> byTag = postings.getOrDefault(mode, Map.of());
+
+        // 1. 태그별 비트맵 (하나라도 없는 태그면 결과는 비어 있음, 태그는 이미 정규화됨)
+        List<BitSet> bitmaps = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            BitSet bitmap = byTag.get(tag);
+            if (bitmap == null) {
+                return TagSelection.EMPTY;
+            }
+            bitmaps.add(bitmap);
+        }
+        if (bitmaps.isEmpty()) {
+            return TagSelection.EMPTY;
+        }
+
+        // 2. 작은 비트맵부터 AND 하면 결과가 빨리 줄어듦
+        bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result.and(bitmaps.get(i));
+        }
+        return result.isEmpty() ? TagSelection.EMPTY : new TagSelection(result);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Map<String, CachedSelection> oldestMap = null;
+        String oldestKey = null;
+        CachedSelection oldest = null;
+        for (Map<String, CachedSelection> byMode : cache.values()) {
+            for (Map.Entry<String, CachedSelection> entry : byMode.entrySet()) {
+                if (oldest == null || entry.getValue().lastUsed < oldest.lastUsed) {
+                    oldestMap = byMode;
+                    oldestKey = entry.getKey();
+                    oldest = entry.getValue();
+                }
+            }
+        }
+        if (oldestKey != null) {
+            oldestMap.remove(oldestKey, oldest);
+        }
+    }
+
+    /**
+     * 메시지 키의 모드 (fortune.joke.3 → JOKE, fortune.monday → FORTUNE, 포춘 메시지 키가 아니면 null)
+     */
+    public static FortuneMode modeOf(String key) {
+        if (key.startsWith(Constant.JOKE_MESSAGE + ".")) {
+            return FortuneMode.JOKE;
+        }
+        if (key.startsWith(Constant.QUOTE_MESSAGE + ".")) {
+            return FortuneMode.QUOTE;
+        }
+        if (key.startsWith(Constant.MESSAGE_PREFIX + ".")) {
+            return FortuneMode.FORTUNE;
+        }
+        return null;
+    }
+
+    /**
+     * 모드별 메시지 키 접두어 (fortune, fortune.joke, fortune.quote)
+     */
+    public static String prefixOf(FortuneMode mode) {
+        return switch (mode) {
+            case JOKE -> Constant.JOKE_MESSAGE;
+            case QUOTE -> Constant.QUOTE_MESSAGE;
+            default -> Constant.MESSAGE_PREFIX;
+        };
+    }
+
+    /**
+     * 메시지 키의 엔트리 번호 (fortune.joke.3 → 3, 번호가 붙은 포춘 메시지 키가 아니면 -1)
+     */
+    public static int entryOf(String key) {
+        FortuneMode mode = modeOf(key);
+        return mode != null ? entryOf(key, prefixOf(mode)) : -1;
+    }
+
+    private static int entryOf(String key, String prefix) {
+        String number = key.substring(prefix.length() + 1);
+        if (number.isEmpty() || number.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return Integer.parseInt(number);
+    }
+
+    private static final class CachedSelection {
+
+        private final TagSelection selection;
+        private volatile long lastUsed = System.nanoTime();
+
+        private CachedSelection(TagSelection selection) {
+            this.selection = selection;
+        }
+
+    }
+
+}
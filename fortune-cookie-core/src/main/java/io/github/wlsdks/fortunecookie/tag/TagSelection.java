@@ -0,0 +1,105 @@
+package io.github.wlsdks.fortunecookie.tag;
+
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 태그 조건을 모두 만족하는 엔트리 번호 집합입니다. (읽기 전용)
+ * 비트맵 word 배열과 블록별 누적 개수(rank 디렉터리)를 함께 들고 있어서,
+ * 결과를 리스트로 만들지 않고도 k번째 엔트리를 찾아 균등하게 하나를 고를 수 있습니다.
+ */
+public final class TagSelection {
+
+    // rank 디렉터리 한 칸이 담당하는 word 수 (64 word = 4096 엔트리)
+    private static final int WORDS_PER_BLOCK = 64;
+
+    static final TagSelection EMPTY = new TagSelection(new BitSet());
+
+    private final long[] words;
+
+    // blockRanks[b] = b번째 블록 앞까지의 1비트 수
+    private final int[] blockRanks;
+
+    private final int cardinality;
+
+    TagSelection(BitSet bits) {
+        this.words = bits.toLongArray();
+        this.blockRanks = new int[(words.length + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK];
+
+        int rank = 0;
+        for (int word = 0; word < words.length; word++) {
+            if (word % WORDS_PER_BLOCK == 0) {
+                blockRanks[word / WORDS_PER_BLOCK] = rank;
+            }
+            rank += Long.bitCount(words[word]);
+        }
+        this.cardinality = rank;
+    }
+
+    /**
+     * 엔트리 수
+     */
+    public int size() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * 엔트리 하나를 균등한 확률로 고릅니다.
+     *
+     * @return 엔트리 번호, 비어 있으면 -1
+     */
+    public int sample(ThreadLocalRandom random) {
+        return cardinality == 0 ? -1 : select(random.nextInt(cardinality));
+    }
+
+    /**
+     * rank번째(0부터) 엔트리 번호를 찾습니다.
+     * 블록은 이진 탐색, 블록 안에서는 word 단위 bitCount, word 안에서는 하위 비트를 지워가며 찾습니다.
+     */
+    public int select(int rank) {
+        if (rank < 0 || rank >= cardinality) {
+            throw new IndexOutOfBoundsException("rank " + rank + " out of " + cardinality);
+        }
+
+        // 1. rank가 들어 있는 블록 (blockRanks[block] <= rank 인 마지막 블록)
+        int low = 0;
+        int high = blockRanks.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blockRanks[mid] <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int remaining = rank - blockRanks[low];
+
+        // 2. 블록 안에서 word 찾기
+        int word = low * WORDS_PER_BLOCK;
+        int count;
+        while ((count = Long.bitCount(words[word])) <= remaining) {
+            remaining -= count;
+            word++;
+        }
+
+        // 3. word 안에서 remaining번째 1비트
+        long bits = words[word];
+        for (int i = 0; i < remaining; i++) {
+            bits &= bits - 1;
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * 엔트리가 포함되어 있는지 확인합니다.
+     */
+    public boolean contains(int entry) {
+        int word = entry >>> 6;
+        return entry >= 0 && word < words.length && (words[word] & (1L << entry)) != 0;
+    }
+
+}
@@ -0,0 +1,99 @@
+package io.github.wlsdks.fortunecookie.tag;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.RandomAccess;
+
+/**
+ * 정규화(공백 제거, 소문자)하고 정렬, 중복 제거한 불변 태그 조합입니다.
+ * 조합 캐시 키를 만들 때 한 번만 계산해 두므로, 라우트별로 만들어 재사용하면 요청마다 정렬이나 문자열 결합을 하지 않습니다.
+ * 일반 {@code List<String>}처럼 쓸 수 있어서 태그 목록을 받는 FortuneProvider에 그대로 넘길 수 있습니다.
+ */
+public final class TagSet extends AbstractList<String> implements RandomAccess {
+
+    /**
+     * 태그가 없는 조합
+     */
+    public static final TagSet EMPTY = new TagSet(new String[0]);
+
+    private static final String SEPARATOR = ",";
+
+    private final String[] tags;
+
+    // 조합 캐시 키 (정렬된 태그를 쉼표로 연결)
+    private final String key;
+
+    // 불변이므로 List 규약의 해시 값을 한 번만 계산 (시간 구간 라우트 식별자처럼 맵 키로 쓰일 때 매번 순회하지 않도록)
+    private final int hash;
+
+    private TagSet(String[] tags) {
+        this.tags = tags;
+        this.key = String.join(SEPARATOR, tags);
+        this.hash = Arrays.hashCode(tags);
+    }
+
+    /**
+     * 태그 목록으로 조합을 만듭니다. (순서, 대소문자, 중복과 상관없이 같은 조합은 같은 키)
+     *
+     * @param tags 태그 목록
+     * @return 태그 조합 (이미 TagSet이면 그대로 반환)
+     */
+    public static TagSet of(Collection<String> tags) {
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        String[] normalized = tags.stream()
+                .map(TagSet::normalize)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        return new TagSet(normalized);
+    }
+
+    /**
+     * 태그 목록으로 조합을 만듭니다.
+     */
+    public static TagSet of(String... tags) {
+        return of(Arrays.asList(tags));
+    }
+
+    /**
+     * 조합 캐시 키 (모드는 포함하지 않음)
+     */
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public String get(int index) {
+        return tags[index];
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof TagSet other) {
+            return Arrays.equals(tags, other.tags);
+        }
+        return super.equals(o);
+    }
+
+    static String normalize(String tag) {
+        return tag.strip().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.github.wlsdks.fortunecookie.template;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 플레이스홀더 매핑(예: userName → header:X-User-Name)으로 메시지의 {userName} 같은 자리를 치환하는 클래스입니다.
+ * 매핑은 생성 시점에 한 번 분석해 두므로, 요청마다 매핑 문자열을 나누거나 "{키}" 패턴을 만들지 않습니다.
+ */
+public class FortuneTemplate {
+
+    private final Placeholder[] placeholders;
+
+    /**
+     * @param placeholderMapping 플레이스홀더 이름 → 값 출처 매핑 (예: "userName" → "header:X-User-Name")
+     */
+    public FortuneTemplate(Map<String, String> placeholderMapping) {
+        this.placeholders = placeholderMapping.entrySet().stream()
+                .map(entry -> Placeholder.of(entry.getKey(), entry.getValue()))
+                .toArray(Placeholder[]::new);
+    }
+
+    /**
+     * 메시지의 플레이스홀더를 요청 값으로 치환합니다.
+     * 값이 없거나 매핑 형식이 잘못되었거나 요청이 null이면(과부하 단계) Guest로 치환합니다.
+     *
+     * @param message 원본 메시지
+     * @param request 값을 읽을 요청 (null이면 값을 조회하지 않음)
+     * @return 치환된 메시지 (치환할 자리가 없으면 원본 인스턴스 그대로)
+     */
+    public String render(String message, FortuneRequest request) {
+        // 1. 매핑이 없거나 메시지에 중괄호가 없으면 바로 리턴
+        if (placeholders.length == 0 || message.indexOf('{') < 0) {
+            return message;
+        }
+
+        // 2. 메시지에 있는 플레이스홀더만 값을 조회해서 치환
+        String result = message;
+        for (Placeholder placeholder : placeholders) {
+            if (!result.contains(placeholder.pattern())) {
+                continue;
+            }
+            String resolvedValue = request != null && placeholder.source() != null
+                    ? request.resolve(placeholder.source(), placeholder.key())
+                    : null;
+            result = result.replace(placeholder.pattern(), Objects.requireNonNullElse(resolvedValue, Constant.GUEST));
+        }
+        return result;
+    }
+
+    /**
+     * 메시지에 들어 있는 매핑된 플레이스홀더 종류 수를 셉니다. (JFR, 디버그 추적용)
+     *
+     * @param message 원본 메시지
+     * @return 플레이스홀더 종류 수
+     */
+    public int countPlaceholders(String message) {
+        int count = 0;
+        for (Placeholder placeholder : placeholders) {
+            if (message.contains(placeholder.pattern())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 분석된 플레이스홀더 매핑 하나
+     *
+     * @param pattern 메시지 안의 패턴 (예: "{userName}")
+     * @param source  값 출처 (예: "header", 형식이 잘못되었으면 null)
+     * @param key     출처 안에서의 이름 (예: "X-User-Name")
+     */
+    private record Placeholder(String pattern, String source, String key) {
+
+        static Placeholder of(String name, String mappingSpec) {
+            String pattern = "{" + name + "}";
+
+            // 매핑이 비어 있거나 "출처:이름" 형식이 아니면 항상 Guest로 치환 (e.g. "header:X-User-Name:extra")
+            if (mappingSpec == null || mappingSpec.isBlank()) {
+                return new Placeholder(pattern, null, null);
+            }
+            String[] tokens = mappingSpec.split(Constant.COLON);
+            if (tokens.length != 2) {
+                return new Placeholder(pattern, null, null);
+            }
+            return new Placeholder(pattern, tokens[0], tokens[1]);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 클래스패스의 테넌트별 메시지 파일에서 카탈로그를 읽는 구현체입니다.
+ * 위치가 "fortunes/tenants/{tenant}/fortunes"이면 acme 테넌트는 다음 파일을 읽습니다. (없는 파일은 건너뜀)
+ *
+ * <pre>
+ * fortunes/tenants/acme/fortunes.properties     -- 게임 설정 (tenant.game-enabled, tenant.game-type)
+ * fortunes/tenants/acme/fortunes_en.properties  -- 덮어쓸 영어 메시지 (fortune.1=...)
+ * fortunes/tenants/acme/fortunes_ko.properties  -- 덮어쓸 한국어 메시지
+ * </pre>
+ * <p>
+ * ResourceBundle은 없는 번들까지 JVM 전역 캐시에 남기므로, 테넌트 수만큼 캐시가 늘지 않도록 파일을 직접 읽습니다.
+ */
+@Slf4j
+public class BundleTenantCatalogLoader implements TenantCatalogLoader {
+
+    private static final String TENANT_PLACEHOLDER = "{tenant}";
+    private static final String GAME_ENABLED = "tenant.game-enabled";
+    private static final String GAME_TYPE = "tenant.game-type";
+
+    private final String location;
+    private final List<Locale> supportedLocales;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param location         테넌트 파일 위치 ({tenant} 자리에 테넌트 식별자가 들어감, 확장자와 로케일 제외)
+     * @param supportedLocales 지원 로케일 목록 (로케일별 메시지 파일을 읽을 순서)
+     */
+    public BundleTenantCatalogLoader(String location, List<Locale> supportedLocales) {
+        if (!location.contains(TENANT_PLACEHOLDER)) {
+            throw new IllegalArgumentException("Tenant catalog location must contain " + TENANT_PLACEHOLDER + ": " + location);
+        }
+        this.location = location;
+        this.supportedLocales = List.copyOf(supportedLocales);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        this.classLoader = contextClassLoader != null ? contextClassLoader : BundleTenantCatalogLoader.class.getClassLoader();
+    }
+
+    @Override
+    public TenantCatalog load(String tenantId) throws IOException {
+        // 1. 식별자가 파일 경로에 들어가므로 형식부터 확인 (../ 등으로 다른 경로를 읽지 않도록)
+        if (!TenantResolver.TENANT_ID.matcher(tenantId).matches()) {
+            throw new IllegalArgumentException("Invalid tenant id: " + tenantId);
+        }
+        String basename = location.replace(TENANT_PLACEHOLDER, tenantId);
+
+        // 2. 로케일별 덮어쓸 메시지
+        Map<Locale, Map<String, String>> messages = new HashMap<>();
+        for (Locale locale : supportedLocales) {
+            Properties bundle = read(basename + "_" + locale + ".properties");
+            if (bundle != null && !bundle.isEmpty()) {
+                Map<String, String> localized = new HashMap<>();
+                bundle.stringPropertyNames().forEach(key -> localized.put(key, bundle.getProperty(key)));
+                messages.put(locale, localized);
+            }
+        }
+
+        // 3. 게임 설정 (로케일이 붙지 않은 파일)
+        Properties settings = read(basename + ".properties");
+        Boolean gameEnabled = null;
+        GameType gameType = null;
+        if (settings != null) {
+            String enabled = settings.getProperty(GAME_ENABLED);
+            gameEnabled = enabled != null ? Boolean.valueOf(enabled.trim()) : null;
+            gameType = parseGameType(tenantId, settings.getProperty(GAME_TYPE));
+        }
+
+        if (messages.isEmpty() && gameEnabled == null && gameType == null) {
+            return TenantCatalog.empty(tenantId);
+        }
+        return TenantCatalog.compile(tenantId, supportedLocales, messages, gameEnabled, gameType);
+    }
+
+    /**
+     * 게임 종류를 읽습니다. 알 수 없는 값은 경고를 한 번 남기고 무시합니다.
+     * (예외로 처리하면 캐시되지 않아 해당 테넌트의 요청마다 다시 읽고 실패하므로, 값만 버리고 나머지 설정과 메시지는 사용)
+     *
+     * @return 게임 종류 (값이 없거나 알 수 없으면 null, 공용 설정 사용)
+     */
+    private static GameType parseGameType(String tenantId, String type) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return GameType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unknown {} '{}' of tenant {}, using the shared game type", GAME_TYPE, type, tenantId);
+            return null;
+        }
+    }
+
+    /**
+     * 클래스패스의 properties 파일을 UTF-8로 읽습니다.
+     *
+     * @return 파일 내용 (파일이 없으면 null)
+     */
+    private Properties read(String resource) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return properties;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+
+/**
+ * 요청 헤더(예: X-Tenant-Id) 값으로 테넌트를 정하는 구현체입니다.
+ */
+public class HeaderTenantResolver implements TenantResolver {
+
+    private final String headerName;
+
+    /**
+     * @param headerName 테넌트 식별자를 담은 요청 헤더 이름
+     */
+    public HeaderTenantResolver(String headerName) {
+        this.headerName = headerName;
+    }
+
+    @Override
+    public String resolveTenant(FortuneRequest request) {
+        return TenantResolver.normalize(request.getHeader(headerName));
+    }
+
+    @Override
+    public String getVaryHeader() {
+        return headerName;
+    }
+
+}
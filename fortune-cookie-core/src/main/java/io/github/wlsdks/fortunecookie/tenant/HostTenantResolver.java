@@ -0,0 +1,45 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+
+import java.util.Locale;
+
+/**
+ * 호스트 이름의 서브도메인으로 테넌트를 정하는 구현체입니다.
+ * 접미사가 ".fortunes.example.com"이면 acme.fortunes.example.com 요청의 테넌트는 acme이고,
+ * 접미사로 끝나지 않는 호스트(공용 도메인, IP 주소 등)는 테넌트가 없습니다.
+ */
+public class HostTenantResolver implements TenantResolver {
+
+    private final String hostSuffix;
+
+    /**
+     * @param hostSuffix 테넌트 서브도메인 뒤에 붙는 공용 도메인 (예: ".fortunes.example.com")
+     */
+    public HostTenantResolver(String hostSuffix) {
+        String suffix = hostSuffix.toLowerCase(Locale.ROOT);
+        this.hostSuffix = suffix.startsWith(".") ? suffix : "." + suffix;
+    }
+
+    @Override
+    public String resolveTenant(FortuneRequest request) {
+        // 1. Host 헤더에서 포트를 뗌
+        String host = request.getHeader(Constant.HOST);
+        if (host == null) {
+            return null;
+        }
+        int colon = host.indexOf(':');
+        if (colon >= 0) {
+            host = host.substring(0, colon);
+        }
+
+        // 2. 접미사 바로 앞의 한 단계 서브도메인만 테넌트로 사용 (a.b.fortunes.example.com은 테넌트 없음)
+        if (host.length() <= hostSuffix.length() || !host.regionMatches(true, host.length() - hostSuffix.length(), hostSuffix, 0, hostSuffix.length())) {
+            return null;
+        }
+        String subdomain = host.substring(0, host.length() - hostSuffix.length());
+        return subdomain.indexOf('.') >= 0 ? null : TenantResolver.normalize(subdomain);
+    }
+
+}
@@ -0,0 +1,123 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+
+import java.util.*;
+
+/**
+ * 테넌트 하나가 공용 카탈로그 위에 덮어쓰는 메시지와 게임 설정을 읽기 전용으로 정리한 카탈로그입니다.
+ * 테넌트에는 덮어쓴 메시지만 담기므로, 메모리는 테넌트 수가 아니라 덮어쓴 메시지 양에 비례합니다.
+ * 메시지는 지원 로케일 슬롯(FortuneLocaleResolver.slotOf) 순서로 보관하고, 요청 시에는 맵 조회만 합니다.
+ */
+public final class TenantCatalog {
+
+    // 메시지 하나의 대략적인 고정 메모리 (맵 노드 + 키, 메시지 String 객체와 배열 헤더)
+    private static final long ENTRY_OVERHEAD_BYTES = 112;
+
+    // 카탈로그 하나의 대략적인 고정 메모리 (객체, 슬롯 목록, 캐시 엔트리)
+    private static final long CATALOG_OVERHEAD_BYTES = 256;
+
+    private final String tenantId;
+    private final List<Map<String, String>> messages; // 로케일 슬롯 → 메시지 키 → 메시지
+    private final Boolean gameEnabled; // null이면 공용 설정 사용
+    private final GameType gameType; // null이면 공용 설정 사용
+    private final int messageCount;
+    private final long weight;
+
+    private TenantCatalog(String tenantId, List<Map<String, String>> messages, Boolean gameEnabled, GameType gameType) {
+        this.tenantId = tenantId;
+        this.messages = messages;
+        this.gameEnabled = gameEnabled;
+        this.gameType = gameType;
+
+        int count = 0;
+        long bytes = CATALOG_OVERHEAD_BYTES + 2L * tenantId.length();
+        for (Map<String, String> slotMessages : messages) {
+            count += slotMessages.size();
+            for (Map.Entry<String, String> entry : slotMessages.entrySet()) {
+                bytes += ENTRY_OVERHEAD_BYTES + 2L * (entry.getKey().length() + entry.getValue().length());
+            }
+        }
+        this.messageCount = count;
+        this.weight = bytes;
+    }
+
+    /**
+     * 로케일별 덮어쓸 메시지를 지원 로케일 슬롯 순서로 정리합니다.
+     *
+     * @param tenantId         테넌트 식별자
+     * @param supportedLocales 지원 로케일 목록 (인터셉터의 로케일 슬롯과 같은 순서)
+     * @param messages         로케일 → 메시지 키 → 메시지 (지원 로케일이 아닌 로케일은 무시)
+     * @param gameEnabled      게임 사용 여부 (null이면 공용 설정)
+     * @param gameType         기본 게임 타입 (null이면 공용 설정)
+     * @return 카탈로그
+     */
+    public static TenantCatalog compile(String tenantId,
+                                        List<Locale> supportedLocales,
+                                        Map<Locale, ? extends Map<String, String>> messages,
+                                        Boolean gameEnabled,
+                                        GameType gameType) {
+        List<Map<String, String>> slots = new ArrayList<>(supportedLocales.size());
+        for (Locale locale : supportedLocales) {
+            Map<String, String> slotMessages = messages.get(locale);
+            slots.add(slotMessages != null ? Map.copyOf(slotMessages) : Map.of());
+        }
+        return new TenantCatalog(tenantId, List.copyOf(slots), gameEnabled, gameType);
+    }
+
+    /**
+     * 덮어쓴 메시지도 설정도 없는 카탈로그 (공용 카탈로그만 사용)
+     */
+    public static TenantCatalog empty(String tenantId) {
+        return new TenantCatalog(tenantId, List.of(), null, null);
+    }
+
+    /**
+     * 테넌트가 덮어쓴 메시지를 반환합니다.
+     *
+     * @param slot       요청 로케일의 슬롯
+     * @param fortuneKey 포춘 메시지 키
+     * @return 덮어쓴 메시지 (없으면 null, 공용 카탈로그 사용)
+     */
+    public String getFortune(int slot, String fortuneKey) {
+        return slot < messages.size() ? messages.get(slot).get(fortuneKey) : null;
+    }
+
+    /**
+     * 덮어쓴 메시지가 하나라도 있는지 여부 (없으면 미리 만든 메시지 풀을 그대로 사용할 수 있음)
+     */
+    public boolean hasMessages() {
+        return messageCount > 0;
+    }
+
+    /**
+     * 덮어쓴 메시지도 게임 설정도 없는지 여부 (등록되지 않은 테넌트)
+     */
+    public boolean isEmpty() {
+        return messageCount == 0 && gameEnabled == null && gameType == null;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Boolean getGameEnabled() {
+        return gameEnabled;
+    }
+
+    public GameType getGameType() {
+        return gameType;
+    }
+
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * 카탈로그가 차지하는 대략적인 메모리 (캐시의 무게 제한에 사용)
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+}
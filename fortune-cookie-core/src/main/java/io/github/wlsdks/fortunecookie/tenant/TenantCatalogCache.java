@@ -0,0 +1,265 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테넌트 카탈로그를 처음 요청될 때 읽어 담아 두는 캐시입니다.
+ * 테넌트 수(maxTenants)와 카탈로그 무게 합(maxWeight, 대략적인 바이트) 두 가지로 크기를 제한하고,
+ * 넘으면 가장 오래 쓰이지 않은 테넌트부터 제거합니다. (제거된 테넌트는 다시 요청될 때 새로 읽음)
+ * 같은 테넌트의 첫 요청이 동시에 여러 개 들어와도 읽기는 한 번만 하고, 나머지 요청은 그 결과를 기다립니다.
+ * 조회는 락 없이 맵 조회만 하고, 무게 계산과 제거만 락 안에서 처리합니다.
+ * 덮어쓴 것이 없는(등록되지 않은) 테넌트는 크기가 제한된 캐시에 넣지 않고 작은 별도 집합에 잠시 기억해 두므로,
+ * 알 수 없는 식별자가 몰려 들어와도 실제 테넌트를 밀어내거나 락을 잡지 않습니다.
+ */
+@Slf4j
+public class TenantCatalogCache {
+
+    // 등록되지 않은 테넌트로 기억해 둘 최대 식별자 수와 기간 (지나면 다시 읽어서 새로 추가된 테넌트를 반영)
+    private static final int UNKNOWN_LIMIT = 1024;
+    private static final long UNKNOWN_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final TenantCatalogLoader loader;
+    private final int maxTenants;
+    private final long maxWeight;
+
+    // 테넌트 식별자 → 읽었거나 읽는 중인 카탈로그
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 테넌트 식별자 → 등록되지 않은 테넌트의 빈 카탈로그 (UNKNOWN_LIMIT개까지, 테넌트 수와 무게 제한에 포함하지 않음)
+    private final Map<String, Unknown> unknownTenants = new ConcurrentHashMap<>();
+
+    // 캐시에 남아 있는 카탈로그의 무게 합 (락 안에서만 바꿈)
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param loader     테넌트 카탈로그를 읽는 로더
+     * @param maxTenants 담아 둘 최대 테넌트 수
+     * @param maxWeight  담아 둘 카탈로그 무게 합의 상한 (바이트)
+     */
+    public TenantCatalogCache(TenantCatalogLoader loader, int maxTenants, long maxWeight) {
+        this.loader = loader;
+        this.maxTenants = Math.max(1, maxTenants);
+        this.maxWeight = Math.max(0, maxWeight);
+    }
+
+    /**
+     * 테넌트 카탈로그를 반환합니다. 캐시에 없으면 이 스레드가 읽고, 다른 요청이 읽는 중이면 그 결과를 기다립니다.
+     *
+     * @param tenantId 테넌트 식별자
+     * @return 카탈로그 (읽지 못했으면 빈 카탈로그, 공용 카탈로그만 사용)
+     */
+    public TenantCatalog get(String tenantId) {
+        // 1. 이미 읽은 테넌트면 사용 시각만 갱신
+        Entry entry = entries.get(tenantId);
+        if (entry != null && entry.future.isDone()) {
+            entry.lastUsed = System.nanoTime();
+            hits.increment();
+            return entry.future.join();
+        }
+
+        // 1-1. 최근에 등록되지 않은 것으로 확인한 테넌트면 다시 읽지 않음
+        Unknown unknown = unknownTenants.get(tenantId);
+        if (unknown != null) {
+            if (System.nanoTime() - unknown.recordedAt() < UNKNOWN_TTL_NANOS) {
+                hits.increment();
+                return unknown.catalog();
+            }
+            unknownTenants.remove(tenantId, unknown);
+        }
+        misses.increment();
+
+        // 2. 다른 요청이 읽는 중이면 같은 결과를 기다림
+        if (entry != null) {
+            return entry.future.join();
+        }
+
+        // 3. 자리를 먼저 차지한 요청만 읽음 (동시에 들어온 첫 요청은 위에서 이 자리의 결과를 기다림)
+        Entry created = new Entry();
+        Entry existing = entries.putIfAbsent(tenantId, created);
+        if (existing != null) {
+            return existing.future.join();
+        }
+        return load(tenantId, created);
+    }
+
+    private TenantCatalog load(String tenantId, Entry entry) {
+        long start = System.nanoTime();
+        TenantCatalog catalog;
+        try {
+            catalog = loader.load(tenantId);
+            loads.increment();
+        } catch (Exception e) {
+            // 1. 실패는 캐시하지 않고 다음 요청에서 다시 읽음 (기다리던 요청은 공용 카탈로그로 응답)
+            loadFailures.increment();
+            entries.remove(tenantId, entry);
+            entry.future.complete(TenantCatalog.empty(tenantId));
+            log.warn("Failed to load the fortune catalog of tenant {}, using the shared catalog", tenantId, e);
+            return TenantCatalog.empty(tenantId);
+        }
+
+        // 2. 등록되지 않은 테넌트면 별도 집합에만 기억 (크기 제한된 캐시에서 실제 테넌트를 밀어내지 않고, 락도 잡지 않음)
+        if (catalog.isEmpty()) {
+            rememberUnknown(tenantId, catalog);
+            entries.remove(tenantId, entry);
+            entry.future.complete(catalog);
+            return catalog;
+        }
+
+        // 3. 무게를 반영하고 공개한 뒤, 제한을 넘었으면 오래 쓰이지 않은 테넌트 제거
+        synchronized (this) {
+            entry.weight = catalog.getWeight();
+            entry.lastUsed = System.nanoTime();
+            if (entries.get(tenantId) == entry) {
+                weight.addAndGet(entry.weight);
+            }
+            entry.future.complete(catalog);
+            evictIfNeeded(entry);
+        }
+        log.debug("Loaded the fortune catalog of tenant {} ({} messages, {} bytes), {} ms",
+                tenantId, catalog.getMessageCount(), catalog.getWeight(), (System.nanoTime() - start) / 1_000_000);
+        return catalog;
+    }
+
+    /**
+     * 테넌트 수나 무게 합이 제한을 넘으면 가장 오래 쓰이지 않은 테넌트부터 제거합니다. (방금 읽은 테넌트와 읽는 중인 테넌트는 제외)
+     */
+    private void evictIfNeeded(Entry keep) {
+        while (entries.size() > maxTenants || weight.get() > maxWeight) {
+            String oldestId = null;
+            Entry oldest = null;
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                Entry value = candidate.getValue();
+                if (value != keep && value.future.isDone() && (oldest == null || value.lastUsed < oldest.lastUsed)) {
+                    oldestId = candidate.getKey();
+                    oldest = value;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (entries.remove(oldestId, oldest)) {
+                weight.addAndGet(-oldest.weight);
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 등록되지 않은 테넌트를 기억합니다. 자리가 없으면 기간이 지난 식별자를 버리고, 그래도 없으면 가장 오래된 식별자를 버립니다.
+     */
+    private void rememberUnknown(String tenantId, TenantCatalog catalog) {
+        long now = System.nanoTime();
+        if (unknownTenants.size() >= UNKNOWN_LIMIT) {
+            unknownTenants.values().removeIf(unknown -> now - unknown.recordedAt() >= UNKNOWN_TTL_NANOS);
+        }
+        while (unknownTenants.size() >= UNKNOWN_LIMIT) {
+            unknownTenants.entrySet().stream()
+                    .min(Map.Entry.comparingByValue((a, b) -> Long.compare(a.recordedAt(), b.recordedAt())))
+                    .ifPresent(oldest -> unknownTenants.remove(oldest.getKey(), oldest.getValue()));
+        }
+        unknownTenants.put(tenantId, new Unknown(catalog, now));
+    }
+
+    /**
+     * 테넌트 하나를 캐시에서 제거합니다. (카탈로그가 바뀐 경우, 다음 요청에서 새로 읽음)
+     */
+    public synchronized void invalidate(String tenantId) {
+        unknownTenants.remove(tenantId);
+        Entry entry = entries.remove(tenantId);
+        if (entry != null && entry.future.isDone()) {
+            weight.addAndGet(-entry.weight);
+        }
+    }
+
+    /**
+     * 모든 테넌트를 캐시에서 제거합니다.
+     */
+    public synchronized void invalidateAll() {
+        entries.keySet().forEach(this::invalidate);
+        unknownTenants.clear();
+    }
+
+    /**
+     * 캐시에 담긴 테넌트 수 (읽는 중인 테넌트 포함)
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * 등록되지 않은 테넌트로 기억 중인 식별자 수 (테넌트 수에 포함하지 않음)
+     */
+    public int getUnknownCount() {
+        return unknownTenants.size();
+    }
+
+    /**
+     * 캐시에 담긴 카탈로그의 무게 합 (대략적인 바이트)
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public int getMaxTenants() {
+        return maxTenants;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 로더를 호출해서 카탈로그를 읽은 횟수 (동시에 들어온 첫 요청은 한 번으로 셈)
+     */
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 등록되지 않은 테넌트
+     *
+     * @param catalog    빈 카탈로그
+     * @param recordedAt 확인한 시각 (nanoTime)
+     */
+    private record Unknown(TenantCatalog catalog, long recordedAt) {
+    }
+
+    /**
+     * 캐시 엔트리 (읽기가 끝나면 future가 완료되고, 무게는 락 안에서 정해짐)
+     */
+    private static final class Entry {
+        private final CompletableFuture<TenantCatalog> future = new CompletableFuture<>();
+        private volatile long lastUsed = System.nanoTime();
+        private long weight;
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+/**
+ * 테넌트의 카탈로그를 읽는 인터페이스입니다. 테넌트가 처음 요청될 때(또는 캐시에서 밀려난 뒤 다시 요청될 때) 호출됩니다.
+ * 기본 구현(BundleTenantCatalogLoader)은 클래스패스의 테넌트별 메시지 파일을 읽고, 데이터베이스 등 다른 저장소를 쓰려면 직접 구현한 빈을 등록합니다.
+ */
+@FunctionalInterface
+public interface TenantCatalogLoader {
+
+    /**
+     * 테넌트의 카탈로그를 읽습니다.
+     *
+     * @param tenantId 테넌트 식별자
+     * @return 카탈로그 (덮어쓴 것이 없으면 TenantCatalog.empty)
+     * @throws Exception 읽지 못한 경우 (이번 요청은 공용 카탈로그로 응답하고 다음 요청에서 다시 읽음)
+     */
+    TenantCatalog load(String tenantId) throws Exception;
+
+}
@@ -0,0 +1,46 @@
+package io.github.wlsdks.fortunecookie.tenant;
+
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 요청이 어느 테넌트의 것인지 정하는 인터페이스입니다. (헤더, 호스트 이름 등)
+ * 기본 구현(HeaderTenantResolver, HostTenantResolver) 대신 직접 구현한 빈을 등록할 수 있습니다.
+ */
+public interface TenantResolver {
+
+    // 테넌트 식별자 형식 (카탈로그 경로에 들어가므로 영문 소문자, 숫자, '-', '_'만 허용)
+    Pattern TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9_-]{0,62}");
+
+    /**
+     * 요청의 테넌트 식별자를 찾습니다.
+     *
+     * @param request 현재 요청
+     * @return 테넌트 식별자 (테넌트가 없거나 형식이 맞지 않으면 null, 공용 카탈로그만 사용)
+     */
+    String resolveTenant(FortuneRequest request);
+
+    /**
+     * 테넌트를 정하는 요청 헤더 이름 (시간 구간 응답의 Vary에 추가, URL로 구분되는 호스트 방식은 null)
+     */
+    default String getVaryHeader() {
+        return null;
+    }
+
+    /**
+     * 요청에서 꺼낸 값을 테넌트 식별자 형식으로 바꿉니다. (앞뒤 공백 제거, 소문자, 형식이 맞지 않으면 null)
+     *
+     * @param value 헤더 값이나 호스트 이름의 일부
+     * @return 테넌트 식별자 또는 null
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String tenantId = value.trim().toLowerCase(Locale.ROOT);
+        return TENANT_ID.matcher(tenantId).matches() ? tenantId : null;
+    }
+
+}
@@ -0,0 +1,250 @@
+package io.github.wlsdks.fortunecookie.throttle;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 미니 게임 추측 요청을 플레이어별로 제한하는 토큰 버킷입니다.
+ * 버킷 상태(마지막 갱신 시각 40bit + 남은 토큰 24bit, 밀리 토큰 단위)를 long 하나에 담아 AtomicLong CAS로만 갱신하므로
+ * 락이 없고, 예산을 넘은 요청은 상태를 쓰지도 않고 바로 거절됩니다.
+ */
+public class GameThrottle {
+
+    // 토큰 1개 = 1000 밀리 토큰
+    private static final long MILLI = 1_000L;
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    // 24bit 밀리 토큰으로 표현할 수 있는 최대 버킷 크기
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI);
+
+    // 테이블이 가득 찼을 때 오래된 버킷을 정리하는 최소 간격
+    private static final long SWEEP_INTERVAL_MILLIS = 1_000L;
+
+    private final Map<GameType, Budget> budgets;
+    private final Map<GameType, ConcurrentHashMap<String, AtomicLong>> buckets = new EnumMap<>(GameType.class);
+
+    // 플레이어 테이블이 가득 찼을 때 새 플레이어들이 함께 쓰는 버킷 (제한을 우회하지 못하도록)
+    private final Map<GameType, AtomicLong> overflowBuckets = new EnumMap<>(GameType.class);
+
+    private final Map<Locale, String> slowDownFragments;
+    private final Locale defaultLocale;
+    private final int maxPlayers;
+    private final LongSupplier clock;
+    private final long baseMillis;
+
+    private final AtomicLong lastSweep = new AtomicLong();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * @param budgets           게임 타입별 예산 (모든 게임 타입이 있어야 함)
+     * @param slowDownFragments 로케일별 "천천히" 안내 문구 (미리 만들어 둔 값, 첫 번째 항목이 기본 로케일)
+     * @param maxPlayers        게임 타입별로 추적할 최대 플레이어 수
+     * @param clock             현재 시각(ms) 공급자
+     */
+    public GameThrottle(Map<GameType, Budget> budgets,
+                        Map<Locale, String> slowDownFragments,
+                        int maxPlayers,
+                        LongSupplier clock) {
+        this.budgets = new EnumMap<>(budgets);
+        this.slowDownFragments = Map.copyOf(slowDownFragments);
+        this.defaultLocale = slowDownFragments.keySet().stream().findFirst().orElse(Locale.ENGLISH);
+        this.maxPlayers = maxPlayers;
+        this.clock = clock;
+        this.baseMillis = clock.getAsLong();
+
+        for (GameType gameType : GameType.values()) {
+            Budget budget = this.budgets.get(gameType);
+            if (budget == null) {
+                throw new IllegalArgumentException("Missing throttle budget for game type: " + gameType);
+            }
+            buckets.put(gameType, new ConcurrentHashMap<>());
+            overflowBuckets.put(gameType, new AtomicLong(budget.fullState(0)));
+        }
+    }
+
+    /**
+     * 추측 한 번에 필요한 토큰을 가져갑니다.
+     *
+     * @param gameType 게임 타입
+     * @param playerId 플레이어 식별자 (null이면 제한하지 않음)
+     * @return 예산 안이면 true, 넘었으면 false
+     */
+    public boolean tryAcquire(GameType gameType, String playerId) {
+        if (playerId == null) {
+            return true;
+        }
+        Budget budget = budgets.get(gameType);
+        long now = clock.getAsLong() - baseMillis;
+
+        // 1. 플레이어 버킷을 찾고 CAS로 토큰 1개를 가져감
+        AtomicLong bucket = bucketOf(gameType, playerId, budget, now);
+        if (budget.tryAcquire(bucket, now)) {
+            return true;
+        }
+
+        // 2. 예산 초과
+        throttled.increment();
+        return false;
+    }
+
+    /**
+     * 로케일에 맞는 "천천히" 안내 문구를 반환합니다. (요청마다 메시지를 포맷하지 않도록 미리 만든 값)
+     */
+    public String slowDownFragment(Locale locale) {
+        String fragment = locale != null ? slowDownFragments.get(locale) : null;
+        if (fragment == null && locale != null) {
+            fragment = slowDownFragments.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return fragment != null ? fragment : slowDownFragments.get(defaultLocale);
+    }
+
+    /**
+     * 예산 초과로 거절된 요청 수
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * 게임 타입별로 추적 중인 플레이어 수
+     */
+    public int getTrackedPlayers(GameType gameType) {
+        return buckets.get(gameType).size();
+    }
+
+    /**
+     * 오래 쉬어서 정리된 플레이어 버킷 수
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    private AtomicLong bucketOf(GameType gameType, String playerId, Budget budget, long now) {
+        // 1. 이미 있는 버킷이면 락 없이 조회
+        ConcurrentHashMap<String, AtomicLong> table = buckets.get(gameType);
+        AtomicLong bucket = table.get(playerId);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        // 2. 테이블이 가득 찼으면 가득 찬(오래 쉰) 버킷을 정리하고, 그래도 가득 차 있으면 공용 버킷 사용
+        if (table.size() >= maxPlayers) {
+            sweep(now);
+            if (table.size() >= maxPlayers) {
+                return overflowBuckets.get(gameType);
+            }
+        }
+
+        // 3. 새 플레이어는 가득 찬 버킷으로 시작
+        return table.computeIfAbsent(playerId, id -> new AtomicLong(budget.fullState(now)));
+    }
+
+    /**
+     * 다시 가득 찰 만큼 쉬고 있는 버킷을 제거합니다. (SWEEP_INTERVAL_MILLIS에 한 번만, 한 스레드만 수행)
+     */
+    private void sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_MILLIS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.forEach((gameType, table) -> {
+            Budget budget = budgets.get(gameType);
+            table.values().removeIf(bucket -> {
+                if (!budget.isIdle(bucket.get(), now)) {
+                    return false;
+                }
+                evicted.increment();
+                return true;
+            });
+        });
+    }
+
+    /**
+     * 게임 타입별 토큰 버킷 예산
+     *
+     * @param capacity        버킷 크기 (연속으로 보낼 수 있는 최대 추측 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    public record Budget(int capacity, double refillPerSecond) {
+
+        public Budget {
+            if (capacity < 1 || capacity > MAX_CAPACITY) {
+                throw new IllegalArgumentException("Throttle capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+            }
+            if (!(refillPerSecond > 0)) {
+                throw new IllegalArgumentException("Throttle refill rate must be positive: " + refillPerSecond);
+            }
+        }
+
+        private long capacityMilli() {
+            return capacity * MILLI;
+        }
+
+        // 1ms 동안 채워지는 밀리 토큰 (refillPerSecond 토큰/초 = refillPerSecond 밀리 토큰/ms)
+        private double refillMilliPerMillis() {
+            return refillPerSecond;
+        }
+
+        // 빈 버킷이 가득 차는 데 걸리는 시간 (ms)
+        private long fillMillis() {
+            return (long) Math.ceil(capacityMilli() / refillMilliPerMillis());
+        }
+
+        private long fullState(long now) {
+            return (now << TOKEN_BITS) | capacityMilli();
+        }
+
+        private boolean isIdle(long state, long now) {
+            return now - (state >>> TOKEN_BITS) >= fillMillis();
+        }
+
+        /**
+         * 경과 시간만큼 토큰을 채우고 1개를 가져가는 CAS 루프
+         */
+        private boolean tryAcquire(AtomicLong bucket, long now) {
+            long fillMillis = fillMillis();
+            while (true) {
+                long state = bucket.get();
+                long last = state >>> TOKEN_BITS;
+                long tokens = state & TOKEN_MASK;
+
+                // 1. 경과 시간만큼 채움 (다른 스레드가 더 늦은 시각으로 이미 갱신했으면 경과 시간 0)
+                long elapsed = Math.min(Math.max(now - last, 0), fillMillis);
+                long added = (long) (elapsed * refillMilliPerMillis());
+                long refilled = tokens + added;
+
+                // 1-1. 가득 찼으면 현재 시각부터, 아니면 실제로 토큰이 된 시간만큼만 시각을 당김 (소수점 이하 충전분 보존)
+                long refilledAt;
+                if (refilled >= capacityMilli()) {
+                    refilled = capacityMilli();
+                    refilledAt = Math.max(now, last);
+                } else {
+                    refilledAt = last + (long) (added / refillMilliPerMillis());
+                }
+
+                // 2. 토큰이 모자라면 상태를 쓰지 않고 거절
+                if (refilled < MILLI) {
+                    return false;
+                }
+
+                // 3. 토큰 1개를 빼고 시각을 갱신 (실패하면 다른 스레드가 먼저 바꾼 것이므로 다시 시도)
+                long next = (refilledAt << TOKEN_BITS) | (refilled - MILLI);
+                if (bucket.compareAndSet(state, next)) {
+                    return true;
+                }
+            }
+        }
+
+    }
+
+}
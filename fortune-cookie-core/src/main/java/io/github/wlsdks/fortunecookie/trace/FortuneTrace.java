@@ -0,0 +1,130 @@
+package io.github.wlsdks.fortunecookie.trace;
+
+/**
+ * 샘플링된 요청 하나의 추적 기록입니다.
+ * 요청 스레드가 preHandle 동안 채우고 {@link FortuneTracer#submit(FortuneTrace)}로 버퍼에 넣은 뒤에는 바꾸지 않습니다.
+ * (버퍼에 넣는 시점이 공개 시점이므로 필드는 volatile이 아니어도 됨)
+ */
+public final class FortuneTrace {
+
+    private final long startNanos;
+    private final long timestamp;
+    private String route;
+    private String mode;
+    private String fortuneKey;
+    private String locale;
+    private boolean poolHit;
+    private int placeholders;
+    private boolean placeholdersResolved = true;
+    private String gameOutcome;
+    private String tier;
+    private long selectNanos;
+    private long placeholderNanos;
+    private long gameNanos;
+    private long totalNanos;
+
+    FortuneTrace(long startNanos, long timestamp) {
+        this.startNanos = startNanos;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * 라우트를 기록합니다. (HTTP 메서드 + 매핑 패턴)
+     */
+    public void route(String route) {
+        this.route = route;
+    }
+
+    /**
+     * 메시지 선택 결과와 걸린 시간(키 생성, 조회, 치환, 헤더 설정)을 기록합니다.
+     */
+    public void selected(String mode, String fortuneKey, String locale, boolean poolHit, long nanos) {
+        this.mode = mode;
+        this.fortuneKey = fortuneKey;
+        this.locale = locale;
+        this.poolHit = poolHit;
+        this.selectNanos = nanos;
+    }
+
+    /**
+     * 치환한 플레이스홀더 수와 걸린 시간을 누적합니다. (헤더, 바디 메시지를 따로 치환하면 두 번 호출됨)
+     */
+    public void placeholders(int count, boolean resolved, long nanos) {
+        this.placeholders += count;
+        this.placeholdersResolved = resolved;
+        this.placeholderNanos += nanos;
+    }
+
+    /**
+     * 게임 결과와 걸린 시간을 기록합니다.
+     */
+    public void game(String outcome, long nanos) {
+        this.gameOutcome = outcome;
+        this.gameNanos = nanos;
+    }
+
+    /**
+     * 과부하 단계와 preHandle 전체 시간을 기록합니다.
+     */
+    void finish(String tier, long endNanos) {
+        this.tier = tier;
+        this.totalNanos = endNanos - startNanos;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public String getFortuneKey() {
+        return fortuneKey;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public boolean isPoolHit() {
+        return poolHit;
+    }
+
+    public int getPlaceholders() {
+        return placeholders;
+    }
+
+    public boolean isPlaceholdersResolved() {
+        return placeholdersResolved;
+    }
+
+    public String getGameOutcome() {
+        return gameOutcome;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+
+    public long getSelectNanos() {
+        return selectNanos;
+    }
+
+    public long getPlaceholderNanos() {
+        return placeholderNanos;
+    }
+
+    public long getGameNanos() {
+        return gameNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+}
@@ -0,0 +1,179 @@
+package io.github.wlsdks.fortunecookie.trace;
+
+import io.github.wlsdks.fortunecookie.pool.FortuneRingBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 디버그 모드(fortune-cookie.debug=true)의 샘플링 추적기입니다.
+ * 요청마다 난수 한 번으로 추적 여부를 정하고, 추적한 기록은 락 없는 링 버퍼에 넣기만 합니다.
+ * 백그라운드 스레드 하나가 주기적으로 버퍼를 비워 SLF4J로 내보내며, 버퍼가 가득 차면 요청을 막지 않고 기록을 버립니다.
+ */
+@Slf4j
+public class FortuneTracer implements AutoCloseable {
+
+    private final double sampleRate;
+    private final Duration drainInterval;
+    private final FortuneRingBuffer<FortuneTrace> buffer;
+
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private long reportedDropped; // 마지막으로 경고한 버린 기록 수 (내보내기 스레드만 사용)
+
+    private ScheduledExecutorService drainer;
+
+    /**
+     * @param sampleRate    추적할 요청 비율 (0.0 ~ 1.0)
+     * @param bufferSize    버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param drainInterval 버퍼를 비워 로그로 내보내는 주기
+     */
+    public FortuneTracer(double sampleRate, int bufferSize, Duration drainInterval) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Trace sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.drainInterval = drainInterval;
+        this.buffer = new FortuneRingBuffer<>(bufferSize);
+    }
+
+    /**
+     * 백그라운드 내보내기를 시작합니다.
+     */
+    public void start() {
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fortune-trace-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, drainInterval.toMillis());
+        drainer.scheduleWithFixedDelay(this::drainSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이번 요청을 추적할지 난수 한 번으로 정합니다.
+     *
+     * @return 추적할 요청이면 새 기록, 아니면 null
+     */
+    public FortuneTrace sample() {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return null;
+        }
+        sampled.increment();
+        return new FortuneTrace(System.nanoTime(), System.currentTimeMillis());
+    }
+
+    /**
+     * 기록을 마무리해서 버퍼에 넣습니다. (가득 차면 기다리지 않고 버림)
+     *
+     * @param trace 샘플링된 기록
+     * @param tier  이번 요청의 과부하 단계
+     */
+    public void submit(FortuneTrace trace, String tier) {
+        trace.finish(tier, System.nanoTime());
+        if (!buffer.offer(trace)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 모두 꺼내 SLF4J로 내보냅니다. (백그라운드 스레드에서 호출, 테스트에서는 직접 호출 가능)
+     *
+     * @return 내보낸 기록 수
+     */
+    public int drain() {
+        int count = drain(FortuneTracer::log);
+
+        // 지난번 이후 버린 기록이 있으면 한 번만 경고
+        long droppedNow = dropped.sum();
+        if (droppedNow > reportedDropped) {
+            log.warn("Dropped {} fortune traces because the trace buffer was full (buffer size {}, sample rate {})",
+                    droppedNow - reportedDropped, buffer.capacity(), sampleRate);
+            reportedDropped = droppedNow;
+        }
+        return count;
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 모두 꺼내 주어진 곳으로 보냅니다.
+     *
+     * @param sink 기록을 받을 곳
+     * @return 꺼낸 기록 수
+     */
+    public int drain(Consumer<FortuneTrace> sink) {
+        int count = 0;
+        FortuneTrace trace;
+        while ((trace = buffer.poll()) != null) {
+            sink.accept(trace);
+            count++;
+        }
+        drained.add(count);
+        return count;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // 예외로 스케줄이 멈추지 않도록 기록만 하고 다음 주기에 다시 시도
+            log.warn("Failed to drain fortune traces", e);
+        }
+    }
+
+    private static void log(FortuneTrace trace) {
+        log.info("fortune trace route={} mode={} key={} locale={} poolHit={} placeholders={} resolved={} game={} tier={}"
+                        + " selectNanos={} placeholderNanos={} gameNanos={} totalNanos={}",
+                trace.getRoute(), trace.getMode(), trace.getFortuneKey(), trace.getLocale(), trace.isPoolHit(),
+                trace.getPlaceholders(), trace.isPlaceholdersResolved(), trace.getGameOutcome(), trace.getTier(),
+                trace.getSelectNanos(), trace.getPlaceholderNanos(), trace.getGameNanos(), trace.getTotalNanos());
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * 추적하기로 정한 요청 수
+     */
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    /**
+     * 버퍼가 가득 차서 버린 기록 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 버퍼에서 꺼내 내보낸 기록 수
+     */
+    public long getDrainedCount() {
+        return drained.sum();
+    }
+
+    /**
+     * 내보내기를 멈추고 남은 기록을 마지막으로 내보냅니다.
+     */
+    @Override
+    public void close() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+            try {
+                drainer.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainSafely();
+    }
+
+}
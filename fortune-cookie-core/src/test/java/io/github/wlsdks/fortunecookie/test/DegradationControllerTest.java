@@ -0,0 +1,158 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import io.github.wlsdks.fortunecookie.degrade.DegradationController.Threshold;
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DegradationControllerTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MIN_HOLD = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @DisplayName("진행 중 요청 수가 기준을 넘으면 다음 평가에서 바로 해당 단계로 올라간다")
+    @Test
+    public void testStepsUpImmediately() {
+        DegradationController controller = controller();
+        enter(controller, 50);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NORMAL);
+
+        // 기준을 넘은 가장 높은 단계(STATIC, 진행 중 300)로 한 번에 올라감
+        enter(controller, 250);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.STATIC);
+        assertThat(controller.getTransitionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("기준 바로 아래로 내려가도 회복 기준 아래로 내려가기 전에는 단계를 유지한다")
+    @Test
+    public void testHysteresis() {
+        DegradationController controller = controller();
+        enter(controller, 100);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NO_GAMES);
+
+        // 진행 중 90 (진입 기준 100, 회복 기준 100 * 0.5 = 50): 최소 유지 시간이 지나도 유지
+        exit(controller, 10);
+        clock.addAndGet(MIN_HOLD);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NO_GAMES);
+
+        // 경계 근처를 오가도 단계가 바뀌지 않음
+        for (int i = 0; i < 10; i++) {
+            enter(controller, 10);
+            assertThat(tick(controller)).isEqualTo(DegradationTier.NO_GAMES);
+            exit(controller, 10);
+            assertThat(tick(controller)).isEqualTo(DegradationTier.NO_GAMES);
+        }
+        assertThat(controller.getTransitionCount()).isEqualTo(1);
+
+        // 회복 기준 아래(48)로 내려가면 NORMAL로 복귀
+        exit(controller, 42);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NORMAL);
+    }
+
+    @DisplayName("내려갈 때는 최소 유지 시간마다 한 단계씩만 내려간다")
+    @Test
+    public void testStepsDownOneTierAtATime() {
+        DegradationController controller = controller();
+        enter(controller, 500);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.OFF);
+
+        exit(controller, 500);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.OFF);
+
+        DegradationTier[] expected = {DegradationTier.STATIC, DegradationTier.NO_PLACEHOLDERS,
+                DegradationTier.NO_GAMES, DegradationTier.NORMAL};
+        for (DegradationTier tier : expected) {
+            clock.addAndGet(MIN_HOLD);
+            assertThat(tick(controller)).isEqualTo(tier);
+            assertThat(tick(controller)).isEqualTo(tier);
+        }
+    }
+
+    @DisplayName("지연 EWMA가 기준을 넘으면 단계를 올리고, 요청이 없는 주기에는 감쇠해서 회복한다")
+    @Test
+    public void testLatencyEwmaDecays() {
+        DegradationController controller = controller();
+        for (int i = 0; i < 20; i++) {
+            controller.recordLatency(TimeUnit.MILLISECONDS.toNanos(20));
+            tick(controller);
+        }
+        assertThat(controller.getTier()).isEqualTo(DegradationTier.NO_PLACEHOLDERS);
+        assertThat(controller.getLatencyEwmaNanos()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // 요청이 없으면 평균 0으로 반영되어 EWMA가 줄어들고 한 단계씩 회복
+        for (int i = 0; i < 100; i++) {
+            clock.addAndGet(MIN_HOLD / 10);
+            tick(controller);
+        }
+        assertThat(controller.getTier()).isEqualTo(DegradationTier.NORMAL);
+        assertThat(controller.getLatencyEwmaNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @DisplayName("스레드 풀 사용률 신호를 기준으로 단계를 정한다")
+    @Test
+    public void testUtilizationSignal() {
+        DegradationController controller = controller();
+        double[] used = {0.5};
+        controller.setUtilization(() -> used[0]);
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NORMAL);
+
+        used[0] = 0.9;
+        assertThat(tick(controller)).isEqualTo(DegradationTier.NO_GAMES);
+        assertThat(controller.getUtilization()).isEqualTo(0.9);
+    }
+
+    @DisplayName("평가 주기 안의 요청은 신호를 모으지 않고 현재 단계를 그대로 사용한다")
+    @Test
+    public void testEvaluatesOncePerInterval() {
+        DegradationController controller = controller();
+        enter(controller, 1_000);
+        assertThat(controller.getTier()).isEqualTo(DegradationTier.NORMAL);
+
+        clock.addAndGet(INTERVAL);
+        assertThat(controller.enter()).isEqualTo(DegradationTier.OFF);
+    }
+
+    private DegradationController controller() {
+        Map<DegradationTier, Threshold> thresholds = new EnumMap<>(DegradationTier.class);
+        thresholds.put(DegradationTier.NO_GAMES, new Threshold(100, TimeUnit.MILLISECONDS.toNanos(5), 0.8));
+        thresholds.put(DegradationTier.NO_PLACEHOLDERS, new Threshold(200, TimeUnit.MILLISECONDS.toNanos(10), 0.95));
+        thresholds.put(DegradationTier.STATIC, new Threshold(300, TimeUnit.MILLISECONDS.toNanos(50), 0));
+        thresholds.put(DegradationTier.OFF, new Threshold(400, 0, 0));
+        return new DegradationController(thresholds, Duration.ofNanos(INTERVAL), 0.5, 0.5,
+                Duration.ofNanos(MIN_HOLD), clock::get);
+    }
+
+    /**
+     * 평가 주기만큼 시간을 보내고 요청 하나로 평가를 일으킨 뒤 단계를 반환 (진행 중 요청 수는 그대로)
+     */
+    private DegradationTier tick(DegradationController controller) {
+        clock.addAndGet(INTERVAL);
+        DegradationTier tier = controller.enter();
+        controller.exit();
+        return tier;
+    }
+
+    private void enter(DegradationController controller, int count) {
+        for (int i = 0; i < count; i++) {
+            controller.enter();
+        }
+    }
+
+    private void exit(DegradationController controller, int count) {
+        for (int i = 0; i < count; i++) {
+            controller.exit();
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.engine.FortuneEngine;
+import io.github.wlsdks.fortunecookie.engine.FortuneEngine.Fortune;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.BundleFortuneProvider;
+import io.github.wlsdks.fortunecookie.provider.FortuneKeySelector;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+import io.github.wlsdks.fortunecookie.template.FortuneTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortuneEngineTest {
+
+    private final FortuneKeySelector keySelector = new FortuneKeySelector(() -> FortuneMode.JOKE, () -> 10);
+    private final BundleFortuneProvider provider =
+            new BundleFortuneProvider("fortunes/fortunes", List.of(Locale.ENGLISH, Locale.KOREAN), keySelector);
+
+    @DisplayName("매핑된 플레이스홀더만 요청 값으로 치환하고, 값이 없거나 형식이 잘못되면 Guest로 치환한다")
+    @Test
+    public void testTemplate() {
+        Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("userName", "header:X-User-Name");
+        mapping.put("team", "session:TEAM");
+        mapping.put("broken", "header:X-A:extra");
+        FortuneTemplate template = new FortuneTemplate(mapping);
+        FortuneRequest request = request(Map.of("X-User-Name", "stark"), Map.of("TEAM", 7));
+
+        assertThat(template.render("{userName}/{team}/{broken}/{unknown}", request)).isEqualTo("stark/7/Guest/{unknown}");
+        assertThat(template.render("{userName} {userName}", request(Map.of(), Map.of()))).isEqualTo("Guest Guest");
+        assertThat(template.countPlaceholders("{userName}/{team}/{userName}")).isEqualTo(2);
+
+        // 요청 뷰가 없으면(과부하 단계) 값을 조회하지 않고, 치환할 자리가 없으면 원본 인스턴스를 그대로 돌려줌
+        assertThat(template.render("Hi {userName}", null)).isEqualTo("Hi Guest");
+        String plain = "no placeholders";
+        assertThat(template.render(plain, request)).isSameAs(plain);
+    }
+
+    @DisplayName("번들 제공자는 로케일 슬롯별 메시지를 읽고, 없는 키는 기본 모드의 default 메시지로 대체한다")
+    @Test
+    public void testBundleProvider() {
+        assertThat(provider.getFortune("fortune.joke.1", Locale.KOREAN))
+                .isNotEqualTo(provider.getFortune("fortune.joke.1", Locale.ENGLISH));
+        assertThat(provider.getFortune("fortune.joke.1", Locale.forLanguageTag("ko-KR")))
+                .isEqualTo(provider.getFortune("fortune.joke.1", Locale.KOREAN));
+        assertThat(provider.getFortune("fortune.joke.1", Locale.FRENCH))
+                .isEqualTo(provider.getFortune("fortune.joke.1", Locale.ENGLISH));
+        assertThat(provider.getFortune("fortune.joke.9999", Locale.ENGLISH)).isEqualTo("No jokes for you today.");
+    }
+
+    @DisplayName("엔진은 Accept-Language로 로케일을 정하고 치환된 메시지와 헤더 값을 함께 돌려준다")
+    @Test
+    public void testEngine() {
+        FortuneEngine engine = new FortuneEngine(provider, List.of(Locale.ENGLISH, Locale.KOREAN),
+                Map.of("userName", "header:X-User-Name"));
+
+        for (int i = 0; i < 100; i++) {
+            Fortune fortune = engine.next(FortuneMode.UNSPECIFIED,
+                    request(Map.of("Accept-Language", "ko-KR,ko;q=0.9"), Map.of()));
+
+            assertThat(fortune.locale()).isEqualTo(Locale.KOREAN);
+            assertThat(fortune.key()).startsWith("fortune.");
+            assertThat(fortune.message()).isEqualTo(provider.getFortune(fortune.key(), Locale.KOREAN));
+            assertThat(fortune.header().extended()).isTrue();
+            assertThat(fortune.header().headerName("X-Fortune")).isEqualTo("X-Fortune*");
+        }
+    }
+
+    private static FortuneRequest request(Map<String, String> headers, Map<String, Object> session) {
+        return new FortuneRequest() {
+            @Override
+            public String getHeader(String name) {
+                return headers.get(name);
+            }
+
+            @Override
+            public Object getSessionAttribute(String name) {
+                return session.get(name);
+            }
+        };
+    }
+
+}
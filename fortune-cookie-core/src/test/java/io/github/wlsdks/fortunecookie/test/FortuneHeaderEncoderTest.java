@@ -0,0 +1,55 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder.EncodedHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortuneHeaderEncoderTest {
+
+    private final FortuneHeaderEncoder encoder = new FortuneHeaderEncoder();
+
+    @DisplayName("ASCII 메시지는 인코딩 없이 원래 헤더 이름으로 사용된다")
+    @Test
+    public void testAsciiFastPath() {
+        String message = "Today is a day full of luck!";
+
+        EncodedHeader header = encoder.encode(message, true);
+
+        assertThat(header.extended()).isFalse();
+        assertThat(header.value()).isSameAs(message);
+        assertThat(header.headerName("X-Fortune-Cookie")).isEqualTo("X-Fortune-Cookie");
+    }
+
+    @DisplayName("한글 메시지는 RFC 8187 형식으로 인코딩되고 X-Fortune-Cookie* 헤더를 사용한다")
+    @Test
+    public void testRfc8187Encoding() {
+        String message = "오늘은 행운이 가득한 날입니다!";
+
+        EncodedHeader header = encoder.encode(message, false);
+
+        assertThat(header.extended()).isTrue();
+        assertThat(header.headerName("X-Fortune-Cookie")).isEqualTo("X-Fortune-Cookie*");
+        assertThat(header.value()).startsWith("UTF-8''%EC%98%A4").endsWith("!");
+        String decoded = URLDecoder.decode(header.value().substring("UTF-8''".length()), StandardCharsets.UTF_8);
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @DisplayName("카탈로그 원본 메시지는 인코딩 결과를 캐시해서 재사용한다")
+    @Test
+    public void testEncodedHeaderCache() {
+        String message = "당신의 미래는 불확실합니다. 🍪";
+
+        EncodedHeader first = encoder.encode(message, true);
+        EncodedHeader second = encoder.encode(message, true);
+
+        assertThat(second).isSameAs(first);
+        assertThat(encoder.encode(message, false)).isNotSameAs(first).isEqualTo(first);
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortuneLocaleResolverTest {
+
+    private final FortuneLocaleResolver resolver = new FortuneLocaleResolver(List.of(Locale.ENGLISH, Locale.KOREAN), 2);
+
+    @DisplayName("q 값 순서대로 정확히 일치 → 언어만 일치 → 기본 로케일 순으로 지원 로케일을 찾는다")
+    @Test
+    public void testFallbackChain() {
+        assertThat(resolver.resolve("ko-KR,ko;q=0.9,en;q=0.8")).isSameAs(Locale.KOREAN);
+        assertThat(resolver.resolve("en;q=0.1, ko;q=0.9")).isSameAs(Locale.KOREAN);
+        assertThat(resolver.resolve("fr-FR,en;q=0.5")).isSameAs(Locale.ENGLISH);
+        assertThat(resolver.resolve("fr-FR,ko;q=0")).isSameAs(Locale.ENGLISH);
+        assertThat(resolver.resolve("ja")).isSameAs(Locale.ENGLISH);
+        assertThat(resolver.resolve("*")).isSameAs(Locale.ENGLISH);
+        assertThat(resolver.resolve(null)).isSameAs(Locale.ENGLISH);
+        assertThat(resolver.resolve("not a ;; header")).isSameAs(Locale.ENGLISH);
+    }
+
+    @DisplayName("국가까지 지정된 지원 로케일은 언어만 보낸 요청도 받는다")
+    @Test
+    public void testRegionalSupportedLocale() {
+        FortuneLocaleResolver regional = new FortuneLocaleResolver(List.of(Locale.US, Locale.KOREA), 16);
+
+        assertThat(regional.resolve("ko")).isSameAs(Locale.KOREA);
+        assertThat(regional.resolve("en-GB")).isSameAs(Locale.US);
+        assertThat(regional.slotOf(Locale.KOREAN)).isEqualTo(1);
+        assertThat(regional.slotOf(Locale.FRENCH)).isZero();
+    }
+
+    @DisplayName("헤더 원문은 캐시 크기 한도까지만 캐시된다")
+    @Test
+    public void testBoundedCache() {
+        resolver.resolve("ko");
+        resolver.resolve("ko");
+        resolver.resolve("en");
+        resolver.resolve("fr");
+
+        assertThat(resolver.getCachedHeaderCount()).isEqualTo(2);
+        assertThat(resolver.resolve("fr")).isSameAs(Locale.ENGLISH);
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import io.github.wlsdks.fortunecookie.tag.TagSelection;
+import io.github.wlsdks.fortunecookie.tag.TagSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortuneTagIndexTest {
+
+    @DisplayName("태그를 모두 가진 엔트리만 고르고, 태그 순서와 대소문자는 상관없다")
+    @Test
+    public void testIntersection() {
+        FortuneTagIndex index = FortuneTagIndex.load("fortunes/fortune-tags.properties", 16);
+
+        TagSelection selection = index.select(FortuneMode.FORTUNE, List.of("Morning", "luck"));
+        assertThat(selection.size()).isEqualTo(1);
+        assertThat(selection.select(0)).isEqualTo(1);
+        assertThat(index.select(FortuneMode.FORTUNE, List.of("luck", "morning"))).isSameAs(selection);
+
+        assertThat(index.sample(FortuneMode.JOKE, List.of("coding", "morning"))).isEqualTo(3);
+        assertThat(index.sample(FortuneMode.JOKE, List.of("coding", "unknown"))).isEqualTo(-1);
+        assertThat(index.sample(FortuneMode.QUOTE, List.of("coding"))).isEqualTo(-1);
+    }
+
+    @DisplayName("결과를 만들지 않고 고른 엔트리는 교집합 안에서 균등하게 분포한다")
+    @Test
+    public void testUniformSamplingOverLargeCatalog() {
+        // 10만 개 엔트리: 3의 배수 = a, 5의 배수 = b → a AND b = 15의 배수 6666개
+        Map<String, List<String>> entryTags = new HashMap<>();
+        for (int entry = 1; entry <= 100_000; entry++) {
+            List<String> tags = new ArrayList<>();
+            if (entry % 3 == 0) {
+                tags.add("a");
+            }
+            if (entry % 5 == 0) {
+                tags.add("b");
+            }
+            entryTags.put("fortune." + entry, tags);
+        }
+        FortuneTagIndex index = FortuneTagIndex.of(entryTags, 16);
+        TagSelection selection = index.select(FortuneMode.FORTUNE, List.of("a", "b"));
+
+        assertThat(selection.size()).isEqualTo(6666);
+        for (int rank = 0; rank < selection.size(); rank++) {
+            assertThat(selection.select(rank)).isEqualTo((rank + 1) * 15);
+        }
+
+        // 앞쪽 절반과 뒤쪽 절반이 대략 같은 비율로 뽑힘
+        int low = 0;
+        for (int i = 0; i < 20_000; i++) {
+            int entry = index.sample(FortuneMode.FORTUNE, List.of("b", "a"));
+            assertThat(entry % 15).isZero();
+            if (entry <= 50_000) {
+                low++;
+            }
+        }
+        assertThat(low).isBetween(9_000, 11_000);
+    }
+
+    @DisplayName("고정 조합은 제거되지 않고, 동적 조합은 가장 오래 안 쓴 것부터 제거된다")
+    @Test
+    public void testPinnedAndLruCache() throws Exception {
+        FortuneTagIndex index = FortuneTagIndex.load("fortunes/fortune-tags.properties", 2);
+        index.precompute(FortuneMode.JOKE, List.of("coding", "break"));
+
+        index.select(FortuneMode.FORTUNE, List.of("work"));
+        Thread.sleep(1);
+        index.select(FortuneMode.FORTUNE, List.of("growth"));
+        Thread.sleep(1);
+        index.select(FortuneMode.FORTUNE, List.of("work"));
+        Thread.sleep(1);
+        index.select(FortuneMode.FORTUNE, List.of("luck"));
+
+        assertThat(index.getPinnedCount()).isEqualTo(1);
+        assertThat(index.getCachedCount()).isEqualTo(2);
+        assertThat(index.select(FortuneMode.JOKE, List.of("break", "coding")).size()).isEqualTo(2);
+        assertThat(index.getCachedCount()).isEqualTo(2);
+    }
+
+    @DisplayName("태그 조합은 순서, 대소문자, 중복과 상관없이 같은 키를 가지고 목록과 같은 결과를 고른다")
+    @Test
+    public void testTagSet() {
+        FortuneTagIndex index = FortuneTagIndex.load("fortunes/fortune-tags.properties", 16);
+
+        TagSet tags = TagSet.of("Morning", "luck", "LUCK");
+        assertThat(tags.key()).isEqualTo("luck,morning");
+        assertThat(TagSet.of(List.of(" luck", "morning "))).isEqualTo(tags);
+        assertThat(TagSet.of(tags)).isSameAs(tags);
+        assertThat(TagSet.of(List.of())).isSameAs(TagSet.EMPTY);
+
+        // 1. 미리 만든 조합으로 고른 결과는 목록으로 고른 결과와 같은 캐시 엔트리
+        TagSelection selection = index.select(FortuneMode.FORTUNE, tags);
+        assertThat(index.select(FortuneMode.FORTUNE, List.of("luck", "Morning"))).isSameAs(selection);
+        assertThat(selection.select(0)).isEqualTo(1);
+
+        // 2. 같은 조합이라도 모드가 다르면 따로 계산
+        assertThat(index.select(FortuneMode.JOKE, tags)).isNotSameAs(selection);
+    }
+
+}
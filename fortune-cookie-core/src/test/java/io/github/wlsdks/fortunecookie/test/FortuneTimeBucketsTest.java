@@ -0,0 +1,86 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.bucket.FortuneTimeBuckets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FortuneTimeBucketsTest {
+
+    private static final long FIVE_MINUTES = 300_000;
+
+    private final AtomicLong now = new AtomicLong(FIVE_MINUTES * 100);
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @DisplayName("같은 구간 안의 요청은 같은 키를 공유하고, 다음 구간의 첫 요청만 새 키를 고른다")
+    @Test
+    public void testSameKeyWithinBucket() {
+        FortuneTimeBuckets buckets = new FortuneTimeBuckets(now::get, 16);
+
+        String first = buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey);
+        now.addAndGet(FIVE_MINUTES - 1);
+        assertThat(buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey)).isEqualTo(first);
+        assertThat(generated.get()).isEqualTo(1);
+
+        // 구간 경계를 넘으면 새 키
+        now.incrementAndGet();
+        String second = buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey);
+        assertThat(second).isNotEqualTo(first);
+        assertThat(buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey)).isEqualTo(second);
+        assertThat(generated.get()).isEqualTo(2);
+
+        // 라우트마다 따로 고름
+        assertThat(buckets.fortuneKey("about", FIVE_MINUTES, this::nextKey)).isNotEqualTo(second);
+        assertThat(buckets.getRouteCount()).isEqualTo(2);
+    }
+
+    @DisplayName("남은 시간은 구간이 끝나는 시각까지이며 구간이 시작되면 구간 길이와 같다")
+    @Test
+    public void testRemainingMillis() {
+        FortuneTimeBuckets buckets = new FortuneTimeBuckets(now::get, 16);
+
+        assertThat(buckets.remainingMillis(FIVE_MINUTES)).isEqualTo(FIVE_MINUTES);
+        now.addAndGet(60_000);
+        assertThat(buckets.remainingMillis(FIVE_MINUTES)).isEqualTo(240_000L);
+        now.addAndGet(239_999);
+        assertThat(buckets.remainingMillis(FIVE_MINUTES)).isEqualTo(1L);
+    }
+
+    @DisplayName("라우트 수 제한을 넘은 라우트는 보관하지 않고 요청마다 키를 고른다")
+    @Test
+    public void testRouteLimit() {
+        FortuneTimeBuckets buckets = new FortuneTimeBuckets(now::get, 1);
+
+        buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey);
+        String overflow = buckets.fortuneKey("about", FIVE_MINUTES, this::nextKey);
+        assertThat(buckets.fortuneKey("about", FIVE_MINUTES, this::nextKey)).isNotEqualTo(overflow);
+        assertThat(buckets.getRouteCount()).isEqualTo(1);
+
+        // 보관 중인 라우트는 계속 공유하고, 비우면 다시 자리가 생김
+        int before = generated.get();
+        buckets.fortuneKey("home", FIVE_MINUTES, this::nextKey);
+        assertThat(generated.get()).isEqualTo(before);
+        buckets.clear();
+        assertThat(buckets.getRouteCount()).isEqualTo(0);
+    }
+
+    @DisplayName("어노테이션 기간은 ISO-8601 형식만 허용한다")
+    @Test
+    public void testParseMillis() {
+        FortuneTimeBuckets buckets = new FortuneTimeBuckets(now::get, 16);
+
+        assertThat(buckets.parseMillis("PT5M")).isEqualTo(FIVE_MINUTES);
+        assertThat(buckets.parseMillis("PT0S")).isEqualTo(0L);
+        assertThatThrownBy(() -> buckets.parseMillis("5m")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String nextKey() {
+        return "fortune." + generated.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard.Ranking;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameLeaderboardTest {
+
+    @DisplayName("안내, 형식 오류는 시도로 집계하지 않고 정답/오답만 집계한다")
+    @Test
+    public void testRecordOnlyAttempts() {
+        GameLeaderboard leaderboard = new GameLeaderboard(3, 100);
+
+        leaderboard.record("alice", GameType.NUMBER, GameOutcome.PROMPT);
+        leaderboard.record("alice", GameType.NUMBER, GameOutcome.INVALID);
+        leaderboard.record("alice", GameType.NUMBER, GameOutcome.WRONG);
+        leaderboard.record("alice", GameType.NUMBER, GameOutcome.CORRECT);
+
+        assertThat(leaderboard.getAttempts(GameType.NUMBER)).isEqualTo(2);
+        assertThat(leaderboard.getWins(GameType.NUMBER)).isEqualTo(1);
+        assertThat(leaderboard.getAttempts(GameType.QUIZ)).isZero();
+        assertThat(leaderboard.getTopRankings()).containsExactly(new Ranking("alice", 1));
+    }
+
+    @DisplayName("상위 N명은 승수 내림차순이고 같은 플레이어는 한 번만 나온다")
+    @Test
+    public void testTopRankings() {
+        GameLeaderboard leaderboard = new GameLeaderboard(2, 100);
+
+        win(leaderboard, "alice", 3);
+        win(leaderboard, "bob", 5);
+        win(leaderboard, "carol", 1);
+
+        assertThat(leaderboard.getTopRankings())
+                .containsExactly(new Ranking("bob", 5), new Ranking("alice", 3));
+        assertThat(leaderboard.getTopScore()).isEqualTo(5);
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(3);
+    }
+
+    @DisplayName("플레이어 수 제한을 넘으면 전역 통계에만 반영된다")
+    @Test
+    public void testMaxPlayers() {
+        GameLeaderboard leaderboard = new GameLeaderboard(10, 1);
+
+        leaderboard.record("alice", GameType.QUIZ, GameOutcome.CORRECT);
+        leaderboard.record("bob", GameType.QUIZ, GameOutcome.CORRECT);
+
+        assertThat(leaderboard.getWins(GameType.QUIZ)).isEqualTo(2);
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(1);
+        assertThat(leaderboard.getDroppedPlayers()).isEqualTo(1);
+    }
+
+    @DisplayName("테이블이 가득 차면 랭킹에 없는 플레이어 중 가장 오래 쉰 플레이어를 정리하고 새 플레이어를 받는다")
+    @Test
+    public void testEvictsIdlePlayers() throws Exception {
+        GameLeaderboard leaderboard = new GameLeaderboard(1, 10);
+
+        // 1. 가장 먼저 온 champ는 1위라 정리되지 않음
+        leaderboard.record("champ", GameType.NUMBER, GameOutcome.CORRECT);
+        for (int i = 0; i < 9; i++) {
+            Thread.sleep(1);
+            leaderboard.record("idle-" + i, GameType.NUMBER, GameOutcome.WRONG);
+        }
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(10);
+
+        // 2. 새 플레이어는 가장 오래 쉰 idle-0 자리를 차지함
+        Thread.sleep(1);
+        leaderboard.record("newcomer", GameType.NUMBER, GameOutcome.CORRECT);
+
+        assertThat(leaderboard.getDroppedPlayers()).isZero();
+        assertThat(leaderboard.getEvictedPlayers()).isEqualTo(1);
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(10);
+        assertThat(leaderboard.getTopRankings()).containsExactly(new Ranking("champ", 1));
+
+        // 3. champ는 남아 있어 승수가 이어짐
+        leaderboard.record("champ", GameType.NUMBER, GameOutcome.CORRECT);
+        assertThat(leaderboard.getTopScore()).isEqualTo(2);
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 집계가 유실되지 않는다")
+    @Test
+    public void testConcurrentRecord() throws Exception {
+        GameLeaderboard leaderboard = new GameLeaderboard(5, 1_000);
+        int threads = 8;
+        int perThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String playerId = "player-" + (t % 4);
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    leaderboard.record(playerId, GameType.WORD, i % 2 == 0 ? GameOutcome.CORRECT : GameOutcome.WRONG);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(leaderboard.getAttempts(GameType.WORD)).isEqualTo((long) threads * perThread);
+        assertThat(leaderboard.getWins(GameType.WORD)).isEqualTo((long) threads * perThread / 2);
+        assertThat(leaderboard.getTopRankings()).hasSize(4)
+                .allSatisfy(ranking -> assertThat(ranking.wins()).isEqualTo(2L * perThread / 2));
+    }
+
+    private void win(GameLeaderboard leaderboard, String playerId, int times) {
+        for (int i = 0; i < times; i++) {
+            leaderboard.record(playerId, GameType.NUMBER, GameOutcome.CORRECT);
+        }
+    }
+
+}
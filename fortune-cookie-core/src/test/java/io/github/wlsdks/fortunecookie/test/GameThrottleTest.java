@@ -0,0 +1,190 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle.Budget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @DisplayName("버킷 크기만큼 연속으로 허용하고, 이후에는 충전 속도만큼만 허용한다")
+    @Test
+    public void testBurstAndRefill() {
+        GameThrottle throttle = throttle(budgets(3, 2.0), 100, clock::get);
+
+        assertThat(acquire(throttle, GameType.NUMBER, "alice", 5)).isEqualTo(3);
+
+        // 0.5초 후 토큰 1개, 10초 후에도 버킷 크기(3)를 넘지 않음
+        clock.addAndGet(500);
+        assertThat(acquire(throttle, GameType.NUMBER, "alice", 5)).isEqualTo(1);
+        clock.addAndGet(10_000);
+        assertThat(acquire(throttle, GameType.NUMBER, "alice", 5)).isEqualTo(3);
+    }
+
+    @DisplayName("충전 속도가 1 미만이어도 짧은 간격의 요청으로 충전분이 사라지지 않는다")
+    @Test
+    public void testFractionalRefill() {
+        GameThrottle throttle = throttle(budgets(1, 0.5), 100, clock::get);
+        assertThat(throttle.tryAcquire(GameType.QUIZ, "alice")).isTrue();
+
+        int granted = 0;
+        for (int i = 0; i < 4_000; i++) {
+            clock.addAndGet(1);
+            if (throttle.tryAcquire(GameType.QUIZ, "alice")) {
+                granted++;
+            }
+        }
+        assertThat(granted).isEqualTo(2);
+    }
+
+    @DisplayName("게임 타입별 예산과 플레이어별 버킷은 서로 독립적이다")
+    @Test
+    public void testIndependentBudgets() {
+        Map<GameType, Budget> budgets = budgets(5, 1.0);
+        budgets.put(GameType.NUMBER, new Budget(1, 1.0));
+        GameThrottle throttle = throttle(budgets, 100, clock::get);
+
+        assertThat(acquire(throttle, GameType.NUMBER, "alice", 3)).isEqualTo(1);
+        assertThat(acquire(throttle, GameType.WORD, "alice", 10)).isEqualTo(5);
+        assertThat(acquire(throttle, GameType.NUMBER, "bob", 3)).isEqualTo(1);
+        assertThat(throttle.tryAcquire(GameType.NUMBER, null)).isTrue();
+    }
+
+    @DisplayName("플레이어 테이블이 가득 차면 새 플레이어는 공용 버킷을 함께 사용한다")
+    @Test
+    public void testOverflowBucket() {
+        GameThrottle throttle = throttle(budgets(2, 1.0), 1, clock::get);
+
+        assertThat(throttle.tryAcquire(GameType.NUMBER, "alice")).isTrue();
+        assertThat(acquire(throttle, GameType.NUMBER, "bot-1", 5) + acquire(throttle, GameType.NUMBER, "bot-2", 5))
+                .isEqualTo(2);
+        assertThat(throttle.getTrackedPlayers(GameType.NUMBER)).isEqualTo(1);
+    }
+
+    @DisplayName("로케일별 안내 문구는 미리 만든 값을 사용하고, 없는 로케일은 기본 로케일 문구를 사용한다")
+    @Test
+    public void testSlowDownFragment() {
+        GameThrottle throttle = throttle(budgets(1, 1.0), 10, clock::get);
+
+        assertThat(throttle.slowDownFragment(Locale.KOREA)).isEqualTo("(천천히)");
+        assertThat(throttle.slowDownFragment(Locale.FRENCH)).isEqualTo("(Slow down)");
+        assertThat(throttle.slowDownFragment(null)).isEqualTo("(Slow down)");
+    }
+
+    @DisplayName("같은 플레이어로 여러 스레드가 동시에 요청해도 버킷 크기보다 많이 허용하지 않는다")
+    @Test
+    public void testConcurrentAcquire() throws Exception {
+        GameThrottle throttle = throttle(budgets(500, 1.0), 100, clock::get);
+        LongAdder granted = new LongAdder();
+
+        runConcurrently(16, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (throttle.tryAcquire(GameType.NUMBER, "shared")) {
+                    granted.increment();
+                }
+            }
+        });
+
+        assertThat(granted.sum()).isEqualTo(500);
+        assertThat(throttle.getThrottledCount()).isEqualTo(16 * 1_000 - 500);
+    }
+
+    @DisplayName("1,000개의 악성 클라이언트가 몰려도 정상 플레이어는 제한되지 않고 지연 시간이 일정하다")
+    @Test
+    public void testLegitimatePlayerUnderAbuse() throws Exception {
+        GameThrottle throttle = throttle(budgets(5, 10.0), 10_000, System::currentTimeMillis);
+        int abusiveClients = 1_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder abusiveGranted = new LongAdder();
+        long start = System.currentTimeMillis();
+
+        // 1. 악성 클라이언트 1,000개가 8개 스레드에서 쉬지 않고 추측
+        ExecutorService abusers = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            abusers.submit(() -> {
+                for (int i = offset; running.get(); i = (i + 8) % abusiveClients) {
+                    if (throttle.tryAcquire(GameType.NUMBER, "bot-" + i)) {
+                        abusiveGranted.increment();
+                    }
+                }
+            });
+        }
+
+        // 2. 정상 플레이어는 200ms 간격(예산 안)으로 추측하며 호출 지연 시간을 기록
+        List<Long> latencies = new ArrayList<>();
+        boolean legitimateThrottled = false;
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(200);
+            long begin = System.nanoTime();
+            legitimateThrottled |= !throttle.tryAcquire(GameType.NUMBER, "alice");
+            latencies.add(System.nanoTime() - begin);
+        }
+        running.set(false);
+        abusers.shutdown();
+        assertThat(abusers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        long elapsedSeconds = (System.currentTimeMillis() - start) / 1_000 + 1;
+
+        // 3. 정상 플레이어는 한 번도 제한되지 않고, 악성 클라이언트는 예산(버킷 + 충전분)을 넘지 못함
+        Collections.sort(latencies);
+        assertThat(legitimateThrottled).isFalse();
+        assertThat(latencies.get(latencies.size() - 1)).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(abusiveGranted.sum()).isLessThanOrEqualTo(abusiveClients * (5 + 10 * elapsedSeconds));
+        assertThat(throttle.getThrottledCount()).isPositive();
+    }
+
+    private GameThrottle throttle(Map<GameType, Budget> budgets, int maxPlayers, java.util.function.LongSupplier clock) {
+        Map<Locale, String> fragments = new LinkedHashMap<>();
+        fragments.put(Locale.ENGLISH, "(Slow down)");
+        fragments.put(Locale.KOREAN, "(천천히)");
+        return new GameThrottle(budgets, fragments, maxPlayers, clock);
+    }
+
+    private Map<GameType, Budget> budgets(int capacity, double refillPerSecond) {
+        Map<GameType, Budget> budgets = new EnumMap<>(GameType.class);
+        for (GameType gameType : GameType.values()) {
+            budgets.put(gameType, new Budget(capacity, refillPerSecond));
+        }
+        return budgets;
+    }
+
+    private int acquire(GameThrottle throttle, GameType gameType, String playerId, int times) {
+        int granted = 0;
+        for (int i = 0; i < times; i++) {
+            if (throttle.tryAcquire(gameType, playerId)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    private void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,257 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.provider.JdbcFortuneProvider;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JdbcFortuneProviderTest {
+
+    // 번들의 모드별 메시지 수 (fortune.1 ~ fortune.3)
+    private static final int BUNDLED_COUNT = 3;
+
+    private JdbcDataSource h2;
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final AtomicInteger connections = new AtomicInteger();
+    private JdbcFortuneProvider provider;
+
+    // 번들 메시지 대신 사용할 제공자 (키와 로케일을 그대로 돌려줌)
+    private final FortuneProvider bundled = new FortuneProvider() {
+        @Override
+        public String generateFortuneKey(FortuneMode mode) {
+            return "fortune.1";
+        }
+
+        @Override
+        public String getFortune(String fortuneKey, Locale locale) {
+            return "bundled:" + fortuneKey + ":" + locale.toLanguageTag();
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:fortunes-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE fortune_messages (fortune_key VARCHAR(100) NOT NULL, locale VARCHAR(35) NOT NULL,"
+                    + " message VARCHAR(1000), updated_at TIMESTAMP NOT NULL, PRIMARY KEY (fortune_key, locale))");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (provider != null) {
+            provider.close();
+        }
+    }
+
+    @DisplayName("시작 시점에 지원 로케일의 메시지를 페이지 단위로 모두 읽고, 테이블에 없는 메시지는 번들 메시지를 사용한다")
+    @Test
+    public void testBulkLoadAcrossPages() throws SQLException {
+        // 같은 updated_at을 가진 행이 페이지 경계(2행)에 걸리도록 구성
+        upsert("fortune.1", "en", "Luck is near", 1_000);
+        upsert("fortune.2", "en", "Smile today", 1_000);
+        upsert("fortune.3", "en", "Rest well", 1_000);
+        upsert("fortune.1", "ko", "행운이 가까워요", 1_000);
+        upsert("fortune.2", "ko", "오늘은 웃어요", 2_000);
+        upsert("fortune.1", "fr", "La chance est proche", 1_000);
+
+        provider = newProvider(2);
+        provider.start();
+
+        assertThat(provider.getMessageCount()).isEqualTo(5);
+        assertThat(provider.getWatermark().toEpochMilli()).isEqualTo(2_000);
+        assertThat(provider.getFortune("fortune.3", Locale.ENGLISH)).isEqualTo("Rest well");
+        assertThat(provider.getFortune("fortune.2", Locale.KOREA)).isEqualTo("오늘은 웃어요");
+        assertThat(provider.getFortune("fortune.3", Locale.KOREAN)).isEqualTo("bundled:fortune.3:ko");
+        assertThat(provider.generateFortuneKey(FortuneMode.FORTUNE)).isEqualTo("fortune.1");
+    }
+
+    @DisplayName("갱신은 워터마크 이후에 바뀐 행만 반영하고, message가 NULL인 행은 삭제로 취급한다")
+    @Test
+    public void testIncrementalRefresh() throws SQLException {
+        upsert("fortune.1", "en", "Luck is near", 100_000);
+        upsert("fortune.2", "en", "Smile today", 100_000);
+        upsert("fortune.3", "en", "Rest well", 50_000);
+        provider = newProvider(500);
+        provider.start();
+
+        upsert("fortune.1", "en", "Luck has arrived", 200_000);
+        upsert("fortune.2", "en", null, 200_000);
+        upsert("fortune.4", "ko", "새로운 메시지", 206_000);
+
+        // 워터마크(100초) - 겹치는 구간(1초) 이후의 행만 읽음 (fortune.3은 다시 읽지 않음)
+        assertThat(provider.refresh()).isEqualTo(3);
+        assertThat(provider.getWatermark().toEpochMilli()).isEqualTo(206_000);
+        assertThat(provider.getFortune("fortune.1", Locale.ENGLISH)).isEqualTo("Luck has arrived");
+        assertThat(provider.getFortune("fortune.2", Locale.ENGLISH)).isEqualTo("bundled:fortune.2:en");
+        assertThat(provider.getFortune("fortune.3", Locale.ENGLISH)).isEqualTo("Rest well");
+        assertThat(provider.getFortune("fortune.4", Locale.KOREAN)).isEqualTo("새로운 메시지");
+
+        // 바뀐 행이 없으면 겹치는 구간 안의 행만 다시 읽음
+        assertThat(provider.refresh()).isEqualTo(1);
+    }
+
+    @DisplayName("지원 로케일이 아닌 로케일은 테이블에 행이 있어도 번들 메시지를 사용하고, 그 로케일의 변경분은 무시한다")
+    @Test
+    public void testUnsupportedLocaleUsesBundle() throws SQLException {
+        upsert("fortune.1", "fr", "La chance est proche", 1_000);
+        provider = newProvider(500);
+        provider.start();
+        assertThat(provider.getMessageCount()).isZero();
+
+        upsert("fortune.1", "fr", "Bonne chance", 2_000);
+        provider.refresh();
+
+        assertThat(provider.getMessageCount()).isZero();
+        assertThat(provider.getFortune("fortune.1", Locale.FRENCH)).isEqualTo("bundled:fortune.1:fr");
+        assertThat(provider.getCatalogSizes()).isEmpty();
+    }
+
+    @DisplayName("테이블에 새로 추가된 번호 키는 갱신 후 번들 키와 함께 뽑히고, 모드가 다른 키와 번호가 없는 키는 섞이지 않는다")
+    @Test
+    public void testTableOnlyKeysAreServed() throws SQLException {
+        upsert("fortune.1", "en", "Luck is near", 1_000);
+        provider = newProvider(500);
+        provider.start();
+        assertThat(provider.getTableOnlyKeyCount()).isZero();
+
+        // 1. 번들 범위(1 ~ 3) 밖의 키를 추가하고 다음 갱신에서 반영 (모든 지원 로케일에 행이 있는 키만)
+        upsert("fortune.7", "en", "Fresh from the table", 2_000);
+        upsert("fortune.7", "ko", "테이블에서 온 메시지", 2_000);
+        upsert("fortune.8", "en", "English only", 2_000);
+        upsert("fortune.joke.9", "en", "New joke", 2_000);
+        upsert("fortune.joke.9", "ko", "새 농담", 2_000);
+        upsert("fortune.ad", "en", "Not a numbered key", 2_000);
+        upsert("fortune.ad", "ko", "번호가 없는 키", 2_000);
+        provider.refresh();
+        assertThat(provider.getTableOnlyKeyCount()).isEqualTo(2);
+
+        // 2. 번들 키 3개 + 테이블 키 1개 중에서 고르므로 충분히 뽑으면 새 키가 나옴 (한 로케일에만 있는 fortune.8은 제외)
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 400; i++) {
+            keys.add(provider.generateFortuneKey(FortuneMode.FORTUNE));
+        }
+        assertThat(keys).containsExactlyInAnyOrder("fortune.1", "fortune.7");
+        assertThat(provider.getFortune("fortune.7", Locale.ENGLISH)).isEqualTo("Fresh from the table");
+        assertThat(provider.getFortune("fortune.7", Locale.KOREAN)).isEqualTo("테이블에서 온 메시지");
+
+        // 3. 한 로케일의 행만 삭제해도 다음 갱신부터 뽑히지 않음
+        upsert("fortune.7", "en", null, 3_000);
+        provider.refresh();
+        assertThat(provider.getTableOnlyKeyCount()).isEqualTo(1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(provider.generateFortuneKey(FortuneMode.FORTUNE)).isEqualTo("fortune.1");
+        }
+    }
+
+    @DisplayName("요청은 데이터베이스를 조회하지 않으므로 데이터베이스가 내려가도 마지막으로 읽은 메시지로 응답한다")
+    @Test
+    public void testRequestsNeverTouchDatabase() throws SQLException {
+        upsert("fortune.1", "en", "Luck is near", 1_000);
+        provider = newProvider(500);
+        provider.start();
+        int connectionsAfterStart = connections.get();
+
+        databaseDown.set(true);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(provider.getFortune("fortune.1", Locale.ENGLISH)).isEqualTo("Luck is near");
+            assertThat(provider.getFortune("fortune.9", Locale.KOREAN)).isEqualTo("bundled:fortune.9:ko");
+        }
+        assertThat(connections.get()).isEqualTo(connectionsAfterStart);
+
+        assertThatThrownBy(provider::refresh).isInstanceOf(SQLException.class);
+        assertThat(provider.getFortune("fortune.1", Locale.ENGLISH)).isEqualTo("Luck is near");
+    }
+
+    @DisplayName("카탈로그 크기는 모드, 로케일별로 유지되고, 다시 읽으면 테이블 내용으로 통째로 교체된다")
+    @Test
+    public void testCatalogSizesAndReload() throws Exception {
+        upsert("fortune.1", "en", "Luck is near", 1_000);
+        upsert("fortune.joke.1", "en", "Knock knock", 1_000);
+        upsert("fortune.quote.1", "ko", "천 리 길도 한 걸음부터", 1_000);
+        provider = newProvider(500);
+        provider.start();
+
+        Map<FortuneMode, Map<Locale, Integer>> sizes = provider.getCatalogSizes();
+        assertThat(sizes.get(FortuneMode.FORTUNE).get(Locale.ENGLISH)).isEqualTo(1);
+        assertThat(sizes.get(FortuneMode.JOKE).get(Locale.ENGLISH)).isEqualTo(1);
+        assertThat(sizes.get(FortuneMode.QUOTE).get(Locale.KOREAN)).isEqualTo(1);
+        long retainedBytes = provider.getRetainedBytes();
+        assertThat(retainedBytes).isGreaterThan(0L);
+
+        // 다시 읽기는 현재 테이블 내용으로 카탈로그를 새로 만들어 교체 (message가 NULL인 행은 제외)
+        upsert("fortune.joke.1", "en", null, 1_000);
+        assertThat(provider.reload()).isEqualTo(3);
+        assertThat(provider.getMessageCount()).isEqualTo(2);
+        assertThat(provider.getCatalogSizes().get(FortuneMode.JOKE)).isNull();
+        assertThat(provider.getRetainedBytes()).isLessThan(retainedBytes);
+        assertThat(provider.getFortune("fortune.joke.1", Locale.ENGLISH)).isEqualTo("bundled:fortune.joke.1:en");
+    }
+
+    @DisplayName("식별자가 아닌 테이블 이름은 거부한다")
+    @Test
+    public void testRejectsInvalidTableName() {
+        assertThatThrownBy(() -> new JdbcFortuneProvider(h2, bundled, () -> BUNDLED_COUNT, List.of(Locale.ENGLISH),
+                "fortunes; DROP TABLE users", 10, Duration.ofMinutes(1), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private JdbcFortuneProvider newProvider(int pageSize) {
+        return new JdbcFortuneProvider(countingDataSource(), bundled, () -> BUNDLED_COUNT, List.of(Locale.ENGLISH, Locale.KOREAN),
+                "fortune_messages", pageSize, Duration.ofHours(1), Duration.ofSeconds(1));
+    }
+
+    /**
+     * 연결 수를 세고, databaseDown이면 연결을 거부하는 데이터소스
+     */
+    private DataSource countingDataSource() {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        connections.incrementAndGet();
+                        if (databaseDown.get()) {
+                            throw new SQLException("database is down");
+                        }
+                    }
+                    return method.invoke(h2, args);
+                });
+    }
+
+    private void upsert(String fortuneKey, String locale, String message, long updatedAtMillis) throws SQLException {
+        try (Connection connection = h2.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "MERGE INTO fortune_messages (fortune_key, locale, message, updated_at) KEY (fortune_key, locale) VALUES (?, ?, ?, ?)")) {
+            statement.setString(1, fortuneKey);
+            statement.setString(2, locale);
+            statement.setString(3, message);
+            statement.setTimestamp(4, new Timestamp(updatedAtMillis));
+            statement.executeUpdate();
+        }
+    }
+
+}
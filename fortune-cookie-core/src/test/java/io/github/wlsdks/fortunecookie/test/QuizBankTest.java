@@ -0,0 +1,45 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.quiz.QuizBank;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuizBankTest {
+
+    private final QuizBank quizBank = QuizBank.load("quiz/quiz", List.of(Locale.ENGLISH, Locale.KOREAN));
+
+    @DisplayName("정답은 대소문자, 공백, 전각 문자와 상관없이 모든 로케일의 정답을 허용한다")
+    @Test
+    public void testNormalizedAnswers() {
+        // quiz.1 = 프랑스의 수도
+        assertThat(quizBank.isCorrect(0, "Paris")).isTrue();
+        assertThat(quizBank.isCorrect(0, "  pARIS ")).isTrue();
+        assertThat(quizBank.isCorrect(0, "ＰＡＲＩＳ")).isTrue();
+        assertThat(quizBank.isCorrect(0, "파리")).isTrue();
+        assertThat(quizBank.isCorrect(0, "London")).isFalse();
+    }
+
+    @DisplayName("문제와 대표 정답은 요청 로케일에 맞게, 없는 로케일은 기본 로케일로 반환된다")
+    @Test
+    public void testLocalizedQuestions() {
+        assertThat(quizBank.question(0, Locale.ENGLISH)).isEqualTo("What is the capital of France?");
+        assertThat(quizBank.question(0, Locale.KOREA)).isEqualTo("프랑스의 수도는 어디일까요?");
+        assertThat(quizBank.displayAnswer(0, Locale.KOREAN)).isEqualTo("파리");
+        assertThat(quizBank.question(0, Locale.FRENCH)).isEqualTo("What is the capital of France?");
+    }
+
+    @DisplayName("랜덤 문제 번호는 항상 문제 은행 범위 안에 있다")
+    @Test
+    public void testRandomIndex() {
+        assertThat(quizBank.size()).isGreaterThanOrEqualTo(40);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(quizBank.isValidIndex(quizBank.randomIndex())).isTrue();
+        }
+    }
+
+}
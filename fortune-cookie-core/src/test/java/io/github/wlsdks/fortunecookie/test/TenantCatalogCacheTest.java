@@ -0,0 +1,230 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+import io.github.wlsdks.fortunecookie.tenant.BundleTenantCatalogLoader;
+import io.github.wlsdks.fortunecookie.tenant.HeaderTenantResolver;
+import io.github.wlsdks.fortunecookie.tenant.HostTenantResolver;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalog;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TenantCatalogCacheTest {
+
+    private static final List<Locale> LOCALES = List.of(Locale.ENGLISH, Locale.KOREAN);
+
+    @DisplayName("같은 테넌트의 첫 요청이 동시에 들어와도 카탈로그는 한 번만 읽는다")
+    @Test
+    public void testSingleLoadForConcurrentFirstRequests() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TenantCatalogCache cache = new TenantCatalogCache(tenantId -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return catalog(tenantId, "fortune.1", "loaded once");
+        }, 10, Long.MAX_VALUE);
+
+        // 1. 첫 요청이 읽는 동안 나머지 요청이 들어옴
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TenantCatalog>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("acme")));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("acme")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // 2. 모든 요청이 같은 카탈로그를 받고, 로더는 한 번만 호출됨
+            TenantCatalog first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<TenantCatalog> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getLoadCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("테넌트 수 제한을 넘으면 가장 오래 쓰이지 않은 테넌트부터 제거한다")
+    @Test
+    public void testEvictsLeastRecentlyUsedBySize() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        TenantCatalogCache cache = new TenantCatalogCache(tenantId -> {
+            loads.incrementAndGet();
+            return catalog(tenantId, "fortune.1", tenantId);
+        }, 2, Long.MAX_VALUE);
+
+        cache.get("a");
+        Thread.sleep(2);
+        cache.get("b");
+        Thread.sleep(2);
+        cache.get("a"); // a를 최근에 사용
+        Thread.sleep(2);
+        cache.get("c"); // b가 제거됨
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+
+        // a는 캐시에 남아 있고, b는 다시 읽음
+        int before = loads.get();
+        cache.get("a");
+        assertThat(loads.get()).isEqualTo(before);
+        cache.get("b");
+        assertThat(loads.get()).isEqualTo(before + 1);
+    }
+
+    @DisplayName("무게 합이 제한을 넘으면 테넌트 수와 상관없이 제거하고, 무게는 남은 카탈로그의 합과 같다")
+    @Test
+    public void testEvictsByWeight() {
+        long weight = catalog("t0", "fortune.1", "message").getWeight();
+        TenantCatalogCache cache = new TenantCatalogCache(tenantId -> catalog(tenantId, "fortune.1", "message"),
+                100, weight * 3);
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("t" + i);
+        }
+
+        assertThat(cache.getSize()).isEqualTo(3);
+        assertThat(cache.getWeight()).isEqualTo(weight * 3);
+        assertThat(cache.getEvictionCount()).isEqualTo(7L);
+
+        cache.invalidateAll();
+        assertThat(cache.getSize()).isEqualTo(0);
+        assertThat(cache.getWeight()).isEqualTo(0L);
+    }
+
+    @DisplayName("읽기에 실패하면 빈 카탈로그로 응답하고 캐시하지 않아 다음 요청에서 다시 읽는다")
+    @Test
+    public void testLoadFailureIsNotCached() {
+        AtomicInteger attempts = new AtomicInteger();
+        TenantCatalogCache cache = new TenantCatalogCache(tenantId -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("catalog store unavailable");
+            }
+            return catalog(tenantId, "fortune.1", "recovered");
+        }, 10, Long.MAX_VALUE);
+
+        assertThat(cache.get("acme").hasMessages()).isFalse();
+        assertThat(cache.getLoadFailureCount()).isEqualTo(1L);
+        assertThat(cache.getSize()).isEqualTo(0);
+
+        assertThat(cache.get("acme").getFortune(0, "fortune.1")).isEqualTo("recovered");
+    }
+
+    @DisplayName("등록되지 않은 테넌트는 크기 제한에 포함하지 않아 읽어 둔 테넌트를 밀어내지 않고, 다시 읽지도 않는다")
+    @Test
+    public void testUnknownTenantsDoNotEvictLoadedTenants() {
+        AtomicInteger loads = new AtomicInteger();
+        TenantCatalogCache cache = new TenantCatalogCache(tenantId -> {
+            loads.incrementAndGet();
+            return tenantId.startsWith("known") ? catalog(tenantId, "fortune.1", tenantId) : TenantCatalog.empty(tenantId);
+        }, 2, Long.MAX_VALUE);
+
+        cache.get("known-a");
+        cache.get("known-b");
+
+        // 1. 알 수 없는 식별자가 많이 들어와도 읽어 둔 테넌트는 그대로
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get("unknown-" + i).hasMessages()).isFalse();
+        }
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(0L);
+        assertThat(cache.getUnknownCount()).isEqualTo(100);
+
+        // 2. 읽어 둔 테넌트와 이미 확인한 알 수 없는 식별자는 다시 읽지 않음
+        int before = loads.get();
+        assertThat(cache.get("known-a").getFortune(0, "fortune.1")).isEqualTo("known-a");
+        cache.get("unknown-7");
+        assertThat(loads.get()).isEqualTo(before);
+
+        // 3. 비우면 알 수 없는 식별자도 다시 확인
+        cache.invalidateAll();
+        assertThat(cache.getUnknownCount()).isEqualTo(0);
+        cache.get("unknown-7");
+        assertThat(loads.get()).isEqualTo(before + 1);
+    }
+
+    @DisplayName("클래스패스 로더는 덮어쓴 메시지와 게임 설정만 읽고, 없는 테넌트는 빈 카탈로그를 돌려주며 알 수 없는 게임 종류는 무시한다")
+    @Test
+    public void testBundleLoader() throws Exception {
+        BundleTenantCatalogLoader loader = new BundleTenantCatalogLoader("tenants/{tenant}/fortunes", LOCALES);
+
+        // 1. 로케일 슬롯별 덮어쓴 메시지 (덮어쓰지 않은 키는 null, 공용 카탈로그 사용)
+        TenantCatalog acme = loader.load("acme");
+        assertThat(acme.getMessageCount()).isEqualTo(3);
+        assertThat(acme.getFortune(0, "fortune.2")).isEqualTo("Acme fortune two.");
+        assertThat(acme.getFortune(1, "fortune.1")).isEqualTo("아크미 포춘 하나.");
+        assertThat(acme.getFortune(1, "fortune.2")).isNull();
+        assertThat(acme.getGameEnabled()).isTrue();
+        assertThat(acme.getGameType()).isEqualTo(GameType.WORD);
+
+        // 2. 파일이 없는 테넌트
+        TenantCatalog unknown = loader.load("globex");
+        assertThat(unknown.hasMessages()).isFalse();
+        assertThat(unknown.getGameEnabled()).isNull();
+
+        // 3. 알 수 없는 게임 종류는 무시하고 나머지 설정은 사용 (요청마다 실패하지 않음)
+        TenantCatalog badGame = loader.load("badgame");
+        assertThat(badGame.getGameEnabled()).isTrue();
+        assertThat(badGame.getGameType()).isNull();
+
+        // 4. 경로를 벗어나는 식별자는 거부
+        assertThatThrownBy(() -> loader.load("../acme")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("헤더, 호스트 리졸버는 식별자를 소문자로 바꾸고 형식이 맞지 않으면 테넌트 없음으로 처리한다")
+    @Test
+    public void testResolvers() {
+        HeaderTenantResolver header = new HeaderTenantResolver("X-Tenant-Id");
+        assertThat(header.resolveTenant(request(Map.of("X-Tenant-Id", " ACME ")))).isEqualTo("acme");
+        assertThat(header.resolveTenant(request(Map.of("X-Tenant-Id", "../etc")))).isNull();
+        assertThat(header.resolveTenant(request(Map.of()))).isNull();
+        assertThat(header.getVaryHeader()).isEqualTo("X-Tenant-Id");
+
+        HostTenantResolver host = new HostTenantResolver(".fortunes.example.com");
+        assertThat(host.resolveTenant(request(Map.of("Host", "Acme.fortunes.example.com:8443")))).isEqualTo("acme");
+        assertThat(host.resolveTenant(request(Map.of("Host", "fortunes.example.com")))).isNull();
+        assertThat(host.resolveTenant(request(Map.of("Host", "a.b.fortunes.example.com")))).isNull();
+        assertThat(host.resolveTenant(request(Map.of("Host", "acme.example.org")))).isNull();
+        assertThat(host.getVaryHeader()).isNull();
+    }
+
+    private static TenantCatalog catalog(String tenantId, String fortuneKey, String message) {
+        return TenantCatalog.compile(tenantId, LOCALES, Map.of(Locale.ENGLISH, Map.of(fortuneKey, message)), null, null);
+    }
+
+    private static FortuneRequest request(Map<String, String> headers) {
+        return new FortuneRequest() {
+            @Override
+            public String getHeader(String name) {
+                return headers.get(name);
+            }
+
+            @Override
+            public Object getSessionAttribute(String name) {
+                return null;
+            }
+        };
+    }
+
+}
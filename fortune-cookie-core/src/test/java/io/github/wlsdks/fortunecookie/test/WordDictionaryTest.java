@@ -0,0 +1,76 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.word.WordDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WordDictionaryTest {
+
+    @DisplayName("기본 사전은 클래스패스에서 로드되고 길이별로 단어를 고를 수 있다")
+    @Test
+    public void testLoadBundledDictionary() {
+        WordDictionary dictionary = WordDictionary.load("games/words_en.txt");
+
+        assertThat(dictionary.size()).isGreaterThan(500);
+        int wordId = dictionary.randomWordId(5, new Random(42));
+        assertThat(dictionary.lengthOf(wordId)).isEqualTo(5);
+        assertThat(dictionary.isValidWordId(wordId)).isTrue();
+        assertThat(dictionary.contains("APPLE")).isTrue();
+        assertThat(dictionary.contains("zzzzz")).isFalse();
+    }
+
+    @DisplayName("힌트는 위치가 맞으면 대문자, 위치만 다르면 소문자, 없으면 _ 로 표시된다")
+    @Test
+    public void testHint() throws Exception {
+        WordDictionary dictionary = WordDictionary.load(new ByteArrayInputStream(
+                "# comment\nplane\n".getBytes(StandardCharsets.UTF_8)));
+        int wordId = dictionary.randomWordId(5, new Random());
+
+        StringBuilder hint = new StringBuilder();
+        assertThat(dictionary.appendHint(wordId, "panel", hint)).isFalse();
+        assertThat(hint.toString()).isEqualTo("Panel");
+
+        StringBuilder correct = new StringBuilder();
+        assertThat(dictionary.appendHint(wordId, "Plane", correct)).isTrue();
+        assertThat(correct.toString()).isEqualTo("PLANE");
+
+        StringBuilder word = new StringBuilder();
+        dictionary.appendWord(wordId, word);
+        assertThat(word.toString()).isEqualTo("plane");
+    }
+
+    @DisplayName("같은 글자가 여러 번 나오면 위치가 맞은 글자를 먼저 세고, 정답에 남은 개수만큼만 소문자로 표시된다")
+    @Test
+    public void testHintWithDuplicateLetters() throws Exception {
+        WordDictionary dictionary = WordDictionary.load(new ByteArrayInputStream(
+                "apple\n".getBytes(StandardCharsets.UTF_8)));
+        int wordId = dictionary.randomWordId(5, new Random());
+
+        assertThat(hint(dictionary, wordId, "ppppp")).isEqualTo("_PP__");
+        assertThat(hint(dictionary, wordId, "paper")).isEqualTo("paPe_");
+        assertThat(hint(dictionary, wordId, "lolly")).isEqualTo("___L_");
+        assertThat(hint(dictionary, wordId, "eeeee")).isEqualTo("____E");
+    }
+
+    private static String hint(WordDictionary dictionary, int wordId, String guess) {
+        StringBuilder hint = new StringBuilder();
+        dictionary.appendHint(wordId, guess, hint);
+        return hint.toString();
+    }
+
+    @DisplayName("유효한 단어가 없는 사전은 로드할 수 없다")
+    @Test
+    public void testEmptyDictionary() {
+        assertThatThrownBy(() -> WordDictionary.load(new ByteArrayInputStream(
+                "a\n123\n".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
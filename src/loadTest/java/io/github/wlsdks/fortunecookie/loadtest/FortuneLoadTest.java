@@ -0,0 +1,156 @@
+package io.github.wlsdks.fortunecookie.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.test.PlaceholderFortuneProvider;
+import io.github.wlsdks.fortunecookie.test.TestApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트 애플리케이션을 내장 Tomcat(루프백)으로 띄우고, 기능별 시나리오를 라이브러리를 켠 경우와 끈 경우로 나눠
+ * 고정 도착률로 호출해서 p50, p99, p99.9 지연 시간을 비교하는 부하 테스트입니다.
+ * 결과는 report.json(시나리오별 지연 시간과 라이브러리 오버헤드)과 시나리오별 .hgrm(HdrHistogram 백분위 분포) 파일로 남깁니다.
+ * ./gradlew loadTest -Prate=500 -Pduration=20s -Pwarmup=5s -Pscenarios=plain-map,game-token 으로 실행합니다.
+ */
+public class FortuneLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        // 1. 설정 (gradle -P 값이 시스템 프로퍼티로 넘어옴)
+        int rate = Integer.parseInt(System.getProperty("loadtest.rate", "500"));
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "20s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "5s"));
+        Path output = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest"));
+        Set<String> filter = new HashSet<>(Arrays.asList(System.getProperty("loadtest.scenarios", "").split(",")));
+        filter.remove("");
+        Files.createDirectories(output);
+
+        // 2. 시나리오마다 라이브러리를 켠 경우와 끈 경우를 각각 새 애플리케이션으로 측정
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        OpenModelDriver driver = new OpenModelDriver(client);
+        List<ScenarioReport> reports = new ArrayList<>();
+        try {
+            for (LoadScenario scenario : LoadScenario.all()) {
+                if (!filter.isEmpty() && !filter.contains(scenario.name())) {
+                    continue;
+                }
+                LatencyReport enabled = measure(driver, scenario, true, rate, duration, warmup, output);
+                LatencyReport disabled = measure(driver, scenario, false, rate, duration, warmup, output);
+                ScenarioReport report = new ScenarioReport(scenario.name(), scenario.path(), enabled, disabled,
+                        enabled.p50Micros() - disabled.p50Micros(),
+                        enabled.p99Micros() - disabled.p99Micros(),
+                        enabled.p999Micros() - disabled.p999Micros());
+                reports.add(report);
+                System.out.printf("%-14s on  p50 %6d us  p99 %6d us  p99.9 %6d us  errors %d%n", scenario.name(),
+                        enabled.p50Micros(), enabled.p99Micros(), enabled.p999Micros(), enabled.errors());
+                System.out.printf("%-14s off p50 %6d us  p99 %6d us  p99.9 %6d us  errors %d%n", "",
+                        disabled.p50Micros(), disabled.p99Micros(), disabled.p999Micros(), disabled.errors());
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        // 3. 기계가 읽을 수 있는 보고서 기록
+        LoadTestReport report = new LoadTestReport(Instant.now().toString(), System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(), rate, duration.toMillis(), warmup.toMillis(), reports);
+        Path reportFile = output.resolve("report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Load test report written to " + reportFile.toAbsolutePath());
+    }
+
+    private static LatencyReport measure(OpenModelDriver driver,
+                                         LoadScenario scenario,
+                                         boolean libraryEnabled,
+                                         int rate,
+                                         Duration duration,
+                                         Duration warmup,
+                                         Path output) throws Exception {
+        // 1. 시나리오 설정으로 애플리케이션 기동 (빈 포트, 루프백만 사용)
+        Map<String, Object> properties = new HashMap<>(scenario.properties());
+        properties.put("fortune-cookie.enabled", libraryEnabled);
+        properties.put("server.port", 0);
+        properties.put("server.address", "127.0.0.1");
+        properties.put("logging.level.root", "WARN");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TestApplication.class).properties(properties);
+        if (scenario.placeholderMessages()) {
+            builder.initializers(context -> context.getBeanFactory()
+                    .registerSingleton("placeholderFortuneProvider", (FortuneProvider) new PlaceholderFortuneProvider()));
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://127.0.0.1:" + port + scenario.path());
+
+            // 2. 워밍업 (JIT, 커넥션 풀) 후 측정
+            driver.run(uri, scenario.headers(), rate, warmup);
+            OpenModelDriver.Result result = driver.run(uri, scenario.headers(), rate, duration);
+
+            // 3. 백분위 분포 파일 (HdrHistogram plotter 형식, 밀리초 단위)
+            Histogram histogram = result.histogram();
+            Path hgrm = output.resolve(scenario.name() + (libraryEnabled ? "-on" : "-off") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            return new LatencyReport(histogram.getTotalCount(), result.errors(), result.achievedRate(),
+                    histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+        }
+    }
+
+    /**
+     * 보고서 전체
+     */
+    record LoadTestReport(String timestamp,
+                          String javaVersion,
+                          int availableProcessors,
+                          int targetRate,
+                          long durationMillis,
+                          long warmupMillis,
+                          List<ScenarioReport> scenarios) {
+    }
+
+    /**
+     * 시나리오 하나의 결과와 라이브러리 오버헤드 (켠 경우 - 끈 경우, 마이크로초)
+     */
+    record ScenarioReport(String name,
+                          String path,
+                          LatencyReport enabled,
+                          LatencyReport disabled,
+                          long overheadP50Micros,
+                          long overheadP99Micros,
+                          long overheadP999Micros) {
+    }
+
+    /**
+     * 지연 시간 요약 (마이크로초)
+     */
+    record LatencyReport(long count,
+                         long errors,
+                         double achievedRate,
+                         long p50Micros,
+                         long p99Micros,
+                         long p999Micros,
+                         long maxMicros) {
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.github.wlsdks.fortunecookie.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오 하나 (호출할 엔드포인트, 요청 헤더, 이 시나리오에서 켤 기능 설정)
+ *
+ * @param name                 시나리오 이름 (보고서 키, -Pscenarios 필터)
+ * @param path                 호출할 경로
+ * @param headers              요청 헤더
+ * @param properties           애플리케이션 설정 (fortune-cookie.enabled는 하네스가 켜고 끔)
+ * @param placeholderMessages  플레이스홀더가 들어 있는 메시지 제공자를 사용할지 여부 (기본 번들 메시지에는 플레이스홀더가 없음)
+ */
+record LoadScenario(String name,
+                    String path,
+                    Map<String, String> headers,
+                    Map<String, Object> properties,
+                    boolean placeholderMessages) {
+
+    private static final String TOKEN_SECRET = "0123456789abcdef0123456789abcdef";
+
+    /**
+     * 기능별 시나리오 목록 (기본 설정은 테스트 리소스의 application.yml)
+     */
+    static List<LoadScenario> all() {
+        return List.of(
+                // 1. 헤더 + Map 바디 삽입
+                new LoadScenario("plain-map", "/joke", Map.of(),
+                        Map.of("fortune-cookie.placeholder-enabled", false), false),
+
+                // 2. 헤더 + DTO 래핑 (FortuneWrapper)
+                new LoadScenario("dto-body", "/dto", Map.of(),
+                        Map.of("fortune-cookie.placeholder-enabled", false), false),
+
+                // 3. 헤더 플레이스홀더 치환 (치환된 메시지는 인코딩 캐시를 쓰지 않음)
+                new LoadScenario("placeholders", "/placeholder", Map.of("X-User-Name", "load-tester"),
+                        Map.of("fortune-cookie.placeholder-enabled", true), true),
+
+                // 4. 숫자 맞히기 게임 (세션 상태, 쿠키를 보내지 않으므로 요청마다 새 세션)
+                new LoadScenario("game-session", "/game", Map.of("X-Guess", "3"),
+                        Map.of("fortune-cookie.placeholder-enabled", false,
+                                "fortune-cookie.game-enabled", true,
+                                "fortune-cookie.game-state.mode", "session"), false),
+
+                // 5. 숫자 맞히기 게임 (암호화 토큰 상태, 서버에 상태를 저장하지 않음)
+                new LoadScenario("game-token", "/game", Map.of("X-Guess", "3"),
+                        Map.of("fortune-cookie.placeholder-enabled", false,
+                                "fortune-cookie.game-enabled", true,
+                                "fortune-cookie.game-state.mode", "token",
+                                "fortune-cookie.game-state.token.secret", TOKEN_SECRET), false),
+
+                // 6. 인증된 요청 + 시큐리티 플레이스홀더 (HTTP Basic, 테스트 사용자)
+                new LoadScenario("secure", "/api/secure/test", Map.of("Authorization", basic("testUser", "password")),
+                        Map.of("fortune-cookie.placeholder-enabled", true,
+                                "fortune-cookie.placeholder-mapping.userName", "security:username"), true)
+        );
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
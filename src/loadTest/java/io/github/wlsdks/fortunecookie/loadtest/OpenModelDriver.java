@@ -0,0 +1,89 @@
+package io.github.wlsdks.fortunecookie.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model)로 요청을 보내고 지연 시간을 HdrHistogram에 기록하는 부하 발생기입니다.
+ * 이전 응답을 기다리지 않고 정해진 시각마다 요청을 보내며, 지연 시간은 실제 전송 시각이 아니라 의도한 전송 시각부터 잽니다.
+ * (서버가 느려져 전송이 밀린 시간도 지연에 포함되므로 coordinated omission이 생기지 않음)
+ */
+class OpenModelDriver {
+
+    // 기록할 수 있는 최대 지연 시간 (마이크로초, 넘는 값은 최댓값으로 기록)
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    // 전송이 끝난 뒤 남은 응답을 기다리는 최대 시간
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    OpenModelDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param uri      호출할 주소
+     * @param headers  요청 헤더
+     * @param rate     초당 요청 수
+     * @param duration 전송 시간
+     * @return 지연 시간 히스토그램(마이크로초)과 오류 수
+     */
+    Result run(URI uri, Map<String, String> headers, int rate, Duration duration) throws InterruptedException {
+        // 1. 같은 요청 객체를 재사용 (요청 생성 비용이 측정에 섞이지 않도록)
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET().timeout(DRAIN_TIMEOUT);
+        headers.forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        long total = Math.max(1, rate * duration.toMillis() / 1000);
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        CountDownLatch completed = new CountDownLatch((int) total);
+
+        // 2. 정해진 시각마다 비동기로 전송 (응답을 기다리지 않음)
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * periodNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (error != null || response.statusCode() >= 400) {
+                    errors.increment();
+                }
+                completed.countDown();
+            });
+        }
+        long sendNanos = System.nanoTime() - start;
+
+        // 3. 남은 응답을 기다림 (시간 안에 오지 않은 요청은 오류로 셈)
+        if (!completed.await(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            errors.add(completed.getCount());
+        }
+        return new Result(histogram, errors.sum(), total * 1_000_000_000.0 / sendNanos);
+    }
+
+    /**
+     * @param histogram    지연 시간 히스토그램 (마이크로초)
+     * @param errors       오류 응답(4xx, 5xx), 예외, 시간 초과 수
+     * @param achievedRate 실제로 보낸 초당 요청 수 (목표보다 많이 낮으면 부하 발생기가 병목)
+     */
+    record Result(Histogram histogram, long errors, double achievedRate) {
+    }
+
+}
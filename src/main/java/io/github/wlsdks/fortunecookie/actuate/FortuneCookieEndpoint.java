@@ -0,0 +1,353 @@
+package io.github.wlsdks.fortunecookie.actuate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wlsdks.fortunecookie.body.FortuneBodyEncoder;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.github.wlsdks.fortunecookie.provider.FortuneCatalog;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * 라이브러리가 메모리에 들고 있는 카탈로그, 캐시, 게임 저장소 상태를 보여주는 Actuator 엔드포인트입니다. (/actuator/fortunecookie)
+ * management.endpoints.web.exposure.include에 fortunecookie를 추가하면 노출됩니다.
+ * 모든 값은 이미 유지 중인 카운터와 크기에서 읽으므로, 조회할 때 큰 자료구조를 순회하지 않습니다.
+ */
+@Endpoint(id = "fortunecookie")
+public class FortuneCookieEndpoint {
+
+    public static final String RELOAD = "reload";
+    public static final String CLEAR_CACHES = "clear-caches";
+
+    private static final String MASK = "******";
+
+    private final FortuneCookieProperties properties;
+    private final FortuneCookieInterceptor interceptor;
+    private final FortuneProvider fortuneProvider;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+    private final long startedAt;
+
+    private FortunePool fortunePool; // 메시지 풀이 꺼져 있으면 null
+    private FortuneTagIndex tagIndex; // 태그 기능이 꺼져 있으면 null
+    private GameStateStore gameStateStore;
+    private GameThrottle gameThrottle; // 추측 제한이 꺼져 있으면 null
+    private GameLeaderboard gameLeaderboard; // 리더보드가 꺼져 있으면 null
+    private TenantCatalogCache tenantCatalogs; // 테넌트 기능이 꺼져 있으면 null
+
+    /**
+     * @param properties      포춘 쿠키 설정 (병합된 최종 값)
+     * @param interceptor     캐시를 가진 인터셉터
+     * @param fortuneProvider 포춘 메시지 제공자 (FortuneCatalog를 구현하면 카탈로그 크기와 다시 읽기 지원)
+     * @param objectMapper    설정을 맵으로 바꿀 때 사용할 ObjectMapper
+     * @param clock           현재 시각(ms) 공급자 (정리 비율 계산용)
+     */
+    public FortuneCookieEndpoint(FortuneCookieProperties properties,
+                                 FortuneCookieInterceptor interceptor,
+                                 FortuneProvider fortuneProvider,
+                                 ObjectMapper objectMapper,
+                                 LongSupplier clock) {
+        this.properties = properties;
+        this.interceptor = interceptor;
+        this.fortuneProvider = fortuneProvider;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.startedAt = clock.getAsLong();
+    }
+
+    public void setFortunePool(FortunePool fortunePool) {
+        this.fortunePool = fortunePool;
+    }
+
+    public void setTagIndex(FortuneTagIndex tagIndex) {
+        this.tagIndex = tagIndex;
+    }
+
+    public void setGameStateStore(GameStateStore gameStateStore) {
+        this.gameStateStore = gameStateStore;
+    }
+
+    public void setGameThrottle(GameThrottle gameThrottle) {
+        this.gameThrottle = gameThrottle;
+    }
+
+    public void setGameLeaderboard(GameLeaderboard gameLeaderboard) {
+        this.gameLeaderboard = gameLeaderboard;
+    }
+
+    public void setTenantCatalogs(TenantCatalogCache tenantCatalogs) {
+        this.tenantCatalogs = tenantCatalogs;
+    }
+
+    /**
+     * 카탈로그 크기, 캐시 적중률, 게임 저장소 상태, 병합된 설정을 반환합니다.
+     */
+    @ReadOperation
+    public FortuneCookieReport report() {
+        return new FortuneCookieReport(catalogReport(), cacheReports(), gameReport(), effectiveProperties());
+    }
+
+    /**
+     * 카탈로그를 다시 읽거나(reload) 캐시를 비웁니다(clear-caches). (POST /actuator/fortunecookie/{action})
+     *
+     * @param action reload 또는 clear-caches
+     * @return 작업 결과
+     */
+    @WriteOperation
+    public Map<String, Object> execute(@Selector String action) {
+        return switch (action) {
+            case RELOAD -> reload();
+            case CLEAR_CACHES -> clearCaches();
+            default -> throw new InvalidEndpointRequestException("Unknown fortunecookie action: " + action,
+                    "Unknown action (expected '" + RELOAD + "' or '" + CLEAR_CACHES + "')");
+        };
+    }
+
+    /**
+     * 카탈로그를 다시 읽고, 예전 메시지로 만든 캐시를 비웁니다.
+     */
+    private Map<String, Object> reload() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("action", RELOAD);
+
+        // 1. 카탈로그를 직접 관리하지 않는 제공자(메시지 번들)는 다시 읽을 것이 없음
+        if (!(fortuneProvider instanceof FortuneCatalog catalog)) {
+            result.put("reloaded", false);
+            result.put("reason", fortuneProvider.getClass().getSimpleName() + " does not manage a reloadable catalog");
+            return result;
+        }
+
+        // 2. 다시 읽은 뒤 예전 메시지의 인코딩 결과가 남지 않도록 캐시도 비움 (실패하면 기존 카탈로그 유지)
+        long start = System.nanoTime();
+        try {
+            result.put("messages", catalog.reload());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to reload the fortune catalog", e);
+        }
+        interceptor.clearCaches();
+        result.put("reloaded", true);
+        result.put("durationMillis", (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * 인터셉터 캐시, 태그 조합 캐시, 테넌트 카탈로그 캐시를 비웁니다. (비우기 전 크기를 반환, 테넌트는 다음 요청에서 새로 읽음)
+     */
+    private Map<String, Object> clearCaches() {
+        Map<String, Object> cleared = new LinkedHashMap<>();
+        cleared.put("header", interceptor.getHeaderEncoder().getCacheSize());
+        cleared.put("body", interceptor.getBodyEncoder().getCacheSize());
+        cleared.put("locale", interceptor.getLocaleResolver().getCachedHeaderCount());
+        cleared.put("bucket", interceptor.getTimeBuckets().getRouteCount());
+        interceptor.clearCaches();
+        if (tagIndex != null) {
+            cleared.put("tags", tagIndex.getCachedCount());
+            tagIndex.clearCache();
+        }
+        if (tenantCatalogs != null) {
+            cleared.put("tenants", tenantCatalogs.getSize());
+            tenantCatalogs.invalidateAll();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("action", CLEAR_CACHES);
+        result.put("cleared", cleared);
+        return result;
+    }
+
+    private CatalogReport catalogReport() {
+        // 1. 카탈로그를 직접 관리하는 제공자면 유지 중인 카운터에서 모드 → 로케일별 크기를 읽음
+        if (fortuneProvider instanceof FortuneCatalog catalog) {
+            Map<String, Map<String, Integer>> sizes = new LinkedHashMap<>();
+            catalog.getCatalogSizes().forEach((mode, byLocale) -> {
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                byLocale.forEach((locale, count) -> counts.put(locale.toLanguageTag(), count));
+                sizes.put(mode.getMode(), counts);
+            });
+            return new CatalogReport(fortuneProvider.getClass().getSimpleName(), sizes, catalog.getRetainedBytes());
+        }
+
+        // 2. 메시지 번들은 모드마다 설정된 메시지 수(fortunes-count)를 지원 로케일별로 사용
+        Map<String, Map<String, Integer>> sizes = new LinkedHashMap<>();
+        for (FortuneMode mode : FortuneMode.values()) {
+            if (mode == FortuneMode.UNSPECIFIED) {
+                continue;
+            }
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            properties.getSupportedLocales().forEach(locale -> counts.put(locale.toLanguageTag(), properties.getFortunesCount()));
+            sizes.put(mode.getMode(), counts);
+        }
+        return new CatalogReport(fortuneProvider.getClass().getSimpleName(), sizes, -1);
+    }
+
+    private Map<String, CacheReport> cacheReports() {
+        Map<String, CacheReport> caches = new LinkedHashMap<>();
+
+        FortuneHeaderEncoder headerEncoder = interceptor.getHeaderEncoder();
+        caches.put("header", CacheReport.of(headerEncoder.getCacheSize(), headerEncoder.getHitCount(),
+                headerEncoder.getMissCount(), headerEncoder.getRetainedBytes()));
+
+        FortuneBodyEncoder bodyEncoder = interceptor.getBodyEncoder();
+        caches.put("body", CacheReport.of(bodyEncoder.getCacheSize(), bodyEncoder.getHitCount(),
+                bodyEncoder.getMissCount(), bodyEncoder.getRetainedBytes()));
+
+        FortuneLocaleResolver localeResolver = interceptor.getLocaleResolver();
+        caches.put("locale", CacheReport.of(localeResolver.getCachedHeaderCount(), localeResolver.getHitCount(),
+                localeResolver.getMissCount(), -1));
+
+        caches.put("bucket", CacheReport.of(interceptor.getTimeBuckets().getRouteCount(), -1, -1, -1));
+
+        // 풀: 적중 = 풀에서 바로 꺼냄, 실패 = 비어 있어서 인라인 생성 (크기 = 버퍼 깊이 합, 모드 × 로케일 수만큼만 조회)
+        if (fortunePool != null) {
+            long depth = 0;
+            for (Map.Entry<FortuneMode, Set<Locale>> entry : fortunePool.getPooledLocales().entrySet()) {
+                for (Locale locale : entry.getValue()) {
+                    depth += fortunePool.getDepth(entry.getKey(), locale);
+                }
+            }
+            caches.put("pool", CacheReport.of(depth, fortunePool.getHitCount(), fortunePool.getFallbackCount(), -1));
+        }
+
+        if (tagIndex != null) {
+            caches.put("tags", CacheReport.of(tagIndex.getPinnedCount() + tagIndex.getCachedCount(),
+                    tagIndex.getHitCount(), tagIndex.getMissCount(), -1));
+        }
+
+        // 테넌트: 메모리 = 담겨 있는 테넌트 카탈로그의 무게 합 (덮어쓴 메시지만 포함, 공용 카탈로그 제외)
+        if (tenantCatalogs != null) {
+            caches.put("tenants", CacheReport.of(tenantCatalogs.getSize(), tenantCatalogs.getHitCount(),
+                    tenantCatalogs.getMissCount(), tenantCatalogs.getWeight()));
+        }
+        return caches;
+    }
+
+    private GameReport gameReport() {
+        double uptimeSeconds = Math.max(1, clock.getAsLong() - startedAt) / 1000.0;
+
+        // 추측 제한: 게임 타입별 추적 중인 플레이어 수와 오래 쉬어서 정리된 버킷 수
+        Map<String, Integer> throttledPlayers = new LinkedHashMap<>();
+        long throttleEvictions = 0;
+        if (gameThrottle != null) {
+            for (GameType gameType : GameType.values()) {
+                if (gameType != GameType.UNSPECIFIED) {
+                    throttledPlayers.put(gameType.getType(), gameThrottle.getTrackedPlayers(gameType));
+                }
+            }
+            throttleEvictions = gameThrottle.getEvictedCount();
+        }
+
+        // 리더보드: 플레이어 수와 한도를 넘어 버린 플레이어 수
+        long leaderboardPlayers = gameLeaderboard != null ? gameLeaderboard.getPlayerCount() : 0;
+        long leaderboardDropped = gameLeaderboard != null ? gameLeaderboard.getDroppedPlayers() : 0;
+
+        return new GameReport(
+                properties.getGameState().getMode().getMode(),
+                gameStateStore != null ? gameStateStore.getEntryCount() : -1,
+                throttledPlayers,
+                throttleEvictions,
+                throttleEvictions / uptimeSeconds,
+                leaderboardPlayers,
+                leaderboardDropped,
+                leaderboardDropped / uptimeSeconds
+        );
+    }
+
+    /**
+     * 병합된 최종 설정을 맵으로 바꾸고 비밀 값(토큰 서명 키 등)을 가립니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> effectiveProperties() {
+        Map<String, Object> map = objectMapper.convertValue(properties, LinkedHashMap.class);
+        mask(map);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void mask(Map<String, Object> map) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            String key = entry.getKey().toLowerCase(Locale.ROOT);
+            if (key.contains("secret") || key.contains("password")) {
+                entry.setValue(MASK);
+            } else if (entry.getValue() instanceof Map<?, ?> nested) {
+                mask((Map<String, Object>) nested);
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트 응답
+     *
+     * @param catalog    카탈로그 크기와 메모리 추정값
+     * @param caches     캐시별 크기, 적중률, 메모리 추정값
+     * @param games      게임 저장소 상태
+     * @param properties 병합된 최종 설정 (비밀 값은 가림)
+     */
+    public record FortuneCookieReport(CatalogReport catalog,
+                                      Map<String, CacheReport> caches,
+                                      GameReport games,
+                                      Map<String, Object> properties) {
+    }
+
+    /**
+     * @param provider      포춘 메시지 제공자 클래스
+     * @param sizes         모드 → 로케일 → 메시지 수
+     * @param retainedBytes 대략적인 메모리 (알 수 없으면 -1)
+     */
+    public record CatalogReport(String provider, Map<String, Map<String, Integer>> sizes, long retainedBytes) {
+    }
+
+    /**
+     * @param size          엔트리 수
+     * @param hits          적중 수 (세지 않으면 -1)
+     * @param misses        실패 수 (세지 않으면 -1)
+     * @param hitRatio      적중률 (조회가 없었거나 세지 않으면 null)
+     * @param retainedBytes 대략적인 메모리 (알 수 없으면 -1)
+     */
+    public record CacheReport(long size, long hits, long misses, Double hitRatio, long retainedBytes) {
+
+        static CacheReport of(long size, long hits, long misses, long retainedBytes) {
+            long lookups = hits + misses;
+            Double hitRatio = hits >= 0 && misses >= 0 && lookups > 0 ? (double) hits / lookups : null;
+            return new CacheReport(size, hits, misses, hitRatio, retainedBytes);
+        }
+
+    }
+
+    /**
+     * @param stateStore                    게임 상태 저장 방식 (session, token)
+     * @param stateEntries                  서버에 보관 중인 게임 상태 수 (세션에 보관하면 -1)
+     * @param throttledPlayers              게임 타입별 추측 제한 대상 플레이어 수
+     * @param throttleEvictions             오래 쉬어서 정리된 추측 제한 버킷 수
+     * @param throttleEvictionsPerSecond    시작 이후 초당 정리 수
+     * @param leaderboardPlayers            리더보드 플레이어 수
+     * @param leaderboardDropped            한도를 넘어 집계하지 않은 플레이어 수
+     * @param leaderboardDroppedPerSecond   시작 이후 초당 버린 플레이어 수
+     */
+    public record GameReport(String stateStore,
+                             long stateEntries,
+                             Map<String, Integer> throttledPlayers,
+                             long throttleEvictions,
+                             double throttleEvictionsPerSecond,
+                             long leaderboardPlayers,
+                             long leaderboardDropped,
+                             double leaderboardDroppedPerSecond) {
+    }
+
+}
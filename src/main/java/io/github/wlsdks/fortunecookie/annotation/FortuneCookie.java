@@ -22,4 +22,10 @@ public @interface FortuneCookie {
     // 다른 모드를 쓸 수 있도록 설정
     FortuneMode mode() default FortuneMode.UNSPECIFIED;
 
+    // 이 태그를 모두 가진 메시지 중에서만 고르도록 설정 (fortune-cookie.tags.enabled=true일 때, 예: {"coding", "morning"})
+    String[] tags() default {};
+
+    // 이 라우트의 메시지를 시간 구간마다 하나만 고르도록 설정 (ISO-8601 기간, 예: "PT5M", 비어 있으면 fortune-cookie.bucket 사용, "PT0S"면 요청마다 새 메시지)
+    String bucket() default "";
+
 }
@@ -0,0 +1,61 @@
+package io.github.wlsdks.fortunecookie.body;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * JSON 바디에 쓸 포춘 메시지와, 미리 이스케이프 + UTF-8 인코딩해 둔 바이트를 함께 가진 값입니다.
+ * Jackson은 이 값을 쓸 때 문자열을 다시 이스케이프, 인코딩하지 않고 준비된 바이트를 그대로 복사합니다.
+ */
+public final class EncodedFortune implements JsonSerializable {
+
+    private final SerializedString serialized;
+
+    public EncodedFortune(String fortune) {
+        this.serialized = new SerializedString(fortune);
+        // 인코딩 결과를 지금 만들어 둠 (SerializedString 내부에 캐시되어 요청마다 재사용)
+        this.serialized.asQuotedUTF8();
+    }
+
+    /**
+     * Jackson 직렬화 형태 (JsonGenerator.writeString, writeFieldName에 그대로 사용)
+     */
+    public SerializableString serialized() {
+        return serialized;
+    }
+
+    /**
+     * 미리 인코딩된 UTF-8 바이트 (JSON 이스케이프 적용, 따옴표 제외)
+     */
+    public byte[] quotedUtf8() {
+        return serialized.asQuotedUTF8();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeString(serialized);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen,
+                                  SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.VALUE_STRING));
+        gen.writeString(serialized);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public String toString() {
+        return serialized.getValue();
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.github.wlsdks.fortunecookie.body;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카탈로그 원본 포춘 메시지의 JSON 직렬화 형태({@link EncodedFortune})를 캐시하는 클래스입니다.
+ * 플레이스홀더 치환이나 미니 게임 메시지가 붙지 않은 메시지만 캐시하므로, 캐시 크기는 카탈로그 크기를 넘지 않습니다.
+ */
+public class FortuneBodyEncoder {
+
+    // 카탈로그 엔트리별 직렬화 결과 캐시의 최대 크기
+    private static final int DEFAULT_CACHE_LIMIT = 4096;
+
+    private final Map<String, EncodedFortune> cache = new ConcurrentHashMap<>();
+    private final int cacheLimit;
+
+    // 캐시 통계 (Actuator 엔드포인트용, 요청마다 LongAdder 증가만 함)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder retainedBytes = new LongAdder();
+
+    public FortuneBodyEncoder() {
+        this(DEFAULT_CACHE_LIMIT);
+    }
+
+    public FortuneBodyEncoder(int cacheLimit) {
+        this.cacheLimit = cacheLimit;
+    }
+
+    /**
+     * 카탈로그 원본 메시지를 직렬화 형태로 바꿉니다.
+     *
+     * @param fortune 플레이스홀더 치환, 게임 메시지가 없는 카탈로그 원본 메시지
+     * @return 미리 인코딩된 메시지
+     */
+    public EncodedFortune encode(String fortune) {
+        // 1. 캐시에 있으면 그대로 사용
+        EncodedFortune cached = cache.get(fortune);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // 2. 인코딩 후 캐시 크기 한도 안에서만 저장
+        EncodedFortune encoded = new EncodedFortune(fortune);
+        if (cache.size() < cacheLimit && cache.putIfAbsent(fortune, encoded) == null) {
+            retainedBytes.add(estimateBytes(fortune));
+        }
+        return encoded;
+    }
+
+    /**
+     * 캐시를 비웁니다. (비운 뒤에는 다시 요청되는 메시지부터 채워짐)
+     */
+    public void clear() {
+        cache.clear();
+        retainedBytes.reset();
+    }
+
+    /**
+     * 캐시된 메시지 수
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 캐시에서 바로 찾은 횟수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시에 없어서 인코딩한 횟수
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시가 차지하는 대략적인 메모리 (키 문자열 + 직렬화된 UTF-8 바이트 + 엔트리 오버헤드, 저장할 때 누적)
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.sum();
+    }
+
+    private static long estimateBytes(String fortune) {
+        // 키 문자열(최대 2바이트/문자) + UTF-8 바이트(최대 3바이트/문자) + 객체, 맵 노드 오버헤드
+        return 96L + 5L * fortune.length();
+    }
+
+}
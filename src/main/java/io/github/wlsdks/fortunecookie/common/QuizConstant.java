@@ -1,15 +0,0 @@
-package io.github.wlsdks.fortunecookie.common;
-
-public class QuizConstant {
-
-    public static final String[] QUESTIONS = {
-            "What is the capital of France?",
-            "2 + 2 = ?",
-            "What's the largest planet in our Solar System?"
-    };
-
-    public static final String[] ANSWERS = {
-            "Paris", "4", "Jupiter"
-    };
-
-}
@@ -1,27 +1,58 @@
 package io.github.wlsdks.fortunecookie.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
 import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
 import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieResponseAdvice;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneRoutePrecomputer;
 import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
 import io.github.wlsdks.fortunecookie.interceptor.module.impl.NumberGuessGame;
 import io.github.wlsdks.fortunecookie.interceptor.module.impl.QuizGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.impl.WordGuessGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.quiz.QuizBank;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.SessionGameStateStore;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.TokenGameStateStore;
+import io.github.wlsdks.fortunecookie.interceptor.module.word.WordDictionary;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.GameStateMode;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.github.wlsdks.fortunecookie.properties.TenantSource;
 import io.github.wlsdks.fortunecookie.provider.DefaultFortuneProvider;
 import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.provider.JdbcFortuneProvider;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagPrecomputer;
+import io.github.wlsdks.fortunecookie.tenant.BundleTenantCatalogLoader;
+import io.github.wlsdks.fortunecookie.tenant.HeaderTenantResolver;
+import io.github.wlsdks.fortunecookie.tenant.HostTenantResolver;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogLoader;
+import io.github.wlsdks.fortunecookie.tenant.TenantResolver;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle;
+import io.github.wlsdks.fortunecookie.trace.FortuneTracer;
+import io.github.wlsdks.fortunecookie.warmup.FortuneWarmup;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.Ordered;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
 /**
  * 포춘 쿠키 라이브러리의 자동 설정을 담당하는 클래스입니다.
@@ -29,6 +60,7 @@ import java.util.Random;
  * fortune-cookie.enabled가 true일 때만 전체 로직 활성화됩니다.
  */
 @EnableConfigurationProperties(FortuneCookieProperties.class)
+@ImportRuntimeHints(FortuneCookieRuntimeHints.class)
 @AutoConfiguration  // @Configuration 대신 @AutoConfiguration 사용
 @ConditionalOnProperty(
         prefix = "fortune-cookie",
@@ -39,9 +71,36 @@ import java.util.Random;
 public class FortuneCookieAutoConfiguration implements WebMvcConfigurer {
 
     private final FortuneCookieProperties properties;
+    private final ObjectProvider<SecurityPlaceholderResolver> securityPlaceholderResolver;
+    private final ObjectProvider<GameLeaderboard> gameLeaderboard;
+    private final ObjectProvider<GameThrottle> gameThrottle;
+    private final ObjectProvider<FortunePool> fortunePool;
+    private final ObjectProvider<FortuneTagIndex> fortuneTagIndex;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<DegradationController> degradationController;
+    private final ObjectProvider<FortuneTracer> fortuneTracer;
+    private final ObjectProvider<FortuneCookieInterceptor> fortuneCookieInterceptor;
 
-    public FortuneCookieAutoConfiguration(FortuneCookieProperties properties) {
+    public FortuneCookieAutoConfiguration(FortuneCookieProperties properties,
+                                          ObjectProvider<SecurityPlaceholderResolver> securityPlaceholderResolver,
+                                          ObjectProvider<GameLeaderboard> gameLeaderboard,
+                                          ObjectProvider<GameThrottle> gameThrottle,
+                                          ObjectProvider<FortunePool> fortunePool,
+                                          ObjectProvider<FortuneTagIndex> fortuneTagIndex,
+                                          ObjectProvider<DataSource> dataSource,
+                                          ObjectProvider<DegradationController> degradationController,
+                                          ObjectProvider<FortuneTracer> fortuneTracer,
+                                          ObjectProvider<FortuneCookieInterceptor> fortuneCookieInterceptor) {
         this.properties = properties;
+        this.securityPlaceholderResolver = securityPlaceholderResolver;
+        this.gameLeaderboard = gameLeaderboard;
+        this.gameThrottle = gameThrottle;
+        this.fortunePool = fortunePool;
+        this.fortuneTagIndex = fortuneTagIndex;
+        this.dataSource = dataSource;
+        this.degradationController = degradationController;
+        this.fortuneTracer = fortuneTracer;
+        this.fortuneCookieInterceptor = fortuneCookieInterceptor;
     }
 
     /**
@@ -62,11 +121,273 @@ public class FortuneCookieAutoConfiguration implements WebMvcConfigurer {
     /**
      * 포춘 메시지 제공자 빈을 구성합니다.
      * 사용자가 직접 FortuneProvider를 구현하여 등록하지 않은 경우 기본 구현체인 DefaultFortuneProvider를 사용합니다.
+     * fortune-cookie.jdbc.enabled=true이면 데이터베이스 테이블의 메시지를 메모리에 올려 두고 사용하며,
+     * 테이블에 없는 메시지는 DefaultFortuneProvider의 번들 메시지를 사용합니다.
      */
     @Bean
     @ConditionalOnMissingBean(FortuneProvider.class)
     public FortuneProvider fortuneProvider(MessageSource messageSource) {
-        return new DefaultFortuneProvider(messageSource, properties);
+        DefaultFortuneProvider provider = new DefaultFortuneProvider(messageSource, properties);
+
+        // 태그 기능이 켜져 있으면 태그 요청을 역색인에서 고르도록 연결
+        fortuneTagIndex.ifAvailable(provider::setTagIndex);
+
+        // 데이터베이스 메시지 소스가 꺼져 있으면 번들 메시지만 사용
+        FortuneCookieProperties.Jdbc jdbc = properties.getJdbc();
+        if (!jdbc.isEnabled()) {
+            return provider;
+        }
+
+        // 시작 시점에 지원 로케일의 메시지를 한 번에 읽고, 이후 변경분은 백그라운드에서 반영 (컨텍스트가 닫히면 close()로 멈춤)
+        JdbcFortuneProvider jdbcProvider = new JdbcFortuneProvider(
+                dataSource.getObject(),
+                provider,
+                properties::getFortunesCount,
+                properties.getSupportedLocales(),
+                jdbc.getTable(),
+                jdbc.getPageSize(),
+                jdbc.getRefreshInterval(),
+                jdbc.getRefreshOverlap()
+        );
+        jdbcProvider.start();
+        return jdbcProvider;
+    }
+
+    /**
+     * 포춘 메시지 태그 역색인 빈을 구성합니다. (fortune-cookie.tags.enabled=true일 때만)
+     * 시작 시점에 (모드, 태그) → 엔트리 비트맵을 만들어 두고, 요청 태그 조합은 비트맵 교집합으로 고릅니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.tags", name = "enabled", havingValue = "true")
+    public FortuneTagIndex fortuneTagIndex() {
+        FortuneCookieProperties.Tags tags = properties.getTags();
+        return FortuneTagIndex.load(tags.getLocation(), tags.getCacheSize());
+    }
+
+    /**
+     * 어노테이션에 고정된 태그 조합을 시작 시점에 미리 계산하는 빈을 구성합니다. (fortune-cookie.tags.enabled=true일 때만)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "fortune-cookie.tags", name = "enabled", havingValue = "true")
+    public FortuneTagPrecomputer fortuneTagPrecomputer(FortuneTagIndex fortuneTagIndex,
+                                                       ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        return new FortuneTagPrecomputer(fortuneTagIndex, properties, handlerMappings);
+    }
+
+    /**
+     * 미리 만든 포춘 메시지 풀 빈을 구성합니다. (fortune-cookie.pool.enabled=true일 때만)
+     * 백그라운드 스레드 하나가 (모드, 로케일)별 링 버퍼를 채우고, 컨텍스트가 닫히면 close()로 멈춥니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.pool", name = "enabled", havingValue = "true")
+    public FortunePool fortunePool(FortuneProvider fortuneProvider) {
+        FortuneCookieProperties.Pool pool = properties.getPool();
+        FortunePool fortunePool = new FortunePool(fortuneProvider, properties,
+                pool.getModes(), pool.getCapacity(), pool.getRefillInterval());
+        fortunePool.start();
+        return fortunePool;
+    }
+
+    /**
+     * 단어 맞히기 게임 사전 빈을 구성합니다.
+     * 시작 시점에 word-dictionary-path의 사전 파일을 한 번만 로드합니다. (로드 시간과 메모리 사용량은 로그로 출력)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WordDictionary wordDictionary() {
+        return WordDictionary.load(properties.getWordDictionaryPath());
+    }
+
+    /**
+     * 퀴즈 게임 문제 은행 빈을 구성합니다.
+     * 시작 시점에 supported-locales별 퀴즈 파일을 한 번만 로드하고, 정답은 미리 정규화해 둡니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public QuizBank quizBank() {
+        return QuizBank.load(properties.getQuizBankBasename(), properties.getSupportedLocales());
+    }
+
+    /**
+     * 숫자 맞히기 게임 모듈 빈을 구성합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public NumberGuessGame numberGuessGame(MessageSource messageSource, GameStateStore gameStateStore) {
+        return new NumberGuessGame(properties, messageSource, new Random(), gameStateStore);
+    }
+
+    /**
+     * 퀴즈 게임 모듈 빈을 구성합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public QuizGame quizGame(MessageSource messageSource, QuizBank quizBank, GameStateStore gameStateStore) {
+        return new QuizGame(properties, messageSource, quizBank, gameStateStore);
+    }
+
+    /**
+     * 단어 맞히기 게임 모듈 빈을 구성합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public WordGuessGame wordGuessGame(MessageSource messageSource, WordDictionary wordDictionary, GameStateStore gameStateStore) {
+        return new WordGuessGame(properties, messageSource, new Random(), wordDictionary, gameStateStore);
+    }
+
+    /**
+     * 미니 게임 상태 저장소 빈을 구성합니다.
+     * 기본 구현은 세션에 게임별 홀더를 두고 상태 교체를 CAS로 처리합니다. (세션 전체에 락을 걸지 않음)
+     * fortune-cookie.game-state.mode=token이면 서버에 아무것도 저장하지 않고 암호화된 토큰으로 상태를 주고받습니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public GameStateStore gameStateStore() {
+        FortuneCookieProperties.GameState gameState = properties.getGameState();
+        if (gameState.getMode() != GameStateMode.TOKEN) {
+            return new SessionGameStateStore();
+        }
+
+        FortuneCookieProperties.Token token = gameState.getToken();
+        return new TokenGameStateStore(
+                token.getSecret().getBytes(StandardCharsets.UTF_8),
+                token.getTtl(),
+                token.getTransport(),
+                token.getNamePrefix(),
+                token.getMaxAttempts(),
+                System::currentTimeMillis
+        );
+    }
+
+    /**
+     * 게임 리더보드 빈을 구성합니다. (fortune-cookie.leaderboard.enabled=true일 때만)
+     * 게임별 시도/정답 수와 플레이어별 점수, 상위 N명을 락 없이 집계합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.leaderboard", name = "enabled", havingValue = "true")
+    public GameLeaderboard gameLeaderboard() {
+        FortuneCookieProperties.Leaderboard leaderboard = properties.getLeaderboard();
+        return new GameLeaderboard(leaderboard.getTopSize(), leaderboard.getMaxPlayers());
+    }
+
+    /**
+     * 게임 추측 제한 빈을 구성합니다. (fortune-cookie.throttle.enabled=true일 때만)
+     * 게임 타입별 예산으로 플레이어별 토큰 버킷을 만들고, "천천히" 안내 문구는 지원 로케일별로 미리 만들어 둡니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.throttle", name = "enabled", havingValue = "true")
+    public GameThrottle gameThrottle(MessageSource messageSource) {
+        FortuneCookieProperties.Throttle throttle = properties.getThrottle();
+
+        // 1. 게임 타입별 예산 (따로 설정하지 않은 게임 타입은 기본 예산)
+        Map<GameType, GameThrottle.Budget> budgets = new EnumMap<>(GameType.class);
+        for (GameType gameType : GameType.values()) {
+            FortuneCookieProperties.Budget budget = throttle.getBudgets().get(gameType);
+            budgets.put(gameType, budget != null
+                    ? new GameThrottle.Budget(budget.getCapacity(), budget.getRefillPerSecond())
+                    : new GameThrottle.Budget(throttle.getCapacity(), throttle.getRefillPerSecond()));
+        }
+
+        // 2. 로케일별 안내 문구 (첫 번째 지원 로케일이 기본값)
+        Map<Locale, String> slowDownFragments = new LinkedHashMap<>();
+        for (Locale locale : properties.getSupportedLocales()) {
+            slowDownFragments.put(locale, messageSource.getMessage("game.throttled", null, locale));
+        }
+
+        return new GameThrottle(budgets, slowDownFragments, throttle.getMaxPlayers(), System::currentTimeMillis);
+    }
+
+    /**
+     * 과부하 단계 컨트롤러 빈을 구성합니다. (fortune-cookie.degradation.enabled=true일 때만)
+     * 진행 중 요청 수, 요청 지연, 스레드 풀 사용률로 게임 → 플레이스홀더 → 메시지 생성 → 전체 순으로 기능을 줄입니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.degradation", name = "enabled", havingValue = "true")
+    public DegradationController degradationController() {
+        FortuneCookieProperties.Degradation degradation = properties.getDegradation();
+
+        // 단계별 진입 기준 (설정하지 않은 단계는 진입하지 않음)
+        Map<DegradationTier, DegradationController.Threshold> thresholds = new EnumMap<>(DegradationTier.class);
+        degradation.getThresholds().forEach((tier, threshold) -> thresholds.put(tier, new DegradationController.Threshold(
+                threshold.getInFlight(), threshold.getLatency().toNanos(), threshold.getUtilization())));
+
+        return new DegradationController(thresholds, degradation.getEvaluationInterval(), degradation.getLatencyAlpha(),
+                degradation.getRecoveryRatio(), degradation.getMinHold(), System::nanoTime);
+    }
+
+    /**
+     * 디버그 추적기 빈을 구성합니다. (fortune-cookie.debug=true일 때만)
+     * 샘플링된 요청의 추적 기록을 락 없는 버퍼에 모으고, 백그라운드 스레드 하나가 주기적으로 로그에 남깁니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie", name = "debug", havingValue = "true")
+    public FortuneTracer fortuneTracer() {
+        FortuneCookieProperties.Trace trace = properties.getTrace();
+        FortuneTracer tracer = new FortuneTracer(trace.getSampleRate(), trace.getBufferSize(), trace.getDrainInterval());
+        tracer.start();
+        return tracer;
+    }
+
+    /**
+     * 시작 직후 JIT 워밍업 빈을 구성합니다. (fortune-cookie.warmup.enabled=true일 때만)
+     * 애플리케이션이 준비되면 백그라운드 스레드에서 합성 요청을 실제 인터셉터, 응답 어드바이스 빈에 통과시키고, 그동안 readiness를 REFUSING_TRAFFIC로 유지합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.warmup", name = "enabled", havingValue = "true")
+    public FortuneWarmup fortuneWarmup(FortuneCookieResponseAdvice responseAdvice,
+                                       ObjectProvider<ObjectMapper> objectMapper,
+                                       ApplicationEventPublisher publisher) {
+        // 애플리케이션의 ObjectMapper가 없으면 기본 ObjectMapper로 직렬화 경로를 실행
+        return new FortuneWarmup(fortuneCookieInterceptor.getObject(), responseAdvice, properties,
+                objectMapper.getIfAvailable(ObjectMapper::new), publisher);
+    }
+
+    /**
+     * 요청의 테넌트를 정하는 리졸버 빈을 구성합니다. (fortune-cookie.tenant.enabled=true일 때만)
+     * source=header면 요청 헤더 값, source=host면 host-suffix 앞의 서브도메인을 테넌트 식별자로 사용합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.tenant", name = "enabled", havingValue = "true")
+    public TenantResolver tenantResolver() {
+        FortuneCookieProperties.Tenant tenant = properties.getTenant();
+        if (tenant.getSource() != TenantSource.HOST) {
+            return new HeaderTenantResolver(tenant.getHeaderName());
+        }
+        if (tenant.getHostSuffix() == null || tenant.getHostSuffix().isBlank()) {
+            throw new IllegalStateException("fortune-cookie.tenant.host-suffix is required when tenant.source=host");
+        }
+        return new HostTenantResolver(tenant.getHostSuffix());
+    }
+
+    /**
+     * 테넌트 카탈로그 로더 빈을 구성합니다. (fortune-cookie.tenant.enabled=true일 때만)
+     * 기본 구현은 tenant.location의 클래스패스 파일을 읽고, 다른 저장소를 쓰려면 TenantCatalogLoader 빈을 직접 등록합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.tenant", name = "enabled", havingValue = "true")
+    public TenantCatalogLoader tenantCatalogLoader() {
+        return new BundleTenantCatalogLoader(properties.getTenant().getLocation(), properties.getSupportedLocales());
+    }
+
+    /**
+     * 테넌트 카탈로그 캐시 빈을 구성합니다. (fortune-cookie.tenant.enabled=true일 때만)
+     * 테넌트가 처음 요청될 때 한 번만 읽고, 테넌트 수와 메모리 합이 제한을 넘으면 가장 오래 쓰이지 않은 테넌트부터 제거합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "fortune-cookie.tenant", name = "enabled", havingValue = "true")
+    public TenantCatalogCache tenantCatalogCache(TenantCatalogLoader tenantCatalogLoader) {
+        FortuneCookieProperties.Tenant tenant = properties.getTenant();
+        return new TenantCatalogCache(tenantCatalogLoader, tenant.getMaxTenants(), tenant.getMaxWeight().toBytes());
     }
 
     /**
@@ -87,16 +408,53 @@ public class FortuneCookieAutoConfiguration implements WebMvcConfigurer {
     @Bean
     @ConditionalOnMissingBean
     public FortuneCookieInterceptor fortuneCookieInterceptor(FortuneProvider fortuneProvider,
-                                                             FortuneCookieProperties props) {
-        // 게임 모듈 리스트
-        List<GameModule> gameModuleList = new ArrayList<>(List.of());
+                                                             FortuneCookieProperties props,
+                                                             GameStateStore stateStore,
+                                                             ObjectProvider<GameModule> gameModules,
+                                                             ObjectProvider<TenantResolver> tenantResolver,
+                                                             ObjectProvider<TenantCatalogCache> tenantCatalogCache) {
+        // 게임 모듈 리스트 (숫자 맞히기, 퀴즈, 단어 맞히기 빈 또는 사용자가 등록한 대체 빈)
+        List<GameModule> gameModuleList = gameModules.orderedStream().toList();
+
+        // 인터셉터 생성 (스프링 시큐리티 연동이 활성화되어 있으면 보안 플레이스홀더 리졸버를 함께 전달)
+        FortuneCookieInterceptor interceptor = new FortuneCookieInterceptor(fortuneProvider, props, gameModuleList,
+                securityPlaceholderResolver.getIfAvailable());
+
+        // 리더보드가 켜져 있으면 게임 결과를 집계하도록 연결
+        gameLeaderboard.ifAvailable(interceptor::setGameLeaderboard);
+
+        // 추측 제한이 켜져 있으면 게임 실행 전에 플레이어 예산을 확인하도록 연결
+        gameThrottle.ifAvailable(interceptor::setGameThrottle);
+
+        // 메시지 풀이 켜져 있으면 인라인 생성 전에 풀을 먼저 확인하도록 연결
+        fortunePool.ifAvailable(interceptor::setFortunePool);
 
-        // 숫자 맞추기 게임 추가
-        gameModuleList.add(new NumberGuessGame(properties, messageSource(), new Random()));
-        gameModuleList.add(new QuizGame(properties, messageSource(), new Random()));
+        // 과부하 단계 기능이 켜져 있으면 단계에 따라 기능을 줄이도록 연결
+        degradationController.ifAvailable(interceptor::setDegradationController);
 
-        // 인터셉터 생성
-        return new FortuneCookieInterceptor(fortuneProvider, props, gameModuleList);
+        // 디버그 모드면 샘플링된 요청의 추적 기록을 남기도록 연결
+        fortuneTracer.ifAvailable(interceptor::setTracer);
+
+        // 게임 실행 후 상태 저장소가 바뀐 상태를 응답에 실을 수 있도록 연결 (토큰 방식)
+        interceptor.setGameStateStore(stateStore);
+
+        // 테넌트 기능이 켜져 있으면 테넌트가 덮어쓴 메시지와 게임 설정을 먼저 보도록 연결
+        TenantCatalogCache tenantCatalogs = tenantCatalogCache.getIfAvailable();
+        tenantResolver.ifAvailable(resolver -> {
+            if (tenantCatalogs != null) {
+                interceptor.setTenantCatalogs(resolver, tenantCatalogs);
+            }
+        });
+        return interceptor;
+    }
+
+    /**
+     * @FortuneCookie 핸들러의 라우트 정보(태그 조합, 시간 구간)를 시작 시점에 미리 만드는 빈을 구성합니다.
+     * 어노테이션의 bucket 값이 잘못되었으면 애플리케이션 시작이 실패합니다.
+     */
+    @Bean
+    public FortuneRoutePrecomputer fortuneRoutePrecomputer(ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        return new FortuneRoutePrecomputer(fortuneCookieInterceptor, handlerMappings);
     }
 
     /**
@@ -106,7 +464,8 @@ public class FortuneCookieAutoConfiguration implements WebMvcConfigurer {
      */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(fortuneCookieInterceptor(fortuneProvider(messageSource()), properties))
+        // 빈 메서드를 직접 호출하지 않고 컨테이너의 인터셉터 빈을 등록 (제공자, 인터셉터가 한 번만 만들어지고 사용자 빈도 존중됨)
+        registry.addInterceptor(fortuneCookieInterceptor.getObject())
                 .addPathPatterns("/**")
                 .order(Ordered.LOWEST_PRECEDENCE - 10); // 낮은 우선순위로 설정 (나중에 실행되도록)
     }
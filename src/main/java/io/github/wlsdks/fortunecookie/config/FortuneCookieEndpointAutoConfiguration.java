@@ -0,0 +1,57 @@
+package io.github.wlsdks.fortunecookie.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wlsdks.fortunecookie.actuate.FortuneCookieEndpoint;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 카탈로그, 캐시, 게임 저장소 상태를 보여주는 Actuator 엔드포인트(fortunecookie)를 등록하는 자동 설정 클래스입니다.
+ * Actuator가 클래스패스에 있을 때만 활성화되고, 노출 여부는 management.endpoints.web.exposure.include로 정합니다.
+ */
+@AutoConfiguration(after = {FortuneCookieAutoConfiguration.class, FortuneLeaderboardAutoConfiguration.class})
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@ConditionalOnBean(FortuneCookieInterceptor.class)
+public class FortuneCookieEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FortuneCookieEndpoint fortuneCookieEndpoint(FortuneCookieProperties properties,
+                                                       FortuneCookieInterceptor interceptor,
+                                                       FortuneProvider fortuneProvider,
+                                                       ObjectProvider<ObjectMapper> objectMapper,
+                                                       ObjectProvider<FortunePool> fortunePool,
+                                                       ObjectProvider<FortuneTagIndex> fortuneTagIndex,
+                                                       ObjectProvider<GameStateStore> gameStateStore,
+                                                       ObjectProvider<GameThrottle> gameThrottle,
+                                                       ObjectProvider<GameLeaderboard> gameLeaderboard,
+                                                       ObjectProvider<TenantCatalogCache> tenantCatalogs) {
+        // 애플리케이션의 ObjectMapper가 없으면 Duration 등을 변환할 수 있는 기본 ObjectMapper 사용
+        FortuneCookieEndpoint endpoint = new FortuneCookieEndpoint(properties, interceptor, fortuneProvider,
+                objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules()),
+                System::currentTimeMillis);
+
+        // 켜져 있는 기능의 상태만 함께 보여주도록 연결
+        fortunePool.ifAvailable(endpoint::setFortunePool);
+        fortuneTagIndex.ifAvailable(endpoint::setTagIndex);
+        gameStateStore.ifAvailable(endpoint::setGameStateStore);
+        gameThrottle.ifAvailable(endpoint::setGameThrottle);
+        gameLeaderboard.ifAvailable(endpoint::setGameLeaderboard);
+        tenantCatalogs.ifAvailable(endpoint::setTenantCatalogs);
+        return endpoint;
+    }
+
+}
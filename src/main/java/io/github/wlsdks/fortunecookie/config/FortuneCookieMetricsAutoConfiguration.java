@@ -0,0 +1,43 @@
+package io.github.wlsdks.fortunecookie.config;
+
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import io.github.wlsdks.fortunecookie.degrade.DegradationMeterBinder;
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.pool.FortunePoolMeterBinder;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 포춘 쿠키 내부 동작(메시지 풀 등)의 Micrometer 지표를 등록하는 자동 설정 클래스입니다.
+ * Micrometer가 클래스패스에 있고, 해당 기능의 빈이 만들어진 경우에만 지표를 등록합니다.
+ */
+@AutoConfiguration(after = FortuneCookieAutoConfiguration.class)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+public class FortuneCookieMetricsAutoConfiguration {
+
+    /**
+     * 메시지 풀 지표 (fortune-cookie.pool.enabled=true일 때만)
+     */
+    @Bean
+    @ConditionalOnBean(FortunePool.class)
+    @ConditionalOnMissingBean
+    public FortunePoolMeterBinder fortunePoolMeterBinder(FortunePool fortunePool) {
+        return new FortunePoolMeterBinder(fortunePool);
+    }
+
+    /**
+     * 과부하 단계 지표 (fortune-cookie.degradation.enabled=true일 때만)
+     */
+    @Bean
+    @ConditionalOnBean(DegradationController.class)
+    @ConditionalOnMissingBean
+    public DegradationMeterBinder degradationMeterBinder(DegradationController degradationController,
+                                                         FortuneCookieProperties properties) {
+        return new DegradationMeterBinder(degradationController, properties.getDegradation().isTomcatUtilization());
+    }
+
+}
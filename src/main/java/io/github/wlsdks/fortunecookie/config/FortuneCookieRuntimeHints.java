@@ -0,0 +1,48 @@
+package io.github.wlsdks.fortunecookie.config;
+
+import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.body.EncodedFortune;
+import io.github.wlsdks.fortunecookie.dto.FortuneWrapper;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Spring AOT, GraalVM 네이티브 이미지에서 라이브러리가 읽는 리소스와 리플렉션 대상을 등록하는 클래스입니다.
+ * 기본 경로의 메시지 번들, 퀴즈 문제, 단어 사전, 태그 파일과 @FortuneCookie 어노테이션 속성 조회를 포함합니다.
+ * 경로를 바꾼 경우(quiz-bank-basename, word-dictionary-path, tags.location, tenant.location)에는 애플리케이션에서 해당 경로를 직접 등록해야 합니다.
+ */
+public class FortuneCookieRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // 1. 메시지 번들, 태그 파일, 테넌트 카탈로그 (ResourceBundleMessageSource, FortuneTagIndex, BundleTenantCatalogLoader)
+        hints.resources()
+                .registerPattern("fortunes/fortunes.properties")
+                .registerPattern("fortunes/fortunes_*.properties")
+                .registerPattern("fortunes/fortune-tags.properties")
+                .registerPattern("fortunes/tenants/*/fortunes*.properties");
+
+        // 2. 게임 리소스 (QuizBank, WordDictionary)
+        hints.resources()
+                .registerPattern("quiz/quiz_*.properties")
+                .registerPattern("games/*.txt");
+
+        // 3. JFR 설정 파일 (네이티브 이미지에서 JFR은 --enable-monitoring=jfr로 빌드한 경우에만 동작)
+        hints.resources().registerPattern("jfr/fortunecookie.jfc");
+
+        // 4. 인터셉터, 응답 어드바이스가 핸들러 메서드에서 읽는 어노테이션 속성
+        hints.reflection().registerType(FortuneCookie.class, MemberCategory.INVOKE_DECLARED_METHODS);
+
+        // 5. Jackson이 직접 직렬화하는 응답 타입 (JsonSerializable)
+        hints.reflection()
+                .registerType(FortuneWrapper.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(EncodedFortune.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // 6. 워밍업이 인터셉터에 넘기고 직접 호출하는 핸들러 메서드
+        hints.reflection().registerType(TypeReference.of("io.github.wlsdks.fortunecookie.warmup.FortuneWarmup$WarmupHandler"),
+                MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+}
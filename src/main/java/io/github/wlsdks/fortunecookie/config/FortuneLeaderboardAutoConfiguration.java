@@ -0,0 +1,46 @@
+package io.github.wlsdks.fortunecookie.config;
+
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboardEndpoint;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboardMeterBinder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게임 리더보드의 조회 엔드포인트와 Micrometer 지표를 등록하는 자동 설정 클래스입니다.
+ * fortune-cookie.leaderboard.enabled=true로 GameLeaderboard 빈이 만들어진 경우에만 활성화되고,
+ * Actuator, Micrometer가 클래스패스에 있을 때 각각 등록됩니다.
+ */
+@AutoConfiguration(after = FortuneCookieAutoConfiguration.class)
+@ConditionalOnBean(GameLeaderboard.class)
+public class FortuneLeaderboardAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class LeaderboardEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public GameLeaderboardEndpoint gameLeaderboardEndpoint(GameLeaderboard gameLeaderboard) {
+            return new GameLeaderboardEndpoint(gameLeaderboard);
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class LeaderboardMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public GameLeaderboardMeterBinder gameLeaderboardMeterBinder(GameLeaderboard gameLeaderboard) {
+            return new GameLeaderboardMeterBinder(gameLeaderboard);
+        }
+
+    }
+
+}
@@ -6,49 +6,87 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.stream.Collectors;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static io.github.wlsdks.fortunecookie.common.Constant.*;
 
 @Slf4j
 public class SecurityPlaceholderResolver {
 
+    // roles 문자열 캐시 크기 (2의 제곱수여야 함)
+    private static final int ROLES_CACHE_SIZE = 256;
+
+    // Authentication 인스턴스(identity) 기준으로 join된 roles 문자열을 보관하는 direct-mapped 캐시
+    private final AtomicReferenceArray<RolesEntry> rolesCache = new AtomicReferenceArray<>(ROLES_CACHE_SIZE);
+
     /**
-     * 보안 컨텍스트에서 플레이스홀더 값을 해석합니다.
-     * Spring Security의 인증 정보에서 값을 가져와 포춘 메시지의 플레이스홀더를 실제 값으로 변환합니다.
-     * 예를들어 {username}이라는 포춘 메시지의 플레이스홀더를 현재 로그인한 사용자의 이름으로 바꿔줍니다.
+     * 현재 보안 컨텍스트의 스냅샷을 만듭니다.
+     * SecurityContextHolder는 요청당 이 메서드에서 한 번만 읽고, 이후의 플레이스홀더 치환은 스냅샷만 사용합니다.
      *
-     * @param placeholderKey 플레이스홀더 키 (username, roles 등)
-     * @return 해석된 값 또는 null (인증 정보가 없거나 키가 없는 경우)
+     * @return 인증된 사용자의 스냅샷 또는 {@link SecuritySnapshot#ANONYMOUS} (인증 정보가 없는 경우)
      */
-    public String resolveSecurityPlaceholder(String placeholderKey) {
+    public SecuritySnapshot snapshot() {
         try {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
             if (isAuthenticatedUser(auth)) {
-                switch (placeholderKey) {
-                    // 사용자 이름
-                    case USERNAME -> {
-                        return auth.getName();
-                    }
-                    // 사용자 역할
-                    case ROLES -> {
-                        return auth.getAuthorities().stream()
-                                .map(GrantedAuthority::getAuthority)
-                                .collect(Collectors.joining(","));
-                    }
-                    case PRINCIPAL -> {
-                        Object principal = auth.getPrincipal();
-                        return principal != null ? principal.toString() : null;
-                    }
-                }
+                Object principal = auth.getPrincipal();
+                return new SecuritySnapshot(
+                        auth.getName(),
+                        getJoinedRoles(auth),
+                        principal != null ? principal.toString() : null
+                );
             }
         } catch (Exception e) {
             log.debug("Failed to access security context: {}", e.getMessage());
-            return null;
         }
 
-        return null;
+        return SecuritySnapshot.ANONYMOUS;
+    }
+
+    /**
+     * 보안 컨텍스트에서 플레이스홀더 값을 해석합니다.
+     * Spring Security의 인증 정보에서 값을 가져와 포춘 메시지의 플레이스홀더를 실제 값으로 변환합니다.
+     * 예를들어 {username}이라는 포춘 메시지의 플레이스홀더를 현재 로그인한 사용자의 이름으로 바꿔줍니다.
+     * 여러 플레이스홀더를 치환할 때는 {@link #snapshot()}을 한 번 만들어 재사용하는 편이 좋습니다.
+     *
+     * @param placeholderKey 플레이스홀더 키 (username, roles 등)
+     * @return 해석된 값 또는 null (인증 정보가 없거나 키가 없는 경우)
+     */
+    public String resolveSecurityPlaceholder(String placeholderKey) {
+        return snapshot().resolve(placeholderKey);
+    }
+
+    /**
+     * 권한 목록을 ","로 join한 문자열을 반환합니다.
+     * 같은 Authentication 인스턴스에 대해서는 캐시된 문자열을 그대로 돌려주므로, 권한이 수백 개여도 join은 한 번만 일어납니다.
+     */
+    private String getJoinedRoles(Authentication auth) {
+        // 1. identityHashCode로 슬롯을 고름 (equals/hashCode는 권한 목록 전체를 순회하므로 사용하지 않음)
+        int slot = System.identityHashCode(auth) & (ROLES_CACHE_SIZE - 1);
+
+        // 2. 같은 인스턴스가 캐시되어 있으면 그대로 사용
+        RolesEntry entry = rolesCache.get(slot);
+        if (entry != null && entry.authentication().get() == auth) {
+            return entry.roles();
+        }
+
+        // 3. 없으면 한 번 join해서 슬롯에 저장 (충돌 시 덮어씀)
+        String roles = joinAuthorities(auth);
+        rolesCache.set(slot, new RolesEntry(new WeakReference<>(auth), roles));
+        return roles;
+    }
+
+    private String joinAuthorities(Authentication auth) {
+        StringBuilder builder = new StringBuilder();
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+            builder.append(authority.getAuthority());
+        }
+        return builder.toString();
     }
 
     /**
@@ -59,4 +97,39 @@ public class SecurityPlaceholderResolver {
                 && !(auth instanceof AnonymousAuthenticationToken);
     }
 
-}
\ No newline at end of file
+    /**
+     * 캐시 엔트리: Authentication은 약한 참조로 들고 있어 세션이 끝나면 GC 대상이 됩니다.
+     */
+    private record RolesEntry(WeakReference<Authentication> authentication, String roles) {
+    }
+
+    /**
+     * 요청 한 건 동안 사용하는 보안 정보 스냅샷입니다.
+     *
+     * @param username  사용자 이름
+     * @param roles     ","로 join된 권한 목록
+     * @param principal principal의 문자열 표현
+     */
+    public record SecuritySnapshot(String username, String roles, String principal) {
+
+        // 인증되지 않은 요청에서 사용하는 빈 스냅샷
+        public static final SecuritySnapshot ANONYMOUS = new SecuritySnapshot(null, null, null);
+
+        /**
+         * 플레이스홀더 키에 해당하는 값을 반환합니다.
+         *
+         * @param placeholderKey username, roles, principal
+         * @return 해석된 값 또는 null
+         */
+        public String resolve(String placeholderKey) {
+            return switch (placeholderKey) {
+                case USERNAME -> username;
+                case ROLES -> roles;
+                case PRINCIPAL -> principal;
+                default -> null;
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package io.github.wlsdks.fortunecookie.degrade;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 과부하 단계와 단계를 정하는 신호를 Micrometer 지표로 등록합니다.
+ * Tomcat 스레드 지표(tomcat.threads.busy / tomcat.threads.config.max)가 등록되어 있으면 스레드 풀 사용률 신호로도 연결합니다.
+ */
+public class DegradationMeterBinder implements MeterBinder {
+
+    private static final String TOMCAT_THREADS_BUSY = "tomcat.threads.busy";
+    private static final String TOMCAT_THREADS_MAX = "tomcat.threads.config.max";
+
+    private final DegradationController controller;
+    private final boolean tomcatUtilization;
+
+    /**
+     * @param controller        과부하 컨트롤러
+     * @param tomcatUtilization Tomcat 스레드 지표를 사용률 신호로 사용할지 여부
+     */
+    public DegradationMeterBinder(DegradationController controller, boolean tomcatUtilization) {
+        this.controller = controller;
+        this.tomcatUtilization = tomcatUtilization;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        // 1. 현재 단계 (0 = normal ~ 4 = off)
+        Gauge.builder("fortune.cookie.degradation.tier", controller, c -> c.getTier().ordinal())
+                .description("Current fortune degradation tier (0 = normal, 1 = no games, 2 = no placeholders, 3 = static, 4 = off)")
+                .register(registry);
+
+        // 2. 단계를 정하는 신호와 단계 변경 횟수
+        Gauge.builder("fortune.cookie.degradation.in.flight", controller, DegradationController::getInFlight)
+                .description("Number of annotated requests currently in flight")
+                .register(registry);
+        Gauge.builder("fortune.cookie.degradation.latency", controller, c -> c.getLatencyEwmaNanos() / TimeUnit.SECONDS.toNanos(1))
+                .baseUnit("seconds")
+                .description("EWMA of the annotated request latency")
+                .register(registry);
+        FunctionCounter.builder("fortune.cookie.degradation.transitions", controller, DegradationController::getTransitionCount)
+                .description("Number of degradation tier changes")
+                .register(registry);
+
+        // 3. Tomcat 스레드 지표가 있으면 사용률 신호로 연결
+        //    (지표는 웹 서버가 시작될 때 나중에 등록되므로, 등록될 때 한 번 잡아 두고 평가할 때는 조회하지 않음)
+        if (tomcatUtilization && !controller.hasUtilization()) {
+            TomcatThreads threads = new TomcatThreads();
+            registry.getMeters().forEach(threads::capture);
+            registry.config().onMeterAdded(threads::capture);
+            controller.setUtilization(threads);
+        }
+    }
+
+    /**
+     * Tomcat busy / max 스레드 게이지를 등록될 때 한 번만 잡아 두고 사용률을 계산하는 신호
+     */
+    private static final class TomcatThreads implements DoubleSupplier {
+
+        private volatile Gauge busy;
+        private volatile Gauge max;
+
+        private void capture(Meter meter) {
+            if (!(meter instanceof Gauge gauge)) {
+                return;
+            }
+            // 커넥터가 여러 개면 처음 등록된 커넥터 기준
+            String name = meter.getId().getName();
+            if (busy == null && TOMCAT_THREADS_BUSY.equals(name)) {
+                busy = gauge;
+            } else if (max == null && TOMCAT_THREADS_MAX.equals(name)) {
+                max = gauge;
+            }
+        }
+
+        @Override
+        public double getAsDouble() {
+            Gauge busyGauge = busy;
+            Gauge maxGauge = max;
+            if (busyGauge == null || maxGauge == null) {
+                return 0.0;
+            }
+            double maxThreads = maxGauge.value();
+            return maxThreads > 0 ? busyGauge.value() / maxThreads : 0.0;
+        }
+
+    }
+
+}
@@ -1,13 +1,47 @@
 package io.github.wlsdks.fortunecookie.dto;
 
-public class FortuneWrapper<T> {
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import io.github.wlsdks.fortunecookie.body.EncodedFortune;
+
+import java.io.IOException;
+
+/**
+ * DTO 응답을 감싸 포춘 메시지를 함께 내려주는 래퍼입니다.
+ * 필드 이름(response-fortune-name)과 카탈로그 원본 메시지는 미리 직렬화된 값을 그대로 복사해서 씁니다.
+ * <p>
+ * ObjectMapper 설정 중 기본 포함 규칙(NON_NULL 등)과 이름 전략(PropertyNamingStrategy)은 따릅니다.
+ * 이름 전략은 data 필드에만 적용되고, 포춘 필드 이름은 Map 응답과 같도록 설정값을 그대로 씁니다.
+ */
+public class FortuneWrapper<T> implements JsonSerializable {
+
+    private static final SerializedString DATA_FIELD = new SerializedString("data");
+    private static final SerializedString DEFAULT_FORTUNE_FIELD = new SerializedString("fortune");
 
     private T data;          // 원본 DTO 혹은 객체
     private String fortune;  // 포춘 메시지
 
+    private final EncodedFortune encodedFortune;          // 미리 직렬화된 메시지 (없으면 null)
+    private final SerializableString fortuneFieldName;    // 포춘 메시지 필드 이름
+
     public FortuneWrapper(T data, String fortune) {
+        this(data, fortune, null, DEFAULT_FORTUNE_FIELD);
+    }
+
+    public FortuneWrapper(T data, String fortune, EncodedFortune encodedFortune, SerializableString fortuneFieldName) {
         this.data = data;
         this.fortune = fortune;
+        this.encodedFortune = encodedFortune;
+        this.fortuneFieldName = fortuneFieldName;
     }
 
     public T getData() {
@@ -18,4 +52,52 @@ public class FortuneWrapper<T> {
         return fortune;
     }
 
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(this);
+        writeFields(gen, serializers);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen,
+                                  SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeFields(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        // 1. ObjectMapper 설정에서 null 값을 빼는지 확인
+        SerializationConfig config = serializers.getConfig();
+        boolean skipNulls = skipsNulls(config.getDefaultPropertyInclusion(FortuneWrapper.class).getValueInclusion());
+
+        // 2. 원본 DTO는 일반 직렬화 (이름 전략이 있으면 data 필드 이름에 적용)
+        if (data != null || !skipNulls) {
+            PropertyNamingStrategy namingStrategy = config.getPropertyNamingStrategy();
+            if (namingStrategy == null) {
+                gen.writeFieldName(DATA_FIELD);
+            } else {
+                gen.writeFieldName(namingStrategy.nameForField(config, null, DATA_FIELD.getValue()));
+            }
+            serializers.defaultSerializeValue(data, gen);
+        }
+
+        // 3. 포춘 메시지는 미리 직렬화된 필드 이름, 값을 그대로 복사
+        if (encodedFortune != null) {
+            gen.writeFieldName(fortuneFieldName);
+            gen.writeString(encodedFortune.serialized());
+        } else if (fortune != null || !skipNulls) {
+            gen.writeFieldName(fortuneFieldName);
+            gen.writeString(fortune);
+        }
+    }
+
+    private static boolean skipsNulls(JsonInclude.Include inclusion) {
+        return inclusion == JsonInclude.Include.NON_NULL
+                || inclusion == JsonInclude.Include.NON_ABSENT
+                || inclusion == JsonInclude.Include.NON_EMPTY;
+    }
+
 }
@@ -1,30 +1,59 @@
 package io.github.wlsdks.fortunecookie.interceptor;
 
 import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.body.EncodedFortune;
+import io.github.wlsdks.fortunecookie.body.FortuneBodyEncoder;
+import io.github.wlsdks.fortunecookie.bucket.FortuneTimeBuckets;
 import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.config.SecurityPlaceholderResolver;
+import io.github.wlsdks.fortunecookie.config.SecurityPlaceholderResolver.SecuritySnapshot;
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder.EncodedHeader;
 import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
-import io.github.wlsdks.fortunecookie.interceptor.module.impl.NumberGuessGame;
-import io.github.wlsdks.fortunecookie.interceptor.module.impl.QuizGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.jfr.FortuneEvents;
+import io.github.wlsdks.fortunecookie.jfr.FortuneSelectedEvent;
+import io.github.wlsdks.fortunecookie.jfr.GameProcessedEvent;
+import io.github.wlsdks.fortunecookie.jfr.PlaceholderRenderedEvent;
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.pool.FortunePool.PrerenderedFortune;
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
 import io.github.wlsdks.fortunecookie.properties.FortuneMode;
 import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.github.wlsdks.fortunecookie.properties.HeaderEncoding;
 import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.request.FortuneRequest;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
+import io.github.wlsdks.fortunecookie.tag.TagSet;
+import io.github.wlsdks.fortunecookie.template.FortuneTemplate;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalog;
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import io.github.wlsdks.fortunecookie.tenant.TenantResolver;
+import io.github.wlsdks.fortunecookie.throttle.GameThrottle;
+import io.github.wlsdks.fortunecookie.trace.FortuneTrace;
+import io.github.wlsdks.fortunecookie.trace.FortuneTracer;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.lang.reflect.Method;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static io.github.wlsdks.fortunecookie.common.Constant.*;
 
@@ -34,29 +63,206 @@ import static io.github.wlsdks.fortunecookie.common.Constant.*;
 @Slf4j
 public class FortuneCookieInterceptor implements HandlerInterceptor {
 
+    // 시간 구간 키를 보관할 최대 라우트 수 (라우트 × 권한 태그 조합)
+    private static final int BUCKET_ROUTE_LIMIT = 4096;
+
+    // 라우트별로 보관할 최대 권한 조합 수 (넘으면 캐시하지 않고 요청마다 계산)
+    private static final int ROLE_COMBINATION_LIMIT = 64;
+
     private final FortuneProvider fortuneProvider;
     private final FortuneCookieProperties properties;
-    private final Map<String, GameModule> gameModuleMap;
+    private final Map<GameType, GameModule> gameModuleMap;
+    private final SecurityPlaceholderResolver securityPlaceholderResolver; // 스프링 시큐리티가 없으면 null
+    private final FortuneHeaderEncoder headerEncoder = new FortuneHeaderEncoder();
+    private final FortuneBodyEncoder bodyEncoder = new FortuneBodyEncoder();
+    private final FortuneLocaleResolver localeResolver;
+    private final FortuneTimeBuckets timeBuckets = new FortuneTimeBuckets(System::currentTimeMillis, BUCKET_ROUTE_LIMIT);
+    private final List<String> placeholderHeaders = new ArrayList<>(); // 헤더에서 값을 가져오는 플레이스홀더의 헤더 이름 (Vary 대상)
+    private final FortuneTemplate placeholderTemplate; // 시작 시점에 한 번 분석한 플레이스홀더 매핑
+    private final boolean userPlaceholders; // 세션, 시큐리티 값을 가져오는 플레이스홀더가 있는지 (치환된 구간 응답은 사용자 전용)
+    private GameLeaderboard gameLeaderboard; // 리더보드가 꺼져 있으면 null
+    private GameThrottle gameThrottle; // 추측 제한이 꺼져 있으면 null
+    private FortunePool fortunePool; // 메시지 풀이 꺼져 있으면 null
+    private GameStateStore gameStateStore; // 게임 상태를 응답에 실어야 하는 저장소(토큰 방식)가 아니면 null이어도 됨
+    private DegradationController degradationController; // 과부하 단계 기능이 꺼져 있으면 null
+    private FortuneTracer tracer; // 디버그 모드가 꺼져 있으면 null
+    private TenantResolver tenantResolver; // 테넌트 기능이 꺼져 있으면 null
+    private TenantCatalogCache tenantCatalogs; // 테넌트 기능이 꺼져 있으면 null
+
+    // STATIC 단계에서 사용할 (모드, 지원 로케일 슬롯)별 고정 메시지 (처음 필요할 때 한 번 만듦)
+    private final AtomicReferenceArray<StaticFortune> staticFortunes;
+
+    // 핸들러 메서드 → 태그 조합, 시간 구간 라우트 식별자와 구간 길이 (요청마다 태그 목록, 조합 키를 만들거나 구간을 파싱하지 않도록 재사용)
+    private final Map<Method, Route> routes = new ConcurrentHashMap<>();
 
     public FortuneCookieInterceptor(FortuneProvider fortuneProvider,
                                     FortuneCookieProperties properties,
                                     List<GameModule> gameModuleList) {
+        this(fortuneProvider, properties, gameModuleList, null);
+    }
+
+    public FortuneCookieInterceptor(FortuneProvider fortuneProvider,
+                                    FortuneCookieProperties properties,
+                                    List<GameModule> gameModuleList,
+                                    SecurityPlaceholderResolver securityPlaceholderResolver) {
         this.fortuneProvider = fortuneProvider;
         this.properties = properties;
-        this.gameModuleMap = new HashMap<>();
+        this.securityPlaceholderResolver = securityPlaceholderResolver;
+        this.localeResolver = new FortuneLocaleResolver(properties.getSupportedLocales(), properties.getLocaleCacheSize());
+        this.gameModuleMap = new EnumMap<>(GameType.class);
+        this.staticFortunes = new AtomicReferenceArray<>(FortuneMode.values().length * properties.getSupportedLocales().size());
+        this.placeholderTemplate = new FortuneTemplate(properties.getPlaceholderMapping());
 
-        // 게임 모듈을 맵에 넣어둠
-        gameModuleList.forEach(gameModule -> {
-            if (gameModule instanceof NumberGuessGame numberGuessGame) {
-                gameModuleMap.put("number", numberGuessGame);
+        // 헤더 플레이스홀더가 치환된 메시지는 그 헤더에 따라 달라지므로 Vary 대상으로 모아둠
+        properties.getPlaceholderMapping().values().forEach(mappingSpec -> {
+            if (mappingSpec != null && mappingSpec.startsWith(Constant.HEADER + Constant.COLON)) {
+                placeholderHeaders.add(mappingSpec.substring(Constant.HEADER.length() + 1));
             }
-            if (gameModule instanceof QuizGame quizGame) {
-                gameModuleMap.put("quiz", quizGame);
+        });
+
+        // 세션, 시큐리티 플레이스홀더가 치환된 메시지는 사용자마다 다르므로 공유 캐시에 두지 않도록 표시
+        this.userPlaceholders = properties.getPlaceholderMapping().values().stream()
+                .anyMatch(mappingSpec -> mappingSpec != null
+                        && (mappingSpec.startsWith(Constant.SESSION + Constant.COLON)
+                        || mappingSpec.startsWith(Constant.SECURITY + Constant.COLON)));
+
+        // 게임 모듈을 게임 종류별로 맵에 넣어둠 (사용자가 등록한 모듈 포함, 같은 종류가 여러 개면 목록에서 앞선 모듈 사용)
+        gameModuleList.forEach(gameModule -> {
+            GameType type = gameModule.type();
+            if (type != null && type != GameType.UNSPECIFIED) {
+                gameModuleMap.putIfAbsent(type, gameModule);
             }
-            // 필요한 경우 다른 게임 모듈 추가 가능
         });
     }
 
+    /**
+     * 게임 리더보드를 설정합니다. (fortune-cookie.leaderboard.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param gameLeaderboard 게임 리더보드
+     */
+    public void setGameLeaderboard(GameLeaderboard gameLeaderboard) {
+        this.gameLeaderboard = gameLeaderboard;
+    }
+
+    /**
+     * 게임 추측 제한을 설정합니다. (fortune-cookie.throttle.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param gameThrottle 플레이어별 토큰 버킷
+     */
+    public void setGameThrottle(GameThrottle gameThrottle) {
+        this.gameThrottle = gameThrottle;
+    }
+
+    /**
+     * 미리 만든 메시지 풀을 설정합니다. (fortune-cookie.pool.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param fortunePool (모드, 로케일)별 메시지 풀
+     */
+    public void setFortunePool(FortunePool fortunePool) {
+        this.fortunePool = fortunePool;
+    }
+
+    /**
+     * 게임 상태 저장소를 설정합니다. (게임 실행 후 저장소가 상태를 응답에 실을 수 있도록 자동 설정에서 주입)
+     *
+     * @param gameStateStore 게임 모듈과 같은 상태 저장소
+     */
+    public void setGameStateStore(GameStateStore gameStateStore) {
+        this.gameStateStore = gameStateStore;
+    }
+
+    /**
+     * 과부하 단계 컨트롤러를 설정합니다. (fortune-cookie.degradation.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param degradationController 진행 중 요청 수, 요청 지연으로 단계를 정하는 컨트롤러
+     */
+    public void setDegradationController(DegradationController degradationController) {
+        this.degradationController = degradationController;
+    }
+
+    /**
+     * 디버그 추적기를 설정합니다. (fortune-cookie.debug=true일 때 자동 설정에서 주입)
+     *
+     * @param tracer 샘플링된 요청의 추적 기록을 비동기로 로그에 남기는 추적기
+     */
+    public void setTracer(FortuneTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * 테넌트 리졸버와 테넌트 카탈로그 캐시를 설정합니다. (fortune-cookie.tenant.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param tenantResolver 요청의 테넌트를 정하는 리졸버
+     * @param tenantCatalogs 테넌트가 덮어쓴 메시지와 게임 설정을 담아 두는 캐시
+     */
+    public void setTenantCatalogs(TenantResolver tenantResolver, TenantCatalogCache tenantCatalogs) {
+        this.tenantResolver = tenantResolver;
+        this.tenantCatalogs = tenantCatalogs;
+    }
+
+    /**
+     * 핸들러의 라우트 정보(태그 조합, 시간 구간)를 미리 만들어 둡니다. (시작 시점에 FortuneRoutePrecomputer가 호출)
+     * 어노테이션의 bucket 값이 잘못되었으면 첫 요청이 아니라 시작 시점에 실패합니다.
+     *
+     * @param handlerMethod 핸들러 메서드 (@FortuneCookie가 없으면 무시)
+     * @throws IllegalStateException bucket이 ISO-8601 기간이 아닐 때 (핸들러 이름 포함)
+     */
+    public void prepareRoute(HandlerMethod handlerMethod) {
+        FortuneCookie annotation = getFortuneCookieAnnotation(handlerMethod);
+        if (annotation != null) {
+            resolveRoute(handlerMethod, annotation);
+        }
+    }
+
+    /**
+     * 라우트 정보를 만들어 둔 핸들러 수
+     */
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    /**
+     * 헤더 인코딩 캐시 (Actuator 엔드포인트에서 통계 조회)
+     */
+    public FortuneHeaderEncoder getHeaderEncoder() {
+        return headerEncoder;
+    }
+
+    /**
+     * 바디 직렬화 캐시 (Actuator 엔드포인트에서 통계 조회)
+     */
+    public FortuneBodyEncoder getBodyEncoder() {
+        return bodyEncoder;
+    }
+
+    /**
+     * Accept-Language → 지원 로케일 캐시 (Actuator 엔드포인트에서 통계 조회)
+     */
+    public FortuneLocaleResolver getLocaleResolver() {
+        return localeResolver;
+    }
+
+    /**
+     * 라우트별 시간 구간 키 (Actuator 엔드포인트에서 통계 조회)
+     */
+    public FortuneTimeBuckets getTimeBuckets() {
+        return timeBuckets;
+    }
+
+    /**
+     * 인터셉터가 가진 캐시(헤더 인코딩, 바디 직렬화, Accept-Language, 시간 구간 키, STATIC 단계 메시지)를 모두 비웁니다.
+     * 카탈로그를 다시 읽은 뒤 예전 메시지의 인코딩 결과가 남지 않도록 할 때 사용합니다.
+     */
+    public void clearCaches() {
+        headerEncoder.clear();
+        bodyEncoder.clear();
+        localeResolver.clearCache();
+        timeBuckets.clear();
+        for (int i = 0; i < staticFortunes.length(); i++) {
+            staticFortunes.set(i, null);
+        }
+    }
+
     /**
      * preHandle : 컨트롤러 실행 전에 호출
      *
@@ -84,33 +290,215 @@ public class FortuneCookieInterceptor implements HandlerInterceptor {
             return true;
         }
 
+        // 2-0. 비동기 핸들러(Callable, DeferredResult)의 ASYNC 재디스패치면 첫 디스패치에서 이미 헤더와 바디 메시지를 만들었으므로 건너뜀
+        //      (진행 중 요청 수는 첫 디스패치에서 한 번만 포함하고, 재디스패치가 끝난 뒤 afterCompletion에서 한 번 빠짐)
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        // 2-1. 디버그 모드면 샘플링된 요청만 추적 기록을 만듦 (디버그 모드가 꺼져 있으면 null 확인 한 번, 워밍업 요청은 제외)
+        FortuneTrace trace = tracer != null && !isWarmup(request) ? startTrace(request) : null;
+
+        // 2-2. 과부하 단계 기능이 꺼져 있으면 모든 기능 사용
+        if (degradationController == null) {
+            applyFortune(request, response, handler, annotation, DegradationTier.NORMAL);
+            submitTrace(trace, DegradationTier.NORMAL);
+            return true;
+        }
+
+        // 2-3. 진행 중 요청 수에 포함하고 이번 요청의 단계를 받음 (afterCompletion에서 빠지면서 요청 전체 지연을 기록)
+        DegradationTier tier = degradationController.enter();
+        request.setAttribute(Constant.FORTUNE_IN_FLIGHT, System.nanoTime());
+        if (tier == DegradationTier.OFF) {
+            submitTrace(trace, tier);
+            return true;
+        }
+
+        // 2-4. 단계에 맞게 처리 (예외로 끝나면 afterCompletion이 호출되지 않으므로 여기서 정리)
+        try {
+            if (tier == DegradationTier.STATIC) {
+                applyStaticFortune(request, response, getFortuneMode(annotation));
+            } else {
+                applyFortune(request, response, handler, annotation, tier);
+            }
+        } catch (RuntimeException e) {
+            request.removeAttribute(Constant.FORTUNE_IN_FLIGHT);
+            degradationController.exit();
+            throw e;
+        }
+        submitTrace(trace, tier);
+        return true;
+    }
+
+    /**
+     * 샘플링된 요청이면 추적 기록을 만들어 request에 저장하는 메서드 (플레이스홀더, 게임 단계에서 이어서 기록)
+     *
+     * @param request : 현재 요청
+     * @return : 추적 기록, 샘플링되지 않았으면 null
+     */
+    private FortuneTrace startTrace(HttpServletRequest request) {
+        FortuneTrace trace = tracer.sample();
+        if (trace != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            trace.route(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+            request.setAttribute(Constant.FORTUNE_TRACE, trace);
+        }
+        return trace;
+    }
+
+    /**
+     * 추적 기록을 마무리해서 추적기 버퍼에 넣는 메서드 (비동기로 로그에 남음)
+     */
+    private void submitTrace(FortuneTrace trace, DegradationTier tier) {
+        if (trace != null) {
+            tracer.submit(trace, tier.getTier());
+        }
+    }
+
+    /**
+     * 현재 요청의 추적 기록을 가져오는 메서드 (디버그 모드가 꺼져 있으면 request를 조회하지 않음)
+     */
+    private FortuneTrace currentTrace(HttpServletRequest request) {
+        return tracer != null && request.getAttribute(Constant.FORTUNE_TRACE) instanceof FortuneTrace trace ? trace : null;
+    }
+
+    /**
+     * 포춘 메시지를 만들어 헤더를 설정하고 바디용 메시지를 request에 저장하는 메서드
+     *
+     * @param request    : 현재 요청
+     * @param response   : 현재 응답
+     * @param handler    : 현재 핸들러
+     * @param annotation : FortuneCookie 어노테이션
+     * @param tier       : 과부하 단계 (NO_GAMES부터 게임, NO_PLACEHOLDERS부터 플레이스홀더 값 조회 생략)
+     */
+    private void applyFortune(HttpServletRequest request,
+                              HttpServletResponse response,
+                              Object handler,
+                              FortuneCookie annotation,
+                              DegradationTier tier) {
         // 3) 만약 annotation이 없거나, annotation.mode()가 UNSPECIFIED면 (properties.getMode()를 쓰고, 아니면 어노테이션의 mode)
         FortuneMode finalMode = getFortuneMode(annotation);
-        String fortuneKey = fortuneProvider.generateFortuneKey(finalMode);
+        boolean resolvePlaceholders = tier.ordinal() < DegradationTier.NO_PLACEHOLDERS.ordinal();
 
-        // 4. 헤더용 메시지는 항상 영어로 (한글 오류가 발생할 수 있음)
-        String headerFortune = fortuneProvider.getFortune(fortuneKey, Locale.ENGLISH);
+        // 4. 요청 태그 (어노테이션 태그 + 로그인 사용자의 권한 태그, 태그 기능이 꺼져 있으면 비어 있음)
+        Route route = resolveRoute((HandlerMethod) handler, annotation);
+        ResolvedTags resolvedTags = resolveTags(request, route);
+        TagSet tags = resolvedTags.tags();
 
-        // 5. 바디용 메시지는 요청 로케일로 가져옴
-        String bodyFortune = fortuneProvider.getFortune(fortuneKey, request.getLocale());
+        // 4-1. 시간 구간이 설정된 라우트면 구간마다 한 번만 키를 고르고 구간 안의 요청이 모두 공유 (0이면 요청마다 새 메시지)
+        long bucketMillis = route.bucketMillis();
 
-        // 6. 헤더에 포춘 쿠키 추가 (placeHolder 치환 포함)
-        headerFortune = applyPlaceHolders(headerFortune, request);
-        if (properties.isIncludeHeader()) {
-            response.setHeader(properties.getHeaderName(), headerFortune);
+        // 4-2. 테넌트 요청이면 테넌트가 덮어쓴 메시지, 게임 설정 (테넌트 기능이 꺼져 있거나 테넌트가 없으면 null)
+        TenantCatalog tenant = resolveTenantCatalog(request);
+
+        // 4-3. 미리 만든 메시지가 있으면 그대로 사용하고, 없으면 헤더 인코딩 방식에 따라 헤더, 바디 메시지를 만든다
+        //      (풀은 태그, 구간, 테넌트 메시지를 모르므로 인라인 생성)
+        FortuneSelectedEvent event = new FortuneSelectedEvent();
+        event.begin();
+        FortuneTrace trace = currentTrace(request);
+        long selectStart = trace != null ? System.nanoTime() : 0;
+        String fortuneKey = null;
+        boolean poolable = tags.isEmpty() && bucketMillis == 0 && (tenant == null || !tenant.hasMessages());
+        RenderedFortune rendered = poolable ? applyPrerenderedFortune(finalMode, request, response) : null;
+        boolean poolHit = rendered != null;
+        if (rendered == null) {
+            fortuneKey = bucketMillis > 0
+                    ? timeBuckets.fortuneKey(resolvedTags.bucketRoute(), bucketMillis, () -> generateFortuneKey(finalMode, tags))
+                    : generateFortuneKey(finalMode, tags);
+            if (properties.getHeaderEncoding() == HeaderEncoding.RFC8187) {
+                // 4-4. RFC 8187: 요청 로케일 메시지를 한 번만 조회, 치환해서 헤더와 바디가 같이 사용
+                rendered = renderSharedFortune(fortuneKey, request, response, resolvePlaceholders, tenant);
+            } else {
+                // 4-5. ENGLISH: 헤더용 메시지는 항상 영어로 (한글 오류가 발생할 수 있음)
+                rendered = renderEnglishHeaderFortune(fortuneKey, request, response, resolvePlaceholders, tenant);
+            }
         }
 
-        // 7. 바디 메시지에 placeHolder 적용
-        bodyFortune = applyPlaceHolders(bodyFortune, request);
+        // 4-3-1. 추적 중인 요청이면 선택 결과와 걸린 시간을 기록
+        if (trace != null) {
+            trace.selected(finalMode.getMode(), fortuneKey, resolveLocale(request).toLanguageTag(), poolHit,
+                    System.nanoTime() - selectStart);
+        }
 
-        // 8. 미니게임 적용: 게임 모듈이 활성화되어 있으면, 어노테이션에 적힌 gameType(number, quiz)을 우선 적용
-        bodyFortune = applyMiniGame(request, annotation, bodyFortune);
+        // 4-3-2. JFR 레코딩 중일 때만 이벤트 필드를 채움
+        if (event.shouldCommit()) {
+            event.mode = finalMode.getMode();
+            event.locale = resolveLocale(request).toLanguageTag();
+            event.fortuneKey = fortuneKey;
+            event.keyIndex = FortuneEvents.keyIndex(fortuneKey);
+            event.poolHit = poolHit;
+            event.bucketed = bucketMillis > 0;
+            event.tagCount = tags.size();
+            event.tier = tier.getTier();
+            event.commit();
+        }
+
+        // 5. 미니게임 적용: 게임 모듈이 활성화되어 있으면, 어노테이션에 적힌 gameType(number, quiz)을 우선 적용 (과부하 단계에서는 생략)
+        long gameStart = trace != null ? System.nanoTime() : 0;
+        String bodyFortune = tier == DegradationTier.NORMAL
+                ? applyMiniGame(request, annotation, rendered.body(), tenant)
+                : rendered.body();
+        if (trace != null && request.getAttribute(Constant.GAME_OUTCOME) instanceof GameOutcome outcome) {
+            trace.game(outcome.getOutcome(), System.nanoTime() - gameStart);
+        }
+
+        // 5-1. 구간 응답은 캐시에 저장되므로 메시지를 바꾸는 요청 헤더를 Vary에 알리고, 구간이 끝날 때까지만 캐시하도록 설정
+        //      (권한 태그, 세션, 시큐리티 플레이스홀더나 미니 게임 메시지가 붙은 응답은 사용자마다 다르므로 공유 캐시에 두지 않음)
+        if (bucketMillis > 0) {
+            addBucketVary(response, rendered);
+            boolean userSpecific = resolvedTags.roleTagged() || (userPlaceholders && !rendered.catalogEntry());
+            addBucketCacheControl(response, bucketMillis, userSpecific, bodyFortune != rendered.body());
+        }
 
-        // 9. 완성된 최종 바디 메시지를 request에 저장 (ResponseBodyAdvice가 참조함)
+        // 5-2. 게임 상태를 클라이언트에 맡기는 저장소면 바뀐 상태를 응답에 실음 (세션 저장소는 할 일 없음)
+        if (gameStateStore != null) {
+            gameStateStore.writeTo(request, response);
+        }
+
+        // 6. 완성된 최종 바디 메시지를 request에 저장 (ResponseBodyAdvice가 참조함)
         request.setAttribute(Constant.FORTUNE_BODY, bodyFortune);
 
-        // 10. 다음 인터셉터 혹은 컨트롤러로 진행
-        return true;
+        // 6-1. 게임 메시지도 붙지 않은 카탈로그 원본이면 미리 직렬화된 형태도 함께 저장 (JSON 바디에 바이트 그대로 복사)
+        if (rendered.catalogEntry() && bodyFortune == rendered.body()) {
+            request.setAttribute(Constant.FORTUNE_BODY_ENCODED, bodyEncoder.encode(bodyFortune));
+        }
+    }
+
+    /**
+     * 과부하 STATIC 단계: (모드, 로케일)별로 미리 만든 고정 메시지 하나를 그대로 사용하는 메서드
+     * 키 생성, 메시지 조회, 플레이스홀더, 게임을 모두 건너뛰고 인코딩된 헤더와 바디만 설정합니다.
+     *
+     * @param request  : 현재 요청
+     * @param response : 현재 응답
+     * @param mode     : 최종 모드
+     */
+    private void applyStaticFortune(HttpServletRequest request, HttpServletResponse response, FortuneMode mode) {
+        // 1. (모드, 로케일 슬롯)별 고정 메시지 (처음이면 만들어 둠, 동시에 만들어도 결과가 같으므로 먼저 넣은 값 사용)
+        int index = mode.ordinal() * properties.getSupportedLocales().size() + localeResolver.slotOf(resolveLocale(request));
+        StaticFortune fortune = staticFortunes.get(index);
+        if (fortune == null) {
+            staticFortunes.compareAndSet(index, null, renderStaticFortune(mode, resolveLocale(request)));
+            fortune = staticFortunes.get(index);
+        }
+
+        // 2. 헤더와 바디 설정
+        if (properties.isIncludeHeader()) {
+            response.setHeader(fortune.header().headerName(properties.getHeaderName()), fortune.header().value());
+        }
+        request.setAttribute(Constant.FORTUNE_BODY, fortune.body());
+        request.setAttribute(Constant.FORTUNE_BODY_ENCODED, fortune.encodedBody());
+    }
+
+    /**
+     * 모드의 기본 메시지(fortune.default, fortune.joke.default 등)로 고정 메시지를 만드는 메서드
+     */
+    private StaticFortune renderStaticFortune(FortuneMode mode, Locale locale) {
+        String fortuneKey = FortuneTagIndex.prefixOf(mode) + ".default";
+        String body = fortuneProvider.getFortune(fortuneKey, locale);
+        EncodedHeader header = properties.getHeaderEncoding() == HeaderEncoding.RFC8187
+                ? headerEncoder.encode(body, true)
+                : new EncodedHeader(fortuneProvider.getFortune(fortuneKey, Locale.ENGLISH), false);
+        return new StaticFortune(body, header, bodyEncoder.encode(body));
     }
 
     /**
@@ -148,7 +536,26 @@ public class FortuneCookieInterceptor implements HandlerInterceptor {
                                 @NonNull HttpServletResponse response,
                                 @NonNull Object handler,
                                 Exception ex) throws Exception {
-        // 헤더 설정은 preHandle에서 이미 했으므로 별도 작업 없음
+        // 헤더 설정은 preHandle에서 이미 했으므로, 과부하 단계 기능의 진행 중 요청 수와 지연만 정리
+        // (포춘 처리만 재면 단계를 낮출수록 지연이 줄어 과부하가 계속되는데도 단계가 내려가므로, 핸들러까지 포함한 요청 전체 지연을 기록)
+        // (워밍업 요청은 아직 인터프리터로 실행되어 느리므로 지연은 기록하지 않음)
+        if (degradationController != null && request.getAttribute(Constant.FORTUNE_IN_FLIGHT) instanceof Long start) {
+            request.removeAttribute(Constant.FORTUNE_IN_FLIGHT);
+            if (!isWarmup(request)) {
+                degradationController.recordLatency(System.nanoTime() - start);
+            }
+            degradationController.exit();
+        }
+    }
+
+    /**
+     * 시작 직후 워밍업(FortuneWarmup)이 보낸 합성 요청인지 확인하는 메서드
+     *
+     * @param request : 현재 요청
+     * @return : 워밍업 요청이면 true
+     */
+    private static boolean isWarmup(HttpServletRequest request) {
+        return request.getAttribute(Constant.FORTUNE_WARMUP) != null;
     }
 
     /**
@@ -191,38 +598,356 @@ public class FortuneCookieInterceptor implements HandlerInterceptor {
         return annotation.mode();
     }
 
+    /**
+     * 어노테이션 또는 프로퍼티에 지정된 시간 구간을 가져오는 메서드 (라우트 정보를 만들 때 한 번만 호출)
+     *
+     * @param method     : 핸들러 메서드 (오류 메시지용)
+     * @param annotation : FortuneCookie 어노테이션
+     * @return : 구간 길이 (밀리초, 0이면 요청마다 새 메시지)
+     */
+    private long getBucketMillis(Method method, FortuneCookie annotation) {
+        // 어노테이션에 명시되지 않았으면 프로퍼티 기본값 사용
+        if (annotation.bucket().isEmpty()) {
+            return properties.getBucket().toMillis();
+        }
+        try {
+            return timeBuckets.parseMillis(annotation.bucket());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid @FortuneCookie bucket on " + method.getDeclaringClass().getName()
+                    + "#" + method.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 포춘 키를 새로 고르는 메서드 (태그가 있으면 태그 조건을 만족하는 메시지 중에서)
+     */
+    private String generateFortuneKey(FortuneMode mode, TagSet tags) {
+        return tags.isEmpty()
+                ? fortuneProvider.generateFortuneKey(mode)
+                : fortuneProvider.generateFortuneKey(mode, tags);
+    }
+
+
+    /**
+     * 구간 응답의 Vary 헤더를 추가하는 메서드
+     *
+     * @param response : 현재 응답
+     * @param rendered : 헤더 설정까지 끝난 바디용 메시지
+     */
+    private void addBucketVary(HttpServletResponse response, RenderedFortune rendered) {
+        // 1. 지원 로케일이 둘 이상이면 같은 키라도 Accept-Language에 따라 메시지가 다름
+        if (properties.getSupportedLocales().size() > 1) {
+            addVary(response, HttpHeaders.ACCEPT_LANGUAGE);
+        }
+
+        // 2. 플레이스홀더가 치환된 메시지면 값을 가져온 요청 헤더에 따라 다름 (세션, 시큐리티 값은 Vary로 표현할 수 없음)
+        if (!rendered.catalogEntry()) {
+            placeholderHeaders.forEach(headerName -> addVary(response, headerName));
+        }
+
+        // 3. 헤더로 테넌트를 정하면 같은 URL이라도 테넌트 헤더에 따라 메시지가 다름 (호스트 방식은 URL로 구분됨)
+        if (tenantResolver != null && tenantResolver.getVaryHeader() != null) {
+            addVary(response, tenantResolver.getVaryHeader());
+        }
+    }
+
+    /**
+     * 구간 응답의 Cache-Control 헤더를 설정하는 메서드 (앞선 필터나 인터셉터가 이미 설정했으면 그대로 둠)
+     *
+     * @param response     : 현재 응답
+     * @param bucketMillis : 구간 길이 (밀리초)
+     * @param userSpecific : 사용자마다 다른 메시지인지 (브라우저 캐시만 허용)
+     * @param gamePlayed   : 미니 게임 메시지가 붙었는지 (추측마다 결과가 다르므로 저장하지 않음)
+     */
+    private void addBucketCacheControl(HttpServletResponse response, long bucketMillis, boolean userSpecific, boolean gamePlayed) {
+        if (response.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+            return;
+        }
+        if (gamePlayed) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return;
+        }
+
+        // 구간이 끝나는 시각을 넘겨 캐시되지 않도록 남은 시간을 초 단위로 내림
+        // (public은 붙이지 않음: 인증된 요청의 응답까지 공유 캐시에 저장되지 않도록 캐시 기본 규칙을 따름)
+        String maxAge = "max-age=" + timeBuckets.remainingMillis(bucketMillis) / 1000;
+        response.setHeader(HttpHeaders.CACHE_CONTROL, userSpecific ? "private, " + maxAge : maxAge);
+    }
+
+    /**
+     * Vary 헤더에 이미 없는 경우에만 요청 헤더 이름을 추가하는 메서드
+     */
+    private void addVary(HttpServletResponse response, String headerName) {
+        for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+            for (String token : vary.split(Constant.COMMA)) {
+                String name = token.strip();
+                if (name.equals("*") || name.equalsIgnoreCase(headerName)) {
+                    return;
+                }
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, headerName);
+    }
+
+    /**
+     * 핸들러의 라우트 정보를 가져오는 메서드 (처음이면 어노테이션 태그 조합과 시간 구간을 한 번만 만들어 둠)
+     *
+     * @param handlerMethod : 현재 핸들러
+     * @param annotation    : FortuneCookie 어노테이션
+     * @return : 라우트 정보
+     */
+    private Route resolveRoute(HandlerMethod handlerMethod, FortuneCookie annotation) {
+        Method method = handlerMethod.getMethod();
+        Route route = routes.get(method);
+        if (route == null) {
+            route = routes.computeIfAbsent(method, m -> newRoute(m, annotation));
+        }
+        return route;
+    }
+
+    /**
+     * 요청 태그를 결정하는 메서드 (어노테이션 태그 + 권한 → 태그 매핑)
+     * 라우트별 태그 조합은 처음 한 번만 만들고, 권한이 섞인 조합은 권한 문자열별로 재사용하므로 요청마다 목록이나 키를 만들지 않습니다.
+     *
+     * @param request : 현재 요청
+     * @param route   : 라우트 정보
+     * @return : 요청 태그와 시간 구간 라우트 식별자 (태그 기능이 꺼져 있거나 태그가 없으면 빈 조합)
+     */
+    private ResolvedTags resolveTags(HttpServletRequest request, Route route) {
+        // 1. 태그 기능이 꺼져 있거나 권한 태그 매핑이 없으면 어노테이션 태그만 사용 (시작 시점에 미리 계산된 조합)
+        FortuneCookieProperties.Tags tagProperties = properties.getTags();
+        Map<String, String> roleTags = tagProperties.getRoleTags();
+        if (!tagProperties.isEnabled() || roleTags.isEmpty()) {
+            return route.annotationTags();
+        }
+
+        // 2. 로그인 사용자의 권한에 매핑된 태그를 추가 (같은 권한 문자열이면 같은 조합, 동적 조합은 태그 색인의 LRU 캐시에서 재사용)
+        String roles = getSecuritySnapshot(request).roles();
+        if (roles == null || roles.isEmpty()) {
+            return route.annotationTags();
+        }
+        ResolvedTags resolved = route.byRoles().get(roles);
+        if (resolved == null) {
+            resolved = withRoleTags(route.method(), route.annotationTags().tags(), roles, roleTags);
+            if (route.byRoles().size() < ROLE_COMBINATION_LIMIT) {
+                route.byRoles().putIfAbsent(roles, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 라우트의 어노테이션 태그 조합(태그 기능이 꺼져 있으면 빈 조합)과 시간 구간을 만드는 메서드
+     */
+    private Route newRoute(Method method, FortuneCookie annotation) {
+        TagSet tags = properties.getTags().isEnabled() ? TagSet.of(annotation.tags()) : TagSet.EMPTY;
+        return new Route(method, resolvedTags(method, tags), new ConcurrentHashMap<>(), getBucketMillis(method, annotation));
+    }
+
+    /**
+     * 어노테이션 태그에 권한(쉼표로 구분된 문자열)에 매핑된 태그를 더한 조합을 만드는 메서드
+     */
+    private static ResolvedTags withRoleTags(Method method, TagSet annotationTags, String roles, Map<String, String> roleTags) {
+        List<String> tags = new ArrayList<>(annotationTags);
+        int start = 0;
+        while (start <= roles.length()) {
+            int end = roles.indexOf(',', start);
+            if (end < 0) {
+                end = roles.length();
+            }
+            String tag = roleTags.get(roles.substring(start, end));
+            if (tag != null) {
+                tags.add(tag);
+            }
+            start = end + 1;
+        }
+        TagSet resolved = TagSet.of(tags);
+        return new ResolvedTags(resolved, resolved.isEmpty() ? method : new BucketRoute(method, resolved),
+                resolved.size() > annotationTags.size());
+    }
+
+    /**
+     * 시간 구간 키를 공유할 라우트 식별자와 함께 묶는 메서드 (태그가 있으면 핸들러 메서드 + 태그 조합)
+     */
+    private static ResolvedTags resolvedTags(Method method, TagSet tags) {
+        return new ResolvedTags(tags, tags.isEmpty() ? method : new BucketRoute(method, tags), false);
+    }
+
+    /**
+     * 메시지 풀에서 미리 만든 메시지를 꺼내 헤더를 설정하는 메서드
+     *
+     * @param mode     : 최종 모드
+     * @param request  : 현재 요청
+     * @param response : 현재 응답
+     * @return : 바디용 메시지 (플레이스홀더가 없는 카탈로그 원본), 풀이 없거나 비어 있으면 null (인라인 생성으로 대체)
+     */
+    private RenderedFortune applyPrerenderedFortune(FortuneMode mode,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) {
+        // 1. 풀이 꺼져 있으면 인라인 생성
+        if (fortunePool == null) {
+            return null;
+        }
+
+        // 2. 풀에서 꺼냄 (비어 있으면 인라인 생성)
+        PrerenderedFortune prerendered = fortunePool.poll(mode, resolveLocale(request));
+        if (prerendered == null) {
+            return null;
+        }
+
+        // 3. 헤더는 이미 인코딩된 값을 그대로 사용
+        EncodedHeader header = prerendered.header();
+        if (properties.isIncludeHeader() && header != null) {
+            response.setHeader(header.headerName(properties.getHeaderName()), header.value());
+        }
+        return new RenderedFortune(prerendered.body(), true);
+    }
+
+    /**
+     * 헤더에는 영어 메시지를, 바디에는 요청 로케일 메시지를 사용하는 기존 방식 (HeaderEncoding.ENGLISH)
+     *
+     * @param fortuneKey          : 포춘 메시지 키
+     * @param request             : 현재 요청
+     * @param response            : 현재 응답
+     * @param resolvePlaceholders : 플레이스홀더 값을 조회할지 여부 (false면 모두 Guest로 치환)
+     * @param tenant              : 테넌트 카탈로그 (없으면 null)
+     * @return : 플레이스홀더가 치환된 바디용 메시지
+     */
+    private RenderedFortune renderEnglishHeaderFortune(String fortuneKey,
+                                              HttpServletRequest request,
+                                              HttpServletResponse response,
+                                              boolean resolvePlaceholders,
+                                              TenantCatalog tenant) {
+        // 1. 헤더에 포춘 쿠키 추가 (placeHolder 치환 포함, 테넌트가 덮어쓴 영어 메시지 우선)
+        if (properties.isIncludeHeader()) {
+            String headerOverride = tenantFortune(tenant, fortuneKey, Locale.ENGLISH);
+            String headerFortune = headerOverride != null ? headerOverride : fortuneProvider.getFortune(fortuneKey, Locale.ENGLISH);
+            response.setHeader(properties.getHeaderName(), applyPlaceHolders(headerFortune, request, resolvePlaceholders));
+        }
+
+        // 2. 바디용 메시지는 요청 로케일로 가져와서 placeHolder 적용
+        Locale locale = resolveLocale(request);
+        String override = tenantFortune(tenant, fortuneKey, locale);
+        String bodyFortune = override != null ? override : fortuneProvider.getFortune(fortuneKey, locale);
+        String rendered = applyPlaceHolders(bodyFortune, request, resolvePlaceholders);
+        return new RenderedFortune(rendered, rendered == bodyFortune && override == null);
+    }
+
+    /**
+     * 요청의 테넌트 카탈로그를 찾는 메서드 (처음 요청된 테넌트면 이 요청에서 읽음)
+     *
+     * @param request : 현재 요청
+     * @return : 테넌트 카탈로그, 테넌트 기능이 꺼져 있거나 테넌트가 없으면 null
+     */
+    private TenantCatalog resolveTenantCatalog(HttpServletRequest request) {
+        if (tenantCatalogs == null) {
+            return null;
+        }
+        String tenantId = tenantResolver.resolveTenant(new ServletFortuneRequest(request));
+        return tenantId != null ? tenantCatalogs.get(tenantId) : null;
+    }
+
+    /**
+     * 테넌트가 덮어쓴 메시지를 찾는 메서드
+     *
+     * @return : 덮어쓴 메시지, 테넌트가 없거나 덮어쓰지 않은 키면 null (공용 카탈로그 사용)
+     */
+    private String tenantFortune(TenantCatalog tenant, String fortuneKey, Locale locale) {
+        return tenant != null && tenant.hasMessages() ? tenant.getFortune(localeResolver.slotOf(locale), fortuneKey) : null;
+    }
+
+    /**
+     * 요청 로케일 메시지 하나를 헤더와 바디가 공유하는 방식 (HeaderEncoding.RFC8187)
+     * ASCII 메시지는 그대로 X-Fortune-Cookie에, 비 ASCII 메시지는 X-Fortune-Cookie*: UTF-8''... 형식으로 추가합니다.
+     *
+     * @param fortuneKey          : 포춘 메시지 키
+     * @param request             : 현재 요청
+     * @param response            : 현재 응답
+     * @param resolvePlaceholders : 플레이스홀더 값을 조회할지 여부 (false면 모두 Guest로 치환)
+     * @param tenant              : 테넌트 카탈로그 (없으면 null)
+     * @return : 플레이스홀더가 치환된 메시지 (바디에서 그대로 사용)
+     */
+    private RenderedFortune renderSharedFortune(String fortuneKey,
+                                       HttpServletRequest request,
+                                       HttpServletResponse response,
+                                       boolean resolvePlaceholders,
+                                       TenantCatalog tenant) {
+        // 1. 요청 로케일 메시지를 한 번만 조회하고 placeHolder 적용 (테넌트가 덮어쓴 메시지 우선)
+        Locale locale = resolveLocale(request);
+        String override = tenantFortune(tenant, fortuneKey, locale);
+        String fortune = override != null ? override : fortuneProvider.getFortune(fortuneKey, locale);
+        String rendered = applyPlaceHolders(fortune, request, resolvePlaceholders);
+
+        // 2. 헤더 인코딩 (치환이 일어나지 않은 공용 카탈로그 원본이면 인코딩 결과를 캐시에서 재사용)
+        boolean catalogEntry = rendered == fortune && override == null;
+        if (properties.isIncludeHeader()) {
+            EncodedHeader header = headerEncoder.encode(rendered, catalogEntry);
+            response.setHeader(header.headerName(properties.getHeaderName()), header.value());
+        }
+
+        return new RenderedFortune(rendered, catalogEntry);
+    }
+
+    /**
+     * 요청 로케일을 지원 로케일 중 하나로 결정하는 메서드
+     * 컨테이너의 request.getLocale()(Accept-Language 파싱)과 MessageSource의 로케일 대체 탐색을 거치지 않고,
+     * 헤더 원문을 키로 캐시된 결과를 사용합니다. 결과는 request에 저장해 게임 모듈도 같은 로케일을 사용합니다.
+     *
+     * @param request : 현재 요청
+     * @return : 지원 로케일 (헤더가 없거나 지원하지 않는 언어면 기본 로케일)
+     */
+    private Locale resolveLocale(HttpServletRequest request) {
+        // 1. 이번 요청에서 이미 결정했으면 재사용
+        if (request.getAttribute(Constant.FORTUNE_LOCALE) instanceof Locale locale) {
+            return locale;
+        }
+
+        // 2. Accept-Language 헤더 원문으로 캐시 조회 (처음 보는 헤더만 파싱)
+        Locale locale = localeResolver.resolve(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+        request.setAttribute(Constant.FORTUNE_LOCALE, locale);
+        return locale;
+    }
+
     /**
      * applyPlaceHolders : 플레이스홀더 치환 메서드
      *
-     * @param originalMessage : 원본 메시지
-     * @param request         : 현재 요청
+     * @param originalMessage     : 원본 메시지
+     * @param request             : 현재 요청
+     * @param resolvePlaceholders : 값을 조회할지 여부 (과부하 단계에서는 헤더, 세션, 시큐리티 조회 없이 Guest로 치환)
      * @return : 치환된 메시지
      */
     private String applyPlaceHolders(String originalMessage,
-                                     HttpServletRequest request) {
+                                     HttpServletRequest request,
+                                     boolean resolvePlaceholders) {
         // 1. placeholderEnabled가 꺼져 있으면 그냥 원본 메시지 리턴
         if (!properties.isPlaceholderEnabled()) {
             return originalMessage;
         }
 
-        // 2. 실제 치환 로직
-        String result = originalMessage;
-        for (Map.Entry<String, String> entry : properties.getPlaceholderMapping().entrySet()) {
-            // 2-1. e.g. entry = "userName" : "header:X-User-Name" 에서 key, value를 가져옴
-            String placeholderKey = entry.getKey();      // e.g. "userName"
-            String mappingSpec = entry.getValue();       // e.g. "header:X-User-Name"
-            String placeholderPattern = "{" + placeholderKey + "}";
+        // 2. 실제 치환 로직 (과부하 단계에서는 요청 뷰 없이 모두 Guest로 치환)
+        PlaceholderRenderedEvent event = new PlaceholderRenderedEvent();
+        event.begin();
+        FortuneTrace trace = currentTrace(request);
+        long start = trace != null ? System.nanoTime() : 0;
+        String result = placeholderTemplate.render(originalMessage,
+                resolvePlaceholders ? new ServletFortuneRequest(request) : null);
 
-            // 2-2. 메시지에 placeholder가 없으면 다음으로
-            if (!result.contains(placeholderPattern)) {
-                continue;
-            }
+        // 2-1. 치환이 일어났고 추적 중이거나 JFR 레코딩 중일 때만 플레이스홀더 수를 셈
+        if (result != originalMessage && (trace != null || event.shouldCommit())) {
+            int placeholderCount = placeholderTemplate.countPlaceholders(originalMessage);
 
-            // 2-3. placeholder에 해당하는 값을 가져와서 치환
-            String resolvedValue = resolvePlaceholderValue(mappingSpec, request);
+            // 2-2. 추적 중인 요청이면 치환한 플레이스홀더 수와 걸린 시간을 누적
+            if (trace != null) {
+                trace.placeholders(placeholderCount, resolvePlaceholders, System.nanoTime() - start);
+            }
 
-            // 2-4. 치환된 값이 없으면 GUEST로 대체
-            result = result.replace(placeholderPattern, Objects.requireNonNullElse(resolvedValue, Constant.GUEST));
+            // 2-3. JFR 레코딩 중일 때만 이벤트 기록
+            if (event.shouldCommit()) {
+                event.placeholderCount = placeholderCount;
+                event.resolved = resolvePlaceholders;
+                event.messageLength = result.length();
+                event.commit();
+            }
         }
 
         // 3. 치환된 메시지 리턴
@@ -235,28 +960,60 @@ public class FortuneCookieInterceptor implements HandlerInterceptor {
      * @param request     : 현재 요청
      * @param annotation  : FortuneCookie 어노테이션
      * @param bodyFortune : 현재까지 만들어진 포춘 메시지
+     * @param tenant      : 테넌트 카탈로그 (없으면 null, 게임 사용 여부와 기본 게임 타입을 덮어씀)
      * @return : 게임 결과가 반영된 새로운 메시지
      */
     private String applyMiniGame(HttpServletRequest request,
                                  FortuneCookie annotation,
-                                 String bodyFortune) {
-        // 1. 미니게임이 켜져있다면 실행
-        if (properties.isGameEnabled()) {
+                                 String bodyFortune,
+                                 TenantCatalog tenant) {
+        // 1. 미니게임이 켜져있다면 실행 (테넌트가 정한 값이 있으면 그 값 사용)
+        boolean gameEnabled = tenant != null && tenant.getGameEnabled() != null
+                ? tenant.getGameEnabled()
+                : properties.isGameEnabled();
+        if (gameEnabled) {
             GameType finalGameType;
 
-            // 2. 어노테이션에 gameType이 명시되어 있으면 그것을 사용, 아니면 프로퍼티 기본값 사용
+            // 2. 어노테이션에 gameType이 명시되어 있으면 그것을 사용, 아니면 테넌트 설정 → 프로퍼티 기본값 순
             if (annotation.gameType() != GameType.UNSPECIFIED) {
                 finalGameType = annotation.gameType();  // 사용자가 어노테이션에 지정한 값
+            } else if (tenant != null && tenant.getGameType() != null) {
+                finalGameType = tenant.getGameType();  // 테넌트 기본값
             } else {
                 finalGameType = properties.getGameType();  // 프로퍼티 기본값
             }
 
             // 3. 해당 게임 모듈을 가져옴
-            GameModule gameModule = gameModuleMap.get(finalGameType.getType());
+            GameModule gameModule = gameModuleMap.get(finalGameType);
+            if (gameModule == null) {
+                return bodyFortune;
+            }
+            GameProcessedEvent event = new GameProcessedEvent();
+            event.begin();
 
-            // 4. 게임 모듈이 존재하면 실행
-            if (gameModule != null) {
-                bodyFortune = gameModule.processGame(request, bodyFortune);
+            // 4. 플레이어가 예산을 넘었으면 게임을 실행하지 않고 미리 만든 안내 문구만 붙임
+            if (!acquireGameToken(request, finalGameType)) {
+                request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.THROTTLED);
+                bodyFortune = bodyFortune + " " + gameThrottle.slowDownFragment(resolveLocale(request));
+            } else {
+                // 5. 게임 모듈 실행 (게임 메시지는 builder 하나에 바로 이어 붙임)
+                StringBuilder fortune = new StringBuilder(bodyFortune.length() + 128).append(bodyFortune);
+                gameModule.appendGame(request, fortune);
+                if (!bodyFortune.contentEquals(fortune)) {
+                    bodyFortune = fortune.toString();
+                }
+                recordGameOutcome(request, finalGameType);
+            }
+
+            // 6. JFR 레코딩 중일 때만 이벤트 필드를 채움 (모든 게임 모듈, 사용자 정의 모듈 포함)
+            if (event.shouldCommit()) {
+                event.gameType = finalGameType.getType();
+                event.gameModule = gameModule.getClass();
+                event.locale = resolveLocale(request).toLanguageTag();
+                event.outcome = request.getAttribute(Constant.GAME_OUTCOME) instanceof GameOutcome outcome
+                        ? outcome.getOutcome()
+                        : null;
+                event.commit();
             }
         }
 
@@ -265,82 +1022,189 @@ public class FortuneCookieInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * mappingSpec을 분석해 헤더나 세션에서 값을 가져오는 메서드
+     * 게임 실행 전에 플레이어의 추측 예산에서 토큰을 하나 가져오는 메서드
      *
-     * @param mappingSpec "header:X-User-Name" 또는 "session:USER_NAME" 등
-     * @param request     현재 요청
-     * @return 치환할 값
+     * @param request  : 현재 요청
+     * @param gameType : 실행할 게임 타입
+     * @return : 제한이 꺼져 있거나 예산 안이면 true
      */
-    private String resolvePlaceholderValue(String mappingSpec, HttpServletRequest request) {
-        // 1. mappingSpec이 없거나 비어 있으면 null 리턴
-        if (mappingSpec == null || mappingSpec.isBlank()) {
-            return null;
+    private boolean acquireGameToken(HttpServletRequest request, GameType gameType) {
+        // 1. 추측 제한이 꺼져 있거나 워밍업 요청이면 항상 허용
+        if (gameThrottle == null || isWarmup(request)) {
+            return true;
         }
 
-        // 2. mappingSpec의 값을 :로 분리해서 sourceType, sourceKey로 저장
-        String[] tokens = mappingSpec.split(Constant.COLON);
-        if (tokens.length != 2) {
-            return null; // 잘못된 형식이면 null 리턴 (e.g. "header:X-User-Name:extra")
+        // 2. 플레이어 식별 (클라이언트가 마음대로 바꿀 수 있는 리더보드 헤더는 쓰지 않고,
+        //    쿠키 없이 요청하는 봇은 세션이 없으므로 클라이언트 주소로 묶음)
+        String playerId = resolveAuthenticatedPlayerId(request);
+        if (playerId == null) {
+            playerId = request.getRemoteAddr();
         }
+        return gameThrottle.tryAcquire(gameType, playerId);
+    }
 
-        String sourceType = tokens[0];  // "header", "session" 등
-        String sourceKey = tokens[1];   // "X-User-Name", "USER_NAME"
+    /**
+     * 게임 모듈이 남긴 결과를 리더보드에 반영하는 메서드
+     *
+     * @param request  : 현재 요청
+     * @param gameType : 실행된 게임 타입
+     */
+    private void recordGameOutcome(HttpServletRequest request, GameType gameType) {
+        // 1. 리더보드가 꺼져 있거나 워밍업 요청이면 아무것도 하지 않음
+        if (gameLeaderboard == null || isWarmup(request)) {
+            return;
+        }
 
-        // 3. sourceType에 따라 값을 가져오기 (헤더, 세션)
-        switch (sourceType) {
-            case Constant.HEADER -> {
-                return request.getHeader(sourceKey);
-            }
-            case Constant.SESSION -> {
-                HttpSession session = request.getSession(false);
-                if (session != null) {
-                    Object val = session.getAttribute(sourceKey);
-                    return val != null ? val.toString() : null;
-                }
-                return null;
-            }
-            // 스프링 시큐리티를 사용하는 경우
-            case SECURITY -> {
-                try {
-                    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-                    if (isAuthenticatedUser(auth)) {
-                        // 유저 정보를 가져오는 경우
-                        if (USERNAME.equals(sourceKey)) {
-                            return auth.getName();
-                        }
-                        // 유저 역할을 가져오는 경우
-                        if (ROLES.equals(sourceKey)) {
-                            return auth.getAuthorities().stream()
-                                    .map(GrantedAuthority::getAuthority)
-                                    .collect(Collectors.joining(","));
-                        }
-                        // 유저 principal을 가져오는 경우
-                        if (PRINCIPAL.equals(sourceKey)) {
-                            Object principal = auth.getPrincipal();
-                            return principal != null ? principal.toString() : null;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("Failed to access security context: {}", e.getMessage());
-                    return null;
-                }
-                return null;
+        // 2. 정답/오답인 경우에만 플레이어를 식별해서 기록
+        if (request.getAttribute(Constant.GAME_OUTCOME) instanceof GameOutcome outcome && outcome.isAttempt()) {
+            gameLeaderboard.record(resolvePlayerId(request), gameType, outcome);
+        }
+    }
+
+    /**
+     * 리더보드에 사용할 플레이어 식별자를 찾는 메서드 (설정된 헤더 → 로그인 사용자 이름 → 세션 id 순)
+     *
+     * @param request : 현재 요청
+     * @return : 플레이어 식별자 또는 null
+     */
+    private String resolvePlayerId(HttpServletRequest request) {
+        // 1. 게이트웨이 등에서 넣어주는 플레이어 헤더가 설정되어 있으면 사용
+        String playerIdHeader = properties.getLeaderboard().getPlayerIdHeader();
+        if (playerIdHeader != null && !playerIdHeader.isEmpty()) {
+            String playerId = request.getHeader(playerIdHeader);
+            if (playerId != null) {
+                return playerId;
             }
-            default -> {
-                return null;
+        }
+
+        // 2. 로그인 사용자 이름 → 세션 id
+        return resolveAuthenticatedPlayerId(request);
+    }
+
+    /**
+     * 서버가 보증하는 플레이어 식별자를 찾는 메서드 (로그인 사용자 이름 → 세션 id 순)
+     * 추측 제한은 요청마다 바꿔 보낼 수 있는 헤더로 우회되지 않도록 이 식별자만 사용합니다.
+     *
+     * @param request : 현재 요청
+     * @return : 플레이어 식별자 또는 null
+     */
+    private String resolveAuthenticatedPlayerId(HttpServletRequest request) {
+        // 1. 로그인 사용자 이름
+        String username = getSecuritySnapshot(request).username();
+        if (username != null) {
+            return username;
+        }
+
+        // 2. 세션 id (게임 모듈이 세션을 만들어 두었음)
+        HttpSession session = request.getSession(false);
+        return session != null ? session.getId() : null;
+    }
+
+    /**
+     * 현재 요청의 보안 스냅샷을 가져오는 메서드
+     * 헤더, 바디 메시지의 플레이스홀더가 몇 개든 SecurityContextHolder는 요청당 한 번만 읽도록 request attribute에 보관합니다.
+     *
+     * @param request : 현재 요청
+     * @return : 보안 스냅샷 (스프링 시큐리티가 없거나 인증되지 않았으면 ANONYMOUS)
+     */
+    private SecuritySnapshot getSecuritySnapshot(HttpServletRequest request) {
+        // 1. 스프링 시큐리티 연동이 없으면 빈 스냅샷 리턴
+        if (securityPlaceholderResolver == null) {
+            return SecuritySnapshot.ANONYMOUS;
+        }
+
+        // 2. 이미 이번 요청에서 만든 스냅샷이 있으면 재사용
+        Object cached = request.getAttribute(Constant.SECURITY_SNAPSHOT);
+        if (cached instanceof SecuritySnapshot snapshot) {
+            return snapshot;
+        }
+
+        // 3. 처음이면 스냅샷을 만들어 request에 저장
+        SecuritySnapshot snapshot = securityPlaceholderResolver.snapshot();
+        request.setAttribute(Constant.SECURITY_SNAPSHOT, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 코어 템플릿이 값을 읽을 수 있도록 서블릿 요청을 감싼 요청 뷰
+     * 세션은 새로 만들지 않고, security 출처는 요청당 한 번 만든 보안 스냅샷에서 값을 꺼냅니다.
+     */
+    private final class ServletFortuneRequest implements FortuneRequest {
+
+        private final HttpServletRequest request;
+
+        private ServletFortuneRequest(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return request.getHeader(name);
+        }
+
+        @Override
+        public Object getSessionAttribute(String name) {
+            HttpSession session = request.getSession(false);
+            return session != null ? session.getAttribute(name) : null;
+        }
+
+        @Override
+        public String resolve(String source, String key) {
+            // 스프링 시큐리티를 사용하는 경우 (요청당 한 번 만든 스냅샷에서 값을 꺼냄)
+            if (SECURITY.equals(source)) {
+                return getSecuritySnapshot(request).resolve(key);
             }
+            return FortuneRequest.super.resolve(source, key);
         }
     }
 
     /**
-     * 사용자가 인증되었는지 확인하는 메서드
+     * 헤더 설정까지 끝난 바디용 메시지
+     *
+     * @param body         바디용 메시지
+     * @param catalogEntry 플레이스홀더 치환이 일어나지 않은 카탈로그 원본인지 여부 (직렬화 캐시 대상)
+     */
+    private record RenderedFortune(String body, boolean catalogEntry) {
+    }
+
+    /**
+     * 태그가 있는 요청의 시간 구간 라우트 식별자
+     *
+     * @param method 핸들러 메서드
+     * @param tags   요청 태그 조합
+     */
+    private record BucketRoute(Method method, TagSet tags) {
+    }
+
+    /**
+     * 요청 태그 조합과 시간 구간 라우트 식별자
+     *
+     * @param tags        요청 태그 조합
+     * @param bucketRoute 시간 구간 키를 공유할 라우트 식별자
+     * @param roleTagged  로그인 사용자의 권한 태그가 더해졌는지 (사용자마다 다른 메시지)
+     */
+    private record ResolvedTags(TagSet tags, Object bucketRoute, boolean roleTagged) {
+    }
+
+    /**
+     * 라우트별 태그 조합과 시간 구간
+     *
+     * @param method         핸들러 메서드
+     * @param annotationTags 어노테이션 태그만 있는 조합
+     * @param byRoles        권한 문자열 → 권한 태그가 더해진 조합 (ROLE_COMBINATION_LIMIT까지)
+     * @param bucketMillis   시간 구간 길이 (밀리초, 0이면 요청마다 새 메시지)
+     */
+    private record Route(Method method, ResolvedTags annotationTags, Map<String, ResolvedTags> byRoles, long bucketMillis) {
+    }
+
+    /**
+     * 과부하 STATIC 단계에서 사용할 고정 메시지
      *
-     * @param auth : 현재 사용자 인증 정보
-     * @return : 인증 여부
+     * @param body        바디용 메시지
+     * @param header      인코딩된 헤더 값
+     * @param encodedBody 미리 직렬화된 바디용 메시지
      */
-    private boolean isAuthenticatedUser(Authentication auth) {
-        return auth != null && auth.isAuthenticated()
-                && !(auth instanceof AnonymousAuthenticationToken);
+    private record StaticFortune(String body, EncodedHeader header, EncodedFortune encodedBody) {
     }
 
 }
@@ -1,8 +1,11 @@
 package io.github.wlsdks.fortunecookie.interceptor;
 
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.body.EncodedFortune;
 import io.github.wlsdks.fortunecookie.common.Constant;
 import io.github.wlsdks.fortunecookie.dto.FortuneWrapper;
+import io.github.wlsdks.fortunecookie.jfr.BodyInjectedEvent;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.NonNull;
@@ -35,6 +38,9 @@ public class FortuneCookieResponseAdvice implements ResponseBodyAdvice<Object> {
 
     private final FortuneCookieProperties properties;
 
+    // 설정된 필드 이름(response-fortune-name)의 직렬화 형태 (요청마다 이스케이프, 인코딩하지 않도록 미리 생성)
+    private final SerializedString fortuneFieldName;
+
     /**
      * FortuneCookieResponseAdvice를 생성합니다.
      *
@@ -42,6 +48,7 @@ public class FortuneCookieResponseAdvice implements ResponseBodyAdvice<Object> {
      */
     public FortuneCookieResponseAdvice(FortuneCookieProperties properties) {
         this.properties = properties;
+        this.fortuneFieldName = new SerializedString(properties.getResponseFortuneName());
     }
 
     /**
@@ -125,17 +132,37 @@ public class FortuneCookieResponseAdvice implements ResponseBodyAdvice<Object> {
             return body;
         }
 
+        BodyInjectedEvent event = new BodyInjectedEvent();
+        event.begin();
+
+        // 4-1. 카탈로그 원본 메시지면 미리 직렬화된 값을 사용 (JSON에 UTF-8 바이트를 그대로 복사)
+        EncodedFortune encodedFortune = servletRequest.getAttribute(Constant.FORTUNE_BODY_ENCODED) instanceof EncodedFortune encoded
+                ? encoded
+                : null;
+
         // 5) 만약 body가 Map이면, 기존 로직대로 "fortune" 필드 추가
+        //    (맵은 다른 Advice, 필터가 map.get("fortune")으로 읽을 수 있으므로 값은 항상 String으로 유지)
+        Object result;
         if (body instanceof Map) {
             @SuppressWarnings("unchecked")
             Map<String, Object> map = new HashMap<>((Map<String, Object>) body);
             map.put(properties.getResponseFortuneName(), bodyFortune);
-            return map;
+            result = map;
+            encodedFortune = null;
+        } else {
+            // 6) 그 외 타입이면, 우리가 만든 FortuneWrapper<T>로 감싸서 반환
+            //    예: FortuneWrapper<YourDto> (getFortune()은 String, 직렬화할 때만 미리 인코딩된 바이트 사용)
+            result = new FortuneWrapper<>(body, bodyFortune, encodedFortune, fortuneFieldName);
         }
 
-        // 6) 그 외 타입이면, 우리가 만든 FortuneWrapper<T>로 감싸서 반환
-        //    예: FortuneWrapper<YourDto>
-        return new FortuneWrapper<>(body, bodyFortune);
+        // 7) JFR 레코딩 중일 때만 이벤트 필드를 채움
+        if (event.shouldCommit()) {
+            event.bodyType = body instanceof Map ? "map" : "wrapper";
+            event.preEncoded = encodedFortune != null;
+            event.fortuneLength = bodyFortune.length();
+            event.commit();
+        }
+        return result;
     }
 
 }
\ No newline at end of file
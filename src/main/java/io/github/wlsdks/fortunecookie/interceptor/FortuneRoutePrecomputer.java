@@ -0,0 +1,35 @@
+package io.github.wlsdks.fortunecookie.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 시작 시점에 @FortuneCookie가 붙은 핸들러를 모두 찾아, 인터셉터의 라우트 정보(태그 조합, 시간 구간)를 미리 만들어 둡니다.
+ * 어노테이션의 bucket 값이 잘못되었으면 첫 요청이 아니라 애플리케이션 시작 시점에 핸들러 이름과 함께 실패합니다.
+ */
+@Slf4j
+public class FortuneRoutePrecomputer implements SmartInitializingSingleton {
+
+    private final ObjectProvider<FortuneCookieInterceptor> interceptor;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    public FortuneRoutePrecomputer(ObjectProvider<FortuneCookieInterceptor> interceptor,
+                                   ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.interceptor = interceptor;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        FortuneCookieInterceptor fortuneCookieInterceptor = interceptor.getIfAvailable();
+        if (fortuneCookieInterceptor == null) {
+            return;
+        }
+        handlerMappings.orderedStream().forEach(mapping ->
+                mapping.getHandlerMethods().values().forEach(fortuneCookieInterceptor::prepareRoute));
+        log.info("Prepared {} fortune cookie routes", fortuneCookieInterceptor.getRouteCount());
+    }
+
+}
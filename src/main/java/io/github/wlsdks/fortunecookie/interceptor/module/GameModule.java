@@ -1,13 +1,25 @@
 package io.github.wlsdks.fortunecookie.interceptor.module;
 
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.properties.GameType;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.Locale;
+
 /**
  * 미니 게임 로직을 추상화하는 인터페이스.
  * 여러 종류의 게임(숫자 맞히기, 퀴즈 등)에 대해 공통 메서드 시그니처를 정의.
  */
 public interface GameModule {
 
+    /**
+     * 이 모듈이 처리하는 게임 종류를 반환한다.
+     * 인터셉터는 이 값으로 모듈을 찾으므로, 기본 게임을 대신하는 빈은 같은 값을 반환하면 된다.
+     *
+     * @return 게임 종류 (UNSPECIFIED면 사용하지 않음)
+     */
+    GameType type();
+
     /**
      * 게임 로직을 처리하고, 보완된 fortune 메시지를 반환한다.
      *
@@ -17,4 +29,32 @@ public interface GameModule {
      */
     String processGame(HttpServletRequest request, String currentFortune);
 
+    /**
+     * 게임 로직을 처리하고, 게임 메시지를 호출자가 넘긴 builder 뒤에 붙인다.
+     * 인터셉터는 이 메서드를 호출하므로, 중간 문자열을 만들지 않으려면 구현체에서 재정의한다.
+     * (기본 구현은 {@link #processGame}의 결과로 builder 내용을 바꾼다)
+     *
+     * @param request 현재 요청 (헤더/세션 접근 가능)
+     * @param fortune 현재까지 만들어진 포춘 메시지가 담긴 builder
+     */
+    default void appendGame(HttpServletRequest request, StringBuilder fortune) {
+        String result = processGame(request, fortune.toString());
+        fortune.setLength(0);
+        fortune.append(result);
+    }
+
+    /**
+     * 게임 메시지에 사용할 로케일을 반환한다.
+     * 인터셉터가 Accept-Language 캐시로 결정해 둔 지원 로케일을 우선 사용하고, 없으면 컨테이너가 파싱한 로케일을 사용한다.
+     *
+     * @param request 현재 요청
+     * @return 메시지 로케일
+     */
+    default Locale resolveLocale(HttpServletRequest request) {
+        if (request.getAttribute(Constant.FORTUNE_LOCALE) instanceof Locale locale) {
+            return locale;
+        }
+        return request.getLocale();
+    }
+
 }
\ No newline at end of file
@@ -2,84 +2,99 @@ package io.github.wlsdks.fortunecookie.interceptor.module.impl;
 
 import io.github.wlsdks.fortunecookie.common.Constant;
 import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessages;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.GameType;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.context.MessageSource;
 
+import java.util.Locale;
 import java.util.Random;
 
+import static io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessage.*;
+
 public class NumberGuessGame implements GameModule {
 
     private final FortuneCookieProperties properties;
-    private final MessageSource messageSource;
+    private final GameMessages messages;
     private final Random random;
+    private final GameStateStore gameStateStore;
 
-    public NumberGuessGame(FortuneCookieProperties properties, MessageSource messageSource, Random random) {
+    public NumberGuessGame(FortuneCookieProperties properties,
+                           MessageSource messageSource,
+                           Random random,
+                           GameStateStore gameStateStore) {
         this.properties = properties;
-        this.messageSource = messageSource;
+        this.messages = GameMessages.compile(messageSource, properties.getSupportedLocales());
         this.random = random;
+        this.gameStateStore = gameStateStore;
+    }
+
+    @Override
+    public GameType type() {
+        return GameType.NUMBER;
     }
 
     @Override
     public String processGame(HttpServletRequest request, String currentFortune) {
-        // 1) 세션에서 secretNumber를 가져옴, 없으면 새로 생성
-        HttpSession session = request.getSession();
-        Object secretNumberObj = session.getAttribute(Constant.SECRET_NUMBER);
+        StringBuilder fortune = new StringBuilder(currentFortune);
+        appendGame(request, fortune);
+        return fortune.toString();
+    }
 
-        int secretNumber;
-        if (secretNumberObj == null) {
-            secretNumber = random.nextInt(properties.getGameRange()) + 1;
-            session.setAttribute(Constant.SECRET_NUMBER, secretNumber);
-        } else {
-            secretNumber = (int) secretNumberObj;
-        }
+    @Override
+    public void appendGame(HttpServletRequest request, StringBuilder fortune) {
+        // 1) 상태 저장소에서 secretNumber를 가져옴, 없거나 게임 범위를 벗어났으면 새로 생성
+        GameState state = gameStateStore.load(request, Constant.SECRET_NUMBER,
+                this::newSecretNumber, number -> number >= 1 && number <= properties.getGameRange());
+        int secretNumber = state.value();
+        Locale locale = resolveLocale(request);
+        fortune.append(' ');
 
         // 2) 클라이언트에서 X-Guess 헤더로 추측 값을 전달받음
         String guessHeader = request.getHeader(Constant.X_GUESS);
-        if (guessHeader != null) {
-            try {
-                int guess = Integer.parseInt(guessHeader);
-                if (guess == secretNumber) {
-                    // 정답
-                    String successMessage = messageSource.getMessage(
-                            "game.guessed_correctly",
-                            new Object[]{secretNumber},
-                            request.getLocale()
-                    );
-                    currentFortune += " " + successMessage;
-                    // 다음 라운드를 위해 새로운 숫자 생성
-                    secretNumber = random.nextInt(properties.getGameRange()) + 1;
-                    session.setAttribute("secretNumber", secretNumber);
-                } else {
-                    // 오답
-                    String wrongGuessMessage = messageSource.getMessage(
-                            "game.wrong_guess",
-                            null,
-                            request.getLocale()
-                    );
-                    currentFortune += " " + wrongGuessMessage;
-                }
-            } catch (NumberFormatException e) {
-                // 잘못된 형식
-                String invalidFormatMessage = messageSource.getMessage(
-                        "game.invalid_guess",
-                        null,
-                        request.getLocale()
-                );
-                currentFortune += " " + invalidFormatMessage;
-            }
-        } else {
+        if (guessHeader == null) {
             // 추측 헤더가 없으면 안내 메시지
-            String guessPromptMessage = messageSource.getMessage(
-                    "game.guess_prompt",
-                    new Object[]{properties.getGameRange()},
-                    request.getLocale()
-            );
-            currentFortune += " " + guessPromptMessage;
+            messages.append(fortune, NUMBER_PROMPT, locale, properties.getGameRange());
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.PROMPT);
+            return;
         }
 
-        return currentFortune;
+        int guess;
+        try {
+            guess = Integer.parseInt(guessHeader);
+        } catch (NumberFormatException e) {
+            // 잘못된 형식
+            messages.append(fortune, NUMBER_INVALID, locale);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+            return;
+        }
+
+        if (guess != secretNumber) {
+            // 오답
+            messages.append(fortune, NUMBER_WRONG, locale);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.WRONG);
+            return;
+        }
+
+        // 정답: 다음 라운드 숫자로 교체 (같은 라운드를 다른 요청이 먼저 맞혔으면 교체 실패)
+        if (!gameStateStore.compareAndSet(request, Constant.SECRET_NUMBER, state, state.next(newSecretNumber()))) {
+            messages.append(fortune, ALREADY_SOLVED, locale);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+            return;
+        }
+        messages.append(fortune, NUMBER_CORRECT, locale, secretNumber);
+        request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.CORRECT);
+    }
+
+    /**
+     * 1 ~ gameRange 사이의 새로운 비밀 숫자를 만듭니다.
+     */
+    private int newSecretNumber() {
+        return random.nextInt(properties.getGameRange()) + 1;
     }
 
 }
@@ -1,25 +1,36 @@
 package io.github.wlsdks.fortunecookie.interceptor.module.impl;
 
 import io.github.wlsdks.fortunecookie.common.Constant;
-import io.github.wlsdks.fortunecookie.common.QuizConstant;
 import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessages;
+import io.github.wlsdks.fortunecookie.interceptor.module.quiz.QuizBank;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.GameType;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.context.MessageSource;
 
-import java.util.Random;
+import java.util.Locale;
+
+import static io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessage.*;
 
 public class QuizGame implements GameModule {
 
     private final FortuneCookieProperties properties;
-    private final MessageSource messageSource;
-    private final Random random;
-
-    public QuizGame(FortuneCookieProperties properties, MessageSource messageSource, Random random) {
+    private final GameMessages messages;
+    private final QuizBank quizBank;
+    private final GameStateStore gameStateStore;
+
+    public QuizGame(FortuneCookieProperties properties,
+                    MessageSource messageSource,
+                    QuizBank quizBank,
+                    GameStateStore gameStateStore) {
         this.properties = properties;
-        this.messageSource = messageSource;
-        this.random = random;
+        this.messages = GameMessages.compile(messageSource, properties.getSupportedLocales());
+        this.quizBank = quizBank;
+        this.gameStateStore = gameStateStore;
     }
 
 
@@ -30,79 +41,62 @@ public class QuizGame implements GameModule {
      * @param currentFortune 현재까지 만들어진 포춘 메시지
      * @return 게임 결과가 반영된 새로운 메시지
      */
+    @Override
+    public GameType type() {
+        return GameType.QUIZ;
+    }
+
     @Override
     public String processGame(HttpServletRequest request, String currentFortune) {
-        // 세션에서 QUIZ_INDEX 가져오기
-        HttpSession session = request.getSession();
-        int quizIndex = getOrCreateQuizIndex(session);
+        StringBuilder fortune = new StringBuilder(currentFortune);
+        appendGame(request, fortune);
+        return fortune.toString();
+    }
+
+    /**
+     * 게임 로직을 처리하고 결과 메시지를 builder에 붙입니다.
+     *
+     * @param request 현재 요청 (헤더/세션 접근 가능)
+     * @param fortune 현재까지 만들어진 포춘 메시지가 담긴 builder
+     */
+    @Override
+    public void appendGame(HttpServletRequest request, StringBuilder fortune) {
+        // 상태 저장소에서 QUIZ_INDEX 가져오기 (없거나 현재 문제 은행에서 유효하지 않으면 새로 생성)
+        GameState state = gameStateStore.load(request, Constant.QUIZ_INDEX, quizBank::randomIndex, quizBank::isValidIndex);
+        int quizIndex = state.value();
 
         // 사용자가 X-Quiz-Answer 헤더로 답을 보냈는지 체크
         String userAnswer = request.getHeader(Constant.X_QUIZ_ANSWER);
+        Locale locale = resolveLocale(request);
+        fortune.append(' ');
 
         // 사용자가 답을 보냈을 경우
         if (userAnswerExist(userAnswer)) {
-            // 정답인 경우
-            if (isCollect(userAnswer, quizIndex)) {
-                currentFortune += " " + messageSource.getMessage(
-                        "game.quiz.correct",
-                        new Object[]{QuizConstant.ANSWERS[quizIndex]},
-                        request.getLocale()
-                );
-                // 새로운 문제를 위해 인덱스 갱신
-                int newIndex = random.nextInt(QuizConstant.QUESTIONS.length);
-                session.setAttribute(Constant.QUIZ_INDEX, newIndex);
-            }
-
-            // 오답인 경우
-            if (isNotCollect(userAnswer, quizIndex)) {
-                currentFortune += " " + messageSource.getMessage(
-                        "game.quiz.wrong",
-                        null,
-                        request.getLocale()
-                );
+            // 정답 여부는 한 번만 확인 (정규화 1회 + HashSet 조회)
+            if (quizBank.isCorrect(quizIndex, userAnswer)) {
+                // 정답인 경우: 새로운 문제로 교체 (같은 문제를 다른 요청이 먼저 맞혔으면 교체 실패)
+                if (gameStateStore.compareAndSet(request, Constant.QUIZ_INDEX, state, state.next(quizBank.randomIndex()))) {
+                    messages.append(fortune, QUIZ_CORRECT, locale, quizBank.displayAnswer(quizIndex, locale));
+                    request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.CORRECT);
+                } else {
+                    messages.append(fortune, ALREADY_SOLVED, locale);
+                    request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+                }
+            } else {
+                // 오답인 경우
+                messages.append(fortune, QUIZ_WRONG, locale);
+                request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.WRONG);
             }
         }
 
         // 사용자가 답을 보내지 않았을 경우
         if (userAnswerNotExist(userAnswer)) {
-            // 퀴즈 문제 출력
-            String quizDisplay = messageSource.getMessage(
-                    "game.quiz.display",
-                    new Object[]{QuizConstant.QUESTIONS[quizIndex]},
-                    request.getLocale()
-            );
-
-            // 현재 포춘에 퀴즈 문제 추가
-            currentFortune += " " + quizDisplay;
-
-            // 퀴즈 답안 요청 메시지
-            currentFortune += " " + messageSource.getMessage(
-                    "game.quiz_prompt",
-                    null,
-                    request.getLocale()
-            );
-        }
-
-        // 최종 포춘 반환
-        return currentFortune;
-    }
-
-    /**
-     * 현재 세션에 저장된 QUIZ_INDEX가 없으면 새로 만들고, 있으면 그 값을 사용합니다.
-     */
-    private int getOrCreateQuizIndex(HttpSession session) {
-        // 1. 세션에서 QUIZ_INDEX 가져오기
-        Object quizIndexObj = session.getAttribute(Constant.QUIZ_INDEX);
-
-        // 2. 세션에 저장된 QUIZ_INDEX가 없으면 새로 만들기
-        if (quizIndexObj == null) {
-            int newIndex = random.nextInt(QuizConstant.QUESTIONS.length);
-            session.setAttribute(Constant.QUIZ_INDEX, newIndex);
-            return newIndex;
+            // 퀴즈 문제 출력 후 답안 요청 메시지
+            messages.append(fortune, QUIZ_DISPLAY, locale, quizBank.question(quizIndex, locale));
+            fortune.append(' ');
+            messages.append(fortune, QUIZ_PROMPT, locale);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.PROMPT);
         }
-
-        // 3. 세션에 저장된 QUIZ_INDEX가 있으면 그 값을 사용
-        return (int) quizIndexObj;
     }
 
     private boolean userAnswerExist(String userAnswer) {
@@ -113,12 +107,4 @@ public class QuizGame implements GameModule {
         return !userAnswerExist(userAnswer);
     }
 
-    private boolean isCollect(String userAnswer, int quizIndex) {
-        return userAnswer.trim().equalsIgnoreCase(QuizConstant.ANSWERS[quizIndex]);
-    }
-
-    private boolean isNotCollect(String userAnswer, int quizIndex) {
-        return !isCollect(userAnswer, quizIndex);
-    }
-
 }
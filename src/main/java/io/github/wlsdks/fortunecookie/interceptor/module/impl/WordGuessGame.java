@@ -0,0 +1,131 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.impl;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessages;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.interceptor.module.word.WordDictionary;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessage.*;
+
+/**
+ * 단어 맞히기 게임입니다.
+ * 상태 저장소에 정답 단어 id를 저장해 두고, X-Word-Guess 헤더로 받은 추측 단어에 대해 힌트를 돌려줍니다.
+ * (위치까지 맞은 글자는 대문자, 위치만 다른 글자는 소문자, 없는 글자는 _)
+ */
+public class WordGuessGame implements GameModule {
+
+    private final FortuneCookieProperties properties;
+    private final GameMessages messages;
+    private final Random random;
+    private final WordDictionary dictionary;
+    private final GameStateStore gameStateStore;
+
+    public WordGuessGame(FortuneCookieProperties properties,
+                         MessageSource messageSource,
+                         Random random,
+                         WordDictionary dictionary,
+                         GameStateStore gameStateStore) {
+        this.properties = properties;
+        this.messages = GameMessages.compile(messageSource, properties.getSupportedLocales());
+        this.random = random;
+        this.dictionary = dictionary;
+        this.gameStateStore = gameStateStore;
+    }
+
+    /**
+     * 게임 로직을 처리합니다.
+     *
+     * @param request        현재 요청 (헤더/세션 접근 가능)
+     * @param currentFortune 현재까지 만들어진 포춘 메시지
+     * @return 게임 결과가 반영된 새로운 메시지
+     */
+    @Override
+    public GameType type() {
+        return GameType.WORD;
+    }
+
+    @Override
+    public String processGame(HttpServletRequest request, String currentFortune) {
+        StringBuilder fortune = new StringBuilder(currentFortune);
+        appendGame(request, fortune);
+        return fortune.toString();
+    }
+
+    /**
+     * 게임 로직을 처리하고 결과 메시지를 builder에 붙입니다.
+     *
+     * @param request 현재 요청 (헤더/세션 접근 가능)
+     * @param fortune 현재까지 만들어진 포춘 메시지가 담긴 builder
+     */
+    @Override
+    public void appendGame(HttpServletRequest request, StringBuilder fortune) {
+        // 1) 상태 저장소에서 정답 단어 id를 가져옴, 없거나 현재 사전에서 유효하지 않으면 새로 생성
+        GameState state = gameStateStore.load(request, Constant.WORD_ID, this::newWordId, dictionary::isValidWordId);
+        int wordId = state.value();
+        int wordLength = dictionary.lengthOf(wordId);
+        Locale locale = resolveLocale(request);
+        fortune.append(' ');
+
+        // 2) 클라이언트에서 X-Word-Guess 헤더로 추측 단어를 전달받음
+        String guess = request.getHeader(Constant.X_WORD_GUESS);
+
+        // 2-1) 추측 단어가 없으면 안내 메시지
+        if (guess == null) {
+            messages.append(fortune, WORD_PROMPT, locale, wordLength);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.PROMPT);
+            return;
+        }
+
+        // 2-2) 길이가 다르거나 영문자가 아니면 형식 오류
+        if (!WordDictionary.isWellFormed(guess, wordLength)) {
+            messages.append(fortune, WORD_INVALID, locale, wordLength);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+            return;
+        }
+
+        // 2-3) 사전에 없는 단어
+        if (!dictionary.contains(guess)) {
+            messages.append(fortune, WORD_UNKNOWN, locale);
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+            return;
+        }
+
+        // 3) 힌트 계산 (모든 글자의 위치가 맞으면 정답)
+        StringBuilder hint = new StringBuilder(wordLength);
+        boolean correct = dictionary.appendHint(wordId, guess, hint);
+
+        if (correct) {
+            // 정답: 다음 라운드 단어로 교체 (같은 라운드를 다른 요청이 먼저 맞혔으면 교체 실패)
+            if (!gameStateStore.compareAndSet(request, Constant.WORD_ID, state, state.next(newWordId()))) {
+                messages.append(fortune, ALREADY_SOLVED, locale);
+                request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.INVALID);
+                return;
+            }
+            messages.append(fortune, WORD_CORRECT, locale, guess.toLowerCase(Locale.ROOT));
+            request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.CORRECT);
+            return;
+        }
+
+        // 오답: 힌트 안내
+        messages.append(fortune, WORD_HINT, locale, hint);
+        request.setAttribute(Constant.GAME_OUTCOME, GameOutcome.WRONG);
+    }
+
+    /**
+     * 설정된 길이의 새로운 단어 id를 고릅니다.
+     */
+    private int newWordId() {
+        return dictionary.randomWordId(properties.getWordLength(), random);
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.message;
+
+import io.github.wlsdks.fortunecookie.locale.FortuneLocaleResolver;
+import org.springframework.context.MessageSource;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 지원 로케일별로 미리 컴파일된 게임 메시지 모음입니다.
+ * 게임 모듈이 생성될 때 MessageSource에서 한 번만 읽어 오므로, 요청 처리 중에는 MessageSource와 MessageFormat을 거치지 않습니다.
+ * (메시지 파일을 런타임에 다시 읽는 MessageSource를 쓰더라도 게임 메시지는 시작 시점의 값을 사용합니다.)
+ */
+public class GameMessages {
+
+    // formats[message.ordinal()][slot]
+    private final GameMessageFormat[][] formats;
+    private final FortuneLocaleResolver localeSlots;
+
+    private GameMessages(GameMessageFormat[][] formats, FortuneLocaleResolver localeSlots) {
+        this.formats = formats;
+        this.localeSlots = localeSlots;
+    }
+
+    /**
+     * 모든 게임 메시지를 지원 로케일별로 컴파일합니다.
+     *
+     * @param messageSource    게임 메시지가 들어 있는 메시지 소스
+     * @param supportedLocales 지원 로케일 목록 (첫 번째가 기본 로케일)
+     * @return 컴파일된 게임 메시지
+     */
+    public static GameMessages compile(MessageSource messageSource, List<Locale> supportedLocales) {
+        GameMessage[] messages = GameMessage.values();
+        GameMessageFormat[][] formats = new GameMessageFormat[messages.length][supportedLocales.size()];
+
+        for (GameMessage message : messages) {
+            for (int slot = 0; slot < supportedLocales.size(); slot++) {
+                Locale locale = supportedLocales.get(slot);
+
+                // 인자 없이 조회하면 MessageFormat을 거치지 않은 패턴 원문이 나옴
+                String pattern = messageSource.getMessage(message.getCode(), null, message.getCode(), locale);
+                formats[message.ordinal()][slot] = message.isFormatted()
+                        ? GameMessageFormat.compile(pattern, locale)
+                        : GameMessageFormat.literal(pattern);
+            }
+        }
+
+        return new GameMessages(formats, new FortuneLocaleResolver(supportedLocales, 0));
+    }
+
+    /**
+     * 메시지를 builder에 붙입니다.
+     */
+    public void append(StringBuilder builder, GameMessage message, Locale locale) {
+        format(message, locale).appendTo(builder);
+    }
+
+    /**
+     * 숫자 인자를 넣어 메시지를 builder에 붙입니다.
+     */
+    public void append(StringBuilder builder, GameMessage message, Locale locale, int argument) {
+        format(message, locale).appendTo(builder, argument);
+    }
+
+    /**
+     * 문자열 인자를 넣어 메시지를 builder에 붙입니다.
+     */
+    public void append(StringBuilder builder, GameMessage message, Locale locale, CharSequence argument) {
+        format(message, locale).appendTo(builder, argument);
+    }
+
+    private GameMessageFormat format(GameMessage message, Locale locale) {
+        return formats[message.ordinal()][localeSlots.slotOf(locale)];
+    }
+
+}
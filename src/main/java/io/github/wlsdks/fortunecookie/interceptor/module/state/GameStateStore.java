@@ -0,0 +1,78 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.state;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+/**
+ * 미니 게임 상태 저장소입니다.
+ * 게임 모듈은 상태를 읽고({@link #load}) 정답 처리처럼 상태를 바꾸는 일은 {@link #compareAndSet} 한 번으로만 합니다.
+ * 같은 세션의 요청이 동시에 들어와도 한 라운드의 상태 교체는 한 요청만 성공하므로, 두 번 정답 처리되거나 두 번 초기화되지 않습니다.
+ */
+public interface GameStateStore {
+
+    /**
+     * 현재 상태를 읽습니다. 상태가 없으면 initialValue로 첫 라운드를 만들어 저장합니다. (동시에 만들어도 하나만 남음)
+     *
+     * @param request      현재 요청
+     * @param key          게임별 상태 키 (예: Constant.SECRET_NUMBER)
+     * @param initialValue 첫 라운드 값 생성기
+     * @return 현재 상태
+     */
+    GameState load(HttpServletRequest request, String key, IntSupplier initialValue);
+
+    /**
+     * 상태가 아직 expected일 때만 next로 교체합니다.
+     *
+     * @param request  현재 요청
+     * @param key      게임별 상태 키
+     * @param expected {@link #load}로 읽은 상태
+     * @param next     교체할 상태
+     * @return 교체에 성공하면 true, 다른 요청이 먼저 바꿨으면 false
+     */
+    boolean compareAndSet(HttpServletRequest request, String key, GameState expected, GameState next);
+
+    /**
+     * 현재 상태를 읽되, 값이 더 이상 유효하지 않으면(게임 범위, 문제 은행, 사전 변경 등) 새 라운드로 교체해서 반환합니다.
+     *
+     * @param request      현재 요청
+     * @param key          게임별 상태 키
+     * @param initialValue 새 라운드 값 생성기
+     * @param isValid      값 유효성 검사
+     * @return 유효한 현재 상태
+     */
+    default GameState load(HttpServletRequest request, String key, IntSupplier initialValue, IntPredicate isValid) {
+        GameState state = load(request, key, initialValue);
+        while (!isValid.test(state.value())) {
+            GameState replaced = state.next(initialValue.getAsInt());
+            if (compareAndSet(request, key, state, replaced)) {
+                return replaced;
+            }
+            state = load(request, key, initialValue);
+        }
+        return state;
+    }
+
+    /**
+     * 이번 요청에서 읽거나 바꾼 상태를 응답에 싣습니다. (게임 모듈 실행 직후 인터셉터가 호출)
+     * 서버에 상태를 보관하는 저장소는 할 일이 없고, 클라이언트에 상태를 맡기는 저장소(토큰 방식)만 재정의합니다.
+     *
+     * @param request  현재 요청
+     * @param response 현재 응답
+     */
+    default void writeTo(HttpServletRequest request, HttpServletResponse response) {
+    }
+
+    /**
+     * 서버에 보관 중인 게임 상태 수 (Actuator 엔드포인트용)
+     * 세션처럼 저장소가 직접 세지 않는 곳에 보관하면 -1을 반환합니다.
+     *
+     * @return 보관 중인 상태 수, 알 수 없으면 -1
+     */
+    default long getEntryCount() {
+        return -1;
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.state;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * HTTP 세션에 게임 상태를 보관하는 기본 저장소입니다.
+ * 세션에는 게임별로 AtomicReference 홀더 하나만 저장하고, 상태 교체는 홀더의 CAS로 처리하므로 세션 전체에 락을 걸지 않습니다.
+ * 홀더를 처음 만들 때만 세션 id 단위로 ConcurrentHashMap.computeIfAbsent를 거쳐, 동시에 만들어도 하나의 홀더만 세션에 남깁니다.
+ */
+public class SessionGameStateStore implements GameStateStore {
+
+    // 홀더 생성 중인 (세션 id + 키) 목록 (생성이 끝나면 바로 제거되므로 크기가 커지지 않음)
+    private final ConcurrentHashMap<String, StateHolder> creating = new ConcurrentHashMap<>();
+
+    @Override
+    public GameState load(HttpServletRequest request, String key, IntSupplier initialValue) {
+        // 1. 이미 상태가 있으면 그대로 반환
+        StateHolder holder = holder(request.getSession(), key);
+        GameState state = holder.get();
+        if (state != null) {
+            return state;
+        }
+
+        // 2. 첫 라운드 생성 (동시에 만들었으면 먼저 저장된 상태를 사용)
+        GameState initial = GameState.initial(initialValue.getAsInt());
+        return holder.compareAndSet(null, initial) ? initial : holder.get();
+    }
+
+    @Override
+    public boolean compareAndSet(HttpServletRequest request, String key, GameState expected, GameState next) {
+        HttpSession session = request.getSession();
+        StateHolder holder = holder(session, key);
+        if (!holder.compareAndSet(expected, next)) {
+            return false;
+        }
+
+        // 세션 복제, 영속화를 사용하는 환경에서 변경을 감지할 수 있도록 같은 홀더를 다시 저장
+        session.setAttribute(key, holder);
+        return true;
+    }
+
+    /**
+     * 세션에서 홀더를 찾고, 없으면 하나만 만들어 저장합니다.
+     */
+    private StateHolder holder(HttpSession session, String key) {
+        // 1. 대부분의 요청은 여기서 끝남 (락 없는 조회)
+        if (session.getAttribute(key) instanceof StateHolder holder) {
+            return holder;
+        }
+
+        // 2. 처음이면 (세션 id + 키) 단위로 한 번만 생성, 생성 함수 안에서 세션을 다시 확인
+        String creationKey = session.getId() + ':' + key;
+        StateHolder created = creating.computeIfAbsent(creationKey, k -> {
+            if (session.getAttribute(key) instanceof StateHolder existing) {
+                return existing;
+            }
+            // 이전 버전에서 저장한 Integer 값 등은 새 홀더로 교체
+            StateHolder holder = new StateHolder();
+            session.setAttribute(key, holder);
+            return holder;
+        });
+        creating.remove(creationKey, created);
+        return created;
+    }
+
+    /**
+     * 세션에 저장되는 게임 상태 홀더
+     */
+    private static final class StateHolder extends AtomicReference<GameState> {
+    }
+
+}
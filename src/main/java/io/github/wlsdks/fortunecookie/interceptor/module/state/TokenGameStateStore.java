@@ -0,0 +1,434 @@
+package io.github.wlsdks.fortunecookie.interceptor.module.state;
+
+import io.github.wlsdks.fortunecookie.properties.GameStateTransport;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 게임 상태를 서버에 저장하지 않고, AES-GCM으로 암호화한 토큰에 담아 클라이언트에 맡기는 저장소입니다.
+ * 스티키 세션 없이 여러 인스턴스로 확장된 환경에서도 어느 인스턴스가 요청을 받든 같은 게임을 이어갈 수 있습니다. (모든 인스턴스가 같은 키를 사용해야 함)
+ *
+ * <pre>
+ * 토큰 (43바이트 → Base64URL 58자)
+ * [버전 1][nonce 12][암호문 14 = 값 4, 라운드 4, 시도 수 2, 만료 시각(epoch 초) 4][GCM 태그 16]
+ * </pre>
+ *
+ * 토큰에는 정답(비밀 숫자, 문제 번호, 단어 id)이 들어 있으므로 서명만 하면 클라이언트가 디코딩해서 정답을 읽을 수 있습니다.
+ * 그래서 페이로드는 설정된 키에서 파생한 AES-256 키로 암호화하고, GCM 태그로 변조를 함께 검증합니다.
+ * 태그에는 버전과 게임별 상태 키(길이 포함)도 포함되므로(AAD) 한 게임의 토큰을 다른 게임에 사용할 수 없습니다.
+ * nonce는 스레드별 (무작위 접두어 4바이트 + 무작위 값에서 시작하는 카운터 8바이트)라 같은 키로 같은 nonce를 다시 쓰지 않습니다.
+ * Cipher와 버퍼는 스레드별로 재사용하므로 요청마다 생기는 객체는 응답에 싣는 토큰 문자열과 GCM 파라미터 정도입니다.
+ * 서버가 상태를 보관하지 않으므로, 같은 토큰을 동시에(또는 다시) 보낸 요청은 서로를 알 수 없습니다.
+ * 이전 토큰을 재사용하는 것은 만료 시각까지만 가능하므로 리더보드를 함께 쓴다면 유효 기간을 짧게 유지하세요.
+ */
+@Slf4j
+public class TokenGameStateStore implements GameStateStore {
+
+    private static final String KEY_DERIVATION_ALGORITHM = "HmacSHA256";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final byte[] KEY_DERIVATION_LABEL = "fortune-cookie game state token v2".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 2;
+    private static final int NONCE_OFFSET = 1;
+    private static final int NONCE_LENGTH = 12;
+    private static final int CIPHERTEXT_OFFSET = NONCE_OFFSET + NONCE_LENGTH;
+    private static final int PAYLOAD_LENGTH = 14;
+    private static final int TAG_LENGTH = 16;
+    private static final int TOKEN_LENGTH = CIPHERTEXT_OFFSET + PAYLOAD_LENGTH + TAG_LENGTH;
+    private static final int ENCODED_LENGTH = (TOKEN_LENGTH * 8 + 5) / 6;
+    private static final int RECOMMENDED_SECRET_LENGTH = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // Base64URL 글자 → 6비트 값 (-1이면 허용하지 않는 글자)
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final SecretKeySpec encryptionKey;
+    private final Duration ttl;
+    private final GameStateTransport transport;
+    private final String namePrefix;
+    private final int maxAttempts;
+    private final LongSupplier clock;
+
+    // 게임별 상태 키 → request attribute 이름, 쿠키/헤더 이름, 서명에 넣을 키 바이트 (게임 수만큼만 생김)
+    private final ConcurrentHashMap<String, KeyNames> names = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Codec> codecs = ThreadLocal.withInitial(this::newCodec);
+
+    /**
+     * @param secret      토큰 암호화 키를 파생할 비밀 값
+     * @param ttl         토큰 유효 기간 (요청마다 다시 발급)
+     * @param transport   토큰을 주고받을 방식
+     * @param namePrefix  쿠키/헤더 이름 접두어
+     * @param maxAttempts 한 라운드의 최대 시도 수 (0 = 무제한)
+     * @param clock       현재 시각(ms) 공급자
+     */
+    public TokenGameStateStore(byte[] secret,
+                               Duration ttl,
+                               GameStateTransport transport,
+                               String namePrefix,
+                               int maxAttempts,
+                               LongSupplier clock) {
+        if (secret == null || secret.length == 0) {
+            throw new IllegalStateException("fortune-cookie.game-state.token.secret is required when game-state.mode=token");
+        }
+        if (secret.length < RECOMMENDED_SECRET_LENGTH) {
+            log.warn("Game state token secret is shorter than {} bytes; use a longer random value", RECOMMENDED_SECRET_LENGTH);
+        }
+        this.encryptionKey = deriveKey(secret);
+        this.ttl = ttl;
+        this.transport = transport;
+        this.namePrefix = namePrefix;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+
+        // 잘못된 키 등은 첫 요청이 아니라 시작 시점에 바로 실패하도록 한 번 만들어 봄
+        codecs.get();
+    }
+
+    @Override
+    public GameState load(HttpServletRequest request, String key, IntSupplier initialValue) {
+        KeyNames keyNames = names(key);
+
+        // 1. 이번 요청에서 이미 읽었으면 그대로 사용
+        if (request.getAttribute(keyNames.attribute()) instanceof TokenState current) {
+            return current.state;
+        }
+
+        // 2. 토큰이 없거나, 서명이 틀리거나, 만료되었으면 첫 라운드
+        TokenState current = read(request, keyNames);
+        if (current == null) {
+            current = new TokenState(GameState.initial(initialValue.getAsInt()), 0);
+        } else if (++current.attempts > maxAttempts && maxAttempts > 0) {
+            // 3. 한 라운드의 시도 수를 넘었으면 새 라운드
+            current.state = current.state.next(initialValue.getAsInt());
+            current.attempts = 0;
+        }
+
+        request.setAttribute(keyNames.attribute(), current);
+        return current.state;
+    }
+
+    @Override
+    public boolean compareAndSet(HttpServletRequest request, String key, GameState expected, GameState next) {
+        KeyNames keyNames = names(key);
+        TokenState current = request.getAttribute(keyNames.attribute()) instanceof TokenState state
+                ? state
+                : read(request, keyNames);
+        if (current == null || !current.state.equals(expected)) {
+            return false;
+        }
+
+        current.state = next;
+        current.attempts = 0;
+        request.setAttribute(keyNames.attribute(), current);
+        return true;
+    }
+
+    /**
+     * 상태는 모두 클라이언트의 토큰에 있으므로 서버에 보관하는 상태가 없습니다.
+     */
+    @Override
+    public long getEntryCount() {
+        return 0;
+    }
+
+    @Override
+    public void writeTo(HttpServletRequest request, HttpServletResponse response) {
+        // 이번 요청에서 읽거나 바꾼 게임 상태만 새 토큰으로 다시 발급 (만료 시각도 함께 연장)
+        for (KeyNames keyNames : names.values()) {
+            if (request.getAttribute(keyNames.attribute()) instanceof TokenState current) {
+                String token = encode(keyNames, current);
+                if (transport == GameStateTransport.HEADER) {
+                    response.setHeader(keyNames.transportName(), token);
+                } else {
+                    response.addCookie(newCookie(request, keyNames.transportName(), token));
+                }
+            }
+        }
+    }
+
+    /**
+     * 게임 상태를 암호화된 토큰 문자열로 만듭니다.
+     */
+    String encode(KeyNames keyNames, TokenState current) {
+        Codec codec = codecs.get();
+        byte[] payload = codec.payload;
+        long expiresAt = (clock.getAsLong() + ttl.toMillis()) / 1000;
+
+        // 1. 평문 페이로드 (스레드별 버퍼에만 있고 토큰에는 암호문만 들어감)
+        putInt(payload, 0, current.state.value());
+        putInt(payload, 4, (int) current.state.round());
+        payload[8] = (byte) (Math.min(current.attempts, 0xFFFF) >>> 8);
+        payload[9] = (byte) Math.min(current.attempts, 0xFFFF);
+        putInt(payload, 10, (int) expiresAt);
+
+        // 2. 버전, nonce, 암호문 + 태그
+        byte[] token = codec.token;
+        token[0] = VERSION;
+        codec.nextNonce(token);
+        codec.encrypt(keyNames.aad(), token);
+
+        // 3. Base64URL (패딩 없음)
+        int length = ENCODER.encode(token, codec.encoded);
+        return new String(codec.encoded, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 요청에서 토큰을 찾아 검증합니다.
+     *
+     * @return 검증된 상태, 토큰이 없거나 유효하지 않으면 null
+     */
+    private TokenState read(HttpServletRequest request, KeyNames keyNames) {
+        // 1. 쿠키 또는 헤더에서 토큰을 찾음
+        String value = transport == GameStateTransport.HEADER
+                ? request.getHeader(keyNames.transportName())
+                : cookieValue(request, keyNames.transportName());
+        if (value == null || value.length() != ENCODED_LENGTH) {
+            return null;
+        }
+
+        // 2. Base64URL 디코딩 (스레드별 버퍼 사용)
+        Codec codec = codecs.get();
+        byte[] token = codec.token;
+        if (!decode(value, token) || token[0] != VERSION) {
+            return null;
+        }
+
+        // 3. 복호화와 태그 확인 (다른 키, 다른 게임, 변조된 토큰은 여기서 실패)
+        if (!codec.decrypt(keyNames.aad(), token)) {
+            return null;
+        }
+
+        // 4. 만료 확인
+        byte[] payload = codec.payload;
+        long expiresAt = getInt(payload, 10) & 0xFFFF_FFFFL;
+        if (expiresAt * 1000 <= clock.getAsLong()) {
+            return null;
+        }
+
+        GameState state = new GameState(getInt(payload, 0), getInt(payload, 4) & 0xFFFF_FFFFL);
+        int attempts = ((payload[8] & 0xFF) << 8) | (payload[9] & 0xFF);
+        return new TokenState(state, attempts);
+    }
+
+    private static String cookieValue(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Cookie newCookie(HttpServletRequest request, String name, String token) {
+        Cookie cookie = new Cookie(name, token);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge((int) ttl.toSeconds());
+        cookie.setAttribute("SameSite", "Lax");
+        return cookie;
+    }
+
+    /**
+     * 패딩 없는 Base64URL 문자열을 바이트로 바꿉니다. (남는 비트가 0이 아닌 비정규 표현은 거부)
+     */
+    private static boolean decode(String value, byte[] out) {
+        int accumulator = 0;
+        int bits = 0;
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int sextet = c < DECODE.length ? DECODE[c] : -1;
+            if (sextet < 0) {
+                return false;
+            }
+            accumulator = ((accumulator << 6) | sextet) & 0x3FFF;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (length == out.length) {
+                    return false;
+                }
+                out[length++] = (byte) (accumulator >>> bits);
+            }
+        }
+        return length == out.length && (accumulator & ((1 << bits) - 1)) == 0;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int getInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    private KeyNames names(String key) {
+        KeyNames keyNames = names.get(key);
+        if (keyNames != null) {
+            return keyNames;
+        }
+        return names.computeIfAbsent(key, k -> new KeyNames(
+                "fortuneGameToken." + k,
+                namePrefix + k,
+                lengthPrefixed(k.getBytes(StandardCharsets.UTF_8))
+        ));
+    }
+
+    /**
+     * [길이 1][바이트] 형태로 만듭니다. (한 게임의 키가 다른 게임 키의 접두어여도 AAD가 겹치지 않도록)
+     */
+    private static byte[] lengthPrefixed(byte[] bytes) {
+        byte[] prefixed = new byte[bytes.length + 1];
+        prefixed[0] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, prefixed, 1, bytes.length);
+        return prefixed;
+    }
+
+    /**
+     * 설정된 비밀 값에서 AES-256 키를 파생합니다. (비밀 값의 길이와 상관없이 32바이트 키)
+     */
+    private static SecretKeySpec deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(KEY_DERIVATION_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, KEY_DERIVATION_ALGORITHM));
+            return new SecretKeySpec(mac.doFinal(KEY_DERIVATION_LABEL), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive the game state token key", e);
+        }
+    }
+
+    private Codec newCodec() {
+        try {
+            return new Codec(Cipher.getInstance(CIPHER_ALGORITHM), encryptionKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + CIPHER_ALGORITHM + " for game state tokens", e);
+        }
+    }
+
+    /**
+     * 게임별 상태 키에서 파생되는 이름들
+     */
+    record KeyNames(String attribute, String transportName, byte[] aad) {
+    }
+
+    /**
+     * 이번 요청에서 읽은 게임 상태 (request attribute로만 쓰이므로 한 스레드에서만 접근)
+     */
+    static final class TokenState {
+
+        private GameState state;
+        private int attempts;
+
+        TokenState(GameState state, int attempts) {
+            this.state = state;
+            this.attempts = attempts;
+        }
+
+    }
+
+    /**
+     * 스레드별로 재사용하는 Cipher와 버퍼
+     */
+    private static final class Codec {
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        private final Cipher cipher;
+        private final SecretKeySpec key;
+        private final byte[] token = new byte[TOKEN_LENGTH];
+        private final byte[] payload = new byte[PAYLOAD_LENGTH];
+        private final byte[] encoded = new byte[ENCODED_LENGTH];
+
+        // nonce = 스레드별 무작위 접두어 + 토큰마다 증가하는 카운터
+        private final int noncePrefix;
+        private long nonceCounter;
+
+        private Codec(Cipher cipher, SecretKeySpec key) {
+            this.cipher = cipher;
+            this.key = key;
+            this.noncePrefix = RANDOM.nextInt();
+            this.nonceCounter = RANDOM.nextLong();
+        }
+
+        private void nextNonce(byte[] token) {
+            long counter = nonceCounter++;
+            putInt(token, NONCE_OFFSET, noncePrefix);
+            putInt(token, NONCE_OFFSET + 4, (int) (counter >>> 32));
+            putInt(token, NONCE_OFFSET + 8, (int) counter);
+        }
+
+        /**
+         * payload를 암호화해서 token의 nonce 뒤에 암호문과 태그를 씁니다.
+         */
+        private void encrypt(byte[] aad, byte[] token) {
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, token, NONCE_OFFSET, NONCE_LENGTH));
+                updateAad(aad, token);
+                cipher.doFinal(payload, 0, PAYLOAD_LENGTH, token, CIPHERTEXT_OFFSET);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to encrypt the game state token", e);
+            }
+        }
+
+        /**
+         * token의 암호문을 복호화해서 payload에 씁니다.
+         *
+         * @return 태그가 맞으면 true (키, 게임, 내용 중 하나라도 다르면 false)
+         */
+        private boolean decrypt(byte[] aad, byte[] token) {
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, token, NONCE_OFFSET, NONCE_LENGTH));
+                updateAad(aad, token);
+                return cipher.doFinal(token, CIPHERTEXT_OFFSET, PAYLOAD_LENGTH + TAG_LENGTH, payload, 0) == PAYLOAD_LENGTH;
+            } catch (GeneralSecurityException e) {
+                return false;
+            }
+        }
+
+        /**
+         * 버전, 게임별 상태 키(길이 포함)를 태그 계산에 포함합니다.
+         */
+        private void updateAad(byte[] aad, byte[] token) {
+            cipher.updateAAD(token, 0, 1);
+            cipher.updateAAD(aad);
+        }
+
+    }
+
+}
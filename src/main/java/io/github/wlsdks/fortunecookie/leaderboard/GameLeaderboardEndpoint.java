@@ -0,0 +1,28 @@
+package io.github.wlsdks.fortunecookie.leaderboard;
+
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard.LeaderboardSnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 게임 리더보드를 조회하는 읽기 전용 Actuator 엔드포인트입니다. (/actuator/fortuneleaderboard)
+ * management.endpoints.web.exposure.include에 fortuneleaderboard를 추가하면 노출됩니다.
+ */
+@Endpoint(id = "fortuneleaderboard")
+public class GameLeaderboardEndpoint {
+
+    private final GameLeaderboard gameLeaderboard;
+
+    public GameLeaderboardEndpoint(GameLeaderboard gameLeaderboard) {
+        this.gameLeaderboard = gameLeaderboard;
+    }
+
+    /**
+     * 게임별 시도/정답 수, 상위 N명, 플레이어 수를 반환합니다.
+     */
+    @ReadOperation
+    public LeaderboardSnapshot leaderboard() {
+        return gameLeaderboard.snapshot();
+    }
+
+}
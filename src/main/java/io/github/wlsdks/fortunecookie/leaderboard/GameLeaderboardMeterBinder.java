@@ -0,0 +1,48 @@
+package io.github.wlsdks.fortunecookie.leaderboard;
+
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * 게임 리더보드 통계를 Micrometer 지표로 등록합니다.
+ * 값은 스크레이프 시점에 리더보드의 카운터를 그대로 읽으므로 요청 처리 경로에는 추가 비용이 없습니다.
+ */
+public class GameLeaderboardMeterBinder implements MeterBinder {
+
+    private final GameLeaderboard gameLeaderboard;
+
+    public GameLeaderboardMeterBinder(GameLeaderboard gameLeaderboard) {
+        this.gameLeaderboard = gameLeaderboard;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        // 1. 게임 타입별 시도 수, 정답 수
+        for (GameType gameType : GameType.values()) {
+            if (gameType == GameType.UNSPECIFIED) {
+                continue;
+            }
+            FunctionCounter.builder("fortune.cookie.game.attempts", gameLeaderboard, board -> board.getAttempts(gameType))
+                    .tag("game", gameType.getType())
+                    .description("Number of fortune cookie mini-game guesses")
+                    .register(registry);
+            FunctionCounter.builder("fortune.cookie.game.wins", gameLeaderboard, board -> board.getWins(gameType))
+                    .tag("game", gameType.getType())
+                    .description("Number of correct fortune cookie mini-game guesses")
+                    .register(registry);
+        }
+
+        // 2. 플레이어 수, 1위 점수
+        Gauge.builder("fortune.cookie.game.players", gameLeaderboard, GameLeaderboard::getPlayerCount)
+                .description("Number of players tracked by the fortune cookie leaderboard")
+                .register(registry);
+        Gauge.builder("fortune.cookie.game.top.score", gameLeaderboard, GameLeaderboard::getTopScore)
+                .description("Wins of the first-ranked player")
+                .register(registry);
+    }
+
+}
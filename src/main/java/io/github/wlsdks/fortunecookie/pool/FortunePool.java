@@ -0,0 +1,225 @@
+package io.github.wlsdks.fortunecookie.pool;
+
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder;
+import io.github.wlsdks.fortunecookie.header.FortuneHeaderEncoder.EncodedHeader;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.properties.HeaderEncoding;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (모드, 로케일)별로 미리 만들어 둔 포춘 메시지 풀입니다.
+ * 백그라운드 스레드 하나가 주기적으로 각 링 버퍼를 채우고, 인터셉터는 요청마다 버퍼에서 꺼내기만 합니다.
+ * 플레이스홀더가 있는 메시지는 요청마다 치환해야 하므로 풀에 넣지 않습니다.
+ */
+@Slf4j
+public class FortunePool implements AutoCloseable {
+
+    // 한 번의 채우기에서 버퍼 크기의 몇 배까지 생성을 시도할지 (플레이스홀더 메시지만 있는 경우 무한 반복 방지)
+    private static final int MAX_ATTEMPTS_PER_SLOT = 2;
+
+    private final FortuneProvider fortuneProvider;
+    private final FortuneCookieProperties properties;
+    private final FortuneHeaderEncoder headerEncoder = new FortuneHeaderEncoder();
+    private final Duration refillInterval;
+
+    // 모드 → 로케일 → 버퍼
+    private final Map<FortuneMode, Map<Locale, FortuneRingBuffer<PrerenderedFortune>>> buffers = new EnumMap<>(FortuneMode.class);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder refilled = new LongAdder();
+
+    private ScheduledExecutorService refiller;
+
+    /**
+     * @param fortuneProvider 포춘 메시지 제공자 (인라인 생성과 같은 제공자)
+     * @param properties      포춘 쿠키 설정 (지원 로케일, 헤더 설정, 플레이스홀더 설정)
+     * @param modes           풀을 만들 모드 목록
+     * @param capacity        (모드, 로케일)별 버퍼 크기
+     * @param refillInterval  채우기 주기
+     */
+    public FortunePool(FortuneProvider fortuneProvider,
+                       FortuneCookieProperties properties,
+                       Collection<FortuneMode> modes,
+                       int capacity,
+                       Duration refillInterval) {
+        this.fortuneProvider = fortuneProvider;
+        this.properties = properties;
+        this.refillInterval = refillInterval;
+
+        for (FortuneMode mode : modes) {
+            if (mode == FortuneMode.UNSPECIFIED) {
+                continue;
+            }
+            Map<Locale, FortuneRingBuffer<PrerenderedFortune>> byLocale = new HashMap<>();
+            for (Locale locale : properties.getSupportedLocales()) {
+                byLocale.put(locale, new FortuneRingBuffer<>(capacity));
+            }
+            buffers.put(mode, byLocale);
+        }
+    }
+
+    /**
+     * 버퍼를 한 번 채운 뒤 백그라운드 채우기를 시작합니다.
+     */
+    public void start() {
+        refill();
+        refiller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fortune-pool-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, refillInterval.toMillis());
+        refiller.scheduleWithFixedDelay(this::refillSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 미리 만든 메시지를 하나 꺼냅니다.
+     *
+     * @param mode   포춘 모드
+     * @param locale 요청 로케일 (정확히 일치 → 언어만 일치 순으로 버퍼 선택)
+     * @return 미리 만든 메시지, 버퍼가 없거나 비어 있으면 null (호출한 쪽에서 인라인 생성)
+     */
+    public PrerenderedFortune poll(FortuneMode mode, Locale locale) {
+        FortuneRingBuffer<PrerenderedFortune> buffer = bufferOf(mode, locale);
+        PrerenderedFortune fortune = buffer != null ? buffer.poll() : null;
+        if (fortune == null) {
+            fallbacks.increment();
+            return null;
+        }
+        hits.increment();
+        return fortune;
+    }
+
+    /**
+     * 모든 버퍼를 가득 채웁니다. (백그라운드 스레드에서 호출, 테스트에서는 직접 호출 가능)
+     */
+    public void refill() {
+        buffers.forEach((mode, byLocale) -> byLocale.forEach((locale, buffer) -> {
+            int attempts = buffer.capacity() * MAX_ATTEMPTS_PER_SLOT;
+            while (buffer.size() < buffer.capacity() && attempts-- > 0) {
+                PrerenderedFortune fortune = render(mode, locale);
+                if (fortune != null && buffer.offer(fortune)) {
+                    refilled.increment();
+                }
+            }
+        }));
+    }
+
+    private void refillSafely() {
+        try {
+            refill();
+        } catch (RuntimeException e) {
+            // 예외로 스케줄이 멈추지 않도록 기록만 하고 다음 주기에 다시 시도 (그동안 요청은 인라인 생성)
+            log.warn("Failed to refill fortune pool", e);
+        }
+    }
+
+    /**
+     * 인터셉터의 인라인 생성과 같은 규칙으로 헤더, 바디 메시지를 만듭니다.
+     *
+     * @return 플레이스홀더 치환이 필요한 메시지면 null
+     */
+    private PrerenderedFortune render(FortuneMode mode, Locale locale) {
+        String fortuneKey = fortuneProvider.generateFortuneKey(mode);
+        String body = fortuneProvider.getFortune(fortuneKey, locale);
+        if (needsPlaceholders(body)) {
+            return null;
+        }
+
+        // 1. 헤더를 쓰지 않으면 바디만
+        if (!properties.isIncludeHeader()) {
+            return new PrerenderedFortune(body, null);
+        }
+
+        // 2. RFC 8187: 같은 메시지를 인코딩 / ENGLISH: 같은 키의 영어 메시지
+        if (properties.getHeaderEncoding() == HeaderEncoding.RFC8187) {
+            return new PrerenderedFortune(body, headerEncoder.encode(body, true));
+        }
+        String headerFortune = fortuneProvider.getFortune(fortuneKey, Locale.ENGLISH);
+        if (needsPlaceholders(headerFortune)) {
+            return null;
+        }
+        return new PrerenderedFortune(body, new EncodedHeader(headerFortune, false));
+    }
+
+    private boolean needsPlaceholders(String fortune) {
+        return properties.isPlaceholderEnabled() && fortune.indexOf('{') >= 0;
+    }
+
+    private FortuneRingBuffer<PrerenderedFortune> bufferOf(FortuneMode mode, Locale locale) {
+        Map<Locale, FortuneRingBuffer<PrerenderedFortune>> byLocale = buffers.get(mode);
+        if (byLocale == null || locale == null) {
+            return null;
+        }
+        FortuneRingBuffer<PrerenderedFortune> buffer = byLocale.get(locale);
+        if (buffer == null && !locale.getCountry().isEmpty()) {
+            buffer = byLocale.get(Locale.forLanguageTag(locale.getLanguage()));
+        }
+        return buffer;
+    }
+
+    /**
+     * (모드, 로케일)별 현재 버퍼 깊이 (지표용)
+     */
+    public int getDepth(FortuneMode mode, Locale locale) {
+        FortuneRingBuffer<PrerenderedFortune> buffer = bufferOf(mode, locale);
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    /**
+     * 풀을 만든 (모드, 로케일) 목록
+     */
+    public Map<FortuneMode, Set<Locale>> getPooledLocales() {
+        Map<FortuneMode, Set<Locale>> pooled = new EnumMap<>(FortuneMode.class);
+        buffers.forEach((mode, byLocale) -> pooled.put(mode, Set.copyOf(byLocale.keySet())));
+        return pooled;
+    }
+
+    /**
+     * 풀에서 바로 꺼내 쓴 요청 수
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 풀이 비어 있거나 풀이 없는 로케일이라 인라인으로 생성한 요청 수
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    /**
+     * 백그라운드에서 채워 넣은 메시지 수 (증가 속도 = 채우기 속도)
+     */
+    public long getRefilledCount() {
+        return refilled.sum();
+    }
+
+    @Override
+    public void close() {
+        if (refiller != null) {
+            refiller.shutdownNow();
+        }
+    }
+
+    /**
+     * 바로 응답에 쓸 수 있는 메시지
+     *
+     * @param body   바디 메시지
+     * @param header 헤더 값 (헤더를 쓰지 않으면 null)
+     */
+    public record PrerenderedFortune(String body, EncodedHeader header) {
+    }
+
+}
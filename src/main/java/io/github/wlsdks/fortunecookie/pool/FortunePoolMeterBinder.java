@@ -0,0 +1,42 @@
+package io.github.wlsdks.fortunecookie.pool;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * 포춘 메시지 풀의 깊이, 채우기 속도, 인라인 생성 대체 횟수를 Micrometer 지표로 등록합니다.
+ */
+public class FortunePoolMeterBinder implements MeterBinder {
+
+    private final FortunePool fortunePool;
+
+    public FortunePoolMeterBinder(FortunePool fortunePool) {
+        this.fortunePool = fortunePool;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        // 1. (모드, 로케일)별 버퍼 깊이
+        fortunePool.getPooledLocales().forEach((mode, locales) -> locales.forEach(locale ->
+                Gauge.builder("fortune.cookie.pool.depth", fortunePool, pool -> pool.getDepth(mode, locale))
+                        .tag("mode", mode.getMode())
+                        .tag("locale", locale.toLanguageTag())
+                        .description("Number of pre-rendered fortunes ready in the pool")
+                        .register(registry)));
+
+        // 2. 채워 넣은 수 (rate = 채우기 속도), 풀 적중 수, 인라인 생성 대체 수
+        FunctionCounter.builder("fortune.cookie.pool.refilled", fortunePool, FortunePool::getRefilledCount)
+                .description("Number of fortunes pre-rendered by the background refill")
+                .register(registry);
+        FunctionCounter.builder("fortune.cookie.pool.hits", fortunePool, FortunePool::getHitCount)
+                .description("Number of requests served from the fortune pool")
+                .register(registry);
+        FunctionCounter.builder("fortune.cookie.pool.fallbacks", fortunePool, FortunePool::getFallbackCount)
+                .description("Number of requests that fell back to inline fortune generation")
+                .register(registry);
+    }
+
+}
@@ -3,11 +3,10 @@ package io.github.wlsdks.fortunecookie.properties;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
 
 @Setter
 @Getter
@@ -23,6 +22,9 @@ public class FortuneCookieProperties {
     // 포춘 메시지를 포함할 헤더 이름
     private String headerName = "X-Fortune-Cookie";
 
+    // 헤더 인코딩 방식 (ENGLISH: 영어 메시지를 한 번 더 조회, RFC8187: 요청 로케일 메시지를 X-Fortune-Cookie*로 인코딩)
+    private HeaderEncoding headerEncoding = HeaderEncoding.ENGLISH;
+
     // JSON 응답에 포춘 메시지를 포함할지에 대한 여부
     private boolean includeInResponse = true;
 
@@ -41,12 +43,21 @@ public class FortuneCookieProperties {
     // 포춘 메시지의 최대 길이 (0 = 무제한)
     private int maxFortuneLength = 0;
 
-    // 디버그 모드 활성화 여부 (true일 경우 로그에 선택된 포춘 메시지 정보가 출력됩니다.)
+    // 디버그 모드 활성화 여부 (true일 경우 샘플링된 요청의 선택된 포춘 메시지, 단계별 시간이 로그에 출력됩니다. trace 설정 참고)
     private boolean debug = false;
 
     // 커스텀 포춘 메시지 경로 (기본 메시지 대신 사용자 정의 메시지를 사용할 경우 설정)
     private String customMessagesPath = "";
 
+    // 라이브러리가 지원하는 로케일 목록 (첫 번째가 기본 로케일)
+    private List<Locale> supportedLocales = new ArrayList<>(List.of(Locale.ENGLISH, Locale.KOREAN));
+
+    // Accept-Language 헤더 원문 → 지원 로케일 결과를 캐시할 최대 헤더 수
+    private int localeCacheSize = 1024;
+
+    // 모든 @FortuneCookie 라우트에 적용할 메시지 시간 구간 (구간마다 라우트별로 메시지를 하나만 고름, 0 = 요청마다 새 메시지)
+    private Duration bucket = Duration.ZERO;
+
     // 포춘 메시지의 총 개수
     private int fortunesCount = 50; // 기본값을 50으로 설정
 
@@ -67,7 +78,306 @@ public class FortuneCookieProperties {
     private int gameRange = 10;
 
     // todo: 설정할때 소문자로 하면 대문자로 어떻게 받을지 컨버터를 써야할듯?
-    // 미니 게임 타입 (NUMBER: 숫자 맞히기, QUIZ: 퀴즈)
+    // 미니 게임 타입 (NUMBER: 숫자 맞히기, QUIZ: 퀴즈, WORD: 단어 맞히기)
     private GameType gameType = GameType.NUMBER;
 
-}
\ No newline at end of file
+    // 퀴즈 은행 파일 기본 경로 (클래스패스 기준, supportedLocales별로 quiz/quiz_en.properties 등을 로드)
+    private String quizBankBasename = "quiz/quiz";
+
+    // 단어 맞히기 게임에서 사용할 단어 길이 (0이면 사전에 있는 길이 중 랜덤)
+    private int wordLength = 5;
+
+    // 단어 맞히기 게임 사전 파일 경로 (클래스패스 기준, 한 줄에 한 단어)
+    private String wordDictionaryPath = "games/words_en.txt";
+
+    // 미니 게임 리더보드 설정
+    private Leaderboard leaderboard = new Leaderboard();
+
+    // 미니 게임 추측 제한(토큰 버킷) 설정
+    private Throttle throttle = new Throttle();
+
+    // 미리 만든 포춘 메시지 풀 설정
+    private Pool pool = new Pool();
+
+    // 미니 게임 상태 저장 방식 설정
+    private GameState gameState = new GameState();
+
+    // 태그로 메시지를 고르는 기능 설정
+    private Tags tags = new Tags();
+
+    // 데이터베이스 메시지 소스 설정
+    private Jdbc jdbc = new Jdbc();
+
+    // 과부하 단계 설정
+    private Degradation degradation = new Degradation();
+
+    // 디버그 추적 설정 (debug=true일 때만 사용)
+    private Trace trace = new Trace();
+
+    // 시작 직후 JIT 워밍업 설정
+    private Warmup warmup = new Warmup();
+
+    // 테넌트별 메시지 카탈로그 설정
+    private Tenant tenant = new Tenant();
+
+    @Setter
+    @Getter
+    public static class Leaderboard {
+
+        // 리더보드(게임별 시도/정답 수, 플레이어별 점수, 상위 N명) 활성화 여부
+        private boolean enabled = false;
+
+        // 상위 몇 명까지 집계할지
+        private int topSize = 10;
+
+        // 플레이어별 점수를 보관할 최대 플레이어 수 (넘으면 랭킹에 없는 오래 쉰 플레이어부터 정리)
+        private int maxPlayers = 100_000;
+
+        // 플레이어를 식별할 헤더 이름 (비어 있으면 로그인 사용자 이름 → 세션 id 순으로 사용)
+        private String playerIdHeader = "";
+
+    }
+
+    @Setter
+    @Getter
+    public static class Throttle {
+
+        // 플레이어별 추측 제한 활성화 여부
+        private boolean enabled = false;
+
+        // 기본 버킷 크기 (연속으로 보낼 수 있는 최대 게임 요청 수)
+        private int capacity = 10;
+
+        // 기본 초당 충전 토큰 수
+        private double refillPerSecond = 1.0;
+
+        // 게임 타입별 예산 (없는 게임 타입은 기본값 사용, 예: budgets.number.capacity=3)
+        private Map<GameType, Budget> budgets = new HashMap<>();
+
+        // 게임 타입별로 추적할 최대 플레이어 수 (넘으면 새 플레이어는 공용 버킷을 함께 사용)
+        private int maxPlayers = 100_000;
+
+    }
+
+    @Setter
+    @Getter
+    public static class Pool {
+
+        // (모드, 로케일)별 메시지 풀 활성화 여부
+        private boolean enabled = false;
+
+        // 풀을 만들 모드 목록 (로케일은 supportedLocales 전체)
+        private Set<FortuneMode> modes = EnumSet.of(FortuneMode.FORTUNE, FortuneMode.JOKE, FortuneMode.QUOTE);
+
+        // (모드, 로케일)별 버퍼 크기 (2의 거듭제곱으로 올림)
+        private int capacity = 256;
+
+        // 백그라운드 채우기 주기
+        private Duration refillInterval = Duration.ofMillis(100);
+
+    }
+
+    @Setter
+    @Getter
+    public static class GameState {
+
+        // 게임 상태 저장 방식 (SESSION: HTTP 세션, TOKEN: 암호화된 토큰)
+        private GameStateMode mode = GameStateMode.SESSION;
+
+        // 토큰 방식 설정
+        private Token token = new Token();
+
+    }
+
+    @Setter
+    @Getter
+    public static class Token {
+
+        // 토큰 암호화 키(AES-256-GCM)를 파생할 비밀 값 (TOKEN 방식에서 필수, 모든 인스턴스가 같은 값을 사용해야 함, 32바이트 이상 권장)
+        private String secret = "";
+
+        // 토큰 유효 기간 (요청마다 다시 발급되므로 마지막 요청 기준)
+        private Duration ttl = Duration.ofMinutes(30);
+
+        // 토큰을 주고받을 방식 (COOKIE, HEADER)
+        private GameStateTransport transport = GameStateTransport.COOKIE;
+
+        // 쿠키/헤더 이름 접두어 (게임별 상태 키가 붙음, 예: X-Fortune-Game-secretNumber)
+        private String namePrefix = "X-Fortune-Game-";
+
+        // 한 라운드에서 허용할 최대 시도 수 (넘으면 새 라운드, 0 = 무제한)
+        private int maxAttempts = 0;
+
+    }
+
+    @Setter
+    @Getter
+    public static class Tags {
+
+        // 태그 기능 활성화 여부 (@FortuneCookie(tags = ...)와 권한 태그)
+        private boolean enabled = false;
+
+        // 태그 파일 경로 (클래스패스 기준, 메시지 키=태그1,태그2)
+        private String location = "fortunes/fortune-tags.properties";
+
+        // 동적 태그 조합(권한 태그가 섞인 조합 등) LRU 캐시 크기
+        private int cacheSize = 256;
+
+        // 권한 → 태그 매핑 (예: ROLE_DEVELOPER: coding), 로그인 사용자의 권한에 해당하는 태그가 요청 태그에 추가됨
+        private Map<String, String> roleTags = new HashMap<>();
+
+    }
+
+    @Setter
+    @Getter
+    public static class Jdbc {
+
+        // 데이터베이스 테이블의 메시지 사용 여부 (DataSource 빈 필요, 테이블에 없는 메시지는 번들 메시지 사용)
+        private boolean enabled = false;
+
+        // 메시지 테이블 이름 (fortune_key, locale, message, updated_at 컬럼)
+        private String table = "fortune_messages";
+
+        // 한 번의 쿼리로 읽을 최대 행 수
+        private int pageSize = 500;
+
+        // updated_at 워터마크 이후 변경분을 다시 읽는 주기
+        private Duration refreshInterval = Duration.ofSeconds(30);
+
+        // 늦게 커밋된 행을 놓치지 않도록 워터마크보다 앞서 다시 읽을 구간
+        private Duration refreshOverlap = Duration.ofSeconds(5);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Degradation {
+
+        // 과부하일 때 포춘 처리 단계를 줄이는 기능 활성화 여부
+        private boolean enabled = false;
+
+        // 신호를 모아 단계를 다시 정하는 주기
+        private Duration evaluationInterval = Duration.ofMillis(100);
+
+        // 요청 지연 EWMA에서 최근 주기 평균의 가중치 (0~1)
+        private double latencyAlpha = 0.3;
+
+        // 단계를 내릴 때 기준값에 곱할 비율 (0~1, 작을수록 늦게 회복)
+        private double recoveryRatio = 0.7;
+
+        // 단계를 바꾼 뒤 내리기 전에 유지할 최소 시간
+        private Duration minHold = Duration.ofSeconds(5);
+
+        // Tomcat 스레드 지표(busy / max)를 사용률 신호로 사용할지 여부 (Micrometer와 Tomcat 지표가 있을 때)
+        private boolean tomcatUtilization = true;
+
+        // 단계별 진입 기준 (no-games, no-placeholders, static, off)
+        private Map<DegradationTier, DegradationThreshold> thresholds = defaultThresholds();
+
+        private static Map<DegradationTier, DegradationThreshold> defaultThresholds() {
+            Map<DegradationTier, DegradationThreshold> thresholds = new EnumMap<>(DegradationTier.class);
+            thresholds.put(DegradationTier.NO_GAMES, DegradationThreshold.of(200, Duration.ofMillis(250), 0.75));
+            thresholds.put(DegradationTier.NO_PLACEHOLDERS, DegradationThreshold.of(400, Duration.ofMillis(500), 0.85));
+            thresholds.put(DegradationTier.STATIC, DegradationThreshold.of(800, Duration.ofSeconds(1), 0.95));
+            thresholds.put(DegradationTier.OFF, DegradationThreshold.of(1600, Duration.ofSeconds(2), 0.0));
+            return thresholds;
+        }
+
+    }
+
+    @Setter
+    @Getter
+    public static class DegradationThreshold {
+
+        // 진행 중 요청 수 (0 = 사용 안 함)
+        private int inFlight;
+
+        // 요청 지연 EWMA (preHandle ~ afterCompletion, 0 = 사용 안 함)
+        private Duration latency = Duration.ZERO;
+
+        // 스레드 풀 사용률 0~1 (0 = 사용 안 함)
+        private double utilization;
+
+        static DegradationThreshold of(int inFlight, Duration latency, double utilization) {
+            DegradationThreshold threshold = new DegradationThreshold();
+            threshold.setInFlight(inFlight);
+            threshold.setLatency(latency);
+            threshold.setUtilization(utilization);
+            return threshold;
+        }
+
+    }
+
+    @Setter
+    @Getter
+    public static class Budget {
+
+        // 버킷 크기
+        private int capacity = 10;
+
+        // 초당 충전 토큰 수
+        private double refillPerSecond = 1.0;
+
+    }
+
+    @Setter
+    @Getter
+    public static class Trace {
+
+        // 추적할 요청 비율 (0.0 ~ 1.0, 요청마다 난수 한 번으로 결정)
+        private double sampleRate = 0.01;
+
+        // 로그로 내보내기 전까지 추적 기록을 담아둘 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 새 기록은 버림)
+        private int bufferSize = 1024;
+
+        // 버퍼를 비워 로그로 내보내는 주기
+        private Duration drainInterval = Duration.ofSeconds(1);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Warmup {
+
+        // 애플리케이션 준비 직후 합성 요청으로 메시지 선택, 플레이스홀더, 게임, 직렬화 경로를 미리 실행할지 여부
+        private boolean enabled = false;
+
+        // 최대 반복 횟수
+        private int iterations = 10_000;
+
+        // 최대 실행 시간 (반복 횟수와 먼저 도달하는 쪽에서 끝남)
+        private Duration timeout = Duration.ofSeconds(30);
+
+        // 워밍업이 끝날 때까지 readiness 상태를 REFUSING_TRAFFIC로 유지할지 여부
+        private boolean holdReadiness = true;
+
+    }
+
+    @Setter
+    @Getter
+    public static class Tenant {
+
+        // 테넌트별 메시지, 게임 설정 덮어쓰기 활성화 여부
+        private boolean enabled = false;
+
+        // 테넌트를 정하는 방식 (header, host)
+        private TenantSource source = TenantSource.HEADER;
+
+        // source=header일 때 테넌트 식별자를 담은 요청 헤더 이름
+        private String headerName = "X-Tenant-Id";
+
+        // source=host일 때 테넌트 서브도메인 뒤에 붙는 공용 도메인 (예: .fortunes.example.com)
+        private String hostSuffix = "";
+
+        // 테넌트 카탈로그 파일 위치 ({tenant} 자리에 테넌트 식별자, 로케일과 확장자 제외)
+        private String location = "fortunes/tenants/{tenant}/fortunes";
+
+        // 캐시에 담아 둘 최대 테넌트 수
+        private int maxTenants = 2_000;
+
+        // 캐시에 담아 둘 테넌트 카탈로그의 메모리 합 상한 (대략적인 값)
+        private DataSize maxWeight = DataSize.ofMegabytes(64);
+
+    }
+
+}
@@ -1,14 +1,14 @@
 package io.github.wlsdks.fortunecookie.provider;
 
-import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.jfr.FortuneEvents;
+import io.github.wlsdks.fortunecookie.jfr.FortuneLookupEvent;
 import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
 import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.tag.FortuneTagIndex;
 import org.springframework.context.MessageSource;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Locale;
-import java.util.Random;
 
 /**
  * 포춘 메시지를 제공하는 기본 구현체입니다.
@@ -17,13 +17,20 @@ import java.util.Random;
 public class DefaultFortuneProvider implements FortuneProvider {
 
     private final MessageSource messageSource;
-    private final FortuneCookieProperties properties;
-    private final Random random;
+    private final FortuneKeySelector keySelector; // 키 선택 규칙은 코어 모듈의 다른 제공자들과 공유
 
     public DefaultFortuneProvider(MessageSource messageSource, FortuneCookieProperties properties) {
         this.messageSource = messageSource;
-        this.properties = properties;
-        this.random = new Random();
+        this.keySelector = new FortuneKeySelector(properties::getMode, properties::getFortunesCount);
+    }
+
+    /**
+     * 태그 역색인을 설정합니다. (fortune-cookie.tags.enabled=true일 때 자동 설정에서 주입)
+     *
+     * @param tagIndex (모드, 태그) → 엔트리 비트맵 역색인
+     */
+    public void setTagIndex(FortuneTagIndex tagIndex) {
+        keySelector.setTagIndex(tagIndex);
     }
 
     /**
@@ -31,39 +38,22 @@ public class DefaultFortuneProvider implements FortuneProvider {
      *
      * @return 생성된 포춘 메시지 키 (예: "fortune.joke.1", "fortune.joke.2" 등)
      */
+    @Override
     public String generateFortuneKey(FortuneMode requestedMode) {
-        // 1) requestedMode가 UNSPECIFIED면, properties.getMode() 사용
-        FortuneMode finalMode = requestedMode == FortuneMode.UNSPECIFIED
-                ? properties.getMode()
-                : requestedMode;
-
-        // 2) finalMode에 따라 prefix 정하기
-        String prefix = Constant.MESSAGE_PREFIX;
-        if (FortuneMode.JOKE.equals(finalMode)) {
-            prefix = Constant.JOKE_MESSAGE;
-        }
-        if (FortuneMode.QUOTE.equals(finalMode)) {
-            prefix = Constant.QUOTE_MESSAGE;
-        }
-
-        // 3) 0.0 <= roll < 1.0 범위의 랜덤한 double 값 생성 (1% 확률로 특별한 메시지 반환 (해당 모드에 맞춘 special 키 사용))
-        double roll = random.nextDouble();
-        if (roll < 0.01) {
-            return Constant.SPECIAL_MESSAGE;
-        }
-
-        // 4) 특수한 일자에는 다른 메시지 반환 (이 부분은 mode와 상관없이 특정 키 사용)
-        DayOfWeek dayOfWeek = LocalDate.now().getDayOfWeek();
-        if (dayOfWeek == DayOfWeek.MONDAY) {
-            return Constant.MONDAY_MESSAGE;
-        }
-        if (dayOfWeek == DayOfWeek.FRIDAY) {
-            return Constant.FRIDAY_MESSAGE;
-        }
+        return keySelector.generate(requestedMode);
+    }
 
-        // 5) 일반 포춘: 1 ~ fortunesCount 범위 내에서 랜덤하게 선택
-        int messageIndex = random.nextInt(properties.getFortunesCount()) + 1;
-        return prefix + "." + messageIndex; // 수정: prefix 사용
+    /**
+     * 태그를 모두 가진 메시지 중에서 균등한 확률로 키를 고릅니다.
+     * 태그로 주제를 지정한 요청이므로 요일, 스페셜 메시지는 적용하지 않고, 조건을 만족하는 메시지가 없으면 일반 선택을 사용합니다.
+     *
+     * @param requestedMode 포춘 모드
+     * @param tags          요청 태그
+     * @return 생성된 포춘 메시지 키
+     */
+    @Override
+    public String generateFortuneKey(FortuneMode requestedMode, Collection<String> tags) {
+        return keySelector.generate(requestedMode, tags);
     }
 
     /**
@@ -75,36 +65,30 @@ public class DefaultFortuneProvider implements FortuneProvider {
      */
     @Override
     public String getFortune(String fortuneKey, Locale locale) {
+        FortuneLookupEvent event = new FortuneLookupEvent();
+        event.begin();
+
         // 메시지 프로퍼티에서 포춘 메시지 가져오기
         String message = messageSource.getMessage(fortuneKey, null, locale);
 
         // 만약 메시지가 null이거나 비어있으면 기본 메시지로 대체
-        if (message.equals(fortuneKey)) {
-            return messageSource.getMessage(getDefaultKeyForCurrentMode(), null,
+        boolean hit = !message.equals(fortuneKey);
+        if (!hit) {
+            message = messageSource.getMessage(keySelector.defaultKey(), null,
                     "오늘은 농담이 없습니다. X-Guess 헤더를 사용하여 1에서 20 사이의 숫자를 추측하세요!", locale);
         }
 
-        // 포춘 메시지 반환
-        return message;
-    }
-
-
-    /**
-     * 현재 mode에 맞는 default 키를 반환하는 헬퍼 메서드
-     */
-    private String getDefaultKeyForCurrentMode() {
-        FortuneMode fortuneMode = properties.getMode();
-
-        // mode에 따라 다른 default 키를 반환
-        if (FortuneMode.JOKE.equals(fortuneMode)) {
-            return "fortune.joke.default";
-        }
-        if (FortuneMode.QUOTE.equals(fortuneMode)) {
-            return "fortune.quote.default";
+        // JFR 레코딩 중일 때만 이벤트 필드를 채움
+        if (event.shouldCommit()) {
+            event.fortuneKey = fortuneKey;
+            event.keyIndex = FortuneEvents.keyIndex(fortuneKey);
+            event.locale = FortuneEvents.localeTag(locale);
+            event.hit = hit;
+            event.commit();
         }
 
-        // 기본값 반환
-        return "fortune.default";
+        // 포춘 메시지 반환
+        return message;
     }
 
 }
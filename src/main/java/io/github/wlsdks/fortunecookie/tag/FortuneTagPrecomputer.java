@@ -0,0 +1,56 @@
+package io.github.wlsdks.fortunecookie.tag;
+
+import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Arrays;
+
+/**
+ * 시작 시점에 @FortuneCookie(tags = ...)가 붙은 핸들러를 모두 찾아, 각 라우트의 고정 태그 조합을 미리 계산합니다.
+ * 요청 처리 중에는 고정 조합의 교집합을 다시 계산하지 않습니다.
+ */
+@Slf4j
+public class FortuneTagPrecomputer implements SmartInitializingSingleton {
+
+    private final FortuneTagIndex tagIndex;
+    private final FortuneCookieProperties properties;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    public FortuneTagPrecomputer(FortuneTagIndex tagIndex,
+                                 FortuneCookieProperties properties,
+                                 ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.tagIndex = tagIndex;
+        this.properties = properties;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream().forEach(mapping ->
+                mapping.getHandlerMethods().values().forEach(this::precompute));
+        log.info("Precomputed {} fortune tag selections", tagIndex.getPinnedCount());
+    }
+
+    private void precompute(HandlerMethod handlerMethod) {
+        // 1. 인터셉터와 같은 순서로 어노테이션을 찾음 (메서드 → 클래스)
+        FortuneCookie annotation = AnnotationUtils.findAnnotation(handlerMethod.getMethod(), FortuneCookie.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(handlerMethod.getBeanType(), FortuneCookie.class);
+        }
+        if (annotation == null || annotation.tags().length == 0) {
+            return;
+        }
+
+        // 2. 라우트의 최종 모드 기준으로 교집합을 미리 계산
+        FortuneMode mode = annotation.mode() == FortuneMode.UNSPECIFIED ? properties.getMode() : annotation.mode();
+        tagIndex.precompute(mode, Arrays.asList(annotation.tags()));
+    }
+
+}
@@ -0,0 +1,276 @@
+package io.github.wlsdks.fortunecookie.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieResponseAdvice;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import jakarta.servlet.http.Cookie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 애플리케이션 준비 직후 합성 요청으로 포춘 경로(메시지 선택, 플레이스홀더 치환, 헤더/바디 인코딩, 게임 모듈, 응답 직렬화)를
+ * 미리 실행해서 JIT 컴파일을 끝내 두는 클래스입니다. (fortune-cookie.warmup.enabled=true일 때만)
+ * 실제 요청과 같은 인터셉터(preHandle, afterCompletion)와 응답 어드바이스(supports, beforeBodyWrite) 빈을 거치므로
+ * 두 빈이 가진 캐시(헤더 인코딩, 바디 직렬화, Accept-Language, 라우트)도 함께 채워집니다.
+ * 백그라운드 스레드 하나에서 정해진 반복 횟수나 시간 중 먼저 도달하는 쪽까지 실행하고,
+ * 그동안 readiness 상태를 REFUSING_TRAFFIC로 유지해서 로드 밸런서가 느린 첫 요청들을 이 인스턴스로 보내지 않게 합니다.
+ * 워밍업 요청은 리더보드, 추측 제한, 과부하 단계의 지연, 추적 기록에는 반영되지 않습니다.
+ */
+@Slf4j
+public class FortuneWarmup implements AutoCloseable {
+
+    // 게임 모듈의 프롬프트, 오답, 잘못된 입력, 정답 경로를 모두 지나도록 돌아가며 넣는 추측 값
+    private static final String[] GUESSES = {null, "3", "abc", "7", "apple", "crane"};
+
+    private final FortuneCookieInterceptor interceptor;
+    private final FortuneCookieResponseAdvice responseAdvice;
+    private final FortuneCookieProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher publisher;
+    private final List<HandlerMethod> handlers;
+    private final Map<String, String> placeholderHeaders = new HashMap<>();
+
+    // 같은 플레이어가 여러 번 추측하도록 몇 번에 한 번씩만 바꾸는 세션과, 이전 응답이 내려준 쿠키 (토큰 저장소)
+    private WarmupSession session;
+    private Cookie[] cookies;
+
+    private final Object readinessLock = new Object();
+    private volatile boolean running;
+    private volatile boolean finished;
+    private volatile boolean stopped;
+    private volatile int completedIterations;
+    private volatile Duration duration = Duration.ZERO;
+
+    public FortuneWarmup(FortuneCookieInterceptor interceptor,
+                         FortuneCookieResponseAdvice responseAdvice,
+                         FortuneCookieProperties properties,
+                         ObjectMapper objectMapper,
+                         ApplicationEventPublisher publisher) {
+        this.interceptor = interceptor;
+        this.responseAdvice = responseAdvice;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.publisher = publisher;
+
+        // 모드, 게임 종류, 응답 타입(Map, 그 외)이 다른 워밍업 핸들러를 돌아가며 사용
+        WarmupHandler handler = new WarmupHandler();
+        this.handlers = List.of(
+                handlerMethod(handler, "fortune"),
+                handlerMethod(handler, "joke"),
+                handlerMethod(handler, "quote"));
+
+        // 헤더 플레이스홀더는 실제 값이 있는 경로도 지나도록 합성 헤더 값을 넣어 둠
+        properties.getPlaceholderMapping().values().forEach(mappingSpec -> {
+            if (mappingSpec != null && mappingSpec.startsWith(Constant.HEADER + Constant.COLON)) {
+                placeholderHeaders.put(mappingSpec.substring(Constant.HEADER.length() + 1).toLowerCase(Locale.ROOT), "warmup");
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션이 준비되면 백그라운드 스레드에서 워밍업을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 1. readiness를 먼저 내려둠 (스프링 부트가 바로 뒤에 ACCEPTING_TRAFFIC를 알리면 아래 리스너가 다시 내림)
+        running = true;
+        if (properties.getWarmup().isHoldReadiness()) {
+            AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+
+        // 2. 요청 스레드와 겹치지 않도록 데몬 스레드 하나에서 실행
+        Thread thread = new Thread(this::run, "fortune-cookie-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 워밍업 중에 다른 곳에서 ACCEPTING_TRAFFIC를 알리면 워밍업이 끝날 때까지 다시 REFUSING_TRAFFIC로 되돌립니다.
+     * 상태를 기록하는 ApplicationAvailabilityBean이 먼저 ACCEPTING_TRAFFIC를 기록한 뒤에 되돌려야 하므로 가장 낮은 우선순위로 실행합니다.
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !properties.getWarmup().isHoldReadiness()) {
+            return;
+        }
+        // 끝났는지 확인하고 되돌리는 사이에 워밍업 스레드가 ACCEPTING_TRAFFIC를 알리지 않도록 같은 락 안에서 처리
+        synchronized (readinessLock) {
+            if (running && !finished) {
+                AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+            }
+        }
+    }
+
+    /**
+     * 워밍업을 실행하고, 끝나면 걸린 시간을 남기고 readiness를 ACCEPTING_TRAFFIC로 되돌립니다.
+     * 실패해도 인스턴스가 트래픽을 받지 못하는 일은 없도록 항상 readiness를 되돌립니다.
+     */
+    void run() {
+        FortuneCookieProperties.Warmup warmup = properties.getWarmup();
+        long start = System.nanoTime();
+        long deadline = start + warmup.getTimeout().toNanos();
+        int iteration = 0;
+        try {
+            while (iteration < warmup.getIterations() && System.nanoTime() - deadline < 0 && !stopped) {
+                runIteration(iteration);
+                completedIterations = ++iteration;
+            }
+            duration = Duration.ofNanos(System.nanoTime() - start);
+            log.info("Fortune cookie warm-up finished: {} iterations in {} ms", iteration, duration.toMillis());
+        } catch (Exception e) {
+            duration = Duration.ofNanos(System.nanoTime() - start);
+            log.warn("Fortune cookie warm-up stopped after {} iterations in {} ms", iteration, duration.toMillis(), e);
+        } finally {
+            synchronized (readinessLock) {
+                finished = true;
+                if (warmup.isHoldReadiness() && !stopped) {
+                    AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+                }
+            }
+        }
+    }
+
+    /**
+     * 합성 요청 하나를 실제 요청처럼 인터셉터 → 응답 어드바이스 → 응답 직렬화 → afterCompletion 순서로 실행합니다.
+     */
+    private void runIteration(int iteration) throws Exception {
+        // 1. 라우트(모드, 게임 종류)와 지원 로케일을 돌아가며 선택 (세션은 추측 값을 한 바퀴 돌 때마다 바꿈)
+        HandlerMethod handler = handlers.get(iteration % handlers.size());
+        List<Locale> locales = properties.getSupportedLocales();
+        Locale locale = locales.get(iteration % locales.size());
+        if (iteration % GUESSES.length == 0) {
+            session = new WarmupSession("warmup-" + iteration / GUESSES.length);
+            cookies = null;
+        }
+
+        // 2. Accept-Language, 플레이스홀더 헤더, 게임 추측 헤더를 가진 요청
+        Map<String, String> headers = new HashMap<>(placeholderHeaders);
+        headers.put(HttpHeaders.ACCEPT_LANGUAGE.toLowerCase(Locale.ROOT), locale.toLanguageTag());
+        String guess = GUESSES[iteration % GUESSES.length];
+        if (guess != null) {
+            headers.put(Constant.X_GUESS.toLowerCase(Locale.ROOT), guess);
+            headers.put(Constant.X_QUIZ_ANSWER.toLowerCase(Locale.ROOT), guess);
+            headers.put(Constant.X_WORD_GUESS.toLowerCase(Locale.ROOT), guess);
+        }
+        WarmupRequest request = new WarmupRequest(headers, cookies, session, locale);
+        WarmupResponse response = new WarmupResponse();
+        request.setAttribute(Constant.FORTUNE_WARMUP, Boolean.TRUE);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, WarmupRequest.URI);
+
+        // 3. DispatcherServlet처럼 인터셉터 → 핸들러 → 응답 어드바이스 순서로 실행 (어드바이스는 RequestContextHolder에서 핸들러를 찾음)
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            if (!interceptor.preHandle(request, response, handler)) {
+                return;
+            }
+            Exception failure = null;
+            try {
+                Object body = handler.getMethod().invoke(handler.getBean());
+                MethodParameter returnType = handler.getReturnType();
+                if (responseAdvice.supports(returnType, MappingJackson2HttpMessageConverter.class)) {
+                    body = responseAdvice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+                            MappingJackson2HttpMessageConverter.class,
+                            new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+                }
+                objectMapper.writeValueAsBytes(body);
+            } catch (Exception e) {
+                failure = e;
+                throw e;
+            } finally {
+                interceptor.afterCompletion(request, response, handler, failure);
+            }
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // 4. 토큰 저장소가 내려준 게임 상태 쿠키는 같은 플레이어의 다음 요청에 실음
+        Cookie[] responseCookies = response.getCookies();
+        if (responseCookies.length > 0) {
+            cookies = responseCookies;
+        }
+    }
+
+    /**
+     * 워밍업이 끝났는지 여부 (실패로 끝난 경우 포함)
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 실행한 반복 횟수
+     */
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    /**
+     * 워밍업에 걸린 시간 (끝나기 전에는 0)
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * 컨텍스트가 닫히면 진행 중인 워밍업을 멈춥니다.
+     */
+    @Override
+    public void close() {
+        stopped = true;
+    }
+
+    private static HandlerMethod handlerMethod(WarmupHandler handler, String name) {
+        return new HandlerMethod(handler, ClassUtils.getMethod(WarmupHandler.class, name));
+    }
+
+    /**
+     * 워밍업 요청을 처리하는 핸들러 (실제 컨트롤러 대신 @FortuneCookie 속성과 응답 타입만 제공)
+     * 모드와 게임 종류를 지정하지 않은 fortune()은 설정의 기본 모드, 기본 게임을 사용합니다.
+     */
+    static final class WarmupHandler {
+
+        @FortuneCookie
+        public Map<String, Object> fortune() {
+            return Map.of("warmup", FortuneMode.FORTUNE.getMode());
+        }
+
+        @FortuneCookie(mode = FortuneMode.JOKE, gameType = GameType.QUIZ)
+        public List<String> joke() {
+            return List.of(FortuneMode.JOKE.getMode());
+        }
+
+        @FortuneCookie(mode = FortuneMode.QUOTE, gameType = GameType.WORD)
+        public List<String> quote() {
+            return List.of(FortuneMode.QUOTE.getMode());
+        }
+
+    }
+
+}
@@ -0,0 +1,433 @@
+package io.github.wlsdks.fortunecookie.warmup;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+
+import java.io.BufferedReader;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 워밍업이 인터셉터와 응답 어드바이스에 넘기는 GET 요청입니다.
+ * 헤더, 쿠키, 요청 속성, 세션만 가지고 있고 본문, 파라미터, 비동기 처리, 인증처럼 포춘 경로가 쓰지 않는 기능은 UnsupportedOperationException을 던집니다.
+ * 워밍업 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+final class WarmupRequest implements HttpServletRequest {
+
+    static final String URI = "/fortune-cookie/warmup";
+
+    private static final String REMOTE_ADDR = "127.0.0.1";
+    private static final String SERVER_NAME = "localhost";
+    private static final int SERVER_PORT = 80;
+
+    private final Map<String, String> headers;
+    private final Cookie[] cookies;
+    private final HttpSession session;
+    private final Locale locale;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    /**
+     * @param headers 요청 헤더 (대소문자를 구분하지 않도록 이름은 소문자로 넣음)
+     * @param cookies 요청 쿠키 (없으면 null)
+     * @param session 플레이어 세션 (게임 모듈이 처음 요청할 때 만든 것처럼 항상 같은 세션을 돌려줌)
+     * @param locale  요청 로케일 (Accept-Language와 같은 값)
+     */
+    WarmupRequest(Map<String, String> headers, Cookie[] cookies, HttpSession session, Locale locale) {
+        this.headers = headers;
+        this.cookies = cookies;
+        this.session = session;
+        this.locale = locale;
+    }
+
+    // 헤더, 쿠키
+
+    @Override
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        String value = getHeader(name);
+        return Collections.enumeration(value != null ? List.of(value) : List.of());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return -1;
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return cookies;
+    }
+
+    // 요청 속성, 세션
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        return session;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return session;
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return session.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        return session.getId();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return true;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return false;
+    }
+
+    // 요청 라인, 연결 정보
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return URI;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer("http://").append(SERVER_NAME).append(URI);
+    }
+
+    @Override
+    public String getContextPath() {
+        return "";
+    }
+
+    @Override
+    public String getServletPath() {
+        return URI;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return null;
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public String getScheme() {
+        return "http";
+    }
+
+    @Override
+    public boolean isSecure() {
+        return false;
+    }
+
+    @Override
+    public String getServerName() {
+        return SERVER_NAME;
+    }
+
+    @Override
+    public int getServerPort() {
+        return SERVER_PORT;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return REMOTE_ADDR;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return REMOTE_ADDR;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return 0;
+    }
+
+    @Override
+    public String getLocalName() {
+        return SERVER_NAME;
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return REMOTE_ADDR;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return SERVER_PORT;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public String getRequestId() {
+        return "";
+    }
+
+    @Override
+    public String getProtocolRequestId() {
+        return "";
+    }
+
+    @Override
+    public ServletConnection getServletConnection() {
+        throw unsupported();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return null;
+    }
+
+    // 로케일
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(List.of(locale));
+    }
+
+    // 인증 (워밍업 요청은 로그인하지 않은 사용자)
+
+    @Override
+    public String getAuthType() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return null;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return null;
+    }
+
+    @Override
+    public boolean authenticate(HttpServletResponse response) {
+        throw unsupported();
+    }
+
+    @Override
+    public void login(String username, String password) {
+        throw unsupported();
+    }
+
+    @Override
+    public void logout() {
+        throw unsupported();
+    }
+
+    // 본문, 파라미터 (GET 요청이라 비어 있음)
+
+    @Override
+    public String getCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public void setCharacterEncoding(String env) {
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1;
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        throw unsupported();
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        throw unsupported();
+    }
+
+    @Override
+    public String getParameter(String name) {
+        return null;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.emptyEnumeration();
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Map.of();
+    }
+
+    @Override
+    public Collection<Part> getParts() {
+        throw unsupported();
+    }
+
+    @Override
+    public Part getPart(String name) {
+        throw unsupported();
+    }
+
+    // 디스패치, 비동기, 프로토콜 업그레이드 (워밍업은 인터셉터와 어드바이스만 직접 호출)
+
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        throw unsupported();
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw unsupported();
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        throw unsupported();
+    }
+
+    @Override
+    public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the fortune cookie warm-up request");
+    }
+
+}
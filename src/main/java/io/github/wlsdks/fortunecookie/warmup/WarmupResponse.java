@@ -0,0 +1,223 @@
+package io.github.wlsdks.fortunecookie.warmup;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 워밍업 요청의 응답입니다. 인터셉터와 게임 상태 저장소가 설정하는 헤더, 쿠키만 메모리에 모읍니다.
+ * 본문은 워밍업이 ObjectMapper로 직접 직렬화하므로 출력 스트림과 리다이렉트, 오류 응답은 UnsupportedOperationException을 던집니다.
+ * 워밍업 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+final class WarmupResponse implements HttpServletResponse {
+
+    // 헤더 이름(소문자) → 값 목록
+    private final Map<String, List<String>> headers = new LinkedHashMap<>();
+    private final List<Cookie> cookies = new ArrayList<>();
+    private int status = SC_OK;
+    private String contentType;
+    private String characterEncoding = "UTF-8";
+    private Locale locale = Locale.getDefault();
+
+    /**
+     * 응답에 추가된 쿠키 (같은 플레이어의 다음 요청에 그대로 실어 보냄)
+     */
+    Cookie[] getCookies() {
+        return cookies.toArray(new Cookie[0]);
+    }
+
+    // 헤더, 쿠키
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        cookies.add(cookie);
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        List<String> values = new ArrayList<>(1);
+        values.add(value);
+        headers.put(name.toLowerCase(Locale.ROOT), values);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new ArrayList<>(1)).add(value);
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, Long.toString(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, Long.toString(date));
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name.toLowerCase(Locale.ROOT));
+        return values != null ? values.get(0) : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name.toLowerCase(Locale.ROOT));
+        return values != null ? List.copyOf(values) : List.of();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return List.copyOf(headers.keySet());
+    }
+
+    // 상태, 본문 설정
+
+    @Override
+    public void setStatus(int sc) {
+        this.status = sc;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        this.contentType = type;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        this.characterEncoding = charset;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+    }
+
+    @Override
+    public void setLocale(Locale loc) {
+        this.locale = loc;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+    }
+
+    @Override
+    public int getBufferSize() {
+        return 0;
+    }
+
+    @Override
+    public void flushBuffer() {
+    }
+
+    @Override
+    public void resetBuffer() {
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        headers.clear();
+        cookies.clear();
+        status = SC_OK;
+    }
+
+    // 출력, 리다이렉트, 오류 응답 (워밍업은 본문을 직접 직렬화)
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        throw unsupported();
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        throw unsupported();
+    }
+
+    @Override
+    public String encodeURL(String url) {
+        return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+        return url;
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        throw unsupported();
+    }
+
+    @Override
+    public void sendError(int sc) {
+        throw unsupported();
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        throw unsupported();
+    }
+
+    // Servlet 6.1부터 다른 sendRedirect가 위임하는 메서드 (이전 버전에서는 사용되지 않음)
+    public void sendRedirect(String location, int sc, boolean clearBuffer) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the fortune cookie warm-up response");
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = "fortune-cookie.degradation.enabled=true")
+@AutoConfigureMockMvc
+public class AsyncFortuneTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DegradationController degradationController;
+
+    @DisplayName("비동기 핸들러는 재디스패치에서 메시지를 다시 만들지 않고, 진행 중 요청 수는 끝난 뒤 0으로 돌아간다")
+    @Test
+    public void testAsyncHandlerEntersOnce() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            // 1. 첫 디스패치: 헤더와 바디 메시지를 만들고 비동기 처리 시작
+            MvcResult started = mockMvc.perform(get("/async").header("Accept-Language", "en"))
+                    .andExpect(request().asyncStarted())
+                    .andExpect(header().exists("X-Fortune-Cookie"))
+                    .andReturn();
+            Object fortune = started.getRequest().getAttribute(Constant.FORTUNE_BODY);
+            assertThat(fortune).isNotNull();
+            assertThat(degradationController.getInFlight()).isEqualTo(1L);
+
+            // 2. ASYNC 재디스패치: 첫 디스패치의 메시지가 그대로 바디에 실림
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("Async test"))
+                    .andExpect(jsonPath("$.fortune").value(fortune));
+
+            // 3. 진행 중 요청 수가 남지 않음
+            assertThat(degradationController.getInFlight()).isEqualTo(0L);
+        }
+    }
+
+}
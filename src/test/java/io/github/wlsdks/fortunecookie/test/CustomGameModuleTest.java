@@ -0,0 +1,62 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.properties.GameType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = "fortune-cookie.game-enabled=true")
+@AutoConfigureMockMvc
+@Import(CustomGameModuleTest.CustomGameConfiguration.class)
+public class CustomGameModuleTest {
+
+    private static final String CUSTOM_GAME = "[custom number game]";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("사용자가 등록한 GameModule 빈도 type()으로 찾아서 실행한다")
+    @Test
+    public void testCustomGameModuleIsUsed() throws Exception {
+        mockMvc.perform(get("/game").header("Accept-Language", "en"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fortune").value(endsWith(CUSTOM_GAME)));
+    }
+
+    @TestConfiguration
+    static class CustomGameConfiguration {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public GameModule customNumberGame() {
+            return new GameModule() {
+                @Override
+                public GameType type() {
+                    return GameType.NUMBER;
+                }
+
+                @Override
+                public String processGame(HttpServletRequest request, String currentFortune) {
+                    return currentFortune + " " + CUSTOM_GAME;
+                }
+            };
+        }
+
+    }
+
+}
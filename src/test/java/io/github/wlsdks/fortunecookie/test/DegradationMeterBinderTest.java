@@ -0,0 +1,49 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import io.github.wlsdks.fortunecookie.degrade.DegradationMeterBinder;
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DegradationMeterBinderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @DisplayName("Tomcat 스레드 지표가 바인딩 뒤에 등록되어도 사용률 신호로 연결되고, 평가할 때는 등록된 게이지 값만 읽는다")
+    @Test
+    public void testTomcatGaugesRegisteredLater() {
+        DegradationController controller = new DegradationController(
+                Map.of(DegradationTier.NO_GAMES, new DegradationController.Threshold(0, 0, 0.8)),
+                Duration.ofMillis(100), 0.3, 0.7, Duration.ofSeconds(5), clock::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new DegradationMeterBinder(controller, true).bindTo(registry);
+        assertThat(registry.find("fortune.cookie.degradation.tier").gauge()).isNotNull();
+
+        // 1. 웹 서버가 시작되기 전에는 사용률 0
+        controller.evaluate(clock.addAndGet(1));
+        assertThat(controller.getUtilization()).isZero();
+
+        // 2. 나중에 등록된 게이지를 잡아 두고 값만 읽음
+        AtomicInteger busy = new AtomicInteger(90);
+        Gauge.builder("tomcat.threads.busy", busy, AtomicInteger::get).register(registry);
+        Gauge.builder("tomcat.threads.config.max", () -> 100).register(registry);
+        controller.evaluate(clock.addAndGet(1));
+        assertThat(controller.getUtilization()).isEqualTo(0.9);
+        assertThat(controller.getTier()).isEqualTo(DegradationTier.NO_GAMES);
+
+        busy.set(10);
+        controller.evaluate(clock.addAndGet(1));
+        assertThat(controller.getUtilization()).isEqualTo(0.1);
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.degrade.DegradationController;
+import io.github.wlsdks.fortunecookie.properties.DegradationTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.degradation.enabled=true",
+        "fortune-cookie.degradation.evaluation-interval=5ms",
+        "fortune-cookie.degradation.min-hold=50ms",
+        "fortune-cookie.degradation.tomcat-utilization=false",
+        "fortune-cookie.degradation.thresholds.no-games.latency=5ms",
+        "fortune-cookie.degradation.thresholds.no-placeholders.latency=8ms",
+        "fortune-cookie.degradation.thresholds.static.latency=12ms",
+        "fortune-cookie.degradation.thresholds.off.latency=1s"
+})
+@AutoConfigureMockMvc
+public class DegradationOverloadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DegradationController degradationController;
+
+    @DisplayName("핸들러가 계속 느리면 포춘 처리가 가벼워진 뒤에도 지연이 줄지 않으므로 단계가 내려가지 않고 유지된다")
+    @Test
+    public void testTierHoldsUnderSustainedOverload() throws Exception {
+        // 1. 느린 요청(20ms)이 이어지면 요청 지연 EWMA가 STATIC 기준(12ms)을 넘어 올라감
+        int request = 0;
+        while (degradationController.getTier() != DegradationTier.STATIC && request++ < 20) {
+            perform();
+        }
+        assertThat(degradationController.getTier()).isEqualTo(DegradationTier.STATIC);
+        long transitions = degradationController.getTransitionCount();
+
+        // 2. 최소 유지 시간(50ms)을 여러 번 넘기는 동안 과부하가 계속되면 단계가 그대로 유지됨
+        for (int i = 0; i < 30; i++) {
+            perform();
+            assertThat(degradationController.getTier()).isEqualTo(DegradationTier.STATIC);
+        }
+        assertThat(degradationController.getTransitionCount()).isEqualTo(transitions);
+        assertThat(degradationController.getInFlight()).isZero();
+    }
+
+    private void perform() throws Exception {
+        mockMvc.perform(get("/slow").header("Accept-Language", "en"))
+                .andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,231 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieResponseAdvice;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.interceptor.module.impl.NumberGuessGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.impl.QuizGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.quiz.QuizBank;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.SessionGameStateStore;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.provider.DefaultFortuneProvider;
+import io.github.wlsdks.fortunecookie.test.controller.TestController;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 어노테이션이 붙은 요청 하나가 라이브러리 안(preHandle + beforeBodyWrite)에서 할당하는 바이트 수를 재고 시나리오별 예산과 비교합니다.
+ * 요청 객체(Mock)는 측정 구간 밖에서 미리 만들어 두므로, 측정값은 인터셉터, 바디 어드바이스, 제공자, 게임 모듈이 할당한 양입니다.
+ * 예산을 넘으면 시나리오별 예산, 측정값, 초과량 표와 함께 실패합니다. 의도한 변경이면 표의 측정값을 보고 BUDGETS를 조정합니다.
+ */
+public class FortuneAllocationBudgetTest {
+
+    // 시나리오별 요청당 할당 예산 (바이트)
+    private static final Map<String, Long> BUDGETS = Map.of(
+            "plain-map", 3_072L,
+            "dto-body", 2_560L,
+            "placeholders", 4_096L,
+            "number-game", 6_144L,
+            "quiz-game", 6_144L
+    );
+
+    // 측정 전 JIT 컴파일(탈출 분석 포함)이 끝나도록 버리는 요청 수
+    private static final int WARMUP_REQUESTS = 20_000;
+
+    // 측정하는 요청 수
+    private static final int MEASURED_REQUESTS = 10_000;
+
+    // 한 번에 미리 만들어 둘 요청 수 (측정 구간 밖에서 생성)
+    private static final int BATCH_SIZE = 1_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    public static void setUp() {
+        // 스레드별 할당량을 지원하지 않는 JVM이면 건너뜀
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @DisplayName("요청당 할당량이 시나리오별 예산 안에 있다 (일반 메시지, 플레이스홀더, 숫자 게임, 퀴즈 게임, Map/DTO 바디)")
+    @Test
+    public void testAllocationBudgets() throws Exception {
+        // 1. 시나리오별 요청당 할당량 측정
+        Map<String, Long> measured = new TreeMap<>();
+        for (Scenario scenario : scenarios()) {
+            measured.put(scenario.name(), measure(scenario));
+        }
+
+        // 2. 예산과 비교한 표 (실패 메시지에 실어서 예산 조정에 사용)
+        StringBuilder table = new StringBuilder(String.format("%n%-14s %10s %10s %10s%n", "scenario", "budget", "measured", "over"));
+        List<String> overBudget = new ArrayList<>();
+        measured.forEach((name, bytes) -> {
+            long budget = BUDGETS.get(name);
+            long over = bytes - budget;
+            table.append(String.format("%-14s %10d %10d %10s%n", name, budget, bytes, over > 0 ? "+" + over : "-"));
+            if (over > 0) {
+                overBudget.add(name);
+            }
+        });
+        // 3. 예산을 넘은 시나리오가 있으면 표와 함께 실패
+        assertThat(overBudget)
+                .as("Allocated bytes per request exceeded the budget%s", table)
+                .isEmpty();
+    }
+
+    @DisplayName("측정 구간에서 라이브러리가 실제로 호출되어 헤더와 바디 메시지를 만든다")
+    @Test
+    public void testScenariosApplyFortune() throws Exception {
+        for (Scenario scenario : scenarios()) {
+            Fixture fixture = fixture(scenario);
+            Object body = invoke(scenario, fixture);
+
+            assertThat(fixture.response().getHeader("X-Fortune-Cookie")).as(scenario.name()).isNotNull();
+            assertThat(fixture.request().getAttribute(Constant.FORTUNE_BODY)).as(scenario.name()).isNotNull();
+            assertThat(body).as(scenario.name()).isNotSameAs(scenario.body());
+        }
+    }
+
+    /**
+     * 워밍업 후 요청당 평균 할당 바이트를 재는 메서드 (요청 객체 생성은 측정 구간 밖)
+     */
+    private static long measure(Scenario scenario) throws Exception {
+        long allocated = 0;
+        int total = WARMUP_REQUESTS + MEASURED_REQUESTS;
+        Fixture[] batch = new Fixture[BATCH_SIZE];
+        for (int done = 0; done < total; done += BATCH_SIZE) {
+            // 1. 요청, 응답 객체를 미리 만듦
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch[i] = fixture(scenario);
+            }
+
+            // 2. 라이브러리 호출 구간만 측정 (워밍업 구간은 버림)
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (Fixture fixture : batch) {
+                invoke(scenario, fixture);
+            }
+            long after = threadMXBean.getCurrentThreadAllocatedBytes();
+            if (done >= WARMUP_REQUESTS) {
+                allocated += after - before;
+            }
+        }
+        return allocated / MEASURED_REQUESTS;
+    }
+
+    /**
+     * 실제 요청과 같은 순서로 preHandle과 beforeBodyWrite를 호출하는 메서드
+     */
+    private static Object invoke(Scenario scenario, Fixture fixture) throws Exception {
+        scenario.interceptor().preHandle(fixture.request(), fixture.response(), scenario.handler());
+        return scenario.advice().beforeBodyWrite(scenario.body(), scenario.returnType(), MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, fixture.serverRequest(), fixture.serverResponse());
+    }
+
+    private static Fixture fixture(Scenario scenario) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", scenario.path());
+        request.addHeader("Accept-Language", "ko-KR,ko;q=0.9,en;q=0.8");
+        scenario.headers().forEach(request::addHeader);
+        if (scenario.session() != null) {
+            request.setSession(scenario.session());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        return new Fixture(request, response, new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+    }
+
+    /**
+     * 측정할 시나리오 목록 (게임 시나리오는 한 플레이어가 같은 세션으로 계속 추측)
+     */
+    private static List<Scenario> scenarios() throws Exception {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("fortunes/fortunes");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        TestController controller = new TestController();
+
+        // 1. 기본 설정 (헤더 + 바디, 플레이스홀더와 게임 꺼짐)
+        FortuneCookieProperties plain = new FortuneCookieProperties();
+        FortuneCookieInterceptor plainInterceptor = new FortuneCookieInterceptor(
+                new DefaultFortuneProvider(messageSource, plain), plain, List.of());
+
+        // 2. 헤더 값 플레이스홀더 (기본 번들 메시지에는 플레이스홀더가 없으므로 전용 제공자 사용)
+        FortuneCookieProperties placeholders = new FortuneCookieProperties();
+        placeholders.setPlaceholderEnabled(true);
+        placeholders.getPlaceholderMapping().put("userName", "header:X-User-Name");
+        FortuneCookieInterceptor placeholderInterceptor = new FortuneCookieInterceptor(
+                new PlaceholderFortuneProvider(), placeholders, List.of());
+
+        // 3. 게임 (세션 상태)
+        FortuneCookieProperties games = new FortuneCookieProperties();
+        games.setGameEnabled(true);
+        SessionGameStateStore stateStore = new SessionGameStateStore();
+        List<GameModule> gameModules = List.of(
+                new NumberGuessGame(games, messageSource, new Random(42), stateStore),
+                new QuizGame(games, messageSource, QuizBank.load(games.getQuizBankBasename(), games.getSupportedLocales()), stateStore));
+        FortuneCookieInterceptor gameInterceptor = new FortuneCookieInterceptor(
+                new DefaultFortuneProvider(messageSource, games), games, gameModules);
+
+        return List.of(
+                new Scenario("plain-map", "/joke", Map.of(), null, plainInterceptor,
+                        new FortuneCookieResponseAdvice(plain), handler(controller, "jokeTest"), controller.jokeTest()),
+                new Scenario("dto-body", "/dto", Map.of(), null, plainInterceptor,
+                        new FortuneCookieResponseAdvice(plain), handler(controller, "dtoTest"), controller.dtoTest()),
+                new Scenario("placeholders", "/placeholder", Map.of("X-User-Name", "load-tester"), null, placeholderInterceptor,
+                        new FortuneCookieResponseAdvice(placeholders), handler(controller, "placeholderTest"), controller.placeholderTest()),
+                new Scenario("number-game", "/game", Map.of(Constant.X_GUESS, "3"), new MockHttpSession(), gameInterceptor,
+                        new FortuneCookieResponseAdvice(games), handler(controller, "gameTest"), controller.gameTest()),
+                new Scenario("quiz-game", "/quiz", Map.of(Constant.X_QUIZ_ANSWER, "paris"), new MockHttpSession(), gameInterceptor,
+                        new FortuneCookieResponseAdvice(games), handler(controller, "quizTest"), controller.quizTest())
+        );
+    }
+
+    private static HandlerMethod handler(TestController controller, String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(controller, TestController.class.getMethod(methodName));
+    }
+
+    /**
+     * 측정 시나리오 (같은 시나리오의 요청은 같은 인터셉터, 핸들러, 컨트롤러 반환값을 사용)
+     */
+    private record Scenario(String name,
+                            String path,
+                            Map<String, String> headers,
+                            MockHttpSession session,
+                            FortuneCookieInterceptor interceptor,
+                            FortuneCookieResponseAdvice advice,
+                            HandlerMethod handler,
+                            Object body) {
+
+        MethodParameter returnType() {
+            return handler.getReturnType();
+        }
+    }
+
+    /**
+     * 요청 하나의 Mock 객체 (측정 구간 밖에서 생성)
+     */
+    private record Fixture(MockHttpServletRequest request,
+                           MockHttpServletResponse response,
+                           ServletServerHttpRequest serverRequest,
+                           ServletServerHttpResponse serverResponse) {
+    }
+
+}
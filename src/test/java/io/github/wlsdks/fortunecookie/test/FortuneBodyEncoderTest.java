@@ -0,0 +1,110 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.wlsdks.fortunecookie.body.EncodedFortune;
+import io.github.wlsdks.fortunecookie.body.FortuneBodyEncoder;
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.dto.FortuneWrapper;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieResponseAdvice;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortuneBodyEncoderTest {
+
+    private static final String ASCII_FORTUNE = "Today is a \"lucky\" day!";
+    private static final String KOREAN_FORTUNE = "오늘은 행운이 가득한 날입니다! 🍀";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FortuneBodyEncoder encoder = new FortuneBodyEncoder();
+
+    @DisplayName("미리 직렬화된 메시지는 문자열로 직렬화한 결과와 바이트 단위로 같다 (ASCII, 한글)")
+    @Test
+    public void testSameBytesAsString() throws Exception {
+        for (String fortune : new String[]{ASCII_FORTUNE, KOREAN_FORTUNE}) {
+            byte[] expected = objectMapper.writeValueAsBytes(Map.of("fortune", fortune));
+            byte[] actual = objectMapper.writeValueAsBytes(Map.of("fortune", encoder.encode(fortune)));
+
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("UTF-8 바이트는 미리 인코딩되어 있고, 같은 카탈로그 메시지는 같은 인스턴스를 재사용한다")
+    @Test
+    public void testPreEncodedAndCached() {
+        EncodedFortune encoded = encoder.encode(KOREAN_FORTUNE);
+
+        assertThat(new String(encoded.quotedUtf8(), StandardCharsets.UTF_8)).isEqualTo(KOREAN_FORTUNE);
+        assertThat(encoder.encode(KOREAN_FORTUNE)).isSameAs(encoded);
+        assertThat(encoded.toString()).isEqualTo(KOREAN_FORTUNE);
+    }
+
+    @DisplayName("FortuneWrapper는 설정된 필드 이름으로 메시지를 직렬화한다")
+    @Test
+    public void testWrapperFieldName() throws Exception {
+        FortuneWrapper<Map<String, String>> wrapper = new FortuneWrapper<>(Map.of("name", "test"), KOREAN_FORTUNE,
+                encoder.encode(KOREAN_FORTUNE), new SerializedString("luckyMessage"));
+
+        String json = objectMapper.writeValueAsString(wrapper);
+
+        assertThat(json).isEqualTo("{\"data\":{\"name\":\"test\"},\"luckyMessage\":\"" + KOREAN_FORTUNE + "\"}");
+    }
+
+    @DisplayName("Map 응답에는 미리 직렬화된 값이 있어도 fortune 필드에 String을 넣는다")
+    @Test
+    public void testMapBodyKeepsString() throws Exception {
+        FortuneCookieResponseAdvice advice = new FortuneCookieResponseAdvice(new FortuneCookieProperties());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(Constant.FORTUNE_BODY, KOREAN_FORTUNE);
+        request.setAttribute(Constant.FORTUNE_BODY_ENCODED, encoder.encode(KOREAN_FORTUNE));
+
+        Object body = advice.beforeBodyWrite(Map.of("name", "test"),
+                MethodParameter.forExecutable(Object.class.getMethod("toString"), -1),
+                MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+
+        assertThat(body).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) body).get("fortune")).isInstanceOf(String.class).isEqualTo(KOREAN_FORTUNE);
+        assertThat(((Map<?, ?>) body).get("name")).isEqualTo("test");
+    }
+
+    @DisplayName("미리 직렬화된 값이 없는 기존 생성자는 fortune 필드 이름을 그대로 사용한다")
+    @Test
+    public void testWrapperDefaultFieldName() throws Exception {
+        String json = objectMapper.writeValueAsString(new FortuneWrapper<>(null, ASCII_FORTUNE));
+
+        assertThat(json).isEqualTo("{\"data\":null,\"fortune\":\"Today is a \\\"lucky\\\" day!\"}");
+    }
+
+    @DisplayName("FortuneWrapper는 ObjectMapper의 NON_NULL 포함 규칙과 이름 전략을 따른다")
+    @Test
+    public void testWrapperRespectsMapperConfig() throws Exception {
+        ObjectMapper configured = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+
+        String json = configured.writeValueAsString(new FortuneWrapper<>(null, ASCII_FORTUNE));
+        assertThat(json).isEqualTo("{\"fortune\":\"Today is a \\\"lucky\\\" day!\"}");
+
+        String wrapped = configured.writeValueAsString(new FortuneWrapper<>(Map.of("name", "test"), null));
+        assertThat(wrapped).isEqualTo("{\"Data\":{\"name\":\"test\"}}");
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.bucket=PT5M",
+        "fortune-cookie.tags.enabled=true",
+        "fortune-cookie.tags.role-tags[ROLE_ADMIN]=coding",
+        "fortune-cookie.tenant.enabled=true"
+})
+@AutoConfigureMockMvc
+public class FortuneBucketHeadersTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("구간 응답은 구간 동안 같은 메시지를 주고, 남은 시간만큼 캐시하도록 Cache-Control과 Vary를 설정한다")
+    @Test
+    public void testSharedBucketHeaders() throws Exception {
+        MockHttpServletResponse first = perform("/joke");
+        MockHttpServletResponse second = perform("/joke");
+
+        assertThat(second.getHeader("X-Fortune-Cookie")).isEqualTo(first.getHeader("X-Fortune-Cookie"));
+        assertThat(first.getHeaders("Vary")).contains("Accept-Language");
+
+        // 공유 캐시 가능 (private 아님), max-age는 구간 길이(300초) 이하
+        String cacheControl = first.getHeader("Cache-Control");
+        assertThat(cacheControl).matches("max-age=\\d+");
+        assertThat(Long.parseLong(cacheControl.substring("max-age=".length()))).isBetween(0L, 300L);
+    }
+
+    @DisplayName("권한 태그가 더해진 구간 응답은 사용자마다 다르므로 브라우저에만 캐시한다")
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    public void testRoleTaggedBucketIsPrivate() throws Exception {
+        assertThat(perform("/joke").getHeader("Cache-Control")).startsWith("private, max-age=");
+    }
+
+    @DisplayName("미니 게임 메시지가 붙은 구간 응답은 저장하지 않는다")
+    @Test
+    public void testGameBucketIsNotStored() throws Exception {
+        // 공용 설정은 game-enabled=false, acme 테넌트는 퀴즈 게임을 켬
+        MockHttpServletResponse response = mockMvc.perform(get("/placeholder")
+                        .header("Accept-Language", "en")
+                        .header("X-Tenant-Id", "acme"))
+                .andReturn()
+                .getResponse();
+
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(response.getHeaders("Vary")).contains("X-Tenant-Id");
+    }
+
+    private MockHttpServletResponse perform(String path) throws Exception {
+        return mockMvc.perform(get(path).header("Accept-Language", "en"))
+                .andReturn()
+                .getResponse();
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.config.FortuneCookieAutoConfiguration;
+import io.github.wlsdks.fortunecookie.config.FortuneCookieRuntimeHints;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameModule;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class, properties = "fortune-cookie.game-enabled=true")
+public class FortuneCookieBeanGraphTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @DisplayName("제공자, 인터셉터, 게임 모듈은 한 번씩만 만들어지고 MVC에는 컨테이너의 인터셉터 빈이 등록된다")
+    @Test
+    public void testSingleInstances() throws Exception {
+        assertThat(context.getBeansOfType(FortuneProvider.class)).hasSize(1);
+        assertThat(context.getBeansOfType(FortuneCookieInterceptor.class)).hasSize(1);
+        assertThat(context.getBeansOfType(GameModule.class)).hasSize(3);
+
+        HandlerExecutionChain chain = handlerMapping.getHandler(new MockHttpServletRequest("GET", "/joke"));
+        assertThat(chain).isNotNull();
+        assertThat(chain.getInterceptorList())
+                .filteredOn(FortuneCookieInterceptor.class::isInstance)
+                .containsExactly(context.getBean(FortuneCookieInterceptor.class));
+    }
+
+    @DisplayName("사용자가 등록한 제공자 빈이 있으면 기본 제공자를 만들지 않는다")
+    @Test
+    public void testUserProviderIsHonored() {
+        FortuneProvider userProvider = new FortuneProvider() {
+            @Override
+            public String generateFortuneKey(FortuneMode mode) {
+                return "custom";
+            }
+
+            @Override
+            public String getFortune(String fortuneKey, Locale locale) {
+                return "custom fortune";
+            }
+        };
+
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(FortuneCookieAutoConfiguration.class))
+                .withBean(FortuneProvider.class, () -> userProvider)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(FortuneProvider.class);
+                    assertThat(context.getBean(FortuneProvider.class)).isSameAs(userProvider);
+                    assertThat(context).hasSingleBean(FortuneCookieInterceptor.class);
+                    assertThat(context).hasSingleBean(FortuneCookieProperties.class);
+                });
+    }
+
+    @DisplayName("AOT 힌트는 기본 경로의 리소스와 어노테이션 리플렉션을 등록한다")
+    @Test
+    public void testRuntimeHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new FortuneCookieRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (String resource : new String[]{
+                "fortunes/fortunes_en.properties",
+                "fortunes/fortunes_ko.properties",
+                "fortunes/fortune-tags.properties",
+                "quiz/quiz_ko.properties",
+                "games/words_en.txt",
+                "jfr/fortunecookie.jfc"}) {
+            assertThat(getClass().getClassLoader().getResource(resource)).as(resource).isNotNull();
+            assertThat(RuntimeHintsPredicates.resource().forResource(resource)).as(resource).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onType(FortuneCookie.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(HttpServletRequest.class)).accepts(hints);
+    }
+
+}
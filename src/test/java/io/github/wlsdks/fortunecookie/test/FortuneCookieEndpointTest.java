@@ -0,0 +1,71 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.actuate.FortuneCookieEndpoint;
+import io.github.wlsdks.fortunecookie.actuate.FortuneCookieEndpoint.FortuneCookieReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.game-enabled=true",
+        "fortune-cookie.game-state.mode=token",
+        "fortune-cookie.game-state.token.secret=0123456789abcdef0123456789abcdef"
+})
+public class FortuneCookieEndpointTest {
+
+    @Autowired
+    private FortuneCookieEndpoint endpoint;
+
+    @DisplayName("카탈로그 크기, 캐시 상태, 게임 저장소 상태와 병합된 설정을 보여준다")
+    @Test
+    public void testReport() {
+        FortuneCookieReport report = endpoint.report();
+
+        // 1. 메시지 번들 제공자는 모드, 로케일별로 설정된 메시지 수를 사용하고 메모리는 알 수 없음(-1)
+        assertThat(report.catalog().provider()).isEqualTo("DefaultFortuneProvider");
+        assertThat(report.catalog().sizes().get("fortune")).containsEntry("en", 50).containsEntry("ko", 50);
+        assertThat(report.catalog().retainedBytes()).isEqualTo(-1L);
+
+        // 2. 인터셉터 캐시는 항상 보이고, 꺼진 기능(풀, 태그)은 보이지 않음
+        assertThat(report.caches()).containsKeys("header", "body", "locale", "bucket");
+        assertThat(report.caches()).doesNotContainKeys("pool", "tags");
+
+        // 3. 토큰 방식은 서버에 게임 상태를 보관하지 않음
+        assertThat(report.games().stateStore()).isEqualTo("token");
+        assertThat(report.games().stateEntries()).isEqualTo(0L);
+    }
+
+    @DisplayName("병합된 설정에서 토큰 비밀 값는 가린다")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMasksSecrets() {
+        Map<String, Object> gameState = (Map<String, Object>) endpoint.report().properties().get("gameState");
+        Map<String, Object> token = (Map<String, Object>) gameState.get("token");
+
+        assertThat(token.get("secret")).isEqualTo("******");
+        assertThat(token.get("namePrefix")).isEqualTo("X-Fortune-Game-");
+    }
+
+    @DisplayName("캐시 비우기는 비우기 전 크기를 돌려주고, 다시 읽을 카탈로그가 없는 제공자는 reload를 건너뛴다")
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWriteOperations() {
+        Map<String, Object> cleared = endpoint.execute(FortuneCookieEndpoint.CLEAR_CACHES);
+        assertThat(cleared.get("action")).isEqualTo(FortuneCookieEndpoint.CLEAR_CACHES);
+        assertThat((Map<String, Object>) cleared.get("cleared")).containsKeys("header", "body", "locale", "bucket");
+        assertThat(endpoint.report().caches().get("body").size()).isEqualTo(0L);
+
+        assertThat(endpoint.execute(FortuneCookieEndpoint.RELOAD).get("reloaded")).isEqualTo(false);
+
+        assertThatThrownBy(() -> endpoint.execute("drop-everything"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+}
@@ -0,0 +1,130 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.jfr.FortuneEvents;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = "fortune-cookie.game-enabled=true")
+@AutoConfigureMockMvc
+public class FortuneJfrEventTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FortuneProvider fortuneProvider;
+
+    @DisplayName("번들 설정(fortunecookie.jfc)으로 레코딩하면 메시지 선택, 조회, 게임, 바디 삽입 이벤트가 기록된다")
+    @Test
+    public void testEventsRecordedWithBundledProfile() throws Exception {
+        Map<String, List<RecordedEvent>> events = record(new Recording(bundledConfiguration()));
+
+        // 1. 메시지 선택: 요청 로케일과 모드, 키 번호
+        List<RecordedEvent> selected = events.get(FortuneEvents.PREFIX + "FortuneSelected");
+        assertThat(selected).hasSize(2);
+        assertThat(selected).extracting(event -> event.getString("locale")).contains("ko");
+        assertThat(selected).allSatisfy(event -> {
+            assertThat(event.getString("mode")).isEqualTo("fortune");
+            assertThat(event.getInt("keyIndex")).isEqualTo(FortuneEvents.keyIndex(event.getString("fortuneKey")));
+            assertThat(event.getString("tier")).isEqualTo("normal");
+        });
+
+        // 2. 메시지 소스 조회
+        assertThat(events.get(FortuneEvents.PREFIX + "FortuneLookup")).isNotEmpty();
+        assertThat(events.get(FortuneEvents.PREFIX + "FortuneLookup").get(0).getBoolean("hit")).isTrue();
+
+        // 3. 게임 처리 (X-Guess 헤더가 없으므로 안내 메시지만 출력)
+        RecordedEvent game = events.get(FortuneEvents.PREFIX + "GameProcessed").get(0);
+        assertThat(game.getString("gameType")).isEqualTo("number");
+        assertThat(game.getString("outcome")).isEqualTo("prompt");
+        assertThat(game.getDuration().isNegative()).isFalse();
+
+        // 4. 바디 삽입 (Map 응답, DTO 응답)
+        assertThat(events.get(FortuneEvents.PREFIX + "BodyInjected"))
+                .extracting(event -> event.getString("bodyType"))
+                .containsExactlyInAnyOrder("map", "wrapper");
+    }
+
+    @DisplayName("이벤트는 기본적으로 꺼져 있어서 기본 레코딩에는 기록되지 않는다")
+    @Test
+    public void testEventsDisabledByDefault() throws Exception {
+        Map<String, List<RecordedEvent>> events = record(new Recording());
+        assertThat(events).isEmpty();
+    }
+
+    @DisplayName("레코딩 중에 로케일 없이 메시지를 조회해도 실패하지 않고 로케일이 빈 조회 이벤트가 기록된다")
+    @Test
+    public void testLookupWithoutLocale() throws Exception {
+        Path file = Files.createTempFile("fortunecookie", ".jfr");
+        try (Recording recording = new Recording(bundledConfiguration())) {
+            recording.start();
+            assertThat(fortuneProvider.getFortune("fortune.1", null)).isNotBlank();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            // 메시지 풀을 채우는 백그라운드 조회와 섞이지 않도록 로케일이 없는 조회 이벤트만 확인
+            assertThat(RecordingFile.readAllEvents(file))
+                    .filteredOn(event -> event.getEventType().getName().equals(FortuneEvents.PREFIX + "FortuneLookup"))
+                    .filteredOn(event -> event.getString("locale") == null)
+                    .extracting(event -> event.getString("fortuneKey"))
+                    .containsExactly("fortune.1");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Configuration bundledConfiguration() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(getClass().getResourceAsStream("/jfr/fortunecookie.jfc")), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    /**
+     * 게임 요청과 DTO 요청을 보내는 동안 레코딩하고, 파일로 저장한 뒤 다시 읽어서 라이브러리 이벤트만 이름별로 묶음
+     */
+    private Map<String, List<RecordedEvent>> record(Recording recording) throws Exception {
+        Path file = Files.createTempFile("fortunecookie", ".jfr");
+        try (recording) {
+            recording.start();
+            mockMvc.perform(get("/game").header("Accept-Language", "ko")).andExpect(status().isOk());
+            mockMvc.perform(get("/dto")).andExpect(status().isOk());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith(FortuneEvents.PREFIX))
+                    .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
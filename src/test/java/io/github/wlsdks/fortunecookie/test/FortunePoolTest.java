@@ -0,0 +1,148 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.pool.FortunePool;
+import io.github.wlsdks.fortunecookie.pool.FortunePool.PrerenderedFortune;
+import io.github.wlsdks.fortunecookie.pool.FortuneRingBuffer;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.properties.HeaderEncoding;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FortunePoolTest {
+
+    @DisplayName("링 버퍼는 크기만큼만 담고, 넣은 순서대로 꺼낸다")
+    @Test
+    public void testRingBufferBounds() {
+        FortuneRingBuffer<Integer> buffer = new FortuneRingBuffer<>(3);
+
+        assertThat(buffer.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(List.of(buffer.poll(), buffer.poll(), buffer.poll(), buffer.poll())).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @DisplayName("여러 생산자와 소비자가 동시에 사용해도 원소가 유실되거나 중복되지 않는다")
+    @Test
+    public void testRingBufferConcurrency() throws Exception {
+        FortuneRingBuffer<Integer> buffer = new FortuneRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 50_000;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+            futures.add(executor.submit(() -> {
+                while (remaining.get() > 0) {
+                    Integer value = buffer.poll();
+                    if (value == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    remaining.decrementAndGet();
+                    if (!consumed.add(value)) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(consumed).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @DisplayName("풀은 헤더까지 미리 만들고, 비면 null을 반환해 인라인 생성으로 대체하게 한다")
+    @Test
+    public void testPollAndFallback() {
+        FortuneCookieProperties properties = new FortuneCookieProperties();
+        properties.setHeaderEncoding(HeaderEncoding.RFC8187);
+        FortunePool pool = new FortunePool(new StubFortuneProvider(), properties,
+                List.of(FortuneMode.JOKE), 2, Duration.ofSeconds(1));
+
+        pool.refill();
+        assertThat(pool.getDepth(FortuneMode.JOKE, Locale.KOREAN)).isEqualTo(2);
+
+        // 국가까지 있는 로케일은 언어 버퍼를 사용
+        PrerenderedFortune fortune = pool.poll(FortuneMode.JOKE, Locale.KOREA);
+        assertThat(fortune.body()).startsWith("농담");
+        assertThat(fortune.header().extended()).isTrue();
+        assertThat(fortune.header().value()).startsWith("UTF-8''");
+
+        pool.poll(FortuneMode.JOKE, Locale.KOREAN);
+        assertThat(pool.poll(FortuneMode.JOKE, Locale.KOREAN)).isNull();
+        assertThat(pool.poll(FortuneMode.QUOTE, Locale.ENGLISH)).isNull();
+        assertThat(pool.getHitCount()).isEqualTo(2);
+        assertThat(pool.getFallbackCount()).isEqualTo(2);
+        assertThat(pool.getRefilledCount()).isEqualTo(4);
+    }
+
+    @DisplayName("플레이스홀더 치환이 필요한 메시지는 풀에 넣지 않는다")
+    @Test
+    public void testPlaceholderFortunesAreNotPooled() {
+        FortuneCookieProperties properties = new FortuneCookieProperties();
+        properties.setPlaceholderEnabled(true);
+        FortunePool pool = new FortunePool(new StubFortuneProvider(), properties,
+                List.of(FortuneMode.FORTUNE), 8, Duration.ofSeconds(1));
+
+        pool.refill();
+
+        PrerenderedFortune fortune;
+        while ((fortune = pool.poll(FortuneMode.FORTUNE, Locale.ENGLISH)) != null) {
+            assertThat(fortune.body()).doesNotContain("{");
+            assertThat(fortune.header().value()).doesNotContain("{");
+        }
+    }
+
+    /**
+     * 키 번호가 짝수면 플레이스홀더가 있는 메시지를 돌려주는 테스트용 제공자
+     */
+    private static class StubFortuneProvider implements FortuneProvider {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public String generateFortuneKey(FortuneMode mode) {
+            return mode.getMode() + "." + sequence.incrementAndGet();
+        }
+
+        @Override
+        public String getFortune(String fortuneKey, Locale locale) {
+            int number = Integer.parseInt(fortuneKey.substring(fortuneKey.indexOf('.') + 1));
+            String placeholder = number % 2 == 0 ? " {userName}" : "";
+            return (Locale.KOREAN.getLanguage().equals(locale.getLanguage()) ? "농담 " : "Joke ") + number + placeholder;
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.annotation.FortuneCookie;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FortuneRoutePrecomputeTest {
+
+    private final FortuneCookieInterceptor interceptor =
+            new FortuneCookieInterceptor(new PlaceholderFortuneProvider(), new FortuneCookieProperties(), List.of());
+
+    @DisplayName("라우트 정보는 핸들러마다 한 번만 만들고, @FortuneCookie가 없는 핸들러는 건너뛴다")
+    @Test
+    public void testPrepareRoute() throws Exception {
+        Routes routes = new Routes();
+        interceptor.prepareRoute(new HandlerMethod(routes, "bucketed"));
+        interceptor.prepareRoute(new HandlerMethod(routes, "bucketed"));
+        interceptor.prepareRoute(new HandlerMethod(routes, "plain"));
+
+        assertThat(interceptor.getRouteCount()).isEqualTo(1);
+    }
+
+    @DisplayName("bucket 값이 ISO-8601 기간이 아니면 핸들러 이름과 함께 실패한다")
+    @Test
+    public void testInvalidBucketFailsWithHandlerName() throws Exception {
+        HandlerMethod handlerMethod = new HandlerMethod(new Routes(), "invalidBucket");
+
+        assertThatThrownBy(() -> interceptor.prepareRoute(handlerMethod))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(Routes.class.getName() + "#invalidBucket")
+                .hasMessageContaining("5m");
+        assertThat(interceptor.getRouteCount()).isZero();
+    }
+
+    static class Routes {
+
+        @FortuneCookie(bucket = "PT5M")
+        public Map<String, String> bucketed() {
+            return Map.of();
+        }
+
+        @FortuneCookie(bucket = "5m")
+        public Map<String, String> invalidBucket() {
+            return Map.of();
+        }
+
+        public Map<String, String> plain() {
+            return Map.of();
+        }
+
+    }
+
+}
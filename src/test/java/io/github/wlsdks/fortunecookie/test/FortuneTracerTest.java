@@ -0,0 +1,85 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.trace.FortuneTrace;
+import io.github.wlsdks.fortunecookie.trace.FortuneTracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.debug=true",
+        "fortune-cookie.game-enabled=true",
+        "fortune-cookie.trace.sample-rate=1.0",
+        "fortune-cookie.trace.drain-interval=1h"
+})
+@AutoConfigureMockMvc
+public class FortuneTracerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FortuneTracer tracer;
+
+    @DisplayName("샘플링된 요청은 라우트, 모드, 키, 로케일, 게임 결과, 단계별 시간이 기록된다")
+    @Test
+    public void testInterceptorRecordsTrace() throws Exception {
+        tracer.drain(trace -> {
+        });
+        mockMvc.perform(get("/game").header("Accept-Language", "ko")).andExpect(status().isOk());
+
+        List<FortuneTrace> traces = new ArrayList<>();
+        tracer.drain(traces::add);
+        assertThat(traces).hasSize(1);
+
+        FortuneTrace trace = traces.get(0);
+        assertThat(trace.getRoute()).isEqualTo("GET /game");
+        assertThat(trace.getMode()).isEqualTo("fortune");
+        assertThat(trace.getFortuneKey()).startsWith("fortune.");
+        assertThat(trace.getLocale()).isEqualTo("ko");
+        assertThat(trace.getGameOutcome()).isEqualTo("prompt");
+        assertThat(trace.getTier()).isEqualTo("normal");
+        assertThat(trace.getSelectNanos()).isGreaterThan(0L);
+        assertThat(trace.getTotalNanos()).isGreaterThanOrEqualTo(trace.getSelectNanos() + trace.getGameNanos());
+    }
+
+    @DisplayName("샘플링 비율이 0이면 기록을 만들지 않고, 1이면 모든 요청을 기록한다")
+    @Test
+    public void testSampleRate() {
+        FortuneTracer never = new FortuneTracer(0.0, 16, Duration.ofHours(1));
+        FortuneTracer always = new FortuneTracer(1.0, 16, Duration.ofHours(1));
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(never.sample()).isNull();
+            assertThat(always.sample()).isNotNull();
+        }
+        assertThat(never.getSampledCount()).isEqualTo(0L);
+        assertThat(always.getSampledCount()).isEqualTo(1_000L);
+    }
+
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 새 기록을 버리며, 비운 뒤에는 다시 받는다")
+    @Test
+    public void testDropsWhenFull() {
+        FortuneTracer tracer = new FortuneTracer(1.0, 4, Duration.ofHours(1));
+        for (int i = 0; i < 10; i++) {
+            tracer.submit(tracer.sample(), "normal");
+        }
+        assertThat(tracer.getDroppedCount()).isEqualTo(6L);
+
+        assertThat(tracer.drain()).isEqualTo(4);
+        tracer.submit(tracer.sample(), "normal");
+        assertThat(tracer.drain()).isEqualTo(1);
+        assertThat(tracer.getDrainedCount()).isEqualTo(5L);
+    }
+
+}
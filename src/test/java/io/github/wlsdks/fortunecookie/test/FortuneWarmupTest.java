@@ -0,0 +1,116 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieInterceptor;
+import io.github.wlsdks.fortunecookie.interceptor.FortuneCookieResponseAdvice;
+import io.github.wlsdks.fortunecookie.leaderboard.GameLeaderboard;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+import io.github.wlsdks.fortunecookie.warmup.FortuneWarmup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.game-enabled=true",
+        "fortune-cookie.placeholder-enabled=true",
+        "fortune-cookie.placeholder-mapping.userName=header:X-User-Name",
+        "fortune-cookie.leaderboard.enabled=true",
+        "fortune-cookie.warmup.enabled=true",
+        "fortune-cookie.warmup.iterations=2000000000",
+        "fortune-cookie.warmup.timeout=2s"
+})
+public class FortuneWarmupTest {
+
+    @Autowired
+    private FortuneWarmup warmup;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private FortuneCookieInterceptor interceptor;
+
+    @Autowired
+    private GameLeaderboard leaderboard;
+
+    @DisplayName("워밍업 중에는 readiness가 REFUSING_TRAFFIC이고, 끝나면 ACCEPTING_TRAFFIC로 돌아온다")
+    @Test
+    public void testHoldsReadinessUntilFinished() throws Exception {
+        // 1. 시간 제한(2초)까지 실행되므로 컨텍스트가 뜬 직후에는 아직 워밍업 중
+        assertThat(warmup.isFinished()).isFalse();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+
+        // 2. 시간 제한에 도달하면 끝나고 트래픽을 받음
+        awaitFinished(warmup);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(warmup.getCompletedIterations()).isGreaterThan(0);
+        assertThat(warmup.getDuration()).isGreaterThanOrEqualTo(Duration.ofSeconds(2));
+    }
+
+    @DisplayName("워밍업은 실제 인터셉터를 거치지만 게임 결과는 리더보드에 기록하지 않는다")
+    @Test
+    public void testRunsThroughInterceptorWithoutLeaderboard() throws Exception {
+        awaitFinished(warmup);
+
+        // 워밍업 핸들러 세 개(fortune, joke, quote)의 라우트가 인터셉터에 만들어져 있고, 숫자 게임의 오답/정답은 기록되지 않음
+        assertThat(interceptor.getRouteCount()).isGreaterThanOrEqualTo(3);
+        assertThat(leaderboard.getPlayerCount()).isZero();
+    }
+
+    @DisplayName("반복 횟수에 먼저 도달하면 그만큼만 인터셉터를 거친 요청을 실행하고 readiness는 건드리지 않는다")
+    @Test
+    public void testStopsAtIterations() throws Exception {
+        FortuneCookieProperties properties = new FortuneCookieProperties();
+        properties.getWarmup().setIterations(50);
+        properties.getWarmup().setHoldReadiness(false);
+
+        AtomicInteger selections = new AtomicInteger();
+        FortuneProvider provider = new FortuneProvider() {
+            @Override
+            public String generateFortuneKey(FortuneMode mode) {
+                selections.incrementAndGet();
+                return "fortune.1";
+            }
+
+            @Override
+            public String getFortune(String fortuneKey, Locale locale) {
+                return "warm " + locale.getLanguage();
+            }
+        };
+        FortuneCookieInterceptor standaloneInterceptor = new FortuneCookieInterceptor(provider, properties, List.of());
+        List<Object> events = new ArrayList<>();
+        FortuneWarmup standalone = new FortuneWarmup(standaloneInterceptor, new FortuneCookieResponseAdvice(properties),
+                properties, new ObjectMapper(), events::add);
+
+        standalone.onApplicationReady();
+        awaitFinished(standalone);
+
+        // 요청마다 인터셉터가 메시지를 한 번 고르고, 워밍업 핸들러 세 개의 라우트를 만들어 둠
+        assertThat(standalone.getCompletedIterations()).isEqualTo(50);
+        assertThat(selections.get()).isEqualTo(50);
+        assertThat(standaloneInterceptor.getRouteCount()).isEqualTo(3);
+        assertThat(events).isEmpty();
+    }
+
+    private static void awaitFinished(FortuneWarmup warmup) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!warmup.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(warmup.isFinished()).isTrue();
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessage;
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessageFormat;
+import io.github.wlsdks.fortunecookie.interceptor.module.message.GameMessages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameMessagesTest {
+
+    private static final List<Locale> LOCALES = List.of(Locale.ENGLISH, Locale.KOREAN);
+
+    @DisplayName("미리 컴파일된 게임 메시지는 MessageSource(MessageFormat)의 결과와 같다")
+    @Test
+    public void testSameAsMessageSource() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("fortunes/fortunes");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setUseCodeAsDefaultMessage(true);
+        GameMessages messages = GameMessages.compile(messageSource, LOCALES);
+
+        for (Locale locale : List.of(Locale.ENGLISH, Locale.KOREA)) {
+            for (GameMessage message : GameMessage.values()) {
+                StringBuilder builder = new StringBuilder();
+                String expected;
+                if (!message.isFormatted()) {
+                    messages.append(builder, message, locale);
+                    expected = messageSource.getMessage(message.getCode(), null, locale);
+                } else if (message == GameMessage.NUMBER_PROMPT) {
+                    messages.append(builder, message, locale, 1234);
+                    expected = messageSource.getMessage(message.getCode(), new Object[]{1234}, locale);
+                } else {
+                    messages.append(builder, message, locale, "paris");
+                    expected = messageSource.getMessage(message.getCode(), new Object[]{"paris"}, locale);
+                }
+                assertThat(builder.toString()).as(message + " " + locale).isEqualTo(expected);
+            }
+        }
+    }
+
+    @DisplayName("패턴의 따옴표는 MessageFormat과 같게 처리된다")
+    @Test
+    public void testQuoting() {
+        StringBuilder builder = new StringBuilder("> ");
+        GameMessageFormat.compile("It''s '{0}' = {0} via 'X-Guess'", Locale.ENGLISH).appendTo(builder, 7);
+
+        assertThat(builder.toString()).isEqualTo("> It's {0} = 7 via X-Guess");
+    }
+
+    @DisplayName("서식 인자가 있는 패턴은 MessageFormat으로 처리된다")
+    @Test
+    public void testFormattedArgumentFallback() {
+        StringBuilder builder = new StringBuilder();
+        GameMessageFormat.compile("n={0,number,#}", Locale.ENGLISH).appendTo(builder, 12345);
+
+        assertThat(builder.toString()).isEqualTo("n=12345");
+    }
+
+}
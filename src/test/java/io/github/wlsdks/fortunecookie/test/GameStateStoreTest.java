@@ -0,0 +1,152 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.interceptor.module.GameOutcome;
+import io.github.wlsdks.fortunecookie.interceptor.module.impl.NumberGuessGame;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameStateStore;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.SessionGameStateStore;
+import io.github.wlsdks.fortunecookie.properties.FortuneCookieProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GameStateStoreTest {
+
+    private final GameStateStore store = new SessionGameStateStore();
+
+    @DisplayName("여러 요청이 동시에 첫 상태를 만들어도 모든 요청이 같은 상태를 본다")
+    @Test
+    public void testConcurrentInitialLoad() throws Exception {
+        ConcurrentSession session = new ConcurrentSession();
+        AtomicInteger seed = new AtomicInteger();
+
+        List<GameState> states = runConcurrently(16, () ->
+                store.load(request(session), Constant.SECRET_NUMBER, seed::incrementAndGet));
+
+        assertThat(new HashSet<>(states)).hasSize(1);
+        assertThat(session.getAttribute(Constant.SECRET_NUMBER)).isNotNull();
+    }
+
+    @DisplayName("한 라운드의 상태 교체는 한 요청만 성공하고, 성공 횟수와 최종 라운드가 일치한다")
+    @Test
+    public void testCompareAndSetTransitions() throws Exception {
+        ConcurrentSession session = new ConcurrentSession();
+        store.load(request(session), Constant.WORD_ID, () -> 0);
+
+        List<Integer> wins = runConcurrently(16, () -> {
+            int won = 0;
+            for (int i = 0; i < 10_000; i++) {
+                MockHttpServletRequest request = request(session);
+                GameState state = store.load(request, Constant.WORD_ID, () -> 0);
+                if (store.compareAndSet(request, Constant.WORD_ID, state, state.next(state.value() + 1))) {
+                    won++;
+                }
+            }
+            return won;
+        });
+
+        GameState last = store.load(request(session), Constant.WORD_ID, () -> 0);
+        int totalWins = wins.stream().mapToInt(Integer::intValue).sum();
+        assertThat(last.round()).isEqualTo(totalWins);
+        assertThat(last.value()).isEqualTo(totalWins);
+    }
+
+    @DisplayName("유효하지 않은 값은 새 라운드로 교체된다")
+    @Test
+    public void testInvalidStateIsReplaced() {
+        MockHttpServletRequest request = request(new ConcurrentSession());
+        store.load(request, Constant.QUIZ_INDEX, () -> 99);
+
+        GameState state = store.load(request, Constant.QUIZ_INDEX, () -> 3, index -> index < 10);
+
+        assertThat(state).isEqualTo(new GameState(3, 1));
+    }
+
+    @DisplayName("같은 세션의 여러 탭이 동시에 정답을 보내도 정답 처리는 한 번만 된다")
+    @Test
+    public void testNumberGuessGameWinsOnce() throws Exception {
+        FortuneCookieProperties properties = new FortuneCookieProperties();
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        // 다음 라운드 숫자는 항상 1 (정답 7과 겹치지 않도록)
+        Random nextRound = new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return 0;
+            }
+        };
+        NumberGuessGame game = new NumberGuessGame(properties, messageSource, nextRound, store);
+
+        ConcurrentSession session = new ConcurrentSession();
+        int secret = store.load(request(session), Constant.SECRET_NUMBER, () -> 7).value();
+
+        List<Object> outcomes = runConcurrently(16, () -> {
+            MockHttpServletRequest request = request(session);
+            request.addHeader(Constant.X_GUESS, String.valueOf(secret));
+            game.processGame(request, "fortune");
+            return request.getAttribute(Constant.GAME_OUTCOME);
+        });
+
+        assertThat(outcomes).filteredOn(outcome -> outcome == GameOutcome.CORRECT).hasSize(1);
+        // 나머지는 교체 전 상태를 읽었으면 INVALID(이미 맞힘), 교체 후 상태를 읽었으면 WRONG
+        assertThat(outcomes).filteredOn(outcome -> outcome != GameOutcome.CORRECT)
+                .hasSize(15)
+                .allMatch(outcome -> outcome == GameOutcome.INVALID || outcome == GameOutcome.WRONG);
+        assertThat(store.load(request(session), Constant.SECRET_NUMBER, () -> 7).round()).isEqualTo(1);
+    }
+
+    private MockHttpServletRequest request(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        return request;
+    }
+
+    private <T> List<T> runConcurrently(int threads, Supplier<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.get();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    /**
+     * 실제 서블릿 컨테이너처럼 속성을 ConcurrentHashMap에 보관하는 테스트용 세션
+     */
+    private static class ConcurrentSession extends MockHttpSession {
+
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.game-enabled=true",
+        "fortune-cookie.throttle.enabled=true",
+        "fortune-cookie.throttle.capacity=2",
+        "fortune-cookie.throttle.refill-per-second=0.001",
+        "fortune-cookie.leaderboard.enabled=true",
+        "fortune-cookie.leaderboard.player-id-header=X-Player-Id"
+})
+@AutoConfigureMockMvc
+public class GameThrottleIntegrationTest {
+
+    private static final String THROTTLED = "Slow down!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("리더보드 플레이어 헤더를 요청마다 바꿔 보내도 추측 제한을 우회할 수 없다")
+    @Test
+    public void testPlayerHeaderDoesNotBypassThrottle() throws Exception {
+        // 세션 없이 요청하므로 세 요청 모두 같은 클라이언트 주소의 버킷을 사용
+        for (int i = 0; i < 2; i++) {
+            assertThat(guess("player-" + i)).doesNotContain(THROTTLED);
+        }
+        assertThat(guess("player-2")).contains(THROTTLED);
+    }
+
+    private String guess(String playerId) throws Exception {
+        return mockMvc.perform(get("/game")
+                        .header("X-Player-Id", playerId)
+                        .header("Accept-Language", "en")
+                        .header("X-Guess", "1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.properties.FortuneMode;
+import io.github.wlsdks.fortunecookie.provider.FortuneProvider;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모든 메시지에 {userName}이 들어 있는 테스트용 메시지 제공자입니다. (할당량 예산 테스트, 부하 테스트의 플레이스홀더 시나리오)
+ * 기본 번들 메시지에는 플레이스홀더가 없어서 치환 경로가 실행되지 않으므로 전용 메시지를 사용합니다.
+ * 키 문자열도 미리 만들어 두어 제공자 자체는 할당하지 않고, 여러 요청 스레드에서 함께 써도 안전합니다.
+ */
+public class PlaceholderFortuneProvider implements FortuneProvider {
+
+    private static final String[] KEYS = {"0", "1", "2", "3"};
+
+    private static final String[] MESSAGES = {
+            "{userName}, today is full of luck!",
+            "{userName}, you will meet someone special today.",
+            "{userName}, a small attempt will bring a big change.",
+            "{userName}, 오늘은 행운이 가득한 날입니다!"
+    };
+
+    @Override
+    public String generateFortuneKey(FortuneMode mode) {
+        return KEYS[ThreadLocalRandom.current().nextInt(KEYS.length)];
+    }
+
+    @Override
+    public String getFortune(String fortuneKey, Locale locale) {
+        return MESSAGES[fortuneKey.charAt(0) - '0'];
+    }
+
+}
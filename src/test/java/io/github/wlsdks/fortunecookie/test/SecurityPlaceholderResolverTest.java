@@ -0,0 +1,67 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.config.SecurityPlaceholderResolver;
+import io.github.wlsdks.fortunecookie.config.SecurityPlaceholderResolver.SecuritySnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class SecurityPlaceholderResolverTest {
+
+    private final SecurityPlaceholderResolver resolver = new SecurityPlaceholderResolver();
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("권한이 수백 개인 사용자도 같은 Authentication이면 roles join은 한 번만 수행된다")
+    @Test
+    public void testRolesJoinedOncePerAuthentication() {
+        // 500개의 권한을 가진 사용자
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + i));
+        }
+        Authentication auth = mock(Authentication.class);
+        when(auth.isAuthenticated()).thenReturn(true);
+        when(auth.getName()).thenReturn("testUser");
+        doReturn(authorities).when(auth).getAuthorities();
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        // 여러 요청에 걸쳐 스냅샷을 만들고 roles를 여러 번 해석
+        String first = null;
+        for (int request = 0; request < 1_000; request++) {
+            SecuritySnapshot snapshot = resolver.snapshot();
+            first = snapshot.resolve("roles");
+            assertThat(snapshot.resolve("roles")).isSameAs(first);
+            assertThat(snapshot.resolve("username")).isEqualTo("testUser");
+        }
+
+        // join은 한 번만 일어남
+        verify(auth, times(1)).getAuthorities();
+        assertThat(first).startsWith("ROLE_0,ROLE_1,").endsWith(",ROLE_499");
+    }
+
+    @DisplayName("인증 정보가 없으면 모든 보안 플레이스홀더가 null로 해석된다")
+    @Test
+    public void testAnonymousSnapshot() {
+        SecuritySnapshot snapshot = resolver.snapshot();
+
+        assertThat(snapshot).isSameAs(SecuritySnapshot.ANONYMOUS);
+        assertThat(snapshot.resolve("username")).isNull();
+        assertThat(snapshot.resolve("roles")).isNull();
+        assertThat(snapshot.resolve("principal")).isNull();
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 샘플 앱(TestApplication)의 기동 시간과 RSS를 라이브러리를 켠 경우와 끈 경우로 나눠 측정하는 벤치마크입니다.
+ * 매 실행마다 새 JVM을 띄워 컨텍스트 준비까지 걸린 시간(JVM 시작 기준)과 준비 직후의 RSS(/proc/self/status의 VmRSS)를 잽니다.
+ * ./gradlew startupBenchmark -Pruns=10 으로 실행합니다. (RSS는 리눅스에서만 측정, 다른 OS에서는 -1)
+ */
+public class StartupBenchmark {
+
+    private static final String PROBE = "--probe";
+
+    public static void main(String[] args) throws Exception {
+        // 1. 자식 JVM: 앱을 한 번 띄우고 결과 한 줄을 출력한 뒤 종료
+        if (args.length > 0 && PROBE.equals(args[0])) {
+            probe(Boolean.parseBoolean(args[1]));
+            return;
+        }
+
+        // 2. 부모: 켠 경우, 끈 경우를 번갈아 실행해서 중앙값 비교
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<long[]> enabled = new ArrayList<>();
+        List<long[]> disabled = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            enabled.add(fork(true));
+            disabled.add(fork(false));
+        }
+        report("fortune-cookie.enabled=true ", enabled);
+        report("fortune-cookie.enabled=false", disabled);
+    }
+
+    private static void probe(boolean enabled) throws IOException {
+        SpringApplication application = new SpringApplication(TestApplication.class);
+        application.setLogStartupInfo(false);
+        try (ConfigurableApplicationContext ignored = application.run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--fortune-cookie.enabled=" + enabled,
+                "--fortune-cookie.game-enabled=" + enabled)) {
+            long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            System.out.println("STARTUP " + startupMillis + " " + readRssKb());
+        }
+    }
+
+    private static long[] fork(boolean enabled) throws Exception {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), PROBE, String.valueOf(enabled))
+                .redirectErrorStream(true)
+                .start();
+
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("STARTUP ")) {
+                    String[] tokens = line.split(" ");
+                    result = new long[]{Long.parseLong(tokens[1]), Long.parseLong(tokens[2])};
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("Startup probe failed (exit code " + process.exitValue() + ")");
+        }
+        return result;
+    }
+
+    private static long readRssKb() throws IOException {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static void report(String label, List<long[]> samples) {
+        List<Long> startup = new ArrayList<>();
+        List<Long> rss = new ArrayList<>();
+        samples.forEach(sample -> {
+            startup.add(sample[0]);
+            rss.add(sample[1]);
+        });
+        Collections.sort(startup);
+        Collections.sort(rss);
+        System.out.printf("%s  startup p50 %d ms (min %d, max %d)  rss p50 %d KB%n", label,
+                startup.get(startup.size() / 2), startup.get(0), startup.get(startup.size() - 1), rss.get(rss.size() / 2));
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.tenant.TenantCatalogCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "fortune-cookie.fortunes-count=1",
+        "fortune-cookie.tenant.enabled=true"
+})
+@AutoConfigureMockMvc
+public class TenantCatalogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TenantCatalogCache tenantCatalogs;
+
+    @DisplayName("테넌트가 덮어쓴 메시지는 테넌트 요청에만 쓰이고, 다른 요청은 공용 카탈로그를 사용한다")
+    @Test
+    public void testTenantOverridesMessages() throws Exception {
+        // 1. acme는 /joke에서 나올 수 있는 모든 키를 덮어씀 (fortunes-count=1)
+        mockMvc.perform(get("/joke").header("X-Tenant-Id", "ACME").header("Accept-Language", "en"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fortune", containsString("Acme")));
+
+        // 2. 테넌트가 없거나 덮어쓴 것이 없는 테넌트는 공용 메시지
+        mockMvc.perform(get("/joke").header("Accept-Language", "en"))
+                .andExpect(jsonPath("$.fortune", not(containsString("Acme"))));
+        mockMvc.perform(get("/joke").header("X-Tenant-Id", "globex").header("Accept-Language", "en"))
+                .andExpect(jsonPath("$.fortune", not(containsString("Acme"))));
+
+        // 3. 덮어쓰지 않은 로케일(ko)은 공용 카탈로그의 한국어 메시지
+        mockMvc.perform(get("/joke").header("X-Tenant-Id", "acme").header("Accept-Language", "ko"))
+                .andExpect(jsonPath("$.fortune", not(containsString("Acme"))));
+    }
+
+    @DisplayName("테넌트의 게임 설정이 공용 설정을 덮어쓴다")
+    @Test
+    public void testTenantOverridesGameSettings() throws Exception {
+        // 공용 설정은 game-enabled=false, acme는 퀴즈 게임을 켬
+        mockMvc.perform(get("/placeholder").header("X-Tenant-Id", "acme").header("Accept-Language", "en"))
+                .andExpect(jsonPath("$.fortune", containsString("X-Quiz-Answer")));
+        mockMvc.perform(get("/placeholder").header("Accept-Language", "en"))
+                .andExpect(jsonPath("$.fortune", not(containsString("X-Quiz-Answer"))));
+    }
+
+    @DisplayName("테넌트 카탈로그는 처음 요청될 때 한 번만 읽고 이후에는 캐시에서 꺼낸다")
+    @Test
+    public void testLoadsOnce() throws Exception {
+        long loads = tenantCatalogs.getLoadCount();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/joke").header("X-Tenant-Id", "initech")).andExpect(status().isOk());
+        }
+
+        // initech는 파일이 없는 테넌트이므로 테넌트 수 제한과 별도로 기억됨
+        assertThat(tenantCatalogs.getLoadCount() - loads).isEqualTo(1L);
+        assertThat(tenantCatalogs.getUnknownCount()).isGreaterThanOrEqualTo(1);
+    }
+
+}
@@ -0,0 +1,187 @@
+package io.github.wlsdks.fortunecookie.test;
+
+import io.github.wlsdks.fortunecookie.common.Constant;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.GameState;
+import io.github.wlsdks.fortunecookie.interceptor.module.state.TokenGameStateStore;
+import io.github.wlsdks.fortunecookie.properties.GameStateTransport;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenGameStateStoreTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final String HEADER = "X-Fortune-Game-" + Constant.SECRET_NUMBER;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    @DisplayName("같은 비밀 값를 쓰는 다른 인스턴스도 토큰만으로 게임을 이어간다")
+    @Test
+    public void testStatelessAcrossInstances() {
+        TokenGameStateStore podA = store(GameStateTransport.HEADER, 0);
+        TokenGameStateStore podB = store(GameStateTransport.HEADER, 0);
+
+        String token = play(podA, null, 7);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HEADER, token);
+
+        GameState state = podB.load(request, Constant.SECRET_NUMBER, () -> 3);
+        assertThat(state).isEqualTo(new GameState(7, 0));
+
+        // 정답 처리 후 다음 라운드가 새 토큰으로 발급됨
+        assertThat(podB.compareAndSet(request, Constant.SECRET_NUMBER, state, state.next(4))).isTrue();
+        assertThat(podB.compareAndSet(request, Constant.SECRET_NUMBER, state, state.next(5))).isFalse();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        podB.writeTo(request, response);
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.addHeader(HEADER, response.getHeader(HEADER));
+        assertThat(podA.load(next, Constant.SECRET_NUMBER, () -> 9)).isEqualTo(new GameState(4, 1));
+    }
+
+    @DisplayName("변조, 다른 게임, 다른 키, 만료된 토큰은 무시하고 새 라운드를 시작한다")
+    @Test
+    public void testRejectsInvalidTokens() {
+        TokenGameStateStore store = store(GameStateTransport.HEADER, 0);
+        String token = play(store, null, 7);
+
+        char[] tampered = token.toCharArray();
+        tampered[5] = tampered[5] == 'A' ? 'B' : 'A';
+        assertThat(loadWithHeader(store, HEADER, new String(tampered), Constant.SECRET_NUMBER)).isEqualTo(new GameState(9, 0));
+
+        String quizHeader = "X-Fortune-Game-" + Constant.QUIZ_INDEX;
+        assertThat(loadWithHeader(store, quizHeader, token, Constant.QUIZ_INDEX)).isEqualTo(new GameState(9, 0));
+
+        TokenGameStateStore otherKey = new TokenGameStateStore("x".repeat(32).getBytes(StandardCharsets.UTF_8),
+                Duration.ofMinutes(30), GameStateTransport.HEADER, "X-Fortune-Game-", 0, clock::get);
+        assertThat(loadWithHeader(otherKey, HEADER, token, Constant.SECRET_NUMBER)).isEqualTo(new GameState(9, 0));
+
+        clock.addAndGet(Duration.ofMinutes(31).toMillis());
+        assertThat(loadWithHeader(store, HEADER, token, Constant.SECRET_NUMBER)).isEqualTo(new GameState(9, 0));
+    }
+
+    @DisplayName("토큰을 디코딩해도 정답 바이트가 보이지 않고, 같은 상태도 토큰마다 다르게 암호화된다")
+    @Test
+    public void testTokenDoesNotRevealAnswer() {
+        TokenGameStateStore store = store(GameStateTransport.HEADER, 0);
+        int answer = 0x5A17C0DE;
+
+        String token = play(store, null, answer);
+        byte[] decoded = Base64.getUrlDecoder().decode(token);
+        byte[] answerBytes = ByteBuffer.allocate(4).putInt(answer).array();
+
+        assertThat(indexOf(decoded, answerBytes)).isEqualTo(-1);
+        assertThat(indexOf(decoded, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(answer).array())).isEqualTo(-1);
+        assertThat(play(store, null, answer)).isNotEqualTo(token);
+
+        // 서버는 같은 토큰에서 정답을 그대로 읽음
+        assertThat(loadWithHeader(store, HEADER, token, Constant.SECRET_NUMBER).value()).isEqualTo(answer);
+    }
+
+    @DisplayName("쿠키 방식은 HttpOnly 쿠키로 주고받고, 최대 시도 수를 넘으면 새 라운드가 된다")
+    @Test
+    public void testCookieTransportAndMaxAttempts() {
+        TokenGameStateStore store = store(GameStateTransport.COOKIE, 2);
+        String name = "X-Fortune-Game-" + Constant.WORD_ID;
+
+        String token = null;
+        List<GameState> states = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            if (token != null) {
+                request.setCookies(new Cookie(name, token));
+            }
+            states.add(store.load(request, Constant.WORD_ID, () -> 40));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            store.writeTo(request, response);
+            Cookie cookie = response.getCookie(name);
+            assertThat(cookie).isNotNull();
+            assertThat(cookie.isHttpOnly()).isTrue();
+            token = cookie.getValue();
+        }
+
+        assertThat(states).extracting(GameState::round).containsExactly(0L, 0L, 0L, 1L);
+    }
+
+    @DisplayName("여러 스레드가 동시에 토큰을 발급, 검증해도 스레드별 Mac이 섞이지 않는다")
+    @Test
+    public void testConcurrentEncodeAndVerify() throws Exception {
+        TokenGameStateStore store = store(GameStateTransport.HEADER, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t * 1000;
+                futures.add(executor.submit(() -> {
+                    int verified = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        String token = play(store, null, seed + i);
+                        GameState state = loadWithHeader(store, HEADER, token, Constant.SECRET_NUMBER);
+                        if (state.value() == seed + i) {
+                            verified++;
+                        }
+                    }
+                    return verified;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEqualTo(1000);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        for (int i = 0; i + needle.length <= haystack.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TokenGameStateStore store(GameStateTransport transport, int maxAttempts) {
+        return new TokenGameStateStore(SECRET, Duration.ofMinutes(30), transport, "X-Fortune-Game-", maxAttempts, clock::get);
+    }
+
+    /**
+     * 숫자 게임 상태를 하나 만들고 발급된 토큰을 반환합니다.
+     */
+    private String play(TokenGameStateStore store, String token, int value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (token != null) {
+            request.addHeader(HEADER, token);
+        }
+        store.load(request, Constant.SECRET_NUMBER, () -> value);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.writeTo(request, response);
+        return response.getHeader(HEADER);
+    }
+
+    private GameState loadWithHeader(TokenGameStateStore store, String header, String token, String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(header, token);
+        return store.load(request, key, () -> 9);
+    }
+
+}
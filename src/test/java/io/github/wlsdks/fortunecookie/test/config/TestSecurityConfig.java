@@ -2,6 +2,7 @@ package io.github.wlsdks.fortunecookie.test.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -18,6 +19,8 @@ public class TestSecurityConfig {
                         .requestMatchers("/api/secure/**").authenticated()
                         .anyRequest().permitAll()
                 )
+                // 부하 테스트(src/loadTest)는 실제 서버에 Basic 인증으로 요청
+                .httpBasic(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .build();
     }
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 @RestController
 @FortuneCookie
@@ -30,6 +31,12 @@ public class TestController {
         return Map.of("message", "Game test");
     }
 
+    @GetMapping("/quiz")
+    @FortuneCookie(gameEnabled = true, gameType = GameType.QUIZ)
+    public Map<String, Object> quizTest() {
+        return Map.of("message", "Quiz test");
+    }
+
     @GetMapping("/placeholder")
     @FortuneCookie
     public Map<String, Object> placeholderTest() {
@@ -42,4 +49,18 @@ public class TestController {
         return new TestDto("Hello", "World");
     }
 
+    @GetMapping("/async")
+    @FortuneCookie
+    public Callable<Map<String, Object>> asyncTest() {
+        return () -> Map.of("message", "Async test");
+    }
+
+    @GetMapping("/slow")
+    @FortuneCookie
+    public Map<String, Object> slowTest() throws InterruptedException {
+        // 과부하 단계 테스트용: 포춘 처리와 상관없이 핸들러가 느린 상황
+        Thread.sleep(20);
+        return Map.of("message", "Slow test");
+    }
+
 }